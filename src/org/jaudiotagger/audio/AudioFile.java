@@ -21,17 +21,21 @@ package org.jaudiotagger.audio;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.RandomAccessFile;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.ArrayList;
 
-import org.jaudiotagger.audio.aiff.AiffTag;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+import org.jaudiotagger.audio.generic.LazyAudioHeader;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.audio.wav.WavTag;
 import org.jaudiotagger.audio.real.RealTag;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.aiff.AiffTag;
 import org.jaudiotagger.tag.mp4.Mp4Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 import org.jaudiotagger.tag.flac.FlacTag;
@@ -68,6 +72,26 @@ public class AudioFile
      */
     protected Tag tag;
 
+    /**
+     * The options this file was read with, or null if it should use the current options
+     */
+    protected TagOptions tagOptions;
+
+    /**
+     * False if the file was read without its tag
+     */
+    protected boolean tagLoaded = true;
+
+    /**
+     * False if only some of the fields of the tag were read
+     */
+    protected boolean tagComplete = true;
+
+    /**
+     * The format the file was read as, or null if not read by AudioFileIO
+     */
+    protected SupportedFileFormat format;
+
     public AudioFile()
     {
 
@@ -115,6 +139,48 @@ public class AudioFile
         AudioFileIO.write(this);
     }
 
+    /**
+     * @return the format the file was read as, which may not match its extension, or null if it was not read by
+     *         AudioFileIO
+     */
+    public SupportedFileFormat getFormat()
+    {
+        return format;
+    }
+
+    /**
+     * Set the format the file was read as, the file is written by the writer for this format
+     *
+     * @param format
+     */
+    public void setFormat(SupportedFileFormat format)
+    {
+        this.format = format;
+    }
+
+    /**
+     * Set the options used when creating a default tag for this file and when it is written, if not set the options
+     * current when the tag is created or written are used
+     *
+     * @param tagOptions
+     */
+    public void setTagOptions(TagOptions tagOptions)
+    {
+        this.tagOptions = tagOptions;
+    }
+
+    /**
+     * @return the options set for this file, or the current options if none have been set
+     */
+    public TagOptions getTagOptions()
+    {
+        if (tagOptions == null)
+        {
+            return TagOptions.current();
+        }
+        return tagOptions;
+    }
+
     /**
      * Set the file to store the info in
      *
@@ -154,6 +220,52 @@ public class AudioFile
         return audioHeader;
     }
 
+    /**
+     * @return false if the file was read without its tag, in which case {@link #getTag()} returns null and the file
+     *         cannot be written
+     * @see org.jaudiotagger.tag.options.ReadMode
+     */
+    public boolean isTagLoaded()
+    {
+        return tagLoaded;
+    }
+
+    /**
+     * @param tagLoaded false if the file was read without its tag
+     */
+    public void setTagLoaded(boolean tagLoaded)
+    {
+        this.tagLoaded = tagLoaded;
+    }
+
+    /**
+     * @return false if only some of the fields of the tag were read, the other fields are reported as present by
+     *         the tag but their values are not available and the file cannot be written
+     * @see TagOptions#getReadFields()
+     */
+    public boolean isTagComplete()
+    {
+        return tagComplete;
+    }
+
+    /**
+     * @param tagComplete false if only some of the fields of the tag were read
+     */
+    public void setTagComplete(boolean tagComplete)
+    {
+        this.tagComplete = tagComplete;
+    }
+
+    /**
+     * @return false if the audio header has not been read yet, it is then read when one of its getters is first
+     *         called
+     * @see org.jaudiotagger.tag.options.ReadMode
+     */
+    public boolean isAudioHeaderLoaded()
+    {
+        return !(audioHeader instanceof LazyAudioHeader) || ((LazyAudioHeader) audioHeader).isLoaded();
+    }
+
     /**
      * <p>Returns the tag contained in this AudioFile, the <code>Tag</code> contains any useful meta-data, like
      * artist, album, title, etc. If the file does not contain any tag the null is returned. Some audio formats do
@@ -175,7 +287,7 @@ public class AudioFile
      */
     public String toString()
     {
-        return "AudioFile " + getFile().getAbsolutePath()
+        return "AudioFile " + ((file == null) ? "" : file.getAbsolutePath())
                 + "  --------\n" + audioHeader.toString() + "\n" + ((tag == null) ? "" : tag.toString()) + "\n-------------------";
     }
 
@@ -187,7 +299,7 @@ public class AudioFile
      */
     public void checkFileExists(File file)throws FileNotFoundException
     {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        Log.log(logger, Level.CONFIG, "Reading file:path{}:abs:{}", file.getPath(), file.getAbsolutePath());
         if (!file.exists())
         {
             logger.severe("Unable to find:" + file.getPath());
@@ -288,7 +400,7 @@ public class AudioFile
         }
         else if(SupportedFileFormat.AIF.getFilesuffix().equals(file.getName().substring(file.getName().lastIndexOf('.'))))
         {
-            return new AiffTag();
+            return new AiffTag(AiffTag.createDefaultID3Tag(getTagOptions().getID3V2Version()));
         }
         else
         {
@@ -0,0 +1,117 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * The result of a read or write run on an Executor.
+ *
+ */
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.audio.generic.Cancellation;
+
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a read or write started by <code>AudioFileIO.readAsync</code> or <code>AudioFileIO.writeAsync</code>
+ * <p/>
+ * Callers that must not block can use {@link #addListener(Runnable, Executor)} to be told when the operation has
+ * completed rather than calling get().
+ * <p/>
+ * <code>cancel(true)</code> interrupts the operation, a write that is copying the audio to a temporary file stops
+ * at the next chunk, deletes the temporary file and leaves the original file unchanged. A write that updates the
+ * file in place, such as for Wav, AIFF, or an ID3v2 tag, Flac metadata or Ogg comment that fits the space already in
+ * the file, checks for cancellation before its first change and leaves the file unchanged if cancelled by then,
+ * otherwise it completes all of its changes so the file is never left partly written. If a timeout was given the operation stops in the same way once it has
+ * passed, and fails with a CannotWriteException or IOException caused by an InterruptedIOException. The time spent
+ * waiting for the Executor to start the operation counts towards the timeout.
+ */
+public class AudioFileFuture<V> extends FutureTask<V>
+{
+    private final Long deadlineNanos;
+
+    /**
+     * Listeners not yet run, each is removed by the one thread that runs it
+     */
+    private final Queue<ListenerExecution> listeners = new ConcurrentLinkedQueue<ListenerExecution>();
+
+    /**
+     * @param callable the operation
+     * @param timeout  time allowed from now for the operation to complete, zero or less for no limit
+     * @param unit     unit of timeout
+     */
+    public AudioFileFuture(Callable<V> callable, long timeout, TimeUnit unit)
+    {
+        super(callable);
+        this.deadlineNanos = timeout > 0 ? System.nanoTime() + unit.toNanos(timeout) : null;
+    }
+
+    public void run()
+    {
+        Long previous = Cancellation.setDeadline(deadlineNanos);
+        try
+        {
+            super.run();
+        }
+        finally
+        {
+            Cancellation.setDeadline(previous);
+        }
+    }
+
+    /**
+     * Run listener using executor once the operation has completed, succeeded, failed or been cancelled. If it has
+     * already completed the listener is run straight away.
+     *
+     * @param listener the listener
+     * @param executor executor to run it with
+     */
+    public void addListener(Runnable listener, Executor executor)
+    {
+        listeners.add(new ListenerExecution(listener, executor));
+        if (isDone())
+        {
+            runListeners();
+        }
+    }
+
+    protected void done()
+    {
+        runListeners();
+    }
+
+    private void runListeners()
+    {
+        ListenerExecution next;
+        while ((next = listeners.poll()) != null)
+        {
+            next.executor.execute(next.listener);
+        }
+    }
+
+    private static class ListenerExecution
+    {
+        private final Runnable listener;
+        private final Executor executor;
+
+        private ListenerExecution(Runnable listener, Executor executor)
+        {
+            this.listener = listener;
+            this.executor = executor;
+        }
+    }
+}
@@ -19,6 +19,7 @@
 package org.jaudiotagger.audio;
 
 import org.jaudiotagger.audio.aiff.AiffFileReader;
+import org.jaudiotagger.audio.aiff.AiffFileWriter;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
@@ -36,14 +37,25 @@ import org.jaudiotagger.audio.real.RealFileReader;
 import org.jaudiotagger.audio.wav.WavFileReader;
 import org.jaudiotagger.audio.wav.WavFileWriter;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -52,8 +64,9 @@ import java.util.logging.Logger;
  * select the appropriate reader/writer for the given file.
  * </p>
  * <p/>
- * It selects the appropriate reader/writer based on the file extension (case
- * ignored).
+ * It selects the appropriate reader based on the signature at the start of the
+ * file, see {@link FormatDetector}, falling back to the file extension (case
+ * ignored) if it is not recognised. The writer is selected by the file extension.
  * </p>
  * <p/>
  * Here is an simple example of use:
@@ -96,9 +109,36 @@ public class AudioFileIO
     // !!
 
     /**
-     * This field contains the default instance for static use.
+     * Holds the default instance for static use, it is created when first needed and the class loader guarantees
+     * that all threads see the same fully constructed instance.
      */
-    private static AudioFileIO defaultInstance;
+    private static class DefaultInstanceHolder
+    {
+        private static final AudioFileIO INSTANCE = new AudioFileIO();
+    }
+
+    /**
+     * Receives measurements of all reads and writes, shared by every instance
+     */
+    private static volatile Instrumentation instrumentation = NoOpInstrumentation.INSTANCE;
+
+    /**
+     * Set the instrumentation that receives measurements of all reads and writes made from now on.
+     *
+     * @param instrumentation The instrumentation, <code>null</code> restores the default that discards them.
+     */
+    public static void setInstrumentation(Instrumentation instrumentation)
+    {
+        AudioFileIO.instrumentation = instrumentation != null ? instrumentation : NoOpInstrumentation.INSTANCE;
+    }
+
+    /**
+     * @return the instrumentation receiving measurements of reads and writes, never <code>null</code>
+     */
+    public static Instrumentation getInstrumentation()
+    {
+        return instrumentation;
+    }
 
     /**
      * <p/>
@@ -122,11 +162,7 @@ public class AudioFileIO
      */
     public static AudioFileIO getDefaultAudioFileIO()
     {
-        if (defaultInstance == null)
-        {
-            defaultInstance = new AudioFileIO();
-        }
-        return defaultInstance;
+        return DefaultInstanceHolder.INSTANCE;
     }
 
     /**
@@ -149,6 +185,120 @@ public class AudioFileIO
         return getDefaultAudioFileIO().readFile(f);
     }
 
+    /**
+     * <p/>
+     * Read the tag contained in the given file using the given options rather than the default TagOptionSingleton,
+     * the options are kept with the returned AudioFile and used when it is written.
+     * </p>
+     *
+     * @param f       The file to read.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile read(File f, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readFile(f, options);
+    }
+
+    /**
+     * <p/>
+     * Read the tag contained in the contents of a file that are already in memory.
+     * </p>
+     *
+     * @param data The contents of the file from the position to the limit of the buffer, the buffer is not modified.
+     * @param ext  The extension the file would have, a hint to the format which is detected from the content, may be null.
+     * @return The AudioFile with the tag and the encoding info, it has no file so cannot be written.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the data could not be read, or the extension
+     *                             wasn't recognized.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile read(ByteBuffer data, String ext)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readSource(new RandomAccessSource(data), ext, TagOptionSingleton.getInstance().getTagOptions());
+    }
+
+    /**
+     * <p/>
+     * Read the tag contained in a file read from a stream, such as a download, without copying it to disk.
+     * </p>
+     * The stream is read forwards only, the headers and tags are held in memory but large ranges such as the audio
+     * data are skipped over. The stream is not closed.
+     *
+     * @param in     The stream, positioned at the start of the file.
+     * @param length The length of the file, or -1 if not known in which case the whole stream is read.
+     * @param ext    The extension the file would have, a hint to the format which is detected from the content, may be null.
+     * @return The AudioFile with the tag and the encoding info, it has no file so cannot be written.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the stream could not be read, or the extension
+     *                             wasn't recognized.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public static AudioFile read(InputStream in, long length, String ext)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return getDefaultAudioFileIO().readSource(new RandomAccessSource(in, length), ext, TagOptionSingleton.getInstance().getTagOptions());
+    }
+
+    /**
+     * <p/>
+     * Probe the given file, reading as much as the budget allows and recording the ranges of the file read.
+     * </p>
+     * The ranges are those a reader of the same format needs, so they can be used to plan the range requests
+     * needed to read a copy of the file held remotely.
+     *
+     * @param f      The file to probe.
+     * @param budget The parts of the file that may be read.
+     * @return What could be read and the ranges read, flagged as partial if the budget was not enough.
+     * @throws CannotReadException If the file could not be read for reasons other than the budget, or the
+     *                             extension wasn't recognized.
+     * @throws IOException
+     */
+    public static ProbeResult probe(File f, ProbeBudget budget) throws CannotReadException, IOException
+    {
+        AudioFileIO audioFileIO = getDefaultAudioFileIO();
+        audioFileIO.checkFileExists(f);
+        RandomAccessSource source = new RandomAccessSource(new RandomAccessFile(f, "r"));
+        try
+        {
+            return audioFileIO.probeSource(source, Utils.getExtension(f), budget, TagOptionSingleton.getInstance().getTagOptions());
+        }
+        finally
+        {
+            source.close();
+        }
+    }
+
+    /**
+     * <p/>
+     * Probe audio that is not in a file, reading as much as the budget allows and recording the ranges read.
+     * </p>
+     *
+     * @param source The audio to probe, it is not closed.
+     * @param ext    The extension the file would have, a hint to the format which is detected from the content, may be null.
+     * @param budget The parts of the audio that may be read.
+     * @return What could be read and the ranges read, flagged as partial if the budget was not enough.
+     * @throws CannotReadException If the audio could not be read for reasons other than the budget, or the
+     *                             extension wasn't recognized.
+     * @throws IOException
+     */
+    public static ProbeResult probe(RandomAccessSource source, String ext, ProbeBudget budget) throws CannotReadException, IOException
+    {
+        return getDefaultAudioFileIO().probeSource(source, ext, budget, TagOptionSingleton.getInstance().getTagOptions());
+    }
+
     /**
      * <p/>
      * Write the tag contained in the audioFile in the actual file on the disk.
@@ -163,15 +313,112 @@ public class AudioFileIO
         getDefaultAudioFileIO().writeFile(f);
     }
 
+    /**
+     * <p/>
+     * Write the tag contained in the audioFile in the actual file on the disk using the given options.
+     * </p>
+     *
+     * @param f       The AudioFile to be written
+     * @param options The options to write with.
+     * @throws CannotWriteException If the file could not be written/accessed, the extension
+     *                              wasn't recognized, or other IO error occurred.
+     */
+    public static void write(AudioFile f, TagOptions options) throws CannotWriteException
+    {
+        getDefaultAudioFileIO().writeFile(f, options);
+    }
+
+    /**
+     * <p/>
+     * Read the tag contained in the given file using the given executor, so that the caller is not blocked.
+     * </p>
+     *
+     * @param f        The file to read.
+     * @param executor Runs the read.
+     * @return The AudioFile once read, see {@link AudioFileFuture} for cancelling it.
+     */
+    public static AudioFileFuture<AudioFile> readAsync(File f, Executor executor)
+    {
+        return readAsync(f, executor, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <p/>
+     * Read the tag contained in the given file using the given executor, so that the caller is not blocked, and
+     * stop if it has not completed within the timeout.
+     * </p>
+     *
+     * @param f        The file to read.
+     * @param executor Runs the read.
+     * @param timeout  Time allowed from now for the read to complete, zero or less for no limit.
+     * @param unit     Unit of timeout.
+     * @return The AudioFile once read, see {@link AudioFileFuture} for cancelling it.
+     */
+    public static AudioFileFuture<AudioFile> readAsync(final File f, Executor executor, long timeout, TimeUnit unit)
+    {
+        AudioFileFuture<AudioFile> future = new AudioFileFuture<AudioFile>(new Callable<AudioFile>()
+        {
+            public AudioFile call() throws Exception
+            {
+                return getDefaultAudioFileIO().readFile(f);
+            }
+        }, timeout, unit);
+        executor.execute(future);
+        return future;
+    }
+
+    /**
+     * <p/>
+     * Write the tag contained in the audioFile in the actual file on the disk using the given executor, so that
+     * the caller is not blocked.
+     * </p>
+     *
+     * @param f        The AudioFile to be written.
+     * @param executor Runs the write.
+     * @return The AudioFile once written, see {@link AudioFileFuture} for cancelling it.
+     */
+    public static AudioFileFuture<AudioFile> writeAsync(AudioFile f, Executor executor)
+    {
+        return writeAsync(f, executor, 0, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * <p/>
+     * Write the tag contained in the audioFile in the actual file on the disk using the given executor, so that
+     * the caller is not blocked, and stop if it has not completed within the timeout. A write that is stopped leaves
+     * the original file unchanged.
+     * </p>
+     *
+     * @param f        The AudioFile to be written.
+     * @param executor Runs the write.
+     * @param timeout  Time allowed from now for the write to complete, zero or less for no limit.
+     * @param unit     Unit of timeout.
+     * @return The AudioFile once written, see {@link AudioFileFuture} for cancelling it.
+     */
+    public static AudioFileFuture<AudioFile> writeAsync(final AudioFile f, Executor executor, long timeout, TimeUnit unit)
+    {
+        AudioFileFuture<AudioFile> future = new AudioFileFuture<AudioFile>(new Callable<AudioFile>()
+        {
+            public AudioFile call() throws Exception
+            {
+                getDefaultAudioFileIO().writeFile(f);
+                return f;
+            }
+        }, timeout, unit);
+        executor.execute(future);
+        return future;
+    }
+
     /**
      * This member is used to broadcast modification events to registered
      */
     private final ModificationHandler modificationHandler;
 
     // These tables contains all the readers/writers associated with extension
-    // as a key
-    private Map<String, AudioFileReader> readers = new HashMap<String, AudioFileReader>();
-    private Map<String, AudioFileWriter> writers = new HashMap<String, AudioFileWriter>();
+    // as a key, they are only modified by the constructor and the readers/writers
+    // hold no per file state so one instance can be used by many threads at once
+    private final Map<String, AudioFileReader> readers = new HashMap<String, AudioFileReader>();
+    private final Map<String, AudioFileWriter> writers = new HashMap<String, AudioFileWriter>();
 
 
     /**
@@ -206,7 +453,7 @@ public class AudioFileIO
      */
     public void deleteTag(AudioFile f) throws CannotReadException, CannotWriteException
     {
-        String ext = Utils.getExtension(f.getFile());
+        String ext = getWriteExtension(f);
 
         Object afw = writers.get(ext);
         if (afw == null)
@@ -214,7 +461,15 @@ public class AudioFileIO
             throw new CannotWriteException(ErrorMessage.NO_DELETER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        ((AudioFileWriter) afw).delete(f);
+        TagOptions previous = TagOptions.setCurrent(getWriteOptions(f));
+        try
+        {
+            ((AudioFileWriter) afw).delete(f);
+        }
+        finally
+        {
+            TagOptions.setCurrent(previous);
+        }
     }
 
     /**
@@ -246,9 +501,9 @@ public class AudioFileIO
         writers.put(SupportedFileFormat.M4P.getFilesuffix(), new Mp4FileWriter());
         writers.put(SupportedFileFormat.M4B.getFilesuffix(), new Mp4FileWriter());                
         writers.put(SupportedFileFormat.WAV.getFilesuffix(), new WavFileWriter());
+        writers.put(SupportedFileFormat.AIF.getFilesuffix(), new AiffFileWriter());
 
         // Register modificationHandler
-        Iterator<AudioFileWriter> it = writers.values().iterator();
         for (AudioFileWriter curr : writers.values())
         {
             curr.setAudioFileModificationListener(this.modificationHandler);
@@ -271,9 +526,41 @@ public class AudioFileIO
      */
     public AudioFile readFile(File f)
             throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        //Snapshot the options once rather than consulting the singleton for every frame
+        return readWithOptions(f, TagOptionSingleton.getInstance().getTagOptions());
+    }
+
+    /**
+     * <p/>
+     * Read the tag contained in the given file using the given options, the options are kept with the returned
+     * AudioFile and used when it is written.
+     * </p>
+     *
+     * @param f       The file to read.
+     * @param options The options to read with.
+     * @return The AudioFile with the file tag and the file encoding info.
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException If the file could not be read, the extension wasn't
+     *                             recognized, or an IO error occurred during the read.
+     * @throws org.jaudiotagger.tag.TagException
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public AudioFile readFile(File f, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        AudioFile audioFile = readWithOptions(f, options);
+        audioFile.setTagOptions(options);
+        return audioFile;
+    }
+
+    private AudioFile readWithOptions(File f, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         checkFileExists(f);
-        String ext = Utils.getExtension(f);
+        ByteBuffer prefix = readPrefix(f);
+        String ext = getFormatExtension(prefix, Utils.getExtension(f));
 
         AudioFileReader afr = readers.get(ext);
         if (afr == null)
@@ -281,7 +568,168 @@ public class AudioFileIO
             throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        return afr.read(f);
+        //Do not start if already cancelled or out of time
+        Cancellation.checkpoint();
+        TagOptions previous = TagOptions.setCurrent(options);
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.READ);
+        String outcome = FlightRecorderEvent.FAILED;
+        try
+        {
+            AudioFile audioFile = afr.read(f, prefix);
+            audioFile.setFormat(FormatDetector.getFormat(ext));
+            outcome = FlightRecorderEvent.SUCCEEDED;
+            return audioFile;
+        }
+        finally
+        {
+            TagOptions.setCurrent(previous);
+            event.end(f, ext, 0, outcome);
+        }
+    }
+
+    /**
+     * Read the start of the file to detect its format
+     *
+     * @param f the file
+     * @return the start of the file, or <code>null</code> if it cannot be read in which case the reader reports
+     *         the problem
+     */
+    private ByteBuffer readPrefix(File f)
+    {
+        try
+        {
+            FileInputStream fis = new FileInputStream(f);
+            try
+            {
+                return FormatDetector.readPrefix(fis.getChannel());
+            }
+            finally
+            {
+                fis.close();
+            }
+        }
+        catch (IOException ioe)
+        {
+            Log.log(logger, Level.CONFIG, "Unable to read start of file to detect format:{}", ioe.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * @param prefix start of the file, may be <code>null</code>
+     * @param ext    extension of the file
+     * @return extension of the format detected from the start of the file, or ext if it is not recognised
+     */
+    private String getFormatExtension(ByteBuffer prefix, String ext)
+    {
+        SupportedFileFormat format = prefix == null ? null : FormatDetector.detect(prefix, ext);
+        if (format == null)
+        {
+            return ext;
+        }
+        if (!format.getFilesuffix().equals(ext))
+        {
+            Log.log(logger, Level.CONFIG, "Content is {} rather than {}", format, ext);
+        }
+        return format.getFilesuffix();
+    }
+
+    /**
+     * <p/>
+     * Read the tag contained in audio that is not in a file, the source is not closed.
+     * </p>
+     *
+     * @param source  The audio to read, positioned at the first byte.
+     * @param ext     The extension the file would have, a hint to the format which is detected from the content, may be null.
+     * @param options The options to read with.
+     * @return The AudioFile with the tag and the encoding info, it has no file so cannot be written.
+     * @throws CannotReadException If the source could not be read, or the extension wasn't recognized.
+     * @throws IOException
+     * @throws TagException
+     * @throws ReadOnlyFileException
+     * @throws InvalidAudioFrameException
+     */
+    public AudioFile readSource(RandomAccessSource source, String ext, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return readSource(source, ext, FormatDetector.readPrefix(source.getChannel()), options);
+    }
+
+    private AudioFile readSource(RandomAccessSource source, String ext, ByteBuffer prefix, TagOptions options)
+            throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        ext = getFormatExtension(prefix, ext == null ? "" : ext.toLowerCase());
+        AudioFileReader afr = readers.get(ext);
+        if (afr == null)
+        {
+            throw new CannotReadException(ErrorMessage.NO_READER_FOR_THIS_FORMAT.getMsg(ext));
+        }
+
+        Cancellation.checkpoint();
+        TagOptions previous = TagOptions.setCurrent(options);
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.READ);
+        String outcome = FlightRecorderEvent.FAILED;
+        try
+        {
+            AudioFile audioFile = afr.read(source);
+            audioFile.setTagOptions(options);
+            outcome = FlightRecorderEvent.SUCCEEDED;
+            return audioFile;
+        }
+        finally
+        {
+            TagOptions.setCurrent(previous);
+            if (event.isEnabled())
+            {
+                event.end(source.length(), ext, 0, outcome);
+            }
+        }
+    }
+
+    /**
+     * <p/>
+     * Probe audio, reading as much as the budget allows and recording the ranges read. The source is not closed.
+     * </p>
+     *
+     * @param source  The audio to probe.
+     * @param ext     The extension the file would have, a hint to the format which is detected from the content, may be null.
+     * @param budget  The parts of the audio that may be read.
+     * @param options The options to read with.
+     * @return What could be read and the ranges read, flagged as partial if the budget was not enough.
+     * @throws CannotReadException If the audio could not be read for reasons other than the budget, or the
+     *                             extension wasn't recognized.
+     * @throws IOException
+     */
+    public ProbeResult probeSource(RandomAccessSource source, String ext, ProbeBudget budget, TagOptions options)
+            throws CannotReadException, IOException
+    {
+        ProbeChannel channel = new ProbeChannel(source.getChannel(), budget);
+        AudioFile audioFile = null;
+        try
+        {
+            //Only read as much of the start as the budget allows to detect the format
+            long readable = budget.getReadableEnd(0, channel.size());
+            ByteBuffer prefix = FormatDetector.readPrefix(channel, (int) Math.min(FormatDetector.PREFIX_SIZE, readable));
+            audioFile = readSource(new RandomAccessSource(channel), ext, prefix, options);
+        }
+        catch (InterruptedIOException iioe)
+        {
+            throw iioe;
+        }
+        catch (Exception e)
+        {
+            //The header could not be read within the budget, so there is nothing to return but the ranges read
+            if (!channel.isExceeded())
+            {
+                if (e instanceof CannotReadException)
+                {
+                    throw (CannotReadException) e;
+                }
+                throw new CannotReadException(e.getMessage(), e);
+            }
+            Log.log(logger, Level.CONFIG, "Audio header is outside probe budget:{}", e.getMessage());
+        }
+        return new ProbeResult(audioFile, channel.getRanges(), !channel.isExceeded());
     }
 
     /**
@@ -292,7 +740,7 @@ public class AudioFileIO
      */
     public void checkFileExists(File file)throws FileNotFoundException
     {
-        logger.config("Reading file:" + "path" + file.getPath() + ":abs:" + file.getAbsolutePath());
+        Log.log(logger, Level.CONFIG, "Reading file:path{}:abs:{}", file.getPath(), file.getAbsolutePath());
         if (!file.exists())
         {
             logger.severe("Unable to find:" + file.getPath());
@@ -321,7 +769,34 @@ public class AudioFileIO
      */
     public void writeFile(AudioFile f) throws CannotWriteException
     {
-        String ext = Utils.getExtension(f.getFile());
+        writeFile(f, getWriteOptions(f));
+    }
+
+    /**
+     * <p/>
+     * Write the tag contained in the audioFile in the actual file on the disk using the given options.
+     * </p>
+     *
+     * @param f       The AudioFile to be written
+     * @param options The options to write with.
+     * @throws CannotWriteException If the file could not be written/accessed, the extension
+     *                              wasn't recognized, or other IO error occurred.
+     */
+    public void writeFile(AudioFile f, TagOptions options) throws CannotWriteException
+    {
+        if (f.getFile() == null)
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_NOT_READ_FROM_FILE.getMsg());
+        }
+        if (!f.isTagLoaded())
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TAG_NOT_READ.getMsg(f.getFile().getPath()));
+        }
+        if (!f.isTagComplete())
+        {
+            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TAG_NOT_COMPLETE.getMsg(f.getFile().getPath()));
+        }
+        String ext = getWriteExtension(f);
 
         AudioFileWriter afw = writers.get(ext);
         if (afw == null)
@@ -329,6 +804,53 @@ public class AudioFileIO
             throw new CannotWriteException(ErrorMessage.NO_WRITER_FOR_THIS_FORMAT.getMsg(ext));
         }
 
-        afw.write(f);
+        //Do not start if already cancelled or out of time
+        try
+        {
+            Cancellation.checkpoint();
+        }
+        catch (InterruptedIOException iioe)
+        {
+            throw new CannotWriteException(iioe.getMessage(), iioe);
+        }
+
+        TagOptions previous = TagOptions.setCurrent(options);
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.WRITE);
+        String outcome = FlightRecorderEvent.FAILED;
+        try
+        {
+            afw.write(f);
+            outcome = FlightRecorderEvent.SUCCEEDED;
+        }
+        finally
+        {
+            TagOptions.setCurrent(previous);
+            event.end(f.getFile(), ext, 0, outcome);
+        }
+    }
+
+    /**
+     * @return extension of the format the file was read as, so a file with the wrong extension is written by the
+     *         writer for its content, or the extension of the file if it was not read by AudioFileIO
+     */
+    private String getWriteExtension(AudioFile f)
+    {
+        if (f.getFormat() != null)
+        {
+            return f.getFormat().getFilesuffix();
+        }
+        return Utils.getExtension(f.getFile());
+    }
+
+    /**
+     * @return the options the file was read with, or a snapshot of the default TagOptionSingleton
+     */
+    private TagOptions getWriteOptions(AudioFile f)
+    {
+        if (f.tagOptions != null)
+        {
+            return f.tagOptions;
+        }
+        return TagOptionSingleton.getInstance().getTagOptions();
     }
 }
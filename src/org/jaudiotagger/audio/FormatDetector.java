@@ -0,0 +1,199 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Detects the format of an audio file from the bytes at its start.
+ *
+ */
+package org.jaudiotagger.audio;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Detects the format of an audio file from the signature at its start, so that a file with the wrong extension or
+ * no extension can still be read
+ * <p/>
+ * The extension is only used as a hint, to choose between formats read by the same reader, such as m4a and mp4, or
+ * when the signature cannot be seen in the prefix.
+ */
+public final class FormatDetector
+{
+    /**
+     * Bytes read from the start of the file, enough for every signature and for the first headers of most formats
+     * so the reader does not have to read them again
+     */
+    public static final int PREFIX_SIZE = 4096;
+
+    private static final int ID3_HEADER_SIZE = 10;
+
+    private FormatDetector()
+    {
+    }
+
+    /**
+     * Read the prefix of the file in a single read, the position of the channel is not changed
+     *
+     * @param fc channel of the file
+     * @return buffer holding the start of the file, its limit is less than PREFIX_SIZE if the file is shorter
+     * @throws IOException
+     */
+    public static ByteBuffer readPrefix(FileChannel fc) throws IOException
+    {
+        return readPrefix(fc, PREFIX_SIZE);
+    }
+
+    /**
+     * Read the prefix of the file in a single read, the position of the channel is not changed
+     *
+     * @param fc   channel of the file
+     * @param size number of bytes to read, detection needs at least 12
+     * @return buffer holding the start of the file, its limit is less than size if the file is shorter
+     * @throws IOException
+     */
+    public static ByteBuffer readPrefix(FileChannel fc, int size) throws IOException
+    {
+        ByteBuffer prefix = ByteBuffer.allocate(size);
+        fc.read(prefix, 0);
+        prefix.flip();
+        return prefix;
+    }
+
+    /**
+     * @param prefix start of the file, it is not modified
+     * @param ext    extension of the file, may be <code>null</code>
+     * @return the format of the file, or <code>null</code> if it is not recognised
+     */
+    public static SupportedFileFormat detect(ByteBuffer prefix, String ext)
+    {
+        SupportedFileFormat hint = getFormat(ext);
+        if (matches(prefix, 0, "ID3"))
+        {
+            //Some FLAC files start with an ID3v2 tag
+            if (prefix.limit() >= ID3_HEADER_SIZE)
+            {
+                int tagEnd = ID3_HEADER_SIZE + syncSafeInteger(prefix, 6);
+                if (matches(prefix, tagEnd, "fLaC"))
+                {
+                    return SupportedFileFormat.FLAC;
+                }
+                if (tagEnd + 4 > prefix.limit() && hint == SupportedFileFormat.FLAC)
+                {
+                    return hint;
+                }
+            }
+            return SupportedFileFormat.MP3;
+        }
+        if (matches(prefix, 0, "fLaC"))
+        {
+            return SupportedFileFormat.FLAC;
+        }
+        if (matches(prefix, 0, "OggS"))
+        {
+            return SupportedFileFormat.OGG;
+        }
+        if (matches(prefix, 4, "ftyp"))
+        {
+            return isOneOf(hint, SupportedFileFormat.MP4, SupportedFileFormat.M4A, SupportedFileFormat.M4P, SupportedFileFormat.M4B)
+                    ? hint : SupportedFileFormat.M4A;
+        }
+        if ((matches(prefix, 0, "RIFF") || matches(prefix, 0, "RF64")) && matches(prefix, 8, "WAVE"))
+        {
+            return SupportedFileFormat.WAV;
+        }
+        if (matches(prefix, 0, "FORM") && (matches(prefix, 8, "AIFF") || matches(prefix, 8, "AIFC")))
+        {
+            return SupportedFileFormat.AIF;
+        }
+        if (matches(prefix, 0, ".RMF"))
+        {
+            return isOneOf(hint, SupportedFileFormat.RA, SupportedFileFormat.RM) ? hint : SupportedFileFormat.RM;
+        }
+        if (isMpegAudioFrameSync(prefix))
+        {
+            return SupportedFileFormat.MP3;
+        }
+        return null;
+    }
+
+    /**
+     * @param ext extension, may be <code>null</code>
+     * @return the format with this extension, or <code>null</code> if none
+     */
+    static SupportedFileFormat getFormat(String ext)
+    {
+        if (ext != null)
+        {
+            for (SupportedFileFormat format : SupportedFileFormat.values())
+            {
+                if (format.getFilesuffix().equalsIgnoreCase(ext))
+                {
+                    return format;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isOneOf(SupportedFileFormat format, SupportedFileFormat... formats)
+    {
+        for (SupportedFileFormat next : formats)
+        {
+            if (format == next)
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(ByteBuffer prefix, int offset, String signature)
+    {
+        if (offset < 0 || offset + signature.length() > prefix.limit())
+        {
+            return false;
+        }
+        for (int i = 0; i < signature.length(); i++)
+        {
+            if (prefix.get(offset + i) != (byte) signature.charAt(i))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * MPEG audio frames start with eleven set bits, followed by the version and layer. Layer 0 is reserved for the
+     * ADTS headers of raw AAC, which is not MP3.
+     */
+    private static boolean isMpegAudioFrameSync(ByteBuffer prefix)
+    {
+        if (prefix.limit() < 2)
+        {
+            return false;
+        }
+        int b0 = prefix.get(0) & 0xff;
+        int b1 = prefix.get(1) & 0xff;
+        return b0 == 0xff && (b1 & 0xe0) == 0xe0 && (b1 & 0x06) != 0 && (b1 & 0x18) != 0x08;
+    }
+
+    private static int syncSafeInteger(ByteBuffer prefix, int offset)
+    {
+        return ((prefix.get(offset) & 0x7f) << 21)
+                | ((prefix.get(offset + 1) & 0x7f) << 14)
+                | ((prefix.get(offset + 2) & 0x7f) << 7)
+                | (prefix.get(offset + 3) & 0x7f);
+    }
+}
@@ -33,10 +33,12 @@ public class AiffAudioHeader extends GenericAudioHeader {
     
     private List<String> applicationIdentifiers;
     private List<String> comments;
+    private List<String> annotations;
     
     public AiffAudioHeader() {
         applicationIdentifiers = new ArrayList<String> ();
         comments = new ArrayList<String> ();
+        annotations = new ArrayList<String> ();
         endian = Endian.BIG_ENDIAN;
     }
 
@@ -137,14 +139,14 @@ public class AiffAudioHeader extends GenericAudioHeader {
 
     /** Return list of all annotations */
     public List<String> getAnnotations () {
-        return applicationIdentifiers;
+        return annotations;
     }
     
     /** 
      *  Add an annotation. There can be any number of these.
      */
     public void addAnnotation (String a) {
-        applicationIdentifiers.add (a);
+        annotations.add (a);
     }
 
     /** Return list of all comments */
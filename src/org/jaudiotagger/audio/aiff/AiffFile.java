@@ -9,6 +9,7 @@ import java.util.logging.Level;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.TagException;
 
 public class AiffFile extends AudioFile {
@@ -61,7 +62,7 @@ public class AiffFile extends AudioFile {
         try
         {
             logger.setLevel(Level.FINEST);
-            logger.fine("Called AiffFile constructor on " + file.getAbsolutePath());
+            Log.log(logger, Level.FINE, "Called AiffFile constructor on {}", file.getAbsolutePath());
             this.file = file;
 
             //Check File accessibility
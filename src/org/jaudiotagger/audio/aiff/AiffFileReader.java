@@ -1,172 +1,252 @@
 package org.jaudiotagger.audio.aiff;
 
-import java.io.DataInputStream;
-import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.RandomAccessFile;
-import java.text.SimpleDateFormat;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.logging.Level;
-import java.util.logging.SimpleFormatter;
-import java.util.logging.StreamHandler;
 
-import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
-import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
-import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.tag.FieldDataInvalidException;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.aiff.AiffTag;
 
+/**
+ * Reads the audio header and tag of an AIFF file.
+ * <p/>
+ * The reader holds no state, each call creates its own header or tag so that
+ * a single instance can be shared between threads. Chunk headers and small
+ * chunks are parsed from a window read from the file in one go, chunks that
+ * are not needed such as SSND are skipped over without being read.
+ */
 public class AiffFileReader extends AudioFileReader {
 
     /* Fixed value for first 4 bytes */
     private static final int[] sigByte =
        { 0X46, 0X4F, 0X52, 0X4D };
 
-    /* AIFF-specific information which isn't "tag" information */
-    private AiffAudioHeader aiffHeader;
-    
-    /* "Tag" information */
-    private AiffTag aiffTag;
-    
-    /* InputStream that reads the file sequentially */
-//    private DataInputStream inStream;
-    
+    /* Size of the FORM header: signature, size and file type */
+    private static final int FORM_HEADER_SIZE = 12;
+
+    /* Size of the window read from the file, chunks that fit are parsed from it without further reads */
+    private static final int WINDOW_SIZE = 8192;
+
     public AiffFileReader () {
-        aiffHeader = new AiffAudioHeader();
-        aiffTag = new AiffTag ();
     }
-    
-    
+
+
     public AiffFileReader (RandomAccessFile raf) {
-        aiffHeader = new AiffAudioHeader();
-        aiffTag = new AiffTag ();
     }
 
 
-    /** Reads the file and fills in the audio header and tag information.
-     *  Holds the tag information for later and returns the audio header. */
+    /** Reads the audio header information from the file, the ID3 chunk is skipped. */
     @Override
-    protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf)
+    protected GenericAudioHeader getEncodingInfo(RandomAccessSource raf)
             throws CannotReadException, IOException {
         logger.finest("Reading AIFF file ");
-        byte sigBuf[] = new byte[4];
-        raf.read(sigBuf);
-        for (int i = 0; i < 4; i++) {
-            if (sigBuf[i] != sigByte[i]) {
-                logger.finest ("AIFF file has incorrect signature");
-                throw new CannotReadException ("Not an AIFF file: incorrect signature");
-            }
-        }
-        long bytesRemaining = AiffUtil.readUINT32(raf);
-        
-        // Read the file type.
-        if (!readFileType (raf)) {
-            throw new CannotReadException ("Invalid AIFF file: Incorrect file type info");
-        }
-        bytesRemaining -= 4;        
-        while (bytesRemaining > 0) {
-            if (!readChunk (raf, bytesRemaining)) {
-                break;
-            }
-        }
+        AiffAudioHeader aiffHeader = new AiffAudioHeader();
+        readChunks (raf, aiffHeader, null);
         return aiffHeader;
     }
 
+    /** Reads the tag information from the file. The ID3 chunk holds most
+     *  of the tag, values from the NAME, AUTH, (c) and ANNO chunks are used
+     *  for fields it does not have. If there is no ID3 chunk an empty ID3
+     *  tag is created so that the tag can be written.
+     */
     @Override
-    protected Tag getTag(RandomAccessFile raf) throws CannotReadException,
+    protected Tag getTag(RandomAccessSource raf) throws CannotReadException,
             IOException {
-        logger.info("getTag called");
-        
-        // TODO fill out stub code
+        AiffTag aiffTag = new AiffTag ();
+        AiffAudioHeader textChunks = new AiffAudioHeader ();
+        readChunks (raf, textChunks, aiffTag);
+        if (aiffTag.getID3Tag () == null) {
+            aiffTag.setID3Tag (AiffTag.createDefaultID3Tag ());
+        }
+        copyTextChunks (textChunks, aiffTag);
         return aiffTag;
-        
     }
-    
-    /*  Reads the file type.   
-     *  Broken out from parse().
-     *  If it is not a valid file type, returns false.
+
+    /** Copies the text chunk values into the tag where it has no value of its own */
+    private void copyTextChunks (AiffAudioHeader textChunks, AiffTag aiffTag)
+    {
+        try {
+            copyTextChunk (textChunks.getName (), FieldKey.TITLE, aiffTag);
+            copyTextChunk (textChunks.getAuthor (), FieldKey.ARTIST, aiffTag);
+            if (textChunks.getAnnotations ().size () > 0) {
+                // Annotations often hold several null separated strings
+                copyTextChunk (textChunks.getAnnotations ().get (0).replace ('\0', '\n'), FieldKey.COMMENT, aiffTag);
+            }
+        }
+        catch (FieldDataInvalidException fdie) {
+            logger.warning ("Unable to copy AIFF text chunk into tag: " + fdie.getMessage ());
+        }
+        if (textChunks.getCopyright () != null && textChunks.getCopyright ().length () > 0 &&
+                aiffTag.getCopyright ().length () == 0) {
+            aiffTag.setCopyright (textChunks.getCopyright ());
+        }
+    }
+
+    private void copyTextChunk (String value, FieldKey key, AiffTag aiffTag)
+            throws KeyNotFoundException, FieldDataInvalidException
+    {
+        if (value != null && value.length () > 0 && !aiffTag.hasField (key)) {
+            aiffTag.setField (key, value);
+        }
+    }
+
+    /*  Reads the file type.
+     *  If it is not a valid file type, returns null.
      */
-    private boolean readFileType (RandomAccessFile raf) throws IOException
+    private AiffAudioHeader.FileType readFileType (ByteBuffer formHeader)
     {
-        String typ = AiffUtil.read4Chars (raf);
+        String typ = AiffUtil.read4Chars (formHeader);
         if ("AIFF".equals (typ)) {
-            aiffHeader.setFileType (AiffAudioHeader.FileType.AIFFTYPE);
-            return true;
+            return AiffAudioHeader.FileType.AIFFTYPE;
         }
         else if ("AIFC".equals (typ)) {
-            aiffHeader.setFileType (AiffAudioHeader.FileType.AIFCTYPE);
-            return true;
+            return AiffAudioHeader.FileType.AIFCTYPE;
         }
         else {
-            return false;
+            return null;
         }
     }
 
-    /** Reads an AIFF Chunk.
-     * 
+    /** Walks the chunks of the file, reading those needed for the header
+     *  and/or tag. Either of aiffHeader and aiffTag may be null in which
+     *  case the chunks that hold their information are skipped.
      */
-     protected boolean readChunk 
-           (RandomAccessFile raf, long bytesRemaining) 
-             throws IOException
-     {
-        Chunk chunk = null;
-        ChunkHeader chunkh = new ChunkHeader ();
-        if (!chunkh.readHeader(raf)) {
-            return false;
-        }
-        int chunkSize = (int) chunkh.getSize ();
-        bytesRemaining -= chunkSize + 8;
-        
+    private void readChunks (RandomAccessSource raf, AiffAudioHeader aiffHeader, AiffTag aiffTag)
+            throws CannotReadException, IOException {
+        FileChannel fc = raf.getChannel ();
+        ByteBuffer formHeader = ByteBuffer.allocate (FORM_HEADER_SIZE);
+        if (fc.read (formHeader, 0) < FORM_HEADER_SIZE) {
+            throw new CannotReadException ("Not an AIFF file: too short");
+        }
+        formHeader.flip ();
+        for (int i = 0; i < 4; i++) {
+            if (formHeader.get () != sigByte[i]) {
+                logger.finest ("AIFF file has incorrect signature");
+                throw new CannotReadException ("Not an AIFF file: incorrect signature");
+            }
+        }
+        long formSize = AiffUtil.readUINT32 (formHeader);
+
+        // Read the file type.
+        AiffAudioHeader.FileType fileType = readFileType (formHeader);
+        if (fileType == null) {
+            throw new CannotReadException ("Invalid AIFF file: Incorrect file type info");
+        }
+        if (aiffHeader != null) {
+            aiffHeader.setFileType (fileType);
+        }
+
+        long end = Math.min (ChunkHeader.CHUNK_HEADER_SIZE + formSize, fc.size ());
+        long position = FORM_HEADER_SIZE;
+        long windowStart = position;
+        ByteBuffer window = ByteBuffer.allocate (0);
+        while (position + ChunkHeader.CHUNK_HEADER_SIZE <= end) {
+            if (position + ChunkHeader.CHUNK_HEADER_SIZE > windowStart + window.limit ()) {
+                windowStart = position;
+                window = read (fc, position, (int) Math.min (WINDOW_SIZE, end - position));
+            }
+            window.position ((int) (position - windowStart));
+            ChunkHeader chunkh = new ChunkHeader ();
+            if (!chunkh.readHeader (window)) {
+                break;
+            }
+            long dataStart = position + ChunkHeader.CHUNK_HEADER_SIZE;
+            long chunkSize = chunkh.getSize ();
+            if (logger.isLoggable (Level.FINEST)) {
+                logger.finest ("Found chunk " + chunkh.getID () + " size:" + chunkSize + " at:" + position);
+            }
+
+            if (isRequired (chunkh.getID (), aiffHeader, aiffTag)) {
+                if (dataStart + chunkSize > end) {
+                    logger.warning ("AIFF chunk " + chunkh.getID () + " extends beyond end of file");
+                    break;
+                }
+                ByteBuffer chunkData;
+                if (dataStart + chunkSize <= windowStart + window.limit ()) {
+                    chunkData = window.duplicate ();
+                    chunkData.position ((int) (dataStart - windowStart));
+                    chunkData.limit ((int) (dataStart - windowStart + chunkSize));
+                    chunkData = chunkData.slice ();
+                }
+                else {
+                    chunkData = read (fc, dataStart, (int) chunkSize);
+                }
+                Chunk chunk = createChunk (chunkh, chunkData, aiffHeader, aiffTag);
+                if (!chunk.readChunk ()) {
+                    break;
+                }
+            }
+            // Other chunks are skipped, chunks must come out to an even byte boundary
+            position = dataStart + chunkSize + (chunkSize & 1);
+        }
+    }
+
+    /** Returns true if the chunk is needed for the header or tag being read */
+    private boolean isRequired (String id, AiffAudioHeader aiffHeader, AiffTag aiffTag)
+    {
+        if (aiffTag != null && ("ID3 ".equals (id) || "id3 ".equals (id))) {
+            return true;
+        }
+        return aiffHeader != null &&
+                ("FVER".equals (id) || "APPL".equals (id) || "COMM".equals (id) || "COMT".equals (id) ||
+                 "NAME".equals (id) || "AUTH".equals (id) || "(c) ".equals (id) || "ANNO".equals (id));
+    }
+
+    /** Creates the Chunk that reads a chunk known to be required */
+    private Chunk createChunk (ChunkHeader chunkh, ByteBuffer chunkData, AiffAudioHeader aiffHeader, AiffTag aiffTag)
+    {
         String id = chunkh.getID ();
         if ("FVER".equals (id)) {
-            chunk = new FormatVersionChunk (chunkh, raf, aiffHeader);
+            return new FormatVersionChunk (chunkh, chunkData, aiffHeader);
         }
         else if ("APPL".equals (id)) {
-            chunk = new ApplicationChunk (chunkh, raf, aiffHeader);
             // Any number of application chunks is ok
+            return new ApplicationChunk (chunkh, chunkData, aiffHeader);
         }
         else if ("COMM".equals (id)) {
             // There should be no more than one of these
-            chunk = new CommonChunk (chunkh, raf, aiffHeader);
+            return new CommonChunk (chunkh, chunkData, aiffHeader);
         }
         else if ("COMT".equals (id)) {
-            chunk = new CommentsChunk (chunkh, raf, aiffHeader);
+            return new CommentsChunk (chunkh, chunkData, aiffHeader);
         }
         else if ("NAME".equals (id)) {
-            chunk = new NameChunk (chunkh, raf, aiffHeader);
+            return new NameChunk (chunkh, chunkData, aiffHeader);
         }
         else if ("AUTH".equals (id)) {
-            chunk = new AuthorChunk (chunkh, raf, aiffHeader);
+            return new AuthorChunk (chunkh, chunkData, aiffHeader);
         }
         else if ("(c) ".equals (id)) {
-            chunk = new CopyrightChunk (chunkh, raf, aiffHeader);
+            return new CopyrightChunk (chunkh, chunkData, aiffHeader);
         }
         else if ("ANNO".equals (id)) {
-            chunk = new AnnotationChunk (chunkh, raf, aiffHeader);
+            return new AnnotationChunk (chunkh, chunkData, aiffHeader);
         }
-        else if ("ID3 ".equals (id)) {
-            chunk = new ID3Chunk (chunkh, raf, aiffTag);
+        else {
+            return new ID3Chunk (chunkh, chunkData, aiffTag);
         }
+    }
 
-        if (chunk != null) {
-            if (!chunk.readChunk ()) {
-                return false;
+    /** Reads length bytes from the given position of the file */
+    private ByteBuffer read (FileChannel fc, long position, int length) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate (length);
+        while (buffer.hasRemaining ()) {
+            if (fc.read (buffer, position + buffer.position ()) < 0) {
+                break;
             }
         }
-        else {
-            // Other chunk types are legal, just skip over them
-            raf.skipBytes (chunkSize);
-        }
-        if ((chunkSize & 1) != 0) {
-            // Must come out to an even byte boundary
-            raf.skipBytes(1);
-            --bytesRemaining;
-        }
-        return true;   
-     }
-
+        buffer.flip ();
+        return buffer;
+    }
 }
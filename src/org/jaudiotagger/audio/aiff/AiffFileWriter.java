@@ -0,0 +1,33 @@
+package org.jaudiotagger.audio.aiff;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.generic.AudioFileWriter;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.aiff.AiffTag;
+
+/**
+ * Writes AIFF metadata.
+ * <p/>
+ * The metadata chunks are updated in place in the original file where possible,
+ * the temporary file is only written to when the file has to be copied.
+ */
+public class AiffFileWriter extends AudioFileWriter {
+
+    private AiffTagWriter tw = new AiffTagWriter ();
+
+    @Override
+    protected void writeTag (Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp)
+            throws CannotReadException, CannotWriteException, IOException {
+        tw.write ((AiffTag) tag, raf, rafTemp);
+    }
+
+    @Override
+    protected void deleteTag (RandomAccessFile raf, RandomAccessFile rafTemp)
+            throws CannotReadException, CannotWriteException, IOException {
+        tw.delete (raf, rafTemp);
+    }
+}
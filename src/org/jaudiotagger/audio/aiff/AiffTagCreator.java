@@ -0,0 +1,98 @@
+package org.jaudiotagger.audio.aiff;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.aiff.AiffTag;
+
+/**
+ * Creates the raw metadata chunks for an AiffTag so they can be written to file.
+ * <p/>
+ * The NAME, AUTH, (c) and ANNO text chunks are created from the title, artist,
+ * copyright and comment of the tag, followed by an ID3 chunk holding the
+ * complete tag.
+ */
+public class AiffTagCreator {
+
+    /** Identifiers of the chunks created, these are replaced whenever the tag is written */
+    public static final String NAME = "NAME";
+    public static final String AUTH = "AUTH";
+    public static final String COPYRIGHT = "(c) ";
+    public static final String ANNO = "ANNO";
+    public static final String ID3 = "ID3 ";
+    public static final String ID3_LOWERCASE = "id3 ";
+
+    /** Filler chunk used to take up space left over when metadata is replaced in place */
+    public static final String FILLER = "FLLR";
+
+    /**
+     * Converts the tag to chunks, text chunks are only created for fields that have
+     * a value and the ID3 chunk is only created if the tag is not empty, so the
+     * buffer may be empty.
+     */
+    public ByteBuffer convert (AiffTag tag) throws IOException
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream ();
+        if (tag != null && !tag.isEmpty ()) {
+            writeTextChunk (baos, NAME, tag.getFirst (FieldKey.TITLE));
+            writeTextChunk (baos, AUTH, tag.getFirst (FieldKey.ARTIST));
+            writeTextChunk (baos, COPYRIGHT, tag.getCopyright ());
+            writeTextChunk (baos, ANNO, tag.getFirst (FieldKey.COMMENT));
+
+            ByteArrayOutputStream id3 = new ByteArrayOutputStream ();
+            tag.getID3Tag ().write (Channels.newChannel (id3));
+            writeChunk (baos, ID3, id3.toByteArray ());
+        }
+        return ByteBuffer.wrap (baos.toByteArray ());
+    }
+
+    /** Returns true if the chunk is one that is replaced when the tag is written */
+    public static boolean isMetadataChunk (String id)
+    {
+        return NAME.equals (id) || AUTH.equals (id) || COPYRIGHT.equals (id) || ANNO.equals (id) ||
+                ID3.equals (id) || ID3_LOWERCASE.equals (id);
+    }
+
+    /** Creates a filler chunk occupying exactly size bytes including its header */
+    public static ByteBuffer createFillerChunk (long size)
+    {
+        ByteBuffer filler = ByteBuffer.allocate ((int) size);
+        if (size >= ChunkHeader.CHUNK_HEADER_SIZE) {
+            filler.put (createChunkHeader (FILLER, size - ChunkHeader.CHUNK_HEADER_SIZE));
+        }
+        filler.rewind ();
+        return filler;
+    }
+
+    /** Creates the raw bytes of a chunk header */
+    public static ByteBuffer createChunkHeader (String id, long size)
+    {
+        ByteBuffer header = ByteBuffer.allocate (ChunkHeader.CHUNK_HEADER_SIZE);
+        for (int i = 0; i < 4; i++) {
+            header.put ((byte) id.charAt (i));
+        }
+        header.putInt ((int) size);
+        header.flip ();
+        return header;
+    }
+
+    /** Text chunks hold plain ASCII text, characters that cannot be represented are replaced */
+    private void writeTextChunk (ByteArrayOutputStream baos, String id, String value) throws IOException
+    {
+        if (value != null && value.length () > 0) {
+            writeChunk (baos, id, value.getBytes ("ISO-8859-1"));
+        }
+    }
+
+    private void writeChunk (ByteArrayOutputStream baos, String id, byte[] body) throws IOException
+    {
+        baos.write (createChunkHeader (id, body.length).array ());
+        baos.write (body);
+        if ((body.length & 1) != 0) {
+            baos.write (0);
+        }
+    }
+}
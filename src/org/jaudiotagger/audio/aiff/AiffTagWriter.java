@@ -0,0 +1,314 @@
+package org.jaudiotagger.audio.aiff;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.generic.Cancellation;
+import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.tag.aiff.AiffTag;
+
+/**
+ * Writes the metadata chunks of an AIFF file.
+ * <p/>
+ * Where possible the file is updated in place so that the sound data is never
+ * copied: metadata chunks after the SSND chunk are replaced at the end of the
+ * file, and metadata chunks before it are overwritten if the new metadata fits
+ * in the space they take up, with any space left over filled by a filler chunk.
+ * In both cases only the metadata chunks and the FORM size are written. Only
+ * when metadata before the SSND chunk has to grow is the file copied, using a
+ * channel transfer to the temporary file.
+ * <p/>
+ * Changes made in place are written through the RandomAccessFile rather than its
+ * channel, so once started they cannot be stopped partway by an interrupt.
+ */
+public class AiffTagWriter {
+
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.aiff");
+
+    /* Size of the FORM header: signature, size and file type */
+    private static final int FORM_HEADER_SIZE = 12;
+
+    /* Offset of the FORM size within the file */
+    private static final int FORM_SIZE_OFFSET = 4;
+
+    private static final String SSND = "SSND";
+
+    private AiffTagCreator tc = new AiffTagCreator ();
+
+    /**
+     * Deletes the metadata chunks from the file.
+     *
+     * @param raf     the file
+     * @param rafTemp temporary file, only written to if the file has to be copied
+     */
+    public void delete (RandomAccessFile raf, RandomAccessFile rafTemp)
+            throws CannotReadException, CannotWriteException, IOException
+    {
+        write (raf, rafTemp, ByteBuffer.allocate (0));
+    }
+
+    /**
+     * Writes the tag to the file.
+     *
+     * @param tag     the tag to write
+     * @param raf     the file
+     * @param rafTemp temporary file, only written to if the file has to be copied
+     */
+    public void write (AiffTag tag, RandomAccessFile raf, RandomAccessFile rafTemp)
+            throws CannotReadException, CannotWriteException, IOException
+    {
+        write (raf, rafTemp, tc.convert (tag));
+    }
+
+    private void write (RandomAccessFile raf, RandomAccessFile rafTemp, ByteBuffer metadata)
+            throws CannotReadException, CannotWriteException, IOException
+    {
+        List<ChunkSummary> chunks = new ArrayList<ChunkSummary> ();
+        long formEnd = readChunkSummaries (raf, chunks);
+
+        ChunkSummary ssnd = null;
+        for (ChunkSummary chunk : chunks) {
+            if (SSND.equals (chunk.getChunkId ())) {
+                ssnd = chunk;
+                break;
+            }
+        }
+
+        // Metadata chunks that sit in front of the sound data
+        List<ChunkSummary> before = new ArrayList<ChunkSummary> ();
+        for (ChunkSummary chunk : chunks) {
+            if (ssnd != null && chunk.getFileStartLocation () < ssnd.getFileStartLocation () &&
+                    AiffTagCreator.isMetadataChunk (chunk.getChunkId ())) {
+                before.add (chunk);
+            }
+        }
+
+        // Once the file starts changing in place the write is completed, the writes cannot be interrupted
+        Cancellation.checkpoint ();
+
+        if (before.size () > 0) {
+            List<ChunkSummary> slot = findSlot (chunks, ssnd, metadata.limit ());
+            if (slot == null) {
+                copy (raf, rafTemp, chunks, before.get (0), metadata, formEnd);
+                return;
+            }
+
+            for (ChunkSummary chunk : before) {
+                if (!slot.contains (chunk)) {
+                    Utils.write (raf, AiffTagCreator.createFillerChunk (
+                            chunk.getFileEndLocation () - chunk.getFileStartLocation ()), chunk.getFileStartLocation ());
+                }
+            }
+            long start = slot.get (0).getFileStartLocation ();
+            long length = slot.get (slot.size () - 1).getFileEndLocation () - start;
+            if (logger.isLoggable (Level.CONFIG)) {
+                logger.config ("Writing AIFF metadata of size " + metadata.limit () + " into space of size " + length + " at " + start);
+            }
+            Utils.write (raf, AiffTagCreator.createFillerChunk (length - metadata.limit ()), start + metadata.limit ());
+            Utils.write (raf, metadata, start);
+            metadata = ByteBuffer.allocate (0);
+        }
+
+        rewriteTail (raf, chunks, ssnd, metadata, formEnd);
+        updateFormSize (raf);
+    }
+
+    /**
+     * Reads the location of each chunk in the file, only the chunk headers are read.
+     *
+     * @return the end of the FORM chunk, limited to the length of the file
+     */
+    private long readChunkSummaries (RandomAccessFile raf, List<ChunkSummary> chunks)
+            throws CannotReadException, IOException
+    {
+        FileChannel fc = raf.getChannel ();
+        ByteBuffer formHeader = ByteBuffer.allocate (FORM_HEADER_SIZE);
+        if (fc.read (formHeader, 0) < FORM_HEADER_SIZE) {
+            throw new CannotReadException ("Not an AIFF file: too short");
+        }
+        formHeader.flip ();
+        String signature = AiffUtil.read4Chars (formHeader);
+        long formSize = AiffUtil.readUINT32 (formHeader);
+        String fileType = AiffUtil.read4Chars (formHeader);
+        if (!"FORM".equals (signature) || !("AIFF".equals (fileType) || "AIFC".equals (fileType))) {
+            throw new CannotReadException ("Not an AIFF file: incorrect signature");
+        }
+
+        long formEnd = Math.min (ChunkHeader.CHUNK_HEADER_SIZE + formSize, fc.size ());
+        long position = FORM_HEADER_SIZE;
+        ByteBuffer header = ByteBuffer.allocate (ChunkHeader.CHUNK_HEADER_SIZE);
+        while (position + ChunkHeader.CHUNK_HEADER_SIZE <= formEnd) {
+            header.clear ();
+            fc.read (header, position);
+            header.flip ();
+            ChunkHeader chunkh = new ChunkHeader ();
+            if (!chunkh.readHeader (header)) {
+                logger.warning ("Invalid AIFF chunk header at " + position + ", ignoring rest of file");
+                break;
+            }
+            ChunkSummary chunk = new ChunkSummary (chunkh.getID (), position, chunkh.getSize ());
+            chunks.add (chunk);
+            position = chunk.getFileEndLocation ();
+        }
+        return formEnd;
+    }
+
+    /**
+     * Finds a run of adjacent metadata and filler chunks before the SSND chunk that can hold
+     * the metadata, the metadata has to fill it exactly or leave room for a filler chunk.
+     *
+     * @return the chunks making up the space, or null if there is no suitable space
+     */
+    private List<ChunkSummary> findSlot (List<ChunkSummary> chunks, ChunkSummary ssnd, int metadataLength)
+    {
+        List<ChunkSummary> run = new ArrayList<ChunkSummary> ();
+        for (ChunkSummary chunk : chunks) {
+            if (chunk == ssnd) {
+                break;
+            }
+            if (AiffTagCreator.isMetadataChunk (chunk.getChunkId ()) ||
+                    AiffTagCreator.FILLER.equals (chunk.getChunkId ())) {
+                run.add (chunk);
+                long runLength = chunk.getFileEndLocation () - run.get (0).getFileStartLocation ();
+                if (runLength == metadataLength || runLength >= metadataLength + ChunkHeader.CHUNK_HEADER_SIZE) {
+                    return run;
+                }
+            }
+            else {
+                run = new ArrayList<ChunkSummary> ();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Rewrites the part of the file after the SSND chunk, removing any metadata chunks and
+     * appending the new metadata. Other chunks after the first metadata chunk are moved up,
+     * these are expected to be small.
+     */
+    private void rewriteTail (RandomAccessFile raf, List<ChunkSummary> chunks, ChunkSummary ssnd,
+            ByteBuffer metadata, long formEnd) throws IOException
+    {
+        List<ChunkSummary> tail = new ArrayList<ChunkSummary> ();
+        ChunkSummary firstMetadata = null;
+        long tailEnd = ssnd != null ? ssnd.getFileEndLocation () : FORM_HEADER_SIZE;
+        for (ChunkSummary chunk : chunks) {
+            if (ssnd == null || chunk.getFileStartLocation () > ssnd.getFileStartLocation ()) {
+                tail.add (chunk);
+                tailEnd = Math.min (chunk.getFileEndLocation (), formEnd);
+                if (firstMetadata == null && AiffTagCreator.isMetadataChunk (chunk.getChunkId ())) {
+                    firstMetadata = chunk;
+                }
+            }
+        }
+
+        if (firstMetadata == null && metadata.limit () == 0) {
+            return;
+        }
+
+        long soundDataEnd = ssnd != null ? ssnd.getFileStartLocation () + ChunkHeader.CHUNK_HEADER_SIZE + ssnd.getChunkSize () : 0;
+        if (soundDataEnd > formEnd) {
+            // The sound data chunk claims to extend beyond the end of the file, correct it before writing after it
+            long size = formEnd - ssnd.getFileStartLocation () - ChunkHeader.CHUNK_HEADER_SIZE;
+            logger.warning ("AIFF SSND chunk size of " + ssnd.getChunkSize () + " extends beyond end of file, corrected to " + size);
+            Utils.write (raf, AiffTagCreator.createChunkHeader (SSND, size), ssnd.getFileStartLocation ());
+            tailEnd = formEnd + (size & 1);
+        }
+
+        // Position may be one past the end of the file if the pad byte of the last chunk is missing
+        long position = firstMetadata != null ? firstMetadata.getFileStartLocation () : tailEnd;
+
+        List<ByteBuffer> moved = new ArrayList<ByteBuffer> ();
+        for (ChunkSummary chunk : tail) {
+            if (chunk.getFileStartLocation () >= position && !AiffTagCreator.isMetadataChunk (chunk.getChunkId ())) {
+                ByteBuffer chunkData = ByteBuffer.allocate ((int) (Math.min (chunk.getFileEndLocation (), formEnd) - chunk.getFileStartLocation ()));
+                Utils.readFully (raf, chunkData, chunk.getFileStartLocation ());
+                chunkData.flip ();
+                moved.add (chunkData);
+            }
+        }
+
+        if (logger.isLoggable (Level.CONFIG)) {
+            logger.config ("Writing AIFF metadata of size " + metadata.limit () + " after sound data at " + position);
+        }
+        if (position > formEnd) {
+            // Pad byte for odd sized chunk
+            Utils.write (raf, ByteBuffer.allocate ((int) (position - formEnd)), formEnd);
+        }
+        position += Utils.write (raf, metadata, position);
+        for (ByteBuffer chunkData : moved) {
+            position += Utils.write (raf, chunkData, position);
+        }
+        raf.setLength (position);
+    }
+
+    /**
+     * Copies the file to the temporary file with the new metadata in place of the first metadata
+     * chunk, all other metadata chunks are dropped. Chunks are transferred between the channels
+     * without being read into memory.
+     */
+    private void copy (RandomAccessFile raf, RandomAccessFile rafTemp, List<ChunkSummary> chunks,
+            ChunkSummary insertAt, ByteBuffer metadata, long formEnd) throws CannotWriteException, IOException
+    {
+        if (logger.isLoggable (Level.CONFIG)) {
+            logger.config ("AIFF metadata of size " + metadata.limit () + " does not fit before sound data, copying file");
+        }
+        FileChannel in = raf.getChannel ();
+        FileChannel out = rafTemp.getChannel ();
+        out.position (0);
+        transferFully (in, 0, FORM_HEADER_SIZE, out);
+        for (ChunkSummary chunk : chunks) {
+            if (chunk == insertAt) {
+                while (metadata.hasRemaining ()) {
+                    out.write (metadata);
+                }
+            }
+            if (AiffTagCreator.isMetadataChunk (chunk.getChunkId ())) {
+                continue;
+            }
+            long end = Math.min (chunk.getFileEndLocation (), formEnd);
+            transferFully (in, chunk.getFileStartLocation (), end - chunk.getFileStartLocation (), out);
+            if (end < chunk.getFileEndLocation () &&
+                    chunk.getFileStartLocation () + ChunkHeader.CHUNK_HEADER_SIZE + chunk.getChunkSize () == end) {
+                // Missing pad byte
+                out.write (ByteBuffer.allocate (1));
+            }
+        }
+        updateFormSize (rafTemp);
+    }
+
+    private void transferFully (FileChannel in, long position, long count, FileChannel out) throws IOException
+    {
+        long transferred = 0;
+        while (transferred < count) {
+            long bytes = in.transferTo (position + transferred, count - transferred, out);
+            if (bytes <= 0) {
+                break;
+            }
+            transferred += bytes;
+        }
+    }
+
+    /**
+     * Sets the FORM size to match the length of the file.
+     */
+    private void updateFormSize (RandomAccessFile raf) throws CannotWriteException, IOException
+    {
+        long formSize = raf.length () - ChunkHeader.CHUNK_HEADER_SIZE;
+        if (formSize > 0xFFFFFFFFL) {
+            throw new CannotWriteException ("AIFF file of length " + raf.length () + " is too large");
+        }
+        ByteBuffer size = ByteBuffer.allocate (4);
+        size.putInt ((int) formSize);
+        size.flip ();
+        Utils.write (raf, size, FORM_SIZE_OFFSET);
+    }
+}
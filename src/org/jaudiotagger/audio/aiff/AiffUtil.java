@@ -4,6 +4,7 @@ package org.jaudiotagger.audio.aiff;
 import java.io.IOException;
 //import java.io.InputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -38,6 +39,20 @@ public class AiffUtil {
         return result;
     }
     
+    /**
+     * Reads 4 bytes from buffer and interprets them as UINT32.
+     */
+    public static long readUINT32(ByteBuffer b) {
+        return b.getInt() & 0xFFFFFFFFL;
+    }
+
+    /**
+     * Reads 2 bytes from buffer and interprets them as UINT16.
+     */
+    public static int readUINT16(ByteBuffer b) {
+        return b.getShort() & 0xFFFF;
+    }
+
     /**
      *   Reads 4 bytes and concatenates them into a String.
      *   This pattern is used for ID's of various kinds.
@@ -51,6 +66,19 @@ public class AiffUtil {
         }
         return sbuf.toString();
     }
+
+    /**
+     *   Reads 4 bytes from buffer and concatenates them into a String.
+     */
+    public static String read4Chars(ByteBuffer b)
+    {
+        StringBuffer sbuf = new StringBuffer(4);
+        for (int i = 0; i < 4; i++) {
+            char ch = (char) (b.get() & 0xFF);
+            sbuf.append(ch);
+        }
+        return sbuf.toString();
+    }
     
     public static double read80BitDouble (RandomAccessFile raf)
                 throws IOException
@@ -61,6 +89,14 @@ public class AiffUtil {
         return xd.toDouble();
     }
 
+    public static double read80BitDouble (ByteBuffer b)
+    {
+        byte[] buf = new byte[10];
+        b.get(buf);
+        ExtDouble xd = new ExtDouble (buf);
+        return xd.toDouble();
+    }
+
     /** Converts a Macintosh-style timestamp (seconds since
      *  January 1, 1904) into a Java date.  The timestamp is
      *  treated as a time in the default localization.
@@ -95,8 +131,8 @@ public class AiffUtil {
      *  followed by that many active characters.
      */
     public static String bytesToPascalString (byte[] data) {
-        int len = (int) data[0];
-        return new String(data, 0, len, LATIN1);
+        int len = Math.min(data[0] & 0xFF, data.length - 1);
+        return new String(data, 1, len, LATIN1);
     }
     
     /** 
@@ -109,4 +145,15 @@ public class AiffUtil {
         buf[0] = (byte) len;
         return bytesToPascalString(buf);
     }
+
+    /** 
+     * Read a Pascal string from the buffer.
+     */
+    public static String readPascalString(ByteBuffer b) {
+        int len = b.get () & 0xFF;
+        byte[] buf = new byte[len + 1];
+        b.get (buf, 1, len);
+        buf[0] = (byte) len;
+        return bytesToPascalString(buf);
+    }
 }
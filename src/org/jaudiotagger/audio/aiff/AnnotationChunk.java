@@ -1,7 +1,7 @@
 package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 
 public class AnnotationChunk extends TextChunk {
 
@@ -11,15 +11,15 @@ public class AnnotationChunk extends TextChunk {
      * Constructor.
      * 
      * @param hdr      The header for this chunk
-     * @param raf      The file from which the AIFF data are being read
+     * @param chunkData The body of the chunk
      * @param aHdr      The AiffAudioHeader into which information is stored
      */
     public AnnotationChunk (
             ChunkHeader hdr, 
-            RandomAccessFile raf,
+            ByteBuffer chunkData,
             AiffAudioHeader aHdr)
     {
-        super (hdr, raf);
+        super (hdr, chunkData);
         aiffHeader = aHdr;
     }
     
@@ -1,8 +1,7 @@
 package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import org.jaudiotagger.audio.generic.Utils;
+import java.nio.ByteBuffer;
 
 public class ApplicationChunk extends Chunk {
 
@@ -13,15 +12,15 @@ public class ApplicationChunk extends Chunk {
    * Constructor.
    * 
    * @param hdr      The header for this chunk
-   * @param raf      The file from which the AIFF data are being read
-   * @param tag      The AiffTag into which information is stored
+   * @param chunkData The body of the chunk
+   * @param aHdr     The AiffAudioHeader into which information is stored
    */
   public ApplicationChunk (
           ChunkHeader hdr, 
-          RandomAccessFile raf,
+          ByteBuffer chunkData,
           AiffAudioHeader aHdr)
   {
-      super (raf, hdr);
+      super (chunkData, hdr);
       aiffHeader = aHdr;
   }
 
@@ -33,17 +32,20 @@ public class ApplicationChunk extends Chunk {
    */
   public boolean readChunk () throws IOException
   {
-      String applicationSignature = Utils.readString(raf, 4);
+      if (bytesLeft < 4) {
+          return false;
+      }
+      String applicationSignature = AiffUtil.read4Chars(chunkData);
       String applicationName = null;
       byte[] data = new byte[(int) (bytesLeft - 4)];
-      raf.readFully(data);
+      chunkData.get(data);
       // If the application signature is 'pdos' or 'stoc',
       // then the beginning of the data area is a Pascal
       // string naming the application.  Otherwise, we
       // ignore the data.  ('pdos' is for Apple II
       // applications, 'stoc' for the entire non-Apple world.)
-      if ("stoc".equals (applicationSignature) ||
-              "pdos".equals (applicationSignature)) {
+      if (("stoc".equals (applicationSignature) ||
+              "pdos".equals (applicationSignature)) && data.length > 0) {
           applicationName = AiffUtil.bytesToPascalString(data);
       }
       aiffHeader.addApplicationIdentifier
@@ -1,13 +1,15 @@
 package org.jaudiotagger.audio.aiff;
 
-import java.io.DataInputStream;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 
 
 
 /**
  * Abstract superclass for IFF/AIFF chunks.
+ * <p/>
+ * The chunk body is parsed from a buffer that has already been read from the file, so the chunk
+ * classes never touch the file themselves.
  * 
  * @author Gary McGath
  *
@@ -15,17 +17,16 @@ import java.io.RandomAccessFile;
 public abstract class Chunk {
 
     protected long bytesLeft;
-    protected RandomAccessFile raf;
+    protected ByteBuffer chunkData;
 
     /**
      *  Constructor.
-     * @param module   The Module under which this was called
-     * @param hdr      The header for this chunk
-     * @param dstrm    The stream from which the data are being read
+     * @param chunkData  The body of this chunk, positioned at its start
+     * @param hdr        The header for this chunk
      */
-    public Chunk (RandomAccessFile raf, ChunkHeader hdr)
+    public Chunk (ByteBuffer chunkData, ChunkHeader hdr)
     {
-        this.raf = raf;
+        this.chunkData = chunkData;
         bytesLeft = hdr.getSize ();
     }
     
@@ -2,9 +2,12 @@ package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 
 public class ChunkHeader {
 
+    public static final int CHUNK_HEADER_SIZE = 8;
+
     private long _size;              // This does not include the 8 bytes of header
     private String _chunkID;         // 4-character ID of the chunk
     
@@ -24,21 +27,32 @@ public class ChunkHeader {
      *  it's assumed to have already been read.
      */
     public boolean readHeader (RandomAccessFile raf) throws IOException
+    {
+        ByteBuffer header = ByteBuffer.allocate (CHUNK_HEADER_SIZE);
+        int bytesRead = raf.getChannel ().read (header);
+        if (bytesRead < CHUNK_HEADER_SIZE) {
+            return false;
+        }
+        header.flip ();
+        return readHeader (header);
+    }
+
+    /**
+     *  Reads the header of a chunk from the buffer, which must have at
+     *  least CHUNK_HEADER_SIZE bytes remaining.
+     */
+    public boolean readHeader (ByteBuffer header)
     {
         StringBuffer id = new StringBuffer(4);
         for (int i = 0; i < 4; i++) {
-            int ch = raf.read();
+            int ch = header.get () & 0xFF;
             if (ch < 32) {
-                String hx = Integer.toHexString (ch);
-                if (hx.length () < 2) {
-                    hx = "0" + hx;
-                }
                 return false;
             }
             id.append((char) ch);
         }
         _chunkID = id.toString ();
-        _size = AiffUtil.readUINT32 (raf); 
+        _size = AiffUtil.readUINT32 (header);
         return true;
     }
     
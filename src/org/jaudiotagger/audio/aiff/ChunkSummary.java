@@ -0,0 +1,48 @@
+package org.jaudiotagger.audio.aiff;
+
+/**
+ * Location and size of a chunk within an AIFF file, used when rewriting the
+ * file so that chunks can be moved or replaced without reading their bodies.
+ */
+public class ChunkSummary {
+
+    private String chunkId;
+    private long fileStartLocation;
+    private long chunkSize;
+
+    public ChunkSummary (String chunkId, long fileStartLocation, long chunkSize)
+    {
+        this.chunkId = chunkId;
+        this.fileStartLocation = fileStartLocation;
+        this.chunkSize = chunkSize;
+    }
+
+    /** Returns the chunk type, which is a 4-character code */
+    public String getChunkId ()
+    {
+        return chunkId;
+    }
+
+    /** Returns the offset of the chunk header within the file */
+    public long getFileStartLocation ()
+    {
+        return fileStartLocation;
+    }
+
+    /** Returns the chunk size (excluding the 8 bytes of header) */
+    public long getChunkSize ()
+    {
+        return chunkSize;
+    }
+
+    /** Returns the offset immediately after the chunk, including any pad byte */
+    public long getFileEndLocation ()
+    {
+        return fileStartLocation + ChunkHeader.CHUNK_HEADER_SIZE + chunkSize + (chunkSize & 1);
+    }
+
+    public String toString ()
+    {
+        return chunkId + " size:" + chunkSize + " at:" + fileStartLocation;
+    }
+}
@@ -1,12 +1,8 @@
 package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.Date;
-import java.util.List;
-
-import org.jaudiotagger.audio.generic.Utils;
 
 public class CommentsChunk extends Chunk {
 
@@ -16,15 +12,15 @@ public class CommentsChunk extends Chunk {
      * Constructor.
      * 
      * @param hdr      The header for this chunk
-     * @param raf      The file from which the AIFF data are being read
-     * @param tag      The AiffTag into which information is stored
+     * @param chunkData The body of the chunk
+     * @param aHdr     The AiffAudioHeader into which information is stored
      */
     public CommentsChunk (
             ChunkHeader hdr, 
-            RandomAccessFile raf,
+            ByteBuffer chunkData,
             AiffAudioHeader aHdr)
     {
-        super (raf, hdr);
+        super (chunkData, hdr);
         aiffHeader = aHdr;
     }
     
@@ -35,17 +31,24 @@ public class CommentsChunk extends Chunk {
      */
     public boolean readChunk () throws IOException
     {
-        int numComments = Utils.readUint16(raf);
+        int numComments = AiffUtil.readUINT16(chunkData);
         // Create a List of comments
         for (int i = 0; i < numComments; i++) {
-            long timestamp = Utils.readUint32(raf);
+            long timestamp = AiffUtil.readUINT32(chunkData);
             Date jTimestamp = AiffUtil.timestampToDate (timestamp);
-            int marker = Utils.readInt16 (raf);
-            int count = Utils.readUint16 (raf);
+            int marker = chunkData.getShort ();
+            int count = AiffUtil.readUINT16 (chunkData);
             bytesLeft -= 8;
+            if (count > chunkData.remaining ()) {
+                return false;
+            }
             byte[] buf = new byte[count];
-            raf.read(buf);
+            chunkData.get(buf);
             bytesLeft -= count;
+            // Each comment is padded to an even length
+            if ((count & 1) != 0 && chunkData.hasRemaining ()) {
+                chunkData.get ();
+            }
             String cmt = new String(buf);
             
             // Append a timestamp to the comment
@@ -1,9 +1,7 @@
 package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
-
-import org.jaudiotagger.audio.generic.Utils;
+import java.nio.ByteBuffer;
 
 public class CommonChunk extends Chunk {
 
@@ -13,46 +11,49 @@ public class CommonChunk extends Chunk {
      * Constructor.
      * 
      * @param hdr      The header for this chunk
-     * @param raf      The file from which the AIFF data are being read
-     * @param tag      The AiffTag into which information is stored
+     * @param chunkData The body of the chunk
+     * @param aHdr     The AiffAudioHeader into which information is stored
      */
     public CommonChunk (
             ChunkHeader hdr, 
-            RandomAccessFile raf,
+            ByteBuffer chunkData,
             AiffAudioHeader aHdr)
     {
-        super (raf, hdr);
+        super (chunkData, hdr);
         aiffHeader = aHdr;
     }
     
     
     @Override
     public boolean readChunk() throws IOException {
-        int numChannels = Utils.readUint16(raf);
-        long numSampleFrames = Utils.readUint32(raf);
-        int sampleSize = Utils.readUint16(raf);
+        if (bytesLeft < 18) {
+            return false;
+        }
+        int numChannels = AiffUtil.readUINT16(chunkData);
+        long numSampleFrames = AiffUtil.readUINT32(chunkData);
+        int sampleSize = AiffUtil.readUINT16(chunkData);
         bytesLeft -= 8;
         
         String compressionType = null;
         String compressionName = null;
         
-        double sampleRate = AiffUtil.read80BitDouble (raf);
+        double sampleRate = AiffUtil.read80BitDouble (chunkData);
         bytesLeft -= 10;
          
         if (aiffHeader.getFileType () == AiffAudioHeader.FileType.AIFCTYPE) {
-            if (bytesLeft == 0) {
+            if (bytesLeft < 5) {
                 // This is a rather special case, but testing did turn up
                 // a file that misbehaved in this way.
                 return false;
             }
-            compressionType = AiffUtil.read4Chars (raf);
+            compressionType = AiffUtil.read4Chars (chunkData);
             // According to David Ackerman, the compression type can
             // change the endianness of the document.
             if (compressionType.equals ("sowt")) {
                aiffHeader.setEndian (AiffAudioHeader.Endian.LITTLE_ENDIAN);
             }
             bytesLeft -= 4;
-            compressionName = AiffUtil.readPascalString (raf);
+            compressionName = AiffUtil.readPascalString (chunkData);
             bytesLeft -= compressionName.length () + 1;
         }
         
@@ -1,15 +1,9 @@
 package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
-import java.text.SimpleDateFormat;
+import java.nio.ByteBuffer;
 import java.util.Date;
 
-import org.jaudiotagger.audio.generic.Utils;
-import org.jaudiotagger.tag.FieldDataInvalidException;
-import org.jaudiotagger.tag.aiff.AiffTag;
-import org.jaudiotagger.tag.aiff.AiffTagFieldKey;
-
 public class FormatVersionChunk extends Chunk {
     
     private AiffAudioHeader aiffHeader;
@@ -18,15 +12,15 @@ public class FormatVersionChunk extends Chunk {
      * Constructor.
      * 
      * @param hdr      The header for this chunk
-     * @param raf      The file from which the AIFF data are being read
-     * @param tag      The AiffTag into which information is stored
+     * @param chunkData The body of the chunk
+     * @param aHdr     The AiffAudioHeader into which information is stored
      */
     public FormatVersionChunk (
             ChunkHeader hdr, 
-            RandomAccessFile raf,
+            ByteBuffer chunkData,
             AiffAudioHeader aHdr)
     {
-        super (raf, hdr);
+        super (chunkData, hdr);
         aiffHeader = aHdr;
     }
     
@@ -37,7 +31,10 @@ public class FormatVersionChunk extends Chunk {
      */
     public boolean readChunk () throws IOException
     {
-        long rawTimestamp = Utils.readUint32(raf);
+        if (bytesLeft < 4) {
+            return false;
+        }
+        long rawTimestamp = AiffUtil.readUINT32(chunkData);
         // The timestamp is in seconds since January 1, 1904.
         // We must convert to Java time.
         Date timestamp = AiffUtil.timestampToDate (rawTimestamp);
@@ -1,12 +1,10 @@
 package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
-import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.aiff.AiffTag;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
@@ -16,62 +14,58 @@ import org.jaudiotagger.tag.id3.ID3v24Tag;
 
 public class ID3Chunk extends Chunk {
 
+    /* Offset of the major version within the ID3 header */
+    private static final int VERSION_OFFSET = 3;
+
     private AiffTag aiffTag;
     
     /**
      * Constructor.
      * 
      * @param hdr      The header for this chunk
-     * @param raf      The file from which the AIFF data are being read
+     * @param chunkData The body of the chunk
      * @param tag      The AiffTag into which information is stored
      */
     public ID3Chunk (
             ChunkHeader hdr, 
-            RandomAccessFile raf,
+            ByteBuffer chunkData,
             AiffTag tag)
     {
-        super (raf, hdr);
+        super (chunkData, hdr);
         aiffTag = tag;
     }
 
     @Override
     public boolean readChunk() throws IOException {
-        // TODO Auto-generated method stub
         if (!isId3v2Tag()) {
             return false;    // Bad ID3V2 tag
         }
-        int version = raf.read();
+        int version = chunkData.get(chunkData.position() + VERSION_OFFSET);
         AbstractID3v2Tag id3Tag;
-        switch (version) {
-        case 2:
-            id3Tag = new ID3v22Tag();
-            AudioFile.logger.finest("Reading ID3V2.2 tag");
-            break;
-        case 3:
-            id3Tag = new ID3v23Tag();
-            AudioFile.logger.finest("Reading ID3V2.3 tag");
-            break;
-        case 4:
-            id3Tag = new ID3v24Tag();
-            AudioFile.logger.finest("Reading ID3V2.4 tag");
-            break;
-        default:
-            return false;     // bad or unknown version    
-        }
-        aiffTag.setID3Tag(id3Tag);
-        raf.seek(raf.getFilePointer() - 4);    // back up to start of tag
-        byte[] buf = new byte[(int)bytesLeft];
-        raf.read(buf);
-        ByteBuffer bb = ByteBuffer.allocate((int) bytesLeft);
-        bb.put(buf);
         try {
-            id3Tag.read(bb);
+            switch (version) {
+            case ID3v22Tag.MAJOR_VERSION:
+                AudioFile.logger.finest("Reading ID3V2.2 tag");
+                id3Tag = new ID3v22Tag(chunkData.slice(), "");
+                break;
+            case ID3v23Tag.MAJOR_VERSION:
+                AudioFile.logger.finest("Reading ID3V2.3 tag");
+                id3Tag = new ID3v23Tag(chunkData.slice(), "");
+                break;
+            case ID3v24Tag.MAJOR_VERSION:
+                AudioFile.logger.finest("Reading ID3V2.4 tag");
+                id3Tag = new ID3v24Tag(chunkData.slice(), "");
+                break;
+            default:
+                return false;     // bad or unknown version    
+            }
         }
         catch (TagException e) {
             AudioFile.logger.info("Exception reading ID3 tag: " + e.getClass().getName()
                      + ": " + e.getMessage());
             return false;
         }
+        aiffTag.setID3Tag(id3Tag);
         return true;
     }
     
@@ -90,11 +84,14 @@ public class ID3Chunk extends Chunk {
 
     }
 
-    /** Reads 3 bytes to determine if the tag really looks like ID3 data. */
+    /** Checks the first 3 bytes to determine if the tag really looks like ID3 data. */
     private boolean isId3v2Tag() throws IOException
     {
+        if (chunkData.remaining() <= VERSION_OFFSET) {
+            return false;
+        }
         byte buf[] = new byte[3];
-        raf.read(buf);
+        chunkData.duplicate().get(buf);
         String id = new String(buf, "ASCII");
         return "ID3".equals (id);
     }
@@ -1,7 +1,7 @@
 package org.jaudiotagger.audio.aiff;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 
 /** This class provides common functionality for NameChunk, AuthorChunk,
  *  and CopyrightChunk 
@@ -16,13 +16,13 @@ public abstract class TextChunk extends Chunk {
      * Constructor.
      * 
      * @param hdr      The header for this chunk
-     * @param raf      The file from which the AIFF data are being read
+     * @param chunkData The body of the chunk
      */
     public TextChunk (
             ChunkHeader hdr, 
-            RandomAccessFile raf)
+            ByteBuffer chunkData)
     {
-        super (raf, hdr);
+        super (chunkData, hdr);
     }
 
     /** Read the chunk. The subclasses need to take the value of
@@ -32,8 +32,13 @@ public abstract class TextChunk extends Chunk {
     public boolean readChunk() throws IOException {
         
         byte[] buf = new byte[(int) bytesLeft];
-        raf.read(buf);
-        chunkText = new String (buf, "ISO-8859-1");
+        chunkData.get(buf);
+        int length = buf.length;
+        // Some applications write a null terminator
+        while (length > 0 && buf[length - 1] == 0) {
+            length--;
+        }
+        chunkText = new String (buf, 0, length, "ISO-8859-1");
         return true;
     }
 
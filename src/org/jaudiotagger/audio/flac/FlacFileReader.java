@@ -21,10 +21,10 @@ package org.jaudiotagger.audio.flac;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.tag.Tag;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 /**
  * Read encoding and tag info for Flac file (open source lossless encoding)
@@ -35,12 +35,12 @@ public class FlacFileReader extends AudioFileReader
     private FlacInfoReader ir = new FlacInfoReader();
     private FlacTagReader tr = new FlacTagReader();
 
-    protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException
+    protected GenericAudioHeader getEncodingInfo(RandomAccessSource raf) throws CannotReadException, IOException
     {
         return ir.read(raf);
     }
 
-    protected Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException
+    protected Tag getTag(RandomAccessSource raf) throws CannotReadException, IOException
     {
         return tr.read(raf);
     }
@@ -23,10 +23,13 @@ import org.jaudiotagger.audio.flac.metadatablock.BlockType;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataStreamInfo;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.logging.Log;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -40,7 +43,7 @@ public class FlacInfoReader
     private static final int NO_OF_BITS_IN_BYTE = 8;
     private static final int KILOBYTES_TO_BYTES_MULTIPLIER = 1000;
 
-    public FlacAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException
+    public FlacAudioHeader read(RandomAccessSource raf) throws CannotReadException, IOException
     {
         FlacStreamReader flacStream = new FlacStreamReader(raf);
         flacStream.findStream();
@@ -107,7 +110,7 @@ public class FlacInfoReader
      */
     public int countMetaBlocks(File f) throws CannotReadException, IOException
     {
-        RandomAccessFile raf = new RandomAccessFile(f, "r");
+        RandomAccessSource raf = new RandomAccessSource(new RandomAccessFile(f, "r"));
         FlacStreamReader flacStream = new FlacStreamReader(raf);
         flacStream.findStream();
 
@@ -118,7 +121,7 @@ public class FlacInfoReader
         while (!isLastBlock)
         {
             MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(raf);
-            logger.config("Found block:" + mbh.getBlockType());
+            Log.log(logger, Level.CONFIG, "Found block:{}", mbh.getBlockType());
             raf.seek(raf.getFilePointer() + mbh.getDataLength());
             isLastBlock = mbh.isLastBlock();
             mbh = null; //Free memory
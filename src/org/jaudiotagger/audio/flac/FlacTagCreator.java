@@ -23,6 +23,7 @@ import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPadding;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
 import org.jaudiotagger.audio.generic.AbstractTagCreator;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.flac.FlacTag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentCreator;
@@ -30,6 +31,7 @@ import org.jaudiotagger.tag.vorbiscomment.VorbisCommentCreator;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.util.ListIterator;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -51,7 +53,7 @@ public class FlacTagCreator extends AbstractTagCreator
      */
     public ByteBuffer convert(Tag tag, int paddingSize) throws UnsupportedEncodingException
     {
-        logger.config("Convert flac tag:padding:" + paddingSize);
+        Log.log(logger, Level.CONFIG, "Convert flac tag:padding:{}", paddingSize);
         FlacTag flacTag = (FlacTag) tag;
 
         int tagLength = 0;
@@ -66,7 +68,7 @@ public class FlacTagCreator extends AbstractTagCreator
             tagLength += image.getBytes().length + MetadataBlockHeader.HEADER_LENGTH;
         }
 
-        logger.config("Convert flac tag:taglength:" + tagLength);
+        Log.log(logger, Level.CONFIG, "Convert flac tag:taglength:{}", tagLength);
         ByteBuffer buf = ByteBuffer.allocate(tagLength + paddingSize);
 
         MetadataBlockHeader vorbisHeader;
@@ -105,7 +107,7 @@ public class FlacTagCreator extends AbstractTagCreator
         }
 
         //Padding
-        logger.config("Convert flac tag at" + buf.position());
+        Log.log(logger, Level.CONFIG, "Convert flac tag at{}", buf.position());
         if (paddingSize > 0)
         {
             int paddingDataSize = paddingSize - MetadataBlockHeader.HEADER_LENGTH;
@@ -18,18 +18,25 @@
  */
 package org.jaudiotagger.audio.flac;
 
+import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
 import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockHeader;
+import org.jaudiotagger.audio.generic.Instrumentation;
+import org.jaudiotagger.audio.generic.InstrumentationPhase;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.logging.Log;
+import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.InvalidFrameException;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.flac.FlacTag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -44,7 +51,7 @@ public class FlacTagReader
     private VorbisCommentReader vorbisCommentReader = new VorbisCommentReader();
 
 
-    public FlacTag read(RandomAccessFile raf) throws CannotReadException, IOException
+    public FlacTag read(RandomAccessSource raf) throws CannotReadException, IOException
     {
         FlacStreamReader flacStream = new FlacStreamReader(raf);
         flacStream.findStream();
@@ -52,6 +59,11 @@ public class FlacTagReader
         //Hold the metadata
         VorbisCommentTag tag = null;
         List<MetadataBlockDataPicture> images = new ArrayList<MetadataBlockDataPicture>();
+        int skippedImageCount = 0;
+        Set<FieldKey> readFields = TagOptions.current().getReadFields();
+        boolean readImages = readFields == null || readFields.contains(FieldKey.COVER_ART);
+
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
 
         //Seems like we have a valid stream
         boolean isLastBlock = false;
@@ -59,7 +71,7 @@ public class FlacTagReader
         {
             if(logger.isLoggable(Level.CONFIG))
             {
-                logger.config("Looking for MetaBlockHeader at:"+raf.getFilePointer());
+                Log.log(logger, Level.CONFIG, "Looking for MetaBlockHeader at:{}", raf.getFilePointer());
             }
             
             //Read the header
@@ -71,7 +83,7 @@ public class FlacTagReader
 
             if(logger.isLoggable(Level.CONFIG))
             {
-                logger.config("Reading MetadataBlockHeader:"+mbh.toString() + " ending at "+raf.getFilePointer());
+                Log.log(logger, Level.CONFIG, "Reading MetadataBlockHeader:{} ending at {}", mbh.toString(), raf.getFilePointer());
             }
             
             //Is it one containing some sort of metadata, therefore interested in it?
@@ -89,9 +101,25 @@ public class FlacTagReader
                         break;
 
                     case PICTURE:
+                        if (!readImages)
+                        {
+                            //Artwork not asked for so just count it
+                            raf.seek(raf.getFilePointer() + mbh.getDataLength());
+                            skippedImageCount++;
+                            break;
+                        }
                         try
                         {
-                            MetadataBlockDataPicture mbdp = new MetadataBlockDataPicture(mbh, raf);
+                            MetadataBlockDataPicture mbdp;
+                            long start = instrumentation.phaseStarted(InstrumentationPhase.READ_ARTWORK);
+                            try
+                            {
+                                mbdp = new MetadataBlockDataPicture(mbh, raf);
+                            }
+                            finally
+                            {
+                                instrumentation.phaseEnded(InstrumentationPhase.READ_ARTWORK, start);
+                            }
                             images.add(mbdp);
                         }
                         catch (IOException ioe)
@@ -107,10 +135,7 @@ public class FlacTagReader
 
                     //This is not a metadata block we are interested in so we skip to next block
                     default:
-                        if(logger.isLoggable(Level.CONFIG))
-                        {
-                            logger.config("Ignoring MetadataBlock:"+mbh.getBlockType());
-                        }
+                        Log.log(logger, Level.CONFIG, "Ignoring MetadataBlock:{}", mbh.getBlockType());
                         raf.seek(raf.getFilePointer() + mbh.getDataLength());
                         break;
                 }
@@ -125,7 +150,7 @@ public class FlacTagReader
         {
             tag = VorbisCommentTag.createNewTag();
         }
-        FlacTag flacTag = new FlacTag(tag, images);
+        FlacTag flacTag = new FlacTag(tag, images, skippedImageCount);
         return flacTag;
     }
 }
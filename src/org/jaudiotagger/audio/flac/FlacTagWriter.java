@@ -18,17 +18,25 @@
  */
 package org.jaudiotagger.audio.flac;
 
+import org.jaudiotagger.audio.SupportedFileFormat;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.flac.metadatablock.*;
+import org.jaudiotagger.audio.generic.Cancellation;
+import org.jaudiotagger.audio.generic.FlightRecorderEvent;
+import org.jaudiotagger.audio.generic.FlightRecorderEventType;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.flac.FlacTag;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -83,7 +91,8 @@ public class FlacTagWriter
         MetadataBlockInfo blockInfo = new MetadataBlockInfo();
         
         //Read existing data
-        FlacStreamReader flacStream = new FlacStreamReader(raf);
+        RandomAccessSource source = new RandomAccessSource(raf);
+        FlacStreamReader flacStream = new FlacStreamReader(source);
         try
         {
             flacStream.findStream();
@@ -98,14 +107,14 @@ public class FlacTagWriter
         {
             try
             {
-                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(raf);
+                MetadataBlockHeader mbh = MetadataBlockHeader.readHeader(source);
                 if(mbh.getBlockType()!=null)
                 {
                     switch (mbh.getBlockType())
                     {
                         case STREAMINFO:
                         {
-                            blockInfo.streamInfoBlock = new MetadataBlock(mbh,new MetadataBlockDataStreamInfo(mbh, raf));
+                            blockInfo.streamInfoBlock = new MetadataBlock(mbh,new MetadataBlockDataStreamInfo(mbh, source));
                             break;
                         }
 
@@ -122,19 +131,19 @@ public class FlacTagWriter
                         }
                         case APPLICATION:
                         {
-                            MetadataBlockData mbd = new MetadataBlockDataApplication(mbh, raf);
+                            MetadataBlockData mbd = new MetadataBlockDataApplication(mbh, source);
                             blockInfo.metadataBlockApplication.add(new MetadataBlock(mbh, mbd));
                             break;
                         }
                         case SEEKTABLE:
                         {
-                            MetadataBlockData mbd = new MetadataBlockDataSeekTable(mbh, raf);
+                            MetadataBlockData mbd = new MetadataBlockDataSeekTable(mbh, source);
                             blockInfo.metadataBlockSeekTable.add(new MetadataBlock(mbh, mbd));
                             break;
                         }
                         case CUESHEET:
                         {
-                            MetadataBlockData mbd = new MetadataBlockDataCueSheet(mbh, raf);
+                            MetadataBlockData mbd = new MetadataBlockDataCueSheet(mbh, source);
                             blockInfo.metadataBlockCueSheet.add(new MetadataBlock(mbh, mbd));
                             break;
                         }
@@ -166,12 +175,16 @@ public class FlacTagWriter
         //Go to start of Flac within file
         raf.seek(flacStream.getStartOfFlacInFile());
 
-        logger.config("Writing tag available bytes:" + availableRoom + ":needed bytes:" + neededRoom);
+        Log.log(logger, Level.CONFIG, "Writing tag available bytes:{}:needed bytes:{}", availableRoom, neededRoom);
 
         //There is enough room to fit the tag without moving the audio just need to
         //adjust padding accordingly need to allow space for padding header if padding required
         if ((availableRoom == neededRoom) || (availableRoom > neededRoom + MetadataBlockHeader.HEADER_LENGTH))
         {
+            //Last chance to stop before the file is changed in place, from here on write through the file rather
+            //than its channel so an interrupt cannot stop the write partway
+            Cancellation.checkpoint();
+
             //Jump over Id3 (if exists) Flac and StreamInfoBlock
             raf.seek(flacStream.getStartOfFlacInFile() + FlacStreamReader.FLAC_STREAM_IDENTIFIER_LENGTH);
 
@@ -201,7 +214,7 @@ public class FlacTagWriter
             }
 
             //Write tag (and padding)
-            raf.getChannel().write(tc.convert(tag, availableRoom - neededRoom));
+            Utils.write(raf, tc.convert(tag, availableRoom - neededRoom), raf.getFilePointer());
         }
         //Need to move audio
         else
@@ -264,15 +277,25 @@ public class FlacTagWriter
             //to prevent OutOfMemory exceptions
             long amountToBeWritten=raf.getChannel().size() - raf.getChannel().position();
             long written   = 0;
-            long chunksize = TagOptionSingleton.getInstance().getWriteChunkSize();
+            long chunksize = TagOptions.current().getWriteChunkSize();
             long count = amountToBeWritten / chunksize;
             long mod   = amountToBeWritten % chunksize;
-            for(int i = 0; i<count; i++)
+            FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.COPY);
+            try
+            {
+                for(int i = 0; i<count; i++)
+                {
+                    Cancellation.checkpoint();
+                    written+=rafTemp.getChannel().transferFrom(raf.getChannel(), rafTemp.getChannel().position(), chunksize);
+                    rafTemp.getChannel().position(rafTemp.getChannel().position() + chunksize);
+                }
+                written+=rafTemp.getChannel().transferFrom(raf.getChannel(), rafTemp.getChannel().position(), mod);
+            }
+            finally
             {
-                written+=rafTemp.getChannel().transferFrom(raf.getChannel(), rafTemp.getChannel().position(), chunksize);
-                rafTemp.getChannel().position(rafTemp.getChannel().position() + chunksize);
+                event.end(event.isEnabled() ? raf.length() : 0, SupportedFileFormat.FLAC.getFilesuffix(), written,
+                          written == amountToBeWritten ? FlightRecorderEvent.SUCCEEDED : FlightRecorderEvent.FAILED);
             }
-            written+=rafTemp.getChannel().transferFrom(raf.getChannel(), rafTemp.getChannel().position(), mod);
             if(written!=amountToBeWritten)
             {
                 throw new CannotWriteException("Was meant to write "+amountToBeWritten+" bytes but only written "+written+" bytes");
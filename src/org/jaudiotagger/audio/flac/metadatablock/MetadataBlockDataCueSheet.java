@@ -18,8 +18,9 @@
  */
 package org.jaudiotagger.audio.flac.metadatablock;
 
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 /**
  * Cuesheet Block
@@ -33,7 +34,7 @@ public class MetadataBlockDataCueSheet implements MetadataBlockData
 {
     private byte[] data;
 
-    public MetadataBlockDataCueSheet(MetadataBlockHeader header, RandomAccessFile raf) throws IOException
+    public MetadataBlockDataCueSheet(MetadataBlockHeader header, RandomAccessSource raf) throws IOException
     {
         data = new byte[header.getDataLength()];
         raf.readFully(data);
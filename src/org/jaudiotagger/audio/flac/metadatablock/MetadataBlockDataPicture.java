@@ -1,6 +1,9 @@
 package org.jaudiotagger.audio.flac.metadatablock;
 
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.audio.generic.RegionReader;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.TagField;
@@ -9,9 +12,10 @@ import org.jaudiotagger.tag.reference.PictureTypes;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -90,7 +94,7 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
         imageData = new byte[rawdataSize];
         rawdata.get(imageData);
 
-        logger.config("Read image:" + this.toString());
+        Log.log(logger, Level.CONFIG, "Read image:{}", this.toString());
     }
 
     /**
@@ -114,15 +118,16 @@ public class MetadataBlockDataPicture implements MetadataBlockData, TagField
      * @throws org.jaudiotagger.tag.InvalidFrameException
      */
     //TODO check for buffer underflows see http://research.eeye.com/html/advisories/published/AD20071115.html
-    public MetadataBlockDataPicture(MetadataBlockHeader header, RandomAccessFile raf) throws IOException, InvalidFrameException
+    public MetadataBlockDataPicture(MetadataBlockHeader header, RandomAccessSource raf) throws IOException, InvalidFrameException
     {
-        ByteBuffer rawdata = ByteBuffer.allocate(header.getDataLength());
-        int bytesRead = raf.getChannel().read(rawdata);
+        FileChannel fc = raf.getChannel();
+        ByteBuffer rawdata = RegionReader.read(fc, fc.position(), header.getDataLength());
+        int bytesRead = rawdata.limit();
+        fc.position(fc.position() + bytesRead);
         if (bytesRead < header.getDataLength())
         {
             throw new IOException("Unable to read required number of databytes read:" + bytesRead + ":required:" + header.getDataLength());
         }
-        rawdata.rewind();
         initFromByteBuffer(rawdata);
 
 
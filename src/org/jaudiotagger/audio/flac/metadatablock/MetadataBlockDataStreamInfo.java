@@ -18,8 +18,9 @@
  */
 package org.jaudiotagger.audio.flac.metadatablock;
 
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.util.logging.Logger;
 
@@ -61,7 +62,7 @@ public class MetadataBlockDataStreamInfo  implements MetadataBlockData
 
     private ByteBuffer rawdata;
 
-    public MetadataBlockDataStreamInfo(MetadataBlockHeader header, RandomAccessFile raf) throws IOException
+    public MetadataBlockDataStreamInfo(MetadataBlockHeader header, RandomAccessSource raf) throws IOException
     {
         rawdata = ByteBuffer.allocate(header.getDataLength());
         int bytesRead = raf.getChannel().read(rawdata);
@@ -19,10 +19,10 @@
 package org.jaudiotagger.audio.flac.metadatablock;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.logging.ErrorMessage;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 
 /**
@@ -46,7 +46,7 @@ public class MetadataBlockHeader
      * @return
      * @throws IOException
      */
-    public static MetadataBlockHeader readHeader(RandomAccessFile raf) throws CannotReadException, IOException
+    public static MetadataBlockHeader readHeader(RandomAccessSource raf) throws CannotReadException, IOException
     {
         ByteBuffer rawdata = ByteBuffer.allocate(HEADER_LENGTH);
         int bytesRead = raf.getChannel().read(rawdata);
@@ -45,6 +45,11 @@ public abstract class AbstractTag implements Tag
      */
     protected Map<String, List<TagField>> fields = new LinkedHashMap<String, List<TagField>>();
 
+    /**
+     * Fields that were not read because they were not one of the fields asked for
+     */
+    protected SkippedFields skippedFields = new SkippedFields();
+
     /**
      * Add field
      *
@@ -219,7 +224,7 @@ public abstract class AbstractTag implements Tag
             count++;
             it.next();
         }
-        return count;
+        return count + skippedFields.getCount();
     }
         
     public int getFieldCountIncludingSubValues()
@@ -244,7 +249,7 @@ public abstract class AbstractTag implements Tag
      */
     public boolean hasField(String id)
     {
-        return getFields(id).size() != 0;
+        return getFields(id).size() != 0 || skippedFields.contains(id);
     }
 
     public boolean hasField(FieldKey fieldKey)
@@ -268,7 +273,17 @@ public abstract class AbstractTag implements Tag
      */
     public boolean isEmpty()
     {
-        return fields.size() == 0;
+        return fields.size() == 0 && skippedFields.isEmpty();
+    }
+
+    /**
+     * @return fields that were not read because they were not one of the fields asked for, they are included in
+     *         {@link #getFieldCount()} and {@link #hasField(String)} but cannot be retrieved
+     * @see TagOptions#getReadFields()
+     */
+    public SkippedFields getSkippedFields()
+    {
+        return skippedFields;
     }
 
     /**
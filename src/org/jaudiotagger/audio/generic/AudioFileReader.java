@@ -19,16 +19,23 @@
 package org.jaudiotagger.audio.generic;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.options.ReadMode;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -51,24 +58,159 @@ public abstract class AudioFileReader
 
     /*
     * Returns the encoding info object associated wih the current File.
-    * The subclass can assume the RAF pointer is at the first byte of the file.
-    * The RandomAccessFile must be kept open after this function, but can point
+    * The subclass can assume the source pointer is at the first byte of the file.
+    * The source must be kept open after this function, but can point
     * at any offset in the file.
     *
-    * @param raf The RandomAccessFile associtaed with the current file
-    * @exception IOException is thrown when the RandomAccessFile operations throw it (you should never throw them manually)
+    * @param raf The source of the current file, which may be a file, memory or a stream
+    * @exception IOException is thrown when the source operations throw it (you should never throw them manually)
     * @exception CannotReadException when an error occured during the parsing of the encoding infos
     */
-    protected abstract GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException;
+    protected abstract GenericAudioHeader getEncodingInfo(RandomAccessSource raf) throws CannotReadException, IOException;
 
     /*
       * Same as above but returns the Tag contained in the file, or a new one.
       *
-      * @param raf The RandomAccessFile associted with the current file
-      * @exception IOException is thrown when the RandomAccessFile operations throw it (you should never throw them manually)
+      * @param raf The source of the current file
+      * @exception IOException is thrown when the source operations throw it (you should never throw them manually)
       * @exception CannotReadException when an error occured during the parsing of the tag
       */
-    protected abstract Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException;
+    protected abstract Tag getTag(RandomAccessSource raf) throws CannotReadException, IOException;
+
+    /*
+      * Reads the encoding info and then the tag from the open file. Subclasses that can share work between
+      * the two reads, such as locating the chunks of the file, may override this.
+      *
+      * @param f The file being read, or null if the source is not a file
+      * @param raf The source of the file, positioned at the first byte
+      * @exception IOException is thrown when the source operations throw it
+      * @exception CannotReadException when an error occured during the parsing of the file
+      */
+    protected AudioFile read(File f, RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        ReadMode readMode = TagOptions.current().getReadMode();
+        AudioHeader info;
+        if (readMode == ReadMode.TAG_ONLY && f != null)
+        {
+            info = createLazyAudioHeader(f);
+        }
+        else
+        {
+            long start = instrumentation.phaseStarted(InstrumentationPhase.READ_HEADER);
+            try
+            {
+                info = getEncodingInfo(raf);
+            }
+            finally
+            {
+                instrumentation.phaseEnded(InstrumentationPhase.READ_HEADER, start);
+            }
+        }
+
+        if (readMode == ReadMode.HEADER_ONLY)
+        {
+            AudioFile audioFile = new AudioFile(f, info, null);
+            audioFile.setTagLoaded(false);
+            return audioFile;
+        }
+
+        Cancellation.checkpoint();
+        raf.seek(0);
+        Tag tag;
+        long start = instrumentation.phaseStarted(InstrumentationPhase.READ_TAG);
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.TAG_PARSE);
+        String outcome = FlightRecorderEvent.FAILED;
+        try
+        {
+            tag = getTag(raf);
+            outcome = FlightRecorderEvent.SUCCEEDED;
+        }
+        //When probing keep the audio header even if the budget was not enough to read the tag
+        catch (CannotReadException cre)
+        {
+            if (!ProbeChannel.isBudgetExceeded(raf.getChannel()))
+            {
+                throw cre;
+            }
+            Log.log(logger, Level.CONFIG, "Tag is outside probe budget:{}", cre.getMessage());
+            tag = null;
+        }
+        catch (IOException ioe)
+        {
+            if (!ProbeChannel.isBudgetExceeded(raf.getChannel()))
+            {
+                throw ioe;
+            }
+            Log.log(logger, Level.CONFIG, "Tag is outside probe budget:{}", ioe.getMessage());
+            tag = null;
+        }
+        finally
+        {
+            instrumentation.phaseEnded(InstrumentationPhase.READ_TAG, start);
+            if (f != null)
+            {
+                event.end(f, Utils.getExtension(f), 0, outcome);
+            }
+            else if (event.isEnabled())
+            {
+                event.end(raf.length(), null, 0, outcome);
+            }
+        }
+        AudioFile audioFile = new AudioFile(f, info, tag);
+        audioFile.setTagComplete(TagOptions.current().getReadFields() == null);
+        return audioFile;
+    }
+
+    /**
+     * @param f the file being read
+     * @return audio header that reads the encoding info from the file when first used
+     */
+    protected LazyAudioHeader createLazyAudioHeader(final File f)
+    {
+        return new LazyAudioHeader(new Callable<GenericAudioHeader>()
+        {
+            public GenericAudioHeader call() throws Exception
+            {
+                RandomAccessSource raf = new RandomAccessSource(new RandomAccessFile(f, "r"));
+                try
+                {
+                    return getEncodingInfo(raf);
+                }
+                finally
+                {
+                    raf.close();
+                }
+            }
+        });
+    }
+
+    /*
+      * Reads audio that is not in a file, such as bytes already in memory, and return an AudioFile object
+      * containing the Tag and the encoding infos. The returned AudioFile has no file so cannot be written.
+      *
+      * @param source The audio to read, positioned at the first byte, it is not closed
+      * @exception CannotReadException If anything went bad during the read
+      */
+    public AudioFile read(RandomAccessSource source) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        if (source.length() <= MINIMUM_SIZE_FOR_VALID_AUDIO_FILE)
+        {
+            throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(source.length() + " bytes"));
+        }
+        try
+        {
+            return read(null, source);
+        }
+        catch (CannotReadException cre)
+        {
+            throw cre;
+        }
+        catch (Exception e)
+        {
+            throw new CannotReadException(e.getMessage(), e);
+        }
+    }
 
     /*
       * Reads the given file, and return an AudioFile object containing the Tag
@@ -79,33 +221,51 @@ public abstract class AudioFileReader
       * @exception CannotReadException If anything went bad during the read of this file
       */
     public AudioFile read(File f) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        return read(f, (ByteBuffer) null);
+    }
+
+    /*
+      * Reads the given file whose start has already been read, such as to detect its format, so the start is not
+      * read again.
+      *
+      * @param f The file to read
+      * @param prefix The start of the file, or null if it has not been read
+      * @exception CannotReadException If anything went bad during the read of this file
+      */
+    public AudioFile read(File f, ByteBuffer prefix) throws CannotReadException, IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         if(logger.isLoggable(Level.CONFIG))
         {
             logger.config(ErrorMessage.GENERAL_READ.getMsg(f.getAbsolutePath()));
         }
 
-        if (!f.canRead())
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        long start = instrumentation.phaseStarted(InstrumentationPhase.READ_CHECK);
+        try
         {
-            throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(f.getAbsolutePath()));
-        }
+            if (!f.canRead())
+            {
+                throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(f.getAbsolutePath()));
+            }
 
-        if (f.length() <= MINIMUM_SIZE_FOR_VALID_AUDIO_FILE)
+            if (f.length() <= MINIMUM_SIZE_FOR_VALID_AUDIO_FILE)
+            {
+                throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(f.getAbsolutePath()));
+            }
+        }
+        finally
         {
-            throw new CannotReadException(ErrorMessage.GENERAL_READ_FAILED_FILE_TOO_SMALL.getMsg(f.getAbsolutePath()));
+            instrumentation.phaseEnded(InstrumentationPhase.READ_CHECK, start);
         }
 
-        RandomAccessFile raf = null;
+        RandomAccessSource raf = null;
         try
         {
-            raf = new RandomAccessFile(f, "r");
+            RandomAccessFile file = new RandomAccessFile(f, "r");
+            raf = prefix == null ? new RandomAccessSource(file) : new RandomAccessSource(new PrefetchedChannel(file.getChannel(), prefix));
             raf.seek(0);
-
-            GenericAudioHeader info = getEncodingInfo(raf);
-            raf.seek(0);
-            Tag tag = getTag(raf);
-            return new AudioFile(f, info, tag);
-
+            return read(f, raf);
         }
         catch (CannotReadException cre)
         {
@@ -19,11 +19,13 @@
 package org.jaudiotagger.audio.generic;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.ModifyVetoException;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.Tag;
 
 import java.io.File;
@@ -308,15 +310,32 @@ public abstract class AudioFileWriter
     // but would impose a performance overhead if the original file is on a networked drive
     public void write(AudioFile af) throws CannotWriteException
     {
-        logger.config("Started writing tag data for file:" + af.getFile().getName());
+        Log.log(logger, Level.CONFIG, "Started writing tag data for file:{}", af.getFile().getName());
 
         // Prechecks
-        precheckWrite(af);
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        long start = instrumentation.phaseStarted(InstrumentationPhase.WRITE_CHECK);
+        try
+        {
+            precheckWrite(af);
+        }
+        finally
+        {
+            instrumentation.phaseEnded(InstrumentationPhase.WRITE_CHECK, start);
+        }
 
         //mp3's use a different mechanism to the other formats
         if(af instanceof MP3File)
         {
-            af.commit();
+            start = instrumentation.phaseStarted(InstrumentationPhase.WRITE_TAG);
+            try
+            {
+                af.commit();
+            }
+            finally
+            {
+                instrumentation.phaseEnded(InstrumentationPhase.WRITE_TAG, start);
+            }
             return;
         }
 
@@ -325,93 +344,101 @@ public abstract class AudioFileWriter
         File newFile;
         File result;
 
-        // Create temporary File
+        start = instrumentation.phaseStarted(InstrumentationPhase.WRITE_TEMP_FILE);
         try
         {
-            newFile = File.createTempFile(af.getFile().getName().replace('.', '_'), TEMP_FILENAME_SUFFIX, af.getFile().getParentFile());
-        }
-        // Unable to create temporary file, can happen in Vista if have Create
-        // Files/Write Data set to Deny
-        catch (IOException ioe)
-        {
-            if(ioe.getMessage().equals(FILE_NAME_TOO_LONG) && (af.getFile().getName().length() > FILE_NAME_TOO_LONG_SAFE_LIMIT) )
+            // Create temporary File
+            try
             {
-                try
+                newFile = File.createTempFile(af.getFile().getName().replace('.', '_'), TEMP_FILENAME_SUFFIX, af.getFile().getParentFile());
+            }
+            // Unable to create temporary file, can happen in Vista if have Create
+            // Files/Write Data set to Deny
+            catch (IOException ioe)
+            {
+                if(ioe.getMessage().equals(FILE_NAME_TOO_LONG) && (af.getFile().getName().length() > FILE_NAME_TOO_LONG_SAFE_LIMIT) )
                 {
+                    try
+                    {
 
-                    newFile = File.createTempFile(af.getFile().getName().substring(0,FILE_NAME_TOO_LONG_SAFE_LIMIT).replace('.', '_'), TEMP_FILENAME_SUFFIX, af.getFile().getParentFile());
+                        newFile = File.createTempFile(af.getFile().getName().substring(0,FILE_NAME_TOO_LONG_SAFE_LIMIT).replace('.', '_'), TEMP_FILENAME_SUFFIX, af.getFile().getParentFile());
 
+                    }
+                    catch (IOException ioe2)
+                    {
+                        logger
+                                .log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER
+                                        .getMsg(af.getFile().getName(), af
+                                                .getFile().getParentFile()
+                                                .getAbsolutePath()), ioe2);
+                        throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER
+                                .getMsg(af.getFile().getName(), af.getFile()
+                                        .getParentFile().getAbsolutePath()));
+                    }
                 }
-                catch (IOException ioe2)
+                else
                 {
                     logger
                             .log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER
                                     .getMsg(af.getFile().getName(), af
-                                            .getFile().getParentFile()
-                                            .getAbsolutePath()), ioe2);
+                                    .getFile().getParentFile()
+                                    .getAbsolutePath()), ioe);
                     throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER
                             .getMsg(af.getFile().getName(), af.getFile()
-                                    .getParentFile().getAbsolutePath()));
+                            .getParentFile().getAbsolutePath()));
                 }
             }
-            else
-            {
-                logger
-                        .log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER
-                                .getMsg(af.getFile().getName(), af
-                                .getFile().getParentFile()
-                                .getAbsolutePath()), ioe);
-                throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_CREATE_TEMPORARY_FILE_IN_FOLDER
-                        .getMsg(af.getFile().getName(), af.getFile()
-                        .getParentFile().getAbsolutePath()));
-            }
-        }
 
-        // Open temporary file and actual file for editing
-        try
-        {
-            rafTemp = new RandomAccessFile(newFile, WRITE_MODE);
-            raf = new RandomAccessFile(af.getFile(), WRITE_MODE);
-
-        }
-        // Unable to write to writable file, can happen in Vista if have Create
-        // Folders/Append Data set to Deny
-        catch (IOException ioe)
-        {
-            logger.log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING
-                    .getMsg(af.getFile().getAbsolutePath()), ioe);
-
-            // If we managed to open either file, delete it.
+            // Open temporary file and actual file for editing
             try
             {
-                if (raf != null)
+                rafTemp = new RandomAccessFile(newFile, WRITE_MODE);
+                raf = InstrumentedRandomAccessFile.open(af.getFile(), WRITE_MODE, instrumentation);
+
+            }
+            // Unable to write to writable file, can happen in Vista if have Create
+            // Folders/Append Data set to Deny
+            catch (IOException ioe)
+            {
+                logger.log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING
+                        .getMsg(af.getFile().getAbsolutePath()), ioe);
+
+                // If we managed to open either file, delete it.
+                try
                 {
-                    raf.close();
+                    if (raf != null)
+                    {
+                        raf.close();
+                    }
+                    if (rafTemp != null)
+                    {
+                        rafTemp.close();
+                    }
                 }
-                if (rafTemp != null)
+                catch (IOException ioe2)
                 {
-                    rafTemp.close();
+                    // Warn but assume has worked okay
+                    logger.log(Level.WARNING, ErrorMessage.GENERAL_WRITE_PROBLEM_CLOSING_FILE_HANDLE
+                            .getMsg(af.getFile(), ioe.getMessage()), ioe2);
                 }
-            }
-            catch (IOException ioe2)
-            {
-                // Warn but assume has worked okay
-                logger.log(Level.WARNING, ErrorMessage.GENERAL_WRITE_PROBLEM_CLOSING_FILE_HANDLE
-                        .getMsg(af.getFile(), ioe.getMessage()), ioe2);
-            }
 
-            // Delete the temp file ( we cannot delete until closed corresponding
-            // rafTemp)
-            if (!newFile.delete())
-            {
-                // Non critical failed deletion
-                logger
-                        .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_DELETE_TEMPORARY_FILE
-                                .getMsg(newFile.getAbsolutePath()));
-            }
+                // Delete the temp file ( we cannot delete until closed corresponding
+                // rafTemp)
+                if (!newFile.delete())
+                {
+                    // Non critical failed deletion
+                    logger
+                            .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_DELETE_TEMPORARY_FILE
+                                    .getMsg(newFile.getAbsolutePath()));
+                }
 
-            throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING
-                    .getMsg(af.getFile().getAbsolutePath()));
+                throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING
+                        .getMsg(af.getFile().getAbsolutePath()));
+            }
+        }
+        finally
+        {
+            instrumentation.phaseEnded(InstrumentationPhase.WRITE_TEMP_FILE, start);
         }
 
         // Write data to File
@@ -426,7 +453,27 @@ public abstract class AudioFileWriter
                 {
                     this.modificationListener.fileWillBeModified(af, false);
                 }
-                writeTag(af.getTag(), raf, rafTemp);
+                start = instrumentation.phaseStarted(InstrumentationPhase.WRITE_TAG);
+                try
+                {
+                    writeTag(af.getTag(), raf, rafTemp);
+                }
+                finally
+                {
+                    instrumentation.phaseEnded(InstrumentationPhase.WRITE_TAG, start);
+                }
+                //Last chance to stop before the original file is replaced, a change made in place has completed
+                if (newFile.length() > 0)
+                {
+                    Cancellation.checkpoint();
+                }
+                if (instrumentation.isEnabled())
+                {
+                    //Anything written to the temporary file replaces the original, some writers close rafTemp
+                    long rewritten = newFile.length();
+                    instrumentation.writeDecision(rewritten == 0);
+                    instrumentation.bytesWritten(rewritten);
+                }
                 if (this.modificationListener != null)
                 {
                     this.modificationListener.fileModified(af, newFile);
@@ -503,94 +550,106 @@ public abstract class AudioFileWriter
         // If the temporary file was used
         if (newFile.length() > 0)
         {
-
-            // Rename Original File
-            // Can fail on Vista if have Special Permission 'Delete' set Deny
-            File originalFileBackup = new File(af.getFile().getAbsoluteFile().getParentFile().getPath(),
-                                               AudioFile.getBaseFilename(af.getFile()) + ".old");
-
-            //If already exists modify the suffix
-            int count=1;
-            while(originalFileBackup.exists())
-            {
-                originalFileBackup = new File(af.getFile().getAbsoluteFile().getParentFile().getPath(), AudioFile.getBaseFilename(af.getFile())+ ".old"+count);
-                count++;
-            }               
-
-            boolean renameResult = Utils.rename(af.getFile(),originalFileBackup);
-            if (!renameResult)
+            start = instrumentation.phaseStarted(InstrumentationPhase.WRITE_RENAME);
+            long rewrittenSize = newFile.length();
+            FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.RENAME);
+            String outcome = FlightRecorderEvent.FAILED;
+            try
             {
-                logger
-                        .log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_FILE_TO_BACKUP
-                                .getMsg(af.getFile().getAbsolutePath(), originalFileBackup.getName()));
-                //Delete the temp file because write has failed
-                if(newFile!=null)
+                // Rename Original File
+                // Can fail on Vista if have Special Permission 'Delete' set Deny
+                File originalFileBackup = new File(af.getFile().getAbsoluteFile().getParentFile().getPath(),
+                                                   AudioFile.getBaseFilename(af.getFile()) + ".old");
+
+                //If already exists modify the suffix
+                int count=1;
+                while(originalFileBackup.exists())
                 {
-                    newFile.delete();
-                }
-                throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_FILE_TO_BACKUP
-                        .getMsg(af.getFile().getPath(), originalFileBackup.getName()));
-            }
+                    originalFileBackup = new File(af.getFile().getAbsoluteFile().getParentFile().getPath(), AudioFile.getBaseFilename(af.getFile())+ ".old"+count);
+                    count++;
+                }               
 
-            // Rename Temp File to Original File
-            renameResult = Utils.rename(newFile,af.getFile());
-            if (!renameResult)
-            {
-                // Renamed failed so lets do some checks rename the backup back to the original file
-                // New File doesnt exist
-                if (!newFile.exists())
+                boolean renameResult = Utils.rename(af.getFile(),originalFileBackup);
+                if (!renameResult)
                 {
                     logger
-                            .warning(ErrorMessage.GENERAL_WRITE_FAILED_NEW_FILE_DOESNT_EXIST
-                                    .getMsg(newFile.getAbsolutePath()));
+                            .log(Level.SEVERE, ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_FILE_TO_BACKUP
+                                    .getMsg(af.getFile().getAbsolutePath(), originalFileBackup.getName()));
+                    //Delete the temp file because write has failed
+                    if(newFile!=null)
+                    {
+                        newFile.delete();
+                    }
+                    throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_FILE_TO_BACKUP
+                            .getMsg(af.getFile().getPath(), originalFileBackup.getName()));
                 }
 
-                // Rename the backup back to the original
-                if (!originalFileBackup.renameTo(af.getFile()))
+                // Rename Temp File to Original File
+                renameResult = Utils.rename(newFile,af.getFile());
+                if (!renameResult)
                 {
-                    // TODO now if this happens we are left with testfile.old
-                    // instead of testfile.mp4
+                    // Renamed failed so lets do some checks rename the backup back to the original file
+                    // New File doesnt exist
+                    if (!newFile.exists())
+                    {
+                        logger
+                                .warning(ErrorMessage.GENERAL_WRITE_FAILED_NEW_FILE_DOESNT_EXIST
+                                        .getMsg(newFile.getAbsolutePath()));
+                    }
+
+                    // Rename the backup back to the original
+                    if (!originalFileBackup.renameTo(af.getFile()))
+                    {
+                        // TODO now if this happens we are left with testfile.old
+                        // instead of testfile.mp4
+                        logger
+                                .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_BACKUP_TO_ORIGINAL
+                                        .getMsg(originalFileBackup
+                                        .getAbsolutePath(), af.getFile()
+                                        .getName()));
+                    }
+
                     logger
-                            .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_ORIGINAL_BACKUP_TO_ORIGINAL
-                                    .getMsg(originalFileBackup
-                                    .getAbsolutePath(), af.getFile()
+                            .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_TO_ORIGINAL_FILE
+                                    .getMsg(af.getFile().getAbsolutePath(), newFile
                                     .getName()));
+                    throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_TO_ORIGINAL_FILE
+                            .getMsg(af.getFile().getAbsolutePath(), newFile
+                            .getName()));
                 }
-
-                logger
-                        .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_TO_ORIGINAL_FILE
-                                .getMsg(af.getFile().getAbsolutePath(), newFile
-                                .getName()));
-                throw new CannotWriteException(ErrorMessage.GENERAL_WRITE_FAILED_TO_RENAME_TO_ORIGINAL_FILE
-                        .getMsg(af.getFile().getAbsolutePath(), newFile
-                        .getName()));
-            }
-            else
-            {
-                // Rename was okay so we can now delete the backup of the
-                // original
-                boolean deleteResult = originalFileBackup.delete();
-                if (!deleteResult)
+                else
                 {
-                    // Not a disaster but can't delete the backup so make a
-                    // warning
-                    logger
-                            .warning(ErrorMessage.GENERAL_WRITE_WARNING_UNABLE_TO_DELETE_BACKUP_FILE
-                                    .getMsg(originalFileBackup
-                                    .getAbsolutePath()));
+                    // Rename was okay so we can now delete the backup of the
+                    // original
+                    boolean deleteResult = originalFileBackup.delete();
+                    if (!deleteResult)
+                    {
+                        // Not a disaster but can't delete the backup so make a
+                        // warning
+                        logger
+                                .warning(ErrorMessage.GENERAL_WRITE_WARNING_UNABLE_TO_DELETE_BACKUP_FILE
+                                        .getMsg(originalFileBackup
+                                        .getAbsolutePath()));
+                    }
                 }
-            }
 
-            // Delete the temporary file if still exists
-            if (newFile.exists())
-            {
-                if (!newFile.delete())
+                // Delete the temporary file if still exists
+                if (newFile.exists())
                 {
-                    // Non critical failed deletion
-                    logger
-                            .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_DELETE_TEMPORARY_FILE
-                                    .getMsg(newFile.getPath()));
+                    if (!newFile.delete())
+                    {
+                        // Non critical failed deletion
+                        logger
+                                .warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_DELETE_TEMPORARY_FILE
+                                        .getMsg(newFile.getPath()));
+                    }
                 }
+                outcome = FlightRecorderEvent.SUCCEEDED;
+            }
+            finally
+            {
+                instrumentation.phaseEnded(InstrumentationPhase.WRITE_RENAME, start);
+                event.end(rewrittenSize, Utils.getExtension(af.getFile()), rewrittenSize, outcome);
             }
         }
         else
@@ -0,0 +1,82 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Read only channel over an audio file held in memory.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+
+/**
+ * Read only FileChannel over the contents of an audio file that are already in memory, so that the readers can
+ * parse them without writing them to a temporary file
+ * <p/>
+ * The bytes between the position and limit of the buffer given to the constructor are the contents of the file,
+ * the buffer itself is not modified. Regions loaded through {@link RegionReader} are slices of the buffer rather
+ * than copies.
+ */
+public class ByteBufferChannel extends ReadOnlyChannel
+{
+    private final ByteBuffer data;
+
+    /**
+     * @param data contents of the file, from its position to its limit
+     */
+    public ByteBufferChannel(ByteBuffer data)
+    {
+        this.data = data.slice();
+    }
+
+    /**
+     * @param position start of the region
+     * @param size     length of the region
+     * @return the region as a read only view of the data, its limit is less than size if the data ends first
+     */
+    public ByteBuffer slice(long position, int size)
+    {
+        ByteBuffer region = data.asReadOnlyBuffer();
+        int start = (int) Math.min(position, data.limit());
+        region.limit((int) Math.min(data.limit(), start + (long) size));
+        region.position(start);
+        return region.slice();
+    }
+
+    public int read(ByteBuffer dst, long position) throws IOException
+    {
+        if (!isOpen())
+        {
+            throw new ClosedChannelException();
+        }
+        if (position >= data.limit())
+        {
+            return -1;
+        }
+        ByteBuffer region = slice(position, dst.remaining());
+        int count = region.remaining();
+        dst.put(region);
+        return count;
+    }
+
+    public long size() throws IOException
+    {
+        return data.limit();
+    }
+
+    protected void implCloseChannel() throws IOException
+    {
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * A range of bytes within a file.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+/**
+ * A range of bytes within a file, from start inclusive to end exclusive
+ */
+public final class ByteRange
+{
+    private final long start;
+    private final long end;
+
+    public ByteRange(long start, long end)
+    {
+        this.start = start;
+        this.end = end;
+    }
+
+    public long getStart()
+    {
+        return start;
+    }
+
+    public long getEnd()
+    {
+        return end;
+    }
+
+    public long getLength()
+    {
+        return end - start;
+    }
+
+    public boolean equals(Object o)
+    {
+        if (!(o instanceof ByteRange))
+        {
+            return false;
+        }
+        ByteRange that = (ByteRange) o;
+        return start == that.start && end == that.end;
+    }
+
+    public int hashCode()
+    {
+        return (int) (start ^ (start >>> 32)) * 31 + (int) (end ^ (end >>> 32));
+    }
+
+    /**
+     * @return the range in the form used by an HTTP Range header, the end being inclusive
+     */
+    public String toString()
+    {
+        return start + "-" + (end - 1);
+    }
+}
@@ -0,0 +1,81 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Points at which a long running read or write can be stopped.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.logging.ErrorMessage;
+
+import java.io.InterruptedIOException;
+
+/**
+ * Points at which a long running read or write can be stopped
+ * <p/>
+ * The code that copies the audio when a file is rewritten calls {@link #checkpoint()} between chunks and before
+ * the temporary file replaces the original. If the thread has been interrupted, for example by cancelling the
+ * Future returned by <code>AudioFileIO.writeAsync</code>, or the deadline set for the thread has passed then an
+ * InterruptedIOException is thrown, the writer then deletes its temporary file and leaves the original unchanged.
+ * <p/>
+ * The interrupt status of the thread is not cleared, so whoever interrupted it can still see it.
+ */
+public final class Cancellation
+{
+    /**
+     * The System.nanoTime() by which the operation on this thread must complete, or <code>null</code> if none
+     */
+    private static final ThreadLocal<Long> deadline = new ThreadLocal<Long>();
+
+    private Cancellation()
+    {
+    }
+
+    /**
+     * Set the deadline for operations on the current thread, the caller should restore the previous deadline
+     * in a finally block when its operation is complete
+     *
+     * @param deadlineNanos the System.nanoTime() by which operations must complete, or <code>null</code> for none
+     * @return the previous deadline
+     */
+    public static Long setDeadline(Long deadlineNanos)
+    {
+        Long previous = deadline.get();
+        if (deadlineNanos == null)
+        {
+            deadline.remove();
+        }
+        else
+        {
+            deadline.set(deadlineNanos);
+        }
+        return previous;
+    }
+
+    /**
+     * @throws InterruptedIOException if the current thread has been interrupted or its deadline has passed
+     */
+    public static void checkpoint() throws InterruptedIOException
+    {
+        if (Thread.currentThread().isInterrupted())
+        {
+            throw new InterruptedIOException(ErrorMessage.GENERAL_CANCELLED.getMsg());
+        }
+        Long deadlineNanos = deadline.get();
+        if (deadlineNanos != null && System.nanoTime() - deadlineNanos > 0)
+        {
+            throw new InterruptedIOException(ErrorMessage.GENERAL_TIMED_OUT.getMsg());
+        }
+    }
+}
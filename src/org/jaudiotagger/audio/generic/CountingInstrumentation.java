@@ -0,0 +1,257 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Instrumentation that keeps running totals and a histogram of phase durations.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Instrumentation that keeps running totals of the measurements, and for each phase a count, total duration and
+ * histogram of durations
+ * <p/>
+ * The histogram has a bucket for each power of two nanoseconds, bucket <code>i</code> counts the phases that took
+ * at least <code>2^(i-1)</code> and less than <code>2^i</code> nanoseconds, bucket 0 counts those that took no
+ * measurable time. The values can be read at any time, for example by a scheduled task that passes them to a
+ * monitoring system, they are updated without locking so a read during a call may see some totals of the call
+ * and not others.
+ */
+public class CountingInstrumentation implements Instrumentation
+{
+    public static final int HISTOGRAM_BUCKETS = 64;
+
+    private final AtomicLong bytesRead = new AtomicLong();
+    private final AtomicLong bytesWritten = new AtomicLong();
+    private final AtomicLong positionedReads = new AtomicLong();
+    private final AtomicLong buffersAllocated = new AtomicLong();
+    private final AtomicLong bytesAllocated = new AtomicLong();
+    private final AtomicLong regionsMapped = new AtomicLong();
+    private final AtomicLong bytesMapped = new AtomicLong();
+    private final AtomicLong inPlaceWrites = new AtomicLong();
+    private final AtomicLong rewrites = new AtomicLong();
+    private final AtomicLong framesParsed = new AtomicLong();
+
+    private final AtomicLongArray phaseCounts = new AtomicLongArray(InstrumentationPhase.values().length);
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(InstrumentationPhase.values().length);
+    private final AtomicLongArray phaseHistograms = new AtomicLongArray(InstrumentationPhase.values().length * HISTOGRAM_BUCKETS);
+
+    public boolean isEnabled()
+    {
+        return true;
+    }
+
+    public long phaseStarted(InstrumentationPhase phase)
+    {
+        return System.nanoTime();
+    }
+
+    public void phaseEnded(InstrumentationPhase phase, long startTime)
+    {
+        long elapsed = Math.max(0, System.nanoTime() - startTime);
+        int index = phase.ordinal();
+        phaseCounts.incrementAndGet(index);
+        phaseNanos.addAndGet(index, elapsed);
+        phaseHistograms.incrementAndGet(index * HISTOGRAM_BUCKETS + bucketFor(elapsed));
+    }
+
+    /**
+     * @param nanos
+     * @return the histogram bucket for a duration
+     */
+    static int bucketFor(long nanos)
+    {
+        return Math.min(HISTOGRAM_BUCKETS - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    public void bytesRead(long count)
+    {
+        bytesRead.addAndGet(count);
+    }
+
+    public void bytesWritten(long count)
+    {
+        bytesWritten.addAndGet(count);
+    }
+
+    public void positionedRead()
+    {
+        positionedReads.incrementAndGet();
+    }
+
+    public void bufferAllocated(int size)
+    {
+        buffersAllocated.incrementAndGet();
+        bytesAllocated.addAndGet(size);
+    }
+
+    public void regionMapped(int size)
+    {
+        regionsMapped.incrementAndGet();
+        bytesMapped.addAndGet(size);
+    }
+
+    public void writeDecision(boolean inPlace)
+    {
+        if (inPlace)
+        {
+            inPlaceWrites.incrementAndGet();
+        }
+        else
+        {
+            rewrites.incrementAndGet();
+        }
+    }
+
+    public void framesParsed(int count)
+    {
+        framesParsed.addAndGet(count);
+    }
+
+    public long getBytesRead()
+    {
+        return bytesRead.get();
+    }
+
+    public long getBytesWritten()
+    {
+        return bytesWritten.get();
+    }
+
+    public long getPositionedReads()
+    {
+        return positionedReads.get();
+    }
+
+    public long getBuffersAllocated()
+    {
+        return buffersAllocated.get();
+    }
+
+    public long getBytesAllocated()
+    {
+        return bytesAllocated.get();
+    }
+
+    public long getRegionsMapped()
+    {
+        return regionsMapped.get();
+    }
+
+    public long getBytesMapped()
+    {
+        return bytesMapped.get();
+    }
+
+    public long getInPlaceWrites()
+    {
+        return inPlaceWrites.get();
+    }
+
+    public long getRewrites()
+    {
+        return rewrites.get();
+    }
+
+    public long getFramesParsed()
+    {
+        return framesParsed.get();
+    }
+
+    /**
+     * @param phase
+     * @return the number of times the phase has ended
+     */
+    public long getPhaseCount(InstrumentationPhase phase)
+    {
+        return phaseCounts.get(phase.ordinal());
+    }
+
+    /**
+     * @param phase
+     * @return the total time spent in the phase in nanoseconds
+     */
+    public long getPhaseNanos(InstrumentationPhase phase)
+    {
+        return phaseNanos.get(phase.ordinal());
+    }
+
+    /**
+     * @param phase
+     * @return a copy of the histogram of durations of the phase, indexed as described in the class comment
+     */
+    public long[] getPhaseHistogram(InstrumentationPhase phase)
+    {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        int offset = phase.ordinal() * HISTOGRAM_BUCKETS;
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++)
+        {
+            histogram[i] = phaseHistograms.get(offset + i);
+        }
+        return histogram;
+    }
+
+    /**
+     * Set all the totals back to zero
+     */
+    public void reset()
+    {
+        bytesRead.set(0);
+        bytesWritten.set(0);
+        positionedReads.set(0);
+        buffersAllocated.set(0);
+        bytesAllocated.set(0);
+        regionsMapped.set(0);
+        bytesMapped.set(0);
+        inPlaceWrites.set(0);
+        rewrites.set(0);
+        framesParsed.set(0);
+        for (int i = 0; i < phaseCounts.length(); i++)
+        {
+            phaseCounts.set(i, 0);
+            phaseNanos.set(i, 0);
+        }
+        for (int i = 0; i < phaseHistograms.length(); i++)
+        {
+            phaseHistograms.set(i, 0);
+        }
+    }
+
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("bytesRead:").append(getBytesRead());
+        sb.append(",bytesWritten:").append(getBytesWritten());
+        sb.append(",positionedReads:").append(getPositionedReads());
+        sb.append(",buffersAllocated:").append(getBuffersAllocated());
+        sb.append(",bytesAllocated:").append(getBytesAllocated());
+        sb.append(",regionsMapped:").append(getRegionsMapped());
+        sb.append(",bytesMapped:").append(getBytesMapped());
+        sb.append(",inPlaceWrites:").append(getInPlaceWrites());
+        sb.append(",rewrites:").append(getRewrites());
+        sb.append(",framesParsed:").append(getFramesParsed());
+        for (InstrumentationPhase phase : InstrumentationPhase.values())
+        {
+            long count = getPhaseCount(phase);
+            if (count > 0)
+            {
+                sb.append(",").append(phase).append(":").append(count).append(" in ");
+                sb.append(getPhaseNanos(phase) / 1000).append("us");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,305 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * A JDK Flight Recorder event created without a compile time dependency on JFR.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.logging.Log;
+import java.io.File;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A JDK Flight Recorder event timing part of a read or write
+ * <p/>
+ * The library runs on Java versions and platforms without JFR so the event classes cannot be compiled in, instead
+ * they are defined at runtime with <code>jdk.jfr.EventFactory</code> which is found by reflection. If JFR is not
+ * present every event is disabled. The event types are not defined until the Flight Recorder has been started, so
+ * JFR is never initialized by the library itself, and no event object is created unless a recording has the event
+ * enabled.
+ * <p/>
+ * Usage:
+ * <pre>
+ * FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.READ);
+ * String outcome = FlightRecorderEvent.FAILED;
+ * try
+ * {
+ *     ...
+ *     outcome = FlightRecorderEvent.SUCCEEDED;
+ * }
+ * finally
+ * {
+ *     event.end(file, format, bytesMoved, outcome);
+ * }
+ * </pre>
+ * Each event has the fields fileSize, format, bytesMoved and outcome.
+ */
+public final class FlightRecorderEvent
+{
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.generic");
+
+    public static final String SUCCEEDED = "succeeded";
+    public static final String FAILED = "failed";
+
+    public static final String FIELD_FILE_SIZE = "fileSize";
+    public static final String FIELD_FORMAT = "format";
+    public static final String FIELD_BYTES_MOVED = "bytesMoved";
+    public static final String FIELD_OUTCOME = "outcome";
+
+    private static final FlightRecorderEvent DISABLED = new FlightRecorderEvent(null);
+
+    /**
+     * The jdk.jfr.Event, null if disabled
+     */
+    private final Object event;
+
+    private FlightRecorderEvent(Object event)
+    {
+        this.event = event;
+    }
+
+    /**
+     * Start timing an event
+     *
+     * @param type
+     * @return the event, which is disabled if no recording wants it
+     */
+    public static FlightRecorderEvent begin(FlightRecorderEventType type)
+    {
+        return Recorder.begin(type);
+    }
+
+    /**
+     * @return true if the event will be recorded, so the values passed to end are worth calculating
+     */
+    public boolean isEnabled()
+    {
+        return event != null;
+    }
+
+    /**
+     * End the event and record it
+     *
+     * @param file       the file the event was for, its size is only read if the event is enabled
+     * @param format     the format of the file
+     * @param bytesMoved bytes read, written or copied, 0 if the operation does not move audio data
+     * @param outcome    {@link #SUCCEEDED} or {@link #FAILED}
+     */
+    public void end(File file, String format, long bytesMoved, String outcome)
+    {
+        if (event != null)
+        {
+            end(file.length(), format, bytesMoved, outcome);
+        }
+    }
+
+    /**
+     * End the event and record it
+     *
+     * @param fileSize   the size of the file the event was for
+     * @param format     the format of the file
+     * @param bytesMoved bytes read, written or copied, 0 if the operation does not move audio data
+     * @param outcome    {@link #SUCCEEDED} or {@link #FAILED}
+     */
+    public void end(long fileSize, String format, long bytesMoved, String outcome)
+    {
+        if (event != null)
+        {
+            Recorder.end(event, fileSize, format, bytesMoved, outcome);
+        }
+    }
+
+    /**
+     * Finds JFR when first used, the class loader guarantees all threads see the same fully initialized state
+     */
+    private static class Recorder
+    {
+        private static final int FILE_SIZE_INDEX = 0;
+        private static final int FORMAT_INDEX = 1;
+        private static final int BYTES_MOVED_INDEX = 2;
+        private static final int OUTCOME_INDEX = 3;
+
+        private static volatile boolean available;
+        private static Method isInitialized;
+        private static Method isEnabled;
+        private static Method newEvent;
+        private static Method eventBegin;
+        private static Method eventEnd;
+        private static Method eventShouldCommit;
+        private static Method eventSet;
+        private static Method eventCommit;
+
+        /**
+         * The jdk.jfr.EventFactory and jdk.jfr.EventType for each type, created when JFR is first initialized
+         */
+        private static volatile Object[] factories;
+        private static volatile Object[] eventTypes;
+
+        static
+        {
+            try
+            {
+                Class<?> flightRecorder = Class.forName("jdk.jfr.FlightRecorder");
+                Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+                Class<?> eventType = Class.forName("jdk.jfr.EventType");
+                Class<?> eventClass = Class.forName("jdk.jfr.Event");
+                isInitialized = flightRecorder.getMethod("isInitialized");
+                isEnabled = eventType.getMethod("isEnabled");
+                newEvent = eventFactory.getMethod("newEvent");
+                eventBegin = eventClass.getMethod("begin");
+                eventEnd = eventClass.getMethod("end");
+                eventShouldCommit = eventClass.getMethod("shouldCommit");
+                eventSet = eventClass.getMethod("set", int.class, Object.class);
+                eventCommit = eventClass.getMethod("commit");
+                available = true;
+            }
+            catch (Exception e)
+            {
+                //Not a problem, JFR is not part of this runtime
+                Log.log(logger, Level.CONFIG, "Flight Recorder events not available:{}", e);
+            }
+        }
+
+        private static FlightRecorderEvent begin(FlightRecorderEventType type)
+        {
+            if (!available)
+            {
+                return DISABLED;
+            }
+
+            try
+            {
+                Object[] types = eventTypes;
+                if (types == null)
+                {
+                    //No recording can have been started before the Flight Recorder is initialized
+                    if (!(Boolean) isInitialized.invoke(null))
+                    {
+                        return DISABLED;
+                    }
+                    types = registerEventTypes();
+                }
+
+                int index = type.ordinal();
+                if (!(Boolean) isEnabled.invoke(types[index]))
+                {
+                    return DISABLED;
+                }
+                Object event = newEvent.invoke(factories[index]);
+                eventBegin.invoke(event);
+                return new FlightRecorderEvent(event);
+            }
+            catch (Exception e)
+            {
+                disable(e);
+                return DISABLED;
+            }
+        }
+
+        private static void end(Object event, long fileSize, String format, long bytesMoved, String outcome)
+        {
+            try
+            {
+                eventEnd.invoke(event);
+                if ((Boolean) eventShouldCommit.invoke(event))
+                {
+                    eventSet.invoke(event, FILE_SIZE_INDEX, fileSize);
+                    eventSet.invoke(event, FORMAT_INDEX, format);
+                    eventSet.invoke(event, BYTES_MOVED_INDEX, bytesMoved);
+                    eventSet.invoke(event, OUTCOME_INDEX, outcome);
+                    eventCommit.invoke(event);
+                }
+            }
+            catch (Exception e)
+            {
+                disable(e);
+            }
+        }
+
+        private static void disable(Exception e)
+        {
+            available = false;
+            logger.log(Level.WARNING, "Disabling Flight Recorder events:" + e.getMessage(), e);
+        }
+
+        /**
+         * Define an event class for each type with jdk.jfr.EventFactory
+         *
+         * @return the jdk.jfr.EventType of each type
+         * @throws Exception if the JFR API is not as expected
+         */
+        private static synchronized Object[] registerEventTypes() throws Exception
+        {
+            if (eventTypes != null)
+            {
+                return eventTypes;
+            }
+
+            Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            Class<?> annotationElement = Class.forName("jdk.jfr.AnnotationElement");
+            Class<?> valueDescriptor = Class.forName("jdk.jfr.ValueDescriptor");
+            Constructor<?> newAnnotation = annotationElement.getConstructor(Class.class, Object.class);
+            Constructor<?> newValue = valueDescriptor.getConstructor(Class.class, String.class, List.class);
+            Method create = eventFactory.getMethod("create", List.class, List.class);
+            Method getEventType = eventFactory.getMethod("getEventType");
+            Class<?> name = Class.forName("jdk.jfr.Name");
+            Class<?> label = Class.forName("jdk.jfr.Label");
+            Class<?> description = Class.forName("jdk.jfr.Description");
+            Class<?> category = Class.forName("jdk.jfr.Category");
+            Class<?> dataAmount = Class.forName("jdk.jfr.DataAmount");
+
+            //Field order must match the indexes used by end()
+            List<Object> fields = new ArrayList<Object>();
+            fields.add(newValue.newInstance(long.class, FIELD_FILE_SIZE, annotations(newAnnotation, label, "File Size", dataAmount, "BYTES")));
+            fields.add(newValue.newInstance(String.class, FIELD_FORMAT, annotations(newAnnotation, label, "Format", null, null)));
+            fields.add(newValue.newInstance(long.class, FIELD_BYTES_MOVED, annotations(newAnnotation, label, "Bytes Moved", dataAmount, "BYTES")));
+            fields.add(newValue.newInstance(String.class, FIELD_OUTCOME, annotations(newAnnotation, label, "Outcome", null, null)));
+
+            FlightRecorderEventType[] values = FlightRecorderEventType.values();
+            Object[] newFactories = new Object[values.length];
+            Object[] newEventTypes = new Object[values.length];
+            for (FlightRecorderEventType type : values)
+            {
+                List<Object> typeAnnotations = new ArrayList<Object>();
+                typeAnnotations.add(newAnnotation.newInstance(name, type.getName()));
+                typeAnnotations.add(newAnnotation.newInstance(label, type.getLabel()));
+                typeAnnotations.add(newAnnotation.newInstance(description, type.getDescription()));
+                typeAnnotations.add(newAnnotation.newInstance(category, new String[]{FlightRecorderEventType.CATEGORY}));
+                Object factory = create.invoke(null, typeAnnotations, fields);
+                newFactories[type.ordinal()] = factory;
+                newEventTypes[type.ordinal()] = getEventType.invoke(factory);
+            }
+            factories = newFactories;
+            eventTypes = newEventTypes;
+            return newEventTypes;
+        }
+
+        private static List<Object> annotations(Constructor<?> newAnnotation, Class<?> label, String labelValue, Class<?> other, Object otherValue) throws Exception
+        {
+            List<Object> annotations = new ArrayList<Object>();
+            annotations.add(newAnnotation.newInstance(label, labelValue));
+            if (other != null)
+            {
+                annotations.add(newAnnotation.newInstance(other, otherValue));
+            }
+            return annotations;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * The JDK Flight Recorder events emitted by the library.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+/**
+ * The JDK Flight Recorder events emitted by {@link FlightRecorderEvent}
+ * <p/>
+ * Each event is named <code>org.jaudiotagger.</code> followed by its id, and is in the <code>jaudiotagger</code>
+ * category of a recording.
+ */
+public enum FlightRecorderEventType
+{
+    READ("Read", "Audio File Read", "Reading the audio header and tag of a file"),
+    WRITE("Write", "Audio File Write", "Writing the tag of a file"),
+    TAG_PARSE("TagParse", "Tag Parse", "Parsing the tag of a file"),
+    ADJUST_PADDING("AdjustPadding", "ID3v2 Adjust Padding", "Rewriting an mp3 file to make room for a larger ID3v2 tag"),
+    COPY("Copy", "Audio Data Copy", "Copying the audio data of a file into its rewritten copy"),
+    RENAME("Rename", "Replace Original File", "Backing up the original file and renaming the rewritten copy to the original name");
+
+    public static final String NAME_PREFIX = "org.jaudiotagger.";
+    public static final String CATEGORY = "jaudiotagger";
+
+    private final String name;
+    private final String label;
+    private final String description;
+
+    FlightRecorderEventType(String id, String label, String description)
+    {
+        this.name = NAME_PREFIX + id;
+        this.label = label;
+        this.description = description;
+    }
+
+    /**
+     * @return the name of the event in a recording
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    public String getLabel()
+    {
+        return label;
+    }
+
+    public String getDescription()
+    {
+        return description;
+    }
+}
@@ -45,10 +45,12 @@ public abstract class GenericTag extends AbstractTag
     /**
      * Implementations of {@link TagTextField} for use with
      * &quot;ISO-8859-1&quot; strings.
+     * <p/>
+     * Subclasses such as WavTag use it for fields that have no generic key.
      *
      * @author Raphaël Slinckx
      */
-    private class GenericTagTextField implements TagTextField
+    protected class GenericTagTextField implements TagTextField
     {
 
         /**
@@ -0,0 +1,236 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Read only channel over an audio file read from a stream, caching the ranges read.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.logging.ErrorMessage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read only FileChannel over an audio file read from an InputStream that cannot seek, such as the body of a
+ * response from an object store
+ * <p/>
+ * The stream is only read forwards, the bytes read are cached so the readers can go back over them. When a reader
+ * moves more than {@link #SKIP_THRESHOLD} bytes past the end of what has been read, typically over the audio data to
+ * a tag at the end of the file, the bytes in between are skipped rather than cached and reading them later fails
+ * with an IOException. So only the ranges that hold the headers and tags are held in memory.
+ * <p/>
+ * If the length of the file is not given then {@link #size()} has to read the rest of the stream, and cache it, to
+ * find it. The stream is not closed by this class.
+ */
+public class InputStreamChannel extends ReadOnlyChannel
+{
+    /**
+     * Smaller gaps are cached rather than skipped, as some readers step over short chunks they later go back to
+     */
+    public static final int SKIP_THRESHOLD = 64 * 1024;
+
+    /**
+     * Minimum read from the stream so a run of small reads does not become a run of small stream reads
+     */
+    private static final int READ_AHEAD = 8192;
+
+    private final InputStream in;
+    private long size;
+
+    /**
+     * Ranges of the stream that have been cached, in order of their start
+     */
+    private final List<Range> ranges = new ArrayList<Range>();
+
+    /**
+     * Number of bytes consumed from the stream, cached or skipped
+     */
+    private long consumed;
+    private boolean endOfStream;
+
+    /**
+     * @param in     stream positioned at the start of the file
+     * @param length length of the file, or -1 if not known
+     */
+    public InputStreamChannel(InputStream in, long length)
+    {
+        this.in = in;
+        this.size = length;
+    }
+
+    public int read(ByteBuffer dst, long position) throws IOException
+    {
+        if (!isOpen())
+        {
+            throw new ClosedChannelException();
+        }
+        int count = 0;
+        while (dst.hasRemaining())
+        {
+            long next = position + count;
+            if (next >= consumed && !fill(next, dst.remaining()))
+            {
+                break;
+            }
+
+            Range range = find(next);
+            if (range == null)
+            {
+                throw new IOException(ErrorMessage.GENERAL_READ_FAILED_SKIPPED_RANGE.getMsg(next));
+            }
+            int offset = (int) (next - range.start);
+            int length = Math.min(dst.remaining(), range.length - offset);
+            dst.put(range.data, offset, length);
+            count += length;
+        }
+        return count == 0 && dst.hasRemaining() ? -1 : count;
+    }
+
+    public long size() throws IOException
+    {
+        if (size < 0)
+        {
+            //Cache the rest of the stream, readers often go back to the start once they know the length
+            while (fill(consumed, READ_AHEAD))
+            {
+            }
+            size = consumed;
+        }
+        return size;
+    }
+
+    protected void implCloseChannel() throws IOException
+    {
+        ranges.clear();
+    }
+
+    /**
+     * @param position a position not yet consumed
+     * @param length   bytes wanted from position
+     * @return true if at least one byte from position is now cached, false if the stream has ended
+     * @throws IOException
+     */
+    private boolean fill(long position, int length) throws IOException
+    {
+        if (endOfStream)
+        {
+            return false;
+        }
+
+        Range last = ranges.isEmpty() ? null : ranges.get(ranges.size() - 1);
+        long gap = position - consumed;
+        if (gap > SKIP_THRESHOLD || last == null || last.start + last.length != consumed)
+        {
+            skip(gap);
+            if (endOfStream)
+            {
+                return false;
+            }
+            last = new Range(consumed);
+            ranges.add(last);
+        }
+        else
+        {
+            //Cache the small gap rather than skipping it
+            length += (int) gap;
+        }
+
+        int count = last.append(in, Math.max(length, READ_AHEAD));
+        if (count < 0)
+        {
+            endOfStream = true;
+            return false;
+        }
+        consumed += count;
+        return consumed > position;
+    }
+
+    private void skip(long count) throws IOException
+    {
+        while (count > 0)
+        {
+            long skipped = in.skip(count);
+            if (skipped <= 0)
+            {
+                //Some streams only report the end of the stream through read()
+                if (in.read() < 0)
+                {
+                    endOfStream = true;
+                    return;
+                }
+                skipped = 1;
+            }
+            consumed += skipped;
+            count -= skipped;
+        }
+    }
+
+    private Range find(long position)
+    {
+        for (int i = ranges.size() - 1; i >= 0; i--)
+        {
+            Range range = ranges.get(i);
+            if (position >= range.start)
+            {
+                return position < range.start + range.length ? range : null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Contiguous bytes of the stream that have been cached
+     */
+    private static class Range
+    {
+        private final long start;
+        private byte[] data = new byte[READ_AHEAD];
+        private int length;
+
+        private Range(long start)
+        {
+            this.start = start;
+        }
+
+        /**
+         * @return number of bytes read from in, or -1 if it has ended
+         */
+        private int append(InputStream in, int count) throws IOException
+        {
+            if (length + count > data.length)
+            {
+                byte[] larger = new byte[Math.max(length + count, data.length * 2)];
+                System.arraycopy(data, 0, larger, 0, length);
+                data = larger;
+            }
+            int total = 0;
+            while (total < count)
+            {
+                int read = in.read(data, length, count - total);
+                if (read < 0)
+                {
+                    break;
+                }
+                length += read;
+                total += read;
+            }
+            return total == 0 ? -1 : total;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Receives measurements of the work done reading and writing audio files.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+/**
+ * Receives measurements of the work done while reading and writing audio files, so that it can be passed on to
+ * a monitoring system
+ * <p/>
+ * The instrumentation in use is set with {@link org.jaudiotagger.audio.AudioFileIO#setInstrumentation(Instrumentation)},
+ * it defaults to {@link NoOpInstrumentation} which does nothing. Implementations are called by every thread that
+ * reads or writes so must be thread safe, and should be quick because they are called while the file is open.
+ * <p/>
+ * Phases may nest, for example {@link InstrumentationPhase#READ_ARTWORK} happens during
+ * {@link InstrumentationPhase#READ_TAG}.
+ *
+ * @see CountingInstrumentation
+ */
+public interface Instrumentation
+{
+    /**
+     * @return false if the measurements are discarded, so callers can skip any work done only to measure them
+     */
+    public boolean isEnabled();
+
+    /**
+     * Notifies that a phase has started
+     *
+     * @param phase
+     * @return the start time to pass to {@link #phaseEnded(InstrumentationPhase, long)}
+     */
+    public long phaseStarted(InstrumentationPhase phase);
+
+    /**
+     * Notifies that a phase has ended, it is called whether or not the phase succeeded
+     *
+     * @param phase
+     * @param startTime the value returned by {@link #phaseStarted(InstrumentationPhase)}
+     */
+    public void phaseEnded(InstrumentationPhase phase, long startTime);
+
+    /**
+     * @param count number of bytes read from a file
+     */
+    public void bytesRead(long count);
+
+    /**
+     * @param count number of bytes written to a file, including any temporary copy
+     */
+    public void bytesWritten(long count);
+
+    /**
+     * Notifies that the position of a file was moved before reading from it
+     */
+    public void positionedRead();
+
+    /**
+     * @param size size in bytes of a buffer allocated to hold file data
+     */
+    public void bufferAllocated(int size);
+
+    /**
+     * @param size size in bytes of a region of the file memory mapped rather than copied into a buffer
+     */
+    public void regionMapped(int size);
+
+    /**
+     * Notifies how a file is being modified
+     *
+     * @param inPlace true if the existing file is modified, false if it is rewritten to a new file
+     */
+    public void writeDecision(boolean inPlace);
+
+    /**
+     * @param count number of tag frames parsed
+     */
+    public void framesParsed(int count);
+}
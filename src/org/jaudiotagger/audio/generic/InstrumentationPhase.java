@@ -0,0 +1,41 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * The phases of reading and writing that can be timed.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+/**
+ * The phases of reading and writing an audio file reported to an {@link Instrumentation}
+ */
+public enum InstrumentationPhase
+{
+    /** Checking the file can be read and is large enough to be an audio file */
+    READ_CHECK,
+    /** Reading the audio header */
+    READ_HEADER,
+    /** Reading the tag, including any artwork */
+    READ_TAG,
+    /** Reading an artwork image within the tag */
+    READ_ARTWORK,
+    /** Checking the file can be written */
+    WRITE_CHECK,
+    /** Creating and opening the temporary file */
+    WRITE_TEMP_FILE,
+    /** Writing the tag, either into the file or into a copy of it */
+    WRITE_TAG,
+    /** Replacing the original file with the rewritten copy */
+    WRITE_RENAME
+}
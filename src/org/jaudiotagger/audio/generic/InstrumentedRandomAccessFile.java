@@ -0,0 +1,104 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * RandomAccessFile that reports the bytes transferred through it.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * RandomAccessFile that reports the bytes read and written through it, and each seek, to an {@link Instrumentation}
+ * <p/>
+ * Only used when the instrumentation is enabled so the plain RandomAccessFile is used otherwise. Data transferred
+ * through {@link #getChannel()} is not seen by this class.
+ */
+class InstrumentedRandomAccessFile extends RandomAccessFile
+{
+    private final Instrumentation instrumentation;
+
+    InstrumentedRandomAccessFile(File file, String mode, Instrumentation instrumentation) throws FileNotFoundException
+    {
+        super(file, mode);
+        this.instrumentation = instrumentation;
+    }
+
+    /**
+     * @param file
+     * @param mode
+     * @param instrumentation
+     * @return a RandomAccessFile reporting to the instrumentation, or a plain one if it is not enabled
+     * @throws FileNotFoundException
+     */
+    static RandomAccessFile open(File file, String mode, Instrumentation instrumentation) throws FileNotFoundException
+    {
+        if (instrumentation.isEnabled())
+        {
+            return new InstrumentedRandomAccessFile(file, mode, instrumentation);
+        }
+        return new RandomAccessFile(file, mode);
+    }
+
+    public int read() throws IOException
+    {
+        int result = super.read();
+        if (result != -1)
+        {
+            instrumentation.bytesRead(1);
+        }
+        return result;
+    }
+
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        int result = super.read(b, off, len);
+        if (result > 0)
+        {
+            instrumentation.bytesRead(result);
+        }
+        return result;
+    }
+
+    public int read(byte[] b) throws IOException
+    {
+        return read(b, 0, b.length);
+    }
+
+    public void seek(long pos) throws IOException
+    {
+        super.seek(pos);
+        instrumentation.positionedRead();
+    }
+
+    public void write(int b) throws IOException
+    {
+        super.write(b);
+        instrumentation.bytesWritten(1);
+    }
+
+    public void write(byte[] b, int off, int len) throws IOException
+    {
+        super.write(b, off, len);
+        instrumentation.bytesWritten(len);
+    }
+
+    public void write(byte[] b) throws IOException
+    {
+        write(b, 0, b.length);
+    }
+}
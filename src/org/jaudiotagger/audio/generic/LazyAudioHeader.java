@@ -0,0 +1,157 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Audio header that is read when first used.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.AudioHeader;
+import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.tag.TagOptions;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Audio header of a file read with {@link org.jaudiotagger.tag.options.ReadMode#TAG_ONLY}, the header is read
+ * from the file when one of its getters is first called
+ * <p/>
+ * The header is read with the options the file was read with. If it cannot be read the getter throws a
+ * RuntimeException, as the getters of AudioHeader cannot throw the exceptions of a read.
+ * <p/>
+ * No lock is held while the header is read, threads that ask for it at the same time may each read it but all
+ * of them are given the header that was published first.
+ */
+public class LazyAudioHeader implements AudioHeader
+{
+    private final Callable<? extends AudioHeader> loader;
+    private final TagOptions options;
+    private final AtomicReference<AudioHeader> audioHeader = new AtomicReference<AudioHeader>();
+
+    /**
+     * @param loader reads the header from the file
+     */
+    public LazyAudioHeader(Callable<? extends AudioHeader> loader)
+    {
+        this.loader = loader;
+        this.options = TagOptions.current();
+    }
+
+    public boolean isLoaded()
+    {
+        return audioHeader.get() != null;
+    }
+
+    /**
+     * @return the audio header, reading it if this is the first call
+     */
+    public AudioHeader getAudioHeader()
+    {
+        AudioHeader header = audioHeader.get();
+        if (header == null)
+        {
+            Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+            long start = instrumentation.phaseStarted(InstrumentationPhase.READ_HEADER);
+            TagOptions previous = TagOptions.setCurrent(options);
+            try
+            {
+                header = loader.call();
+            }
+            catch (RuntimeException re)
+            {
+                throw re;
+            }
+            catch (Exception e)
+            {
+                throw new RuntimeException(ErrorMessage.GENERAL_READ_FAILED_DEFERRED_AUDIO_HEADER.getMsg(e.getMessage()), e);
+            }
+            finally
+            {
+                TagOptions.setCurrent(previous);
+                instrumentation.phaseEnded(InstrumentationPhase.READ_HEADER, start);
+            }
+            if (!audioHeader.compareAndSet(null, header))
+            {
+                header = audioHeader.get();
+            }
+        }
+        return header;
+    }
+
+    public String getEncodingType()
+    {
+        return getAudioHeader().getEncodingType();
+    }
+
+    public String getBitRate()
+    {
+        return getAudioHeader().getBitRate();
+    }
+
+    public long getBitRateAsNumber()
+    {
+        return getAudioHeader().getBitRateAsNumber();
+    }
+
+    public String getSampleRate()
+    {
+        return getAudioHeader().getSampleRate();
+    }
+
+    public int getSampleRateAsNumber()
+    {
+        return getAudioHeader().getSampleRateAsNumber();
+    }
+
+    public String getFormat()
+    {
+        return getAudioHeader().getFormat();
+    }
+
+    public String getChannels()
+    {
+        return getAudioHeader().getChannels();
+    }
+
+    public boolean isVariableBitRate()
+    {
+        return getAudioHeader().isVariableBitRate();
+    }
+
+    public int getTrackLength()
+    {
+        return getAudioHeader().getTrackLength();
+    }
+
+    public int getBitsPerSample()
+    {
+        return getAudioHeader().getBitsPerSample();
+    }
+
+    public boolean isLossless()
+    {
+        return getAudioHeader().isLossless();
+    }
+
+    /**
+     * Does not read the header, so that logging a file does not read it
+     */
+    public String toString()
+    {
+        AudioHeader header = audioHeader.get();
+        return header == null ? "Audio header not yet read" : header.toString();
+    }
+}
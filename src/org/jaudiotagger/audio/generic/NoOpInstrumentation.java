@@ -0,0 +1,75 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Instrumentation that discards all measurements.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+/**
+ * Instrumentation that discards all measurements, this is the default
+ * <p/>
+ * Every method is empty and {@link #phaseStarted(InstrumentationPhase)} does not read the clock, so the calls
+ * cost nothing once inlined.
+ */
+public final class NoOpInstrumentation implements Instrumentation
+{
+    public static final NoOpInstrumentation INSTANCE = new NoOpInstrumentation();
+
+    private NoOpInstrumentation()
+    {
+    }
+
+    public boolean isEnabled()
+    {
+        return false;
+    }
+
+    public long phaseStarted(InstrumentationPhase phase)
+    {
+        return 0;
+    }
+
+    public void phaseEnded(InstrumentationPhase phase, long startTime)
+    {
+    }
+
+    public void bytesRead(long count)
+    {
+    }
+
+    public void bytesWritten(long count)
+    {
+    }
+
+    public void positionedRead()
+    {
+    }
+
+    public void bufferAllocated(int size)
+    {
+    }
+
+    public void regionMapped(int size)
+    {
+    }
+
+    public void writeDecision(boolean inPlace)
+    {
+    }
+
+    public void framesParsed(int count)
+    {
+    }
+}
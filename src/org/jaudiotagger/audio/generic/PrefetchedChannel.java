@@ -0,0 +1,86 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Read only channel over a file whose start has already been read.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Read only FileChannel over a file whose start has already been read, such as the prefix read to detect its
+ * format, reads of the start are served from that buffer rather than read from the file again
+ */
+public class PrefetchedChannel extends ReadOnlyChannel
+{
+    private final FileChannel delegate;
+    private final ByteBuffer prefix;
+
+    /**
+     * @param delegate channel of the file, it is closed when this channel is closed
+     * @param prefix   start of the file from its position to its limit, it is not modified
+     */
+    public PrefetchedChannel(FileChannel delegate, ByteBuffer prefix)
+    {
+        this.delegate = delegate;
+        this.prefix = prefix.slice();
+    }
+
+    public int read(ByteBuffer dst, long position) throws IOException
+    {
+        int count = 0;
+        if (position < prefix.limit())
+        {
+            ByteBuffer part = prefix.duplicate();
+            part.position((int) position);
+            if (part.remaining() > dst.remaining())
+            {
+                part.limit(part.position() + dst.remaining());
+            }
+            count = part.remaining();
+            dst.put(part);
+        }
+
+        //Fill the rest from the file, as a read from a file channel would
+        if (dst.hasRemaining())
+        {
+            int read = delegate.read(dst, position + count);
+            if (read < 0)
+            {
+                return count == 0 ? -1 : count;
+            }
+            count += read;
+        }
+        return count;
+    }
+
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException
+    {
+        return delegate.map(mode, position, size);
+    }
+
+    public long size() throws IOException
+    {
+        return delegate.size();
+    }
+
+    protected void implCloseChannel() throws IOException
+    {
+        delegate.close();
+    }
+}
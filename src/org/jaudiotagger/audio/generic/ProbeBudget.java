@@ -0,0 +1,84 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * The parts of a file a probe is allowed to read.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+/**
+ * The parts of a file that a probe is allowed to read, a number of bytes from the start of the file and a number
+ * of bytes from the end
+ * <p/>
+ * The tags of most formats are near the start of the file, but the ID3v1 tag of an MP3, the moov atom of some MP4s
+ * and the last page of an Ogg file, which gives its length, are at the end.
+ */
+public final class ProbeBudget
+{
+    /**
+     * Read whatever is needed, so the probe only records the ranges read
+     */
+    public static final ProbeBudget UNLIMITED = new ProbeBudget(Long.MAX_VALUE, 0);
+
+    private final long headBytes;
+    private final long tailBytes;
+
+    /**
+     * @param headBytes number of bytes that may be read from the start of the file
+     * @param tailBytes number of bytes that may be read from the end of the file
+     */
+    public ProbeBudget(long headBytes, long tailBytes)
+    {
+        if (headBytes < 0 || tailBytes < 0)
+        {
+            throw new IllegalArgumentException("Budget cannot be negative");
+        }
+        this.headBytes = headBytes;
+        this.tailBytes = tailBytes;
+    }
+
+    public long getHeadBytes()
+    {
+        return headBytes;
+    }
+
+    public long getTailBytes()
+    {
+        return tailBytes;
+    }
+
+    /**
+     * @param position position in the file
+     * @param fileSize size of the file
+     * @return end of the readable region containing position, or position itself if it may not be read
+     */
+    public long getReadableEnd(long position, long fileSize)
+    {
+        long tailStart = Math.max(0, fileSize - tailBytes);
+        if (position >= tailStart || headBytes >= tailStart)
+        {
+            return Math.max(position, fileSize);
+        }
+        if (position < headBytes)
+        {
+            return headBytes;
+        }
+        return position;
+    }
+
+    public String toString()
+    {
+        return "ProbeBudget head:" + headBytes + ":tail:" + tailBytes;
+    }
+}
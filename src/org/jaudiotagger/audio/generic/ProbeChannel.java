@@ -0,0 +1,167 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Read only channel that records the ranges read and keeps reads within a budget.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.logging.ErrorMessage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Read only FileChannel used when probing a file, it records every range of the file read by the readers and keeps
+ * the reads within a {@link ProbeBudget}
+ * <p/>
+ * A read that starts inside the budget but runs past it is cut short, a read that starts outside the budget fails
+ * with an IOException. Either way the channel is marked as having exceeded its budget, so that the results of the
+ * read can be flagged as partial.
+ */
+public class ProbeChannel extends ReadOnlyChannel
+{
+    private final FileChannel delegate;
+    private final ProbeBudget budget;
+
+    /**
+     * Ranges read, merged where they touch or overlap and in order of their start
+     */
+    private final List<ByteRange> ranges = new ArrayList<ByteRange>();
+    private boolean exceeded;
+
+    /**
+     * @param delegate channel of the file being probed, it is closed when this channel is closed
+     * @param budget   parts of the file that may be read
+     */
+    public ProbeChannel(FileChannel delegate, ProbeBudget budget)
+    {
+        this.delegate = delegate;
+        this.budget = budget;
+    }
+
+    /**
+     * @param fc channel being read
+     * @return true if fc is probing a file and a read has gone outside its budget
+     */
+    public static boolean isBudgetExceeded(FileChannel fc)
+    {
+        return fc instanceof ProbeChannel && ((ProbeChannel) fc).isExceeded();
+    }
+
+    public boolean isExceeded()
+    {
+        return exceeded;
+    }
+
+    /**
+     * @return ranges read so far, merged where they touch and in order of their start
+     */
+    public List<ByteRange> getRanges()
+    {
+        return Collections.unmodifiableList(new ArrayList<ByteRange>(ranges));
+    }
+
+    public int read(ByteBuffer dst, long position) throws IOException
+    {
+        long size = delegate.size();
+        if (!dst.hasRemaining() || position >= size)
+        {
+            return delegate.read(dst, position);
+        }
+
+        int allowed = allowed(position, dst.remaining(), size);
+        ByteBuffer view = dst.duplicate();
+        view.limit(view.position() + allowed);
+        int count = delegate.read(view, position);
+        if (count > 0)
+        {
+            dst.position(dst.position() + count);
+            record(position, position + count);
+        }
+        return count;
+    }
+
+    /**
+     * Mapping is only allowed if the whole region is within the budget, so that the strategies that fall back to
+     * reading when mapping fails read the part that is allowed
+     */
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException
+    {
+        long fileSize = delegate.size();
+        long end = Math.min(position + size, fileSize);
+        if (budget.getReadableEnd(position, fileSize) < end)
+        {
+            exceeded = true;
+            throw new IOException(ErrorMessage.GENERAL_READ_FAILED_OUTSIDE_PROBE_BUDGET.getMsg(position, budget));
+        }
+        MappedByteBuffer mbb = delegate.map(mode, position, size);
+        if (end > position)
+        {
+            record(position, end);
+        }
+        return mbb;
+    }
+
+    public long size() throws IOException
+    {
+        return delegate.size();
+    }
+
+    protected void implCloseChannel() throws IOException
+    {
+        delegate.close();
+    }
+
+    /**
+     * @return number of bytes from position that can be read, at least one
+     * @throws IOException if position is outside the budget
+     */
+    private int allowed(long position, int wanted, long size) throws IOException
+    {
+        long readableEnd = budget.getReadableEnd(position, size);
+        if (readableEnd <= position)
+        {
+            exceeded = true;
+            throw new IOException(ErrorMessage.GENERAL_READ_FAILED_OUTSIDE_PROBE_BUDGET.getMsg(position, budget));
+        }
+        if (readableEnd < Math.min(position + wanted, size))
+        {
+            exceeded = true;
+            return (int) (readableEnd - position);
+        }
+        return wanted;
+    }
+
+    private void record(long start, long end)
+    {
+        int i = 0;
+        while (i < ranges.size() && ranges.get(i).getEnd() < start)
+        {
+            i++;
+        }
+        while (i < ranges.size() && ranges.get(i).getStart() <= end)
+        {
+            ByteRange merged = ranges.remove(i);
+            start = Math.min(start, merged.getStart());
+            end = Math.max(end, merged.getEnd());
+        }
+        ranges.add(i, new ByteRange(start, end));
+    }
+}
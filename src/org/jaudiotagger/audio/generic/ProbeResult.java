@@ -0,0 +1,86 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * The result of probing a file.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.audio.AudioFile;
+
+import java.util.List;
+
+/**
+ * The result of probing a file, what could be read within the budget and the ranges of the file that were read
+ * <p/>
+ * If the budget was not enough the result is partial, the audio file is <code>null</code> if the audio header could
+ * not be read and has no tag if only the tag could not be read. Probing again with the same budget reads the same
+ * ranges, so they can be fetched in advance when the file is remote.
+ */
+public class ProbeResult
+{
+    private final AudioFile audioFile;
+    private final List<ByteRange> ranges;
+    private final boolean complete;
+
+    public ProbeResult(AudioFile audioFile, List<ByteRange> ranges, boolean complete)
+    {
+        this.audioFile = audioFile;
+        this.ranges = ranges;
+        this.complete = complete;
+    }
+
+    /**
+     * @return what was read, it has no file so cannot be written, <code>null</code> if the audio header could not
+     *         be read within the budget
+     */
+    public AudioFile getAudioFile()
+    {
+        return audioFile;
+    }
+
+    /**
+     * @return ranges of the file that were read, in order of their start
+     */
+    public List<ByteRange> getRanges()
+    {
+        return ranges;
+    }
+
+    /**
+     * @return total number of bytes in the ranges read
+     */
+    public long getBytesRead()
+    {
+        long total = 0;
+        for (ByteRange range : ranges)
+        {
+            total += range.getLength();
+        }
+        return total;
+    }
+
+    /**
+     * @return false if the budget was not enough to read everything, so the result is partial
+     */
+    public boolean isComplete()
+    {
+        return complete;
+    }
+
+    public String toString()
+    {
+        return "ProbeResult complete:" + complete + ":ranges:" + ranges;
+    }
+}
@@ -0,0 +1,177 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * The audio being read, from a file, memory or a stream.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.audio.AudioFileIO;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * The audio being read by an {@link AudioFileReader}, which may be a file, bytes already in memory or a stream
+ * <p/>
+ * It has the methods of RandomAccessFile that the readers use, all implemented on a FileChannel so that the same
+ * reader code works for each kind of source. {@link #getChannel()} shares its position with the source. Use
+ * {@link ByteBufferChannel} or {@link InputStreamChannel} for audio that is not in a file.
+ */
+public class RandomAccessSource
+{
+    private final FileChannel channel;
+    private final Instrumentation instrumentation;
+
+    /**
+     * @param channel the channel to read, it is closed by {@link #close()}
+     */
+    public RandomAccessSource(FileChannel channel)
+    {
+        this.channel = channel;
+        this.instrumentation = AudioFileIO.getInstrumentation();
+    }
+
+    /**
+     * @param raf open file, reads from the source move its file pointer
+     */
+    public RandomAccessSource(RandomAccessFile raf)
+    {
+        this(raf.getChannel());
+    }
+
+    /**
+     * @param data contents of the file from its position to its limit
+     */
+    public RandomAccessSource(ByteBuffer data)
+    {
+        this(new ByteBufferChannel(data));
+    }
+
+    /**
+     * @param in     stream at the start of the file, it is not closed by {@link #close()}
+     * @param length length of the file if known, otherwise -1
+     */
+    public RandomAccessSource(InputStream in, long length)
+    {
+        this(new InputStreamChannel(in, length));
+    }
+
+    public FileChannel getChannel()
+    {
+        return channel;
+    }
+
+    public long getFilePointer() throws IOException
+    {
+        return channel.position();
+    }
+
+    public void seek(long pos) throws IOException
+    {
+        channel.position(pos);
+        instrumentation.positionedRead();
+    }
+
+    public long length() throws IOException
+    {
+        return channel.size();
+    }
+
+    public int read() throws IOException
+    {
+        byte[] b = new byte[1];
+        return read(b, 0, 1) == 1 ? b[0] & 0xff : -1;
+    }
+
+    public int read(byte[] b) throws IOException
+    {
+        return read(b, 0, b.length);
+    }
+
+    public int read(byte[] b, int off, int len) throws IOException
+    {
+        if (len == 0)
+        {
+            return 0;
+        }
+        ByteBuffer bb = ByteBuffer.wrap(b, off, len);
+        int count;
+        do
+        {
+            count = channel.read(bb);
+        }
+        while (count == 0);
+        if (count > 0)
+        {
+            instrumentation.bytesRead(count);
+        }
+        return count;
+    }
+
+    public void readFully(byte[] b) throws IOException
+    {
+        readFully(b, 0, b.length);
+    }
+
+    public void readFully(byte[] b, int off, int len) throws IOException
+    {
+        int n = 0;
+        while (n < len)
+        {
+            int count = read(b, off + n, len - n);
+            if (count < 0)
+            {
+                throw new EOFException();
+            }
+            n += count;
+        }
+    }
+
+    public byte readByte() throws IOException
+    {
+        int b = read();
+        if (b < 0)
+        {
+            throw new EOFException();
+        }
+        return (byte) b;
+    }
+
+    /**
+     * @param n number of bytes to skip
+     * @return number skipped, less than n if the end is reached first
+     * @throws IOException
+     */
+    public int skipBytes(int n) throws IOException
+    {
+        if (n <= 0)
+        {
+            return 0;
+        }
+        long pos = getFilePointer();
+        long newPos = Math.min(pos + n, length());
+        seek(newPos);
+        return (int) (newPos - pos);
+    }
+
+    public void close() throws IOException
+    {
+        channel.close();
+    }
+}
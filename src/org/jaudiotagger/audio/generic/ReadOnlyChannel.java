@@ -0,0 +1,137 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Channel over audio that can be read but not written.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.NonWritableChannelException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * FileChannel over an audio file that is not on disk, the readers only ever read from their channel so the methods
+ * that write or lock fail with a NonWritableChannelException
+ */
+abstract class ReadOnlyChannel extends FileChannel
+{
+    private long position;
+
+    public int read(ByteBuffer dst) throws IOException
+    {
+        int count = read(dst, position);
+        if (count > 0)
+        {
+            position += count;
+        }
+        return count;
+    }
+
+    public long read(ByteBuffer[] dsts, int offset, int length) throws IOException
+    {
+        long total = 0;
+        for (int i = offset; i < offset + length; i++)
+        {
+            int count = read(dsts[i]);
+            if (count < 0)
+            {
+                return total == 0 ? -1 : total;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+    public long position() throws IOException
+    {
+        return position;
+    }
+
+    public FileChannel position(long newPosition) throws IOException
+    {
+        if (newPosition < 0)
+        {
+            throw new IllegalArgumentException();
+        }
+        position = newPosition;
+        return this;
+    }
+
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException
+    {
+        ByteBuffer bb = ByteBuffer.allocate((int) Math.min(count, Integer.MAX_VALUE));
+        int read = read(bb, position);
+        if (read <= 0)
+        {
+            return 0;
+        }
+        bb.flip();
+        return target.write(bb);
+    }
+
+    /**
+     * There is no file to map
+     *
+     * @throws IOException always
+     */
+    public MappedByteBuffer map(MapMode mode, long position, long size) throws IOException
+    {
+        throw new IOException("Unable to map data that is not held in a file");
+    }
+
+    public int write(ByteBuffer src) throws IOException
+    {
+        throw new NonWritableChannelException();
+    }
+
+    public long write(ByteBuffer[] srcs, int offset, int length) throws IOException
+    {
+        throw new NonWritableChannelException();
+    }
+
+    public int write(ByteBuffer src, long position) throws IOException
+    {
+        throw new NonWritableChannelException();
+    }
+
+    public FileChannel truncate(long size) throws IOException
+    {
+        throw new NonWritableChannelException();
+    }
+
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException
+    {
+        throw new NonWritableChannelException();
+    }
+
+    public void force(boolean metaData) throws IOException
+    {
+    }
+
+    public FileLock lock(long position, long size, boolean shared) throws IOException
+    {
+        throw new NonWritableChannelException();
+    }
+
+    public FileLock tryLock(long position, long size, boolean shared) throws IOException
+    {
+        throw new NonWritableChannelException();
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Loads a region of a file using the ReadStrategy of the current options.
+ *
+ */
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.logging.Log;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.options.ReadStrategy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Loads a region of a file, such as the ID3v2 tag of an MP3 or the moov atom of an MP4, that is then parsed without
+ * any further file I/O
+ * <p/>
+ * The region is either copied into a heap buffer with a single positional read or memory mapped, as chosen by the
+ * {@link ReadStrategy} of the current {@link TagOptions}. Mapped buffers are read only so must only be used for
+ * regions that are parsed and not modified.
+ */
+public final class RegionReader
+{
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.generic");
+
+    /**
+     * With AUTO smaller regions are copied, mapping has a fixed cost of a system call and page table updates that is
+     * more than the cost of copying a few pages
+     */
+    public static final int AUTO_MAP_THRESHOLD = 128 * 1024;
+
+    private static final boolean IS_MAPPING_SAFE_PLATFORM = isMappingSafePlatform();
+
+    private RegionReader()
+    {
+    }
+
+    /**
+     * Windows does not allow a file with a live mapping to be renamed or deleted, which would break a write
+     * following a read until the mapping is garbage collected, and mapping fails silently on some Android phones
+     */
+    private static boolean isMappingSafePlatform()
+    {
+        String osName = System.getProperty("os.name", "");
+        String vendor = System.getProperty("java.vendor", "");
+        return !osName.startsWith("Windows") && !vendor.contains("Android");
+    }
+
+    /**
+     * Load size bytes of the file starting at position, the position of the channel is not changed
+     *
+     * @param fc       channel of the file
+     * @param position start of the region
+     * @param size     length of the region
+     * @return buffer positioned at the start of the region, its limit is less than size if the file ends before
+     *         the end of the region
+     * @throws IOException if the region could not be read, or could not be mapped with the MAPPED strategy
+     */
+    public static ByteBuffer read(FileChannel fc, long position, int size) throws IOException
+    {
+        //Already in memory, so neither copy nor map
+        if (fc instanceof ByteBufferChannel)
+        {
+            return ((ByteBufferChannel) fc).slice(position, size);
+        }
+
+        TagOptions options = TagOptions.current();
+        ReadStrategy strategy = options.getReadStrategy();
+        if (strategy == ReadStrategy.MAPPED
+                || (strategy == ReadStrategy.AUTO && size >= AUTO_MAP_THRESHOLD && IS_MAPPING_SAFE_PLATFORM && !options.isAndroid()))
+        {
+            try
+            {
+                return map(fc, position, size);
+            }
+            //#JAUDIOTAGGER-419:If reading networked file map can fail so just copy bytes instead
+            catch (IOException ioe)
+            {
+                if (strategy == ReadStrategy.MAPPED)
+                {
+                    throw ioe;
+                }
+                Log.log(logger, Level.FINE, "Unable to map region, reading instead:{}", ioe.getMessage());
+            }
+        }
+        return copy(fc, position, size);
+    }
+
+    private static ByteBuffer map(FileChannel fc, long position, int size) throws IOException
+    {
+        int available = (int) Math.max(0, Math.min(size, fc.size() - position));
+        ByteBuffer bb = fc.map(FileChannel.MapMode.READ_ONLY, position, available);
+        AudioFileIO.getInstrumentation().regionMapped(available);
+        return bb;
+    }
+
+    private static ByteBuffer copy(FileChannel fc, long position, int size) throws IOException
+    {
+        ByteBuffer bb = ByteBuffer.allocate(size);
+        int count = fc.read(bb, position);
+
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        instrumentation.bufferAllocated(size);
+        instrumentation.positionedRead();
+        if (count > 0)
+        {
+            instrumentation.bytesRead(count);
+        }
+        bb.flip();
+        return bb;
+    }
+}
@@ -438,6 +438,52 @@ public class Utils
         return result;
     }
 
+    /**
+     * Write the remaining bytes of buffer to the file starting at position. Unlike writing through the FileChannel of
+     * the file this cannot be stopped by an interrupt, which closes the channel and so the file, so should be used when
+     * changing a file in place so a cancelled write does not leave it half changed.
+     *
+     * @param raf
+     * @param buffer
+     * @param position
+     * @return the number of bytes written
+     * @throws IOException
+     */
+    public static int write(RandomAccessFile raf, ByteBuffer buffer, long position) throws IOException
+    {
+        int length = buffer.remaining();
+        raf.seek(position);
+        if (buffer.hasArray())
+        {
+            raf.write(buffer.array(), buffer.arrayOffset() + buffer.position(), length);
+            buffer.position(buffer.limit());
+        }
+        else
+        {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            raf.write(bytes);
+        }
+        return length;
+    }
+
+    /**
+     * Fill the remaining space in buffer from the file starting at position, without using the FileChannel of the file
+     * so an interrupt cannot close it, see {@link #write(RandomAccessFile, ByteBuffer, long)}. The buffer must be
+     * backed by an array.
+     *
+     * @param raf
+     * @param buffer
+     * @param position
+     * @throws IOException
+     */
+    public static void readFully(RandomAccessFile raf, ByteBuffer buffer, long position) throws IOException
+    {
+        raf.seek(position);
+        raf.readFully(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        buffer.position(buffer.limit());
+    }
+
     /**
      * Get a base for temp file, this should be long enough so that it easy to work out later what file the temp file
      * was created for if it is left lying round, but not ridiculously long as this can cause problems with max filename
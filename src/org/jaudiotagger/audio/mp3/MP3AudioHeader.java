@@ -19,10 +19,13 @@
  */
 package org.jaudiotagger.audio.mp3;
 
+import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.jaudiotagger.audio.generic.Instrumentation;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.Log;
 
 import java.io.EOFException;
 import java.io.File;
@@ -140,6 +143,24 @@ public class MP3AudioHeader implements AudioHeader
         }
     }
 
+    /**
+     * Search for the first MP3Header in the channel starting from location startByte
+     *
+     * @param fc        channel of the MP3, it is not closed
+     * @param name      name of the MP3 for messages
+     * @param startByte
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     * @see #MP3AudioHeader(File, long)
+     */
+    public MP3AudioHeader(final FileChannel fc, String name, long startByte) throws IOException, InvalidAudioFrameException
+    {
+        if (!seek(fc, name, startByte))
+        {
+            throw new InvalidAudioFrameException(ErrorMessage.NO_AUDIO_HEADER_FOUND.getMsg(name));
+        }
+    }
+
     /**
      * Returns true if the first MP3 frame can be found for the MP3 file
      * <p/>
@@ -152,6 +173,28 @@ public class MP3AudioHeader implements AudioHeader
      * @noinspection NestedTryStatement
      */
     public boolean seek(final File seekFile, long startByte) throws IOException
+    {
+        final FileInputStream fis = new FileInputStream(seekFile);
+        try
+        {
+            return seek(fis.getChannel(), seekFile.getName(), startByte);
+        }
+        finally
+        {
+            fis.close();
+        }
+    }
+
+    /**
+     * Returns true if the first MP3 frame can be found in the channel
+     *
+     * @param fc        channel of the MP3, it is not closed
+     * @param name      name of the MP3 for messages
+     * @param startByte if there is an ID3v2tag we dont want to start reading from the start of the tag
+     * @return true if the first MP3 frame can be found
+     * @throws IOException on any I/O error
+     */
+    public boolean seek(final FileChannel fc, String name, long startByte) throws IOException
     {
         //References to Xing/VRbi Header
         ByteBuffer header;
@@ -159,11 +202,9 @@ public class MP3AudioHeader implements AudioHeader
         //This is substantially faster than updating the filechannels position
         long filePointerCount;
 
-        final FileInputStream fis = new FileInputStream(seekFile);
-        final FileChannel fc = fis.getChannel();
-
         //Read into Byte Buffer in Chunks
         ByteBuffer bb = ByteBuffer.allocateDirect(FILE_BUFFER_SIZE);
+        AudioFileIO.getInstrumentation().bufferAllocated(FILE_BUFFER_SIZE);
 
         //Move FileChannel to the starting position (skipping over tag if any)
         fc.position(startByte);
@@ -172,7 +213,7 @@ public class MP3AudioHeader implements AudioHeader
         filePointerCount = startByte;
 
         //Read from here into the byte buffer , doesn't move location of filepointer
-        fc.read(bb, startByte);
+        readChunk(fc, bb, startByte);
         bb.flip();
 
         boolean syncFound = false;
@@ -187,7 +228,7 @@ public class MP3AudioHeader implements AudioHeader
                 {
                     bb.clear();
                     fc.position(filePointerCount);
-                    fc.read(bb, fc.position());
+                    readChunk(fc, bb, fc.position());
                     bb.flip();
                     if (bb.limit() <= MIN_BUFFER_REMAINING_REQUIRED)
                     {
@@ -200,10 +241,7 @@ public class MP3AudioHeader implements AudioHeader
                 {
                     try
                     {
-                        if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
-                        {
-                            MP3AudioHeader.logger.finest("Found Possible header at:" + filePointerCount);
-                        }
+                        Log.log(MP3AudioHeader.logger, Level.FINEST, "Found Possible header at:{}", filePointerCount);
 
                         mp3FrameHeader = MPEGFrameHeader.parseMPEGHeader(bb);
                         syncFound = true;
@@ -255,7 +293,7 @@ public class MP3AudioHeader implements AudioHeader
                         // has been encoded with as Unicode LE because these have a BOM of 0xFF 0xFE
                         else
                         {
-                            syncFound = isNextFrameValid(seekFile, filePointerCount, bb, fc);
+                            syncFound = isNextFrameValid(name, filePointerCount, bb, fc);
                             if (syncFound)
                             {
                                 break;
@@ -290,25 +328,13 @@ public class MP3AudioHeader implements AudioHeader
             syncFound = false;
             throw iox;
         }
-        finally
-        {
-            if (fc != null)
-            {
-                fc.close();
-            }
-
-            if (fis != null)
-            {
-                fis.close();
-            }
-        }
 
         //Return to start of audio header
         if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
         {
-            MP3AudioHeader.logger.finer("Return found matching mp3 header starting at" + filePointerCount);
+            Log.log(MP3AudioHeader.logger, Level.FINER, "Return found matching mp3 header starting at{}", filePointerCount);
         }
-        setFileSize(seekFile.length());
+        setFileSize(fc.size());
         setMp3StartByte(filePointerCount);
         setTimePerFrame();
         setNumberOfFrames();
@@ -317,27 +343,46 @@ public class MP3AudioHeader implements AudioHeader
         setEncoder();
         /*if((filePointerCount - startByte )>0)
         {
-            logger.severe(seekFile.getName()+"length:"+startByte+"Difference:"+(filePointerCount - startByte));
+            logger.severe(name+"length:"+startByte+"Difference:"+(filePointerCount - startByte));
         }
         */
         return syncFound;
     }
 
+    /**
+     * Read from the given position of the file into the buffer, reporting the read to the instrumentation
+     *
+     * @param fc
+     * @param bb
+     * @param position
+     * @throws IOException
+     */
+    private static void readChunk(FileChannel fc, ByteBuffer bb, long position) throws IOException
+    {
+        int count = fc.read(bb, position);
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        instrumentation.positionedRead();
+        if (count > 0)
+        {
+            instrumentation.bytesRead(count);
+        }
+    }
+
     /**
      * Called in some circumstances to check the next frame to ensure we have the correct audio header
      *
-     * @param seekFile
+     * @param name
      * @param filePointerCount
      * @param bb
      * @param fc
      * @return true if frame is valid
      * @throws java.io.IOException
      */
-    private boolean isNextFrameValid(File seekFile, long filePointerCount, ByteBuffer bb, FileChannel fc) throws IOException
+    private boolean isNextFrameValid(String name, long filePointerCount, ByteBuffer bb, FileChannel fc) throws IOException
     {
         if (MP3AudioHeader.logger.isLoggable(Level.FINEST))
         {
-            MP3AudioHeader.logger.finer("Checking next frame" + seekFile.getName() + ":fpc:" + filePointerCount + "skipping to:" + (filePointerCount + mp3FrameHeader.getFrameLength()));
+            Log.log(MP3AudioHeader.logger, Level.FINER, "Checking next frame{}:fpc:{}skipping to:{}", name, filePointerCount, (filePointerCount + mp3FrameHeader.getFrameLength()));
         }
         boolean result = false;
 
@@ -348,17 +393,17 @@ public class MP3AudioHeader implements AudioHeader
         //bad frame header
         if (mp3FrameHeader.getFrameLength() > (FILE_BUFFER_SIZE - MIN_BUFFER_REMAINING_REQUIRED))
         {
-            MP3AudioHeader.logger.finer("Frame size is too large to be a frame:" + mp3FrameHeader.getFrameLength());
+            Log.log(MP3AudioHeader.logger, Level.FINER, "Frame size is too large to be a frame:{}", mp3FrameHeader.getFrameLength());
             return false;
         }
 
         //Check for end of buffer if not enough room get some more
         if (bb.remaining() <= MIN_BUFFER_REMAINING_REQUIRED + mp3FrameHeader.getFrameLength())
         {
-            MP3AudioHeader.logger.finer("Buffer too small, need to reload, buffer size:" + bb.remaining());
+            Log.log(MP3AudioHeader.logger, Level.FINER, "Buffer too small, need to reload, buffer size:{}", bb.remaining());
             bb.clear();
             fc.position(filePointerCount);
-            fc.read(bb, fc.position());
+            readChunk(fc, bb, fc.position());
             bb.flip();
             //So now original buffer has been replaced, so set current position to start of buffer
             currentPosition = 0;
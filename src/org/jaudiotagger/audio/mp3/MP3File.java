@@ -29,21 +29,35 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.concurrent.Callable;
 import java.util.logging.Level;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.AudioHeader;
+import org.jaudiotagger.audio.SupportedFileFormat;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
+import org.jaudiotagger.audio.generic.FlightRecorderEvent;
+import org.jaudiotagger.audio.generic.FlightRecorderEventType;
+import org.jaudiotagger.audio.generic.Instrumentation;
+import org.jaudiotagger.audio.generic.InstrumentationPhase;
+import org.jaudiotagger.audio.generic.LazyAudioHeader;
+import org.jaudiotagger.audio.generic.PrefetchedChannel;
+import org.jaudiotagger.audio.generic.ProbeChannel;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.audio.generic.RegionReader;
 import org.jaudiotagger.logging.AbstractTagDisplayFormatter;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.logging.PlainTextTagDisplayFormatter;
 import org.jaudiotagger.logging.XMLTagDisplayFormatter;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 import org.jaudiotagger.tag.TagNotFoundException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 import org.jaudiotagger.tag.id3.AbstractTag;
 import org.jaudiotagger.tag.id3.ID3v11Tag;
@@ -52,6 +66,7 @@ import org.jaudiotagger.tag.id3.ID3v22Tag;
 import org.jaudiotagger.tag.id3.ID3v23Tag;
 import org.jaudiotagger.tag.id3.ID3v24Tag;
 import org.jaudiotagger.tag.lyrics3.AbstractLyrics3;
+import org.jaudiotagger.tag.options.ReadMode;
 import org.jaudiotagger.tag.reference.ID3V2Version;
 
 /**
@@ -139,19 +154,19 @@ public class MP3File extends AudioFile
     /**
      * Read v1 tag
      *
-     * @param file
-     * @param newFile
+     * @param fc
+     * @param name
      * @param loadOptions
      * @throws IOException
      */
-    private void readV1Tag(File file, RandomAccessFile newFile, int loadOptions) throws IOException
+    private void readV1Tag(FileChannel fc, String name, int loadOptions) throws IOException
     {
         if ((loadOptions & LOAD_IDV1TAG) != 0)
         {
             logger.finer("Attempting to read id3v1tags");
             try
             {
-                id3v1tag = new ID3v11Tag(newFile, file.getName());
+                id3v1tag = new ID3v11Tag(fc, name);
             }
             catch (TagNotFoundException ex)
             {
@@ -162,7 +177,7 @@ public class MP3File extends AudioFile
             {
                 if (id3v1tag == null)
                 {
-                    id3v1tag = new ID3v1Tag(newFile, file.getName());
+                    id3v1tag = new ID3v1Tag(fc, name);
                 }
             }
             catch (TagNotFoundException ex)
@@ -177,46 +192,20 @@ public class MP3File extends AudioFile
      * <p/>
      * TODO:shouldn't we be handing TagExceptions:when will they be thrown
      *
-     * @param file
+     * @param fc
+     * @param name
      * @param loadOptions
      * @throws IOException
      * @throws TagException
      */
-    private void readV2Tag(File file, int loadOptions, int startByte) throws IOException, TagException
+    private void readV2Tag(FileChannel fc, String name, int loadOptions, int startByte) throws IOException, TagException
     {
         //We know where the actual Audio starts so load all the file from start to that point into
         //a buffer then we can read the IDv2 information without needing any more File I/O
         if (startByte >= AbstractID3v2Tag.TAG_HEADER_LENGTH)
         {
             logger.finer("Attempting to read id3v2tags");
-            FileInputStream fis = null;
-            FileChannel fc = null;
-            ByteBuffer bb;
-            try
-            {
-                fis = new FileInputStream(file);
-                fc = fis.getChannel();
-                //bb = fc.map(FileChannel.MapMode.READ_ONLY,0,startByte);
-                throw new IOException("Mapping fails silently on HTC phones");
-            }
-            //#JAUDIOTAGGER-419:If reading networked file map can fail so just copy bytes instead
-            catch(IOException ioe)
-            {
-                bb =  ByteBuffer.allocate(startByte);
-                fc.read(bb,0);
-            }
-            finally
-            {
-                if (fc != null)
-                {
-                    fc.close();
-                }
-
-                if (fis != null)
-                {
-                    fis.close();
-                }
-            }
+            ByteBuffer bb = RegionReader.read(fc, 0, startByte);
 
             try
             {
@@ -227,7 +216,7 @@ public class MP3File extends AudioFile
                     logger.config("Attempting to read id3v2tags");
                     try
                     {
-                        this.setID3v2Tag(new ID3v24Tag(bb, file.getName()));
+                        this.setID3v2Tag(new ID3v24Tag(bb, name));
                     }
                     catch (TagNotFoundException ex)
                     {
@@ -238,7 +227,7 @@ public class MP3File extends AudioFile
                     {
                         if (id3v2tag == null)
                         {
-                            this.setID3v2Tag(new ID3v23Tag(bb, file.getName()));
+                            this.setID3v2Tag(new ID3v23Tag(bb, name));
                         }
                     }
                     catch (TagNotFoundException ex)
@@ -250,7 +239,7 @@ public class MP3File extends AudioFile
                     {
                         if (id3v2tag == null)
                         {
-                            this.setID3v2Tag(new ID3v22Tag(bb, file.getName()));
+                            this.setID3v2Tag(new ID3v22Tag(bb, name));
                         }
                     }
                     catch (TagNotFoundException ex)
@@ -271,7 +260,7 @@ public class MP3File extends AudioFile
         }
         else
         {
-            logger.config("Not enough room for valid id3v2 tag:" + startByte);
+            Log.log(logger, Level.CONFIG, "Not enough room for valid id3v2 tag:{}", startByte);
         }
     }
 
@@ -321,36 +310,16 @@ public class MP3File extends AudioFile
      * @return true if all the bytes between in the file between startByte and endByte are null, false
      * otherwise
      */
-    private boolean isFilePortionNull(int startByte, int endByte) throws IOException
+    private boolean isFilePortionNull(FileChannel fc, int startByte, int endByte) throws IOException
     {
-        logger.config("Checking file portion:" + Hex.asHex(startByte) + ":" + Hex.asHex(endByte));
-        FileInputStream fis=null;
-        FileChannel     fc=null;
-        try
-        {
-            fis = new FileInputStream(file);
-            fc = fis.getChannel();
-            fc.position(startByte);
-            ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
-            fc.read(bb);
-            while(bb.hasRemaining())
-            {
-                if(bb.get()!=0)
-                {
-                    return false;
-                }
-            }
-        }
-        finally
+        Log.log(logger, Level.CONFIG, "Checking file portion:{}:{}", Hex.asHex(startByte), Hex.asHex(endByte));
+        ByteBuffer bb = ByteBuffer.allocateDirect(endByte - startByte);
+        fc.read(bb, startByte);
+        while(bb.hasRemaining())
         {
-            if (fc != null)
+            if(bb.get()!=0)
             {
-                fc.close();
-            }
-
-            if (fis != null)
-            {
-                fis.close();
+                return false;
             }
         }
         return true;
@@ -359,31 +328,33 @@ public class MP3File extends AudioFile
      * Regets the audio header starting from start of file, and write appropriate logging to indicate
      * potential problem to user.
      *
+     * @param fc
+     * @param path
      * @param startByte
      * @param firstHeaderAfterTag
      * @return
      * @throws IOException
      * @throws InvalidAudioFrameException
      */
-    private MP3AudioHeader checkAudioStart(long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException
+    private MP3AudioHeader checkAudioStart(FileChannel fc, String path, long startByte, MP3AudioHeader firstHeaderAfterTag) throws IOException, InvalidAudioFrameException
     {
         MP3AudioHeader headerOne;
         MP3AudioHeader headerTwo;
 
-        logger.warning(ErrorMessage.MP3_ID3TAG_LENGTH_INCORRECT.getMsg(file.getPath(), Hex.asHex(startByte), Hex.asHex(firstHeaderAfterTag.getMp3StartByte())));
+        logger.warning(ErrorMessage.MP3_ID3TAG_LENGTH_INCORRECT.getMsg(path, Hex.asHex(startByte), Hex.asHex(firstHeaderAfterTag.getMp3StartByte())));
 
         //because we cant agree on start location we reread the audioheader from the start of the file, at least
         //this way we cant overwrite the audio although we might overwrite part of the tag if we write this file
         //back later
-        headerOne = new MP3AudioHeader(file, 0);
-        logger.config("Checking from start:" + headerOne);
+        headerOne = new MP3AudioHeader(fc, path, 0);
+        Log.log(logger, Level.CONFIG, "Checking from start:{}", headerOne);
 
         //Although the id3 tag size appears to be incorrect at least we have found the same location for the start
         //of audio whether we start searching from start of file or at the end of the alleged of file so no real
         //problem
         if (firstHeaderAfterTag.getMp3StartByte() == headerOne.getMp3StartByte())
         {
-            logger.config(ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(file.getPath(),
+            logger.config(ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(path,
                     Hex.asHex(headerOne.getMp3StartByte())));
             return firstHeaderAfterTag;
         }
@@ -391,13 +362,13 @@ public class MP3File extends AudioFile
         {
 
             //We get a different value if read from start, can't guarantee 100% correct lets do some more checks
-            logger.config((ErrorMessage.MP3_RECALCULATED_POSSIBLE_START_OF_MP3_AUDIO.getMsg(file.getPath(),
+            logger.config((ErrorMessage.MP3_RECALCULATED_POSSIBLE_START_OF_MP3_AUDIO.getMsg(path,
                             Hex.asHex(headerOne.getMp3StartByte()))));
 
             //Same frame count so probably both audio headers with newAudioHeader being the first one
             if (firstHeaderAfterTag.getNumberOfFrames() == headerOne.getNumberOfFrames())
             {
-                logger.warning((ErrorMessage.MP3_RECALCULATED_START_OF_MP3_AUDIO.getMsg(file.getPath(),
+                logger.warning((ErrorMessage.MP3_RECALCULATED_START_OF_MP3_AUDIO.getMsg(path,
                                 Hex.asHex(headerOne.getMp3StartByte()))));
                 return headerOne;
             }
@@ -405,20 +376,20 @@ public class MP3File extends AudioFile
             //If the size reported by the tag header is a little short and there is only nulls between the recorded value
             //and the start of the first audio found then we stick with the original header as more likely that currentHeader
             //DataInputStream not really a header
-            if(isFilePortionNull((int) startByte,(int) firstHeaderAfterTag.getMp3StartByte()))
+            if(isFilePortionNull(fc, (int) startByte,(int) firstHeaderAfterTag.getMp3StartByte()))
             {
                 return firstHeaderAfterTag;
             }
 
             //Skip to the next header (header 2, counting from start of file)
-            headerTwo = new MP3AudioHeader(file, headerOne.getMp3StartByte()
+            headerTwo = new MP3AudioHeader(fc, path, headerOne.getMp3StartByte()
                     + headerOne.mp3FrameHeader.getFrameLength());
 
             //It matches the header we found when doing the original search from after the ID3Tag therefore it
             //seems that newAudioHeader was a false match and the original header was correct
             if (headerTwo.getMp3StartByte() == firstHeaderAfterTag.getMp3StartByte())
             {
-                logger.warning((ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(file.getPath(),
+                logger.warning((ErrorMessage.MP3_START_OF_AUDIO_CONFIRMED.getMsg(path,
                                 Hex.asHex(firstHeaderAfterTag.getMp3StartByte()))));
                 return firstHeaderAfterTag;
             }
@@ -427,14 +398,14 @@ public class MP3File extends AudioFile
             //however it maybe that neither are really headers and just contain the same data being misrepresented as headers.
             if (headerTwo.getNumberOfFrames() == headerOne.getNumberOfFrames())
             {
-                logger.warning((ErrorMessage.MP3_RECALCULATED_START_OF_MP3_AUDIO.getMsg(file.getPath(),
+                logger.warning((ErrorMessage.MP3_RECALCULATED_START_OF_MP3_AUDIO.getMsg(path,
                                 Hex.asHex(headerOne.getMp3StartByte()))));
                 return headerOne;
             }
             ///Doesnt match the frameCount lets go back to the original header
             else
             {
-                logger.warning((ErrorMessage.MP3_RECALCULATED_START_OF_MP3_AUDIO.getMsg(file.getPath(),
+                logger.warning((ErrorMessage.MP3_RECALCULATED_START_OF_MP3_AUDIO.getMsg(path,
                                 Hex.asHex(firstHeaderAfterTag.getMp3StartByte()))));
                 return firstHeaderAfterTag;
             }
@@ -454,6 +425,24 @@ public class MP3File extends AudioFile
      * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
      */
     public MP3File(File file, int loadOptions, boolean readOnly) throws IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        this(file, loadOptions, readOnly, null);
+    }
+
+    /**
+     * Creates a new MP3File dataType and parse the tag from the given file whose start has already been read,
+     * such as to detect its format, so the start is not read again.
+     *
+     * @param file        MP3 file
+     * @param loadOptions decide what tags to load
+     * @param readOnly    causes the files to be opened readonly
+     * @param prefix      the start of the file, or null if it has not been read
+     * @throws IOException  on any I/O error
+     * @throws TagException on any exception generated by this library.
+     * @throws org.jaudiotagger.audio.exceptions.ReadOnlyFileException
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public MP3File(File file, int loadOptions, boolean readOnly, ByteBuffer prefix) throws IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
     {
         RandomAccessFile newFile = null;
         try
@@ -461,46 +450,204 @@ public class MP3File extends AudioFile
             this.file = file;
 
             //Check File accessibility
-            newFile = checkFilePermissions(file, readOnly);
+            Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+            long start = instrumentation.phaseStarted(InstrumentationPhase.READ_CHECK);
+            try
+            {
+                newFile = checkFilePermissions(file, readOnly);
+            }
+            finally
+            {
+                instrumentation.phaseEnded(InstrumentationPhase.READ_CHECK, start);
+            }
+
+            FileChannel fc = prefix == null ? newFile.getChannel() : new PrefetchedChannel(newFile.getChannel(), prefix);
+            read(fc, file.getPath(), file.getName(), loadOptions);
+        }
+        finally
+        {
+            if (newFile != null)
+            {
+                newFile.close();
+            }
+        }
+    }
 
-            //Read ID3v2 tag size (if tag exists) to allow audioHeader parsing to skip over tag
-            long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(file);
-            logger.config("TagHeaderSize:" + Hex.asHex(tagSizeReportedByHeader));
-            audioHeader = new MP3AudioHeader(file, tagSizeReportedByHeader);
+    /**
+     * Creates a new MP3File dataType and parse the tag from an MP3 that is not in a file, such as one already
+     * held in memory. It has no file so cannot be saved.
+     *
+     * @param source      the MP3, it is not closed
+     * @param loadOptions decide what tags to load
+     * @throws IOException  on any I/O error
+     * @throws TagException on any exception generated by this library.
+     * @throws org.jaudiotagger.audio.exceptions.InvalidAudioFrameException
+     */
+    public MP3File(RandomAccessSource source, int loadOptions) throws IOException, TagException, InvalidAudioFrameException
+    {
+        read(source.getChannel(), "", "", loadOptions);
+    }
 
-            //If the audio header is not straight after the end of the tag then search from start of file
-            if (tagSizeReportedByHeader != ((MP3AudioHeader) audioHeader).getMp3StartByte())
+    /**
+     * Read the audio header and tags
+     *
+     * @param fc          channel of the MP3
+     * @param path        path of the MP3 for messages
+     * @param name        name of the MP3 for messages
+     * @param loadOptions decide what tags to load
+     * @throws IOException
+     * @throws TagException
+     * @throws InvalidAudioFrameException
+     */
+    private void read(FileChannel fc, String path, String name, int loadOptions) throws IOException, TagException, InvalidAudioFrameException
+    {
+        //Use the same options throughout when not read through AudioFileIO
+        TagOptions previous = TagOptions.setCurrent(getTagOptions());
+        try
+        {
+            readHeaderAndTags(fc, path, name, loadOptions);
+        }
+        finally
+        {
+            TagOptions.setCurrent(previous);
+        }
+    }
+
+    private void readHeaderAndTags(FileChannel fc, String path, String name, int loadOptions) throws IOException, TagException, InvalidAudioFrameException
+    {
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        ReadMode readMode = TagOptions.current().getReadMode();
+        long mp3StartByte;
+        if (readMode == ReadMode.TAG_ONLY && file != null)
+        {
+            //Skip the search for the first frame, the ID3v2 tag ends where its header says
+            mp3StartByte = AbstractID3v2Tag.getV2TagSizeIfExists(fc);
+            audioHeader = new LazyAudioHeader(new Callable<MP3AudioHeader>()
+            {
+                public MP3AudioHeader call() throws Exception
+                {
+                    FileInputStream fis = new FileInputStream(file);
+                    try
+                    {
+                        return readAudioHeader(fis.getChannel(), file.getPath(), file.getName());
+                    }
+                    finally
+                    {
+                        fis.close();
+                    }
+                }
+            });
+        }
+        else
+        {
+            long start = instrumentation.phaseStarted(InstrumentationPhase.READ_HEADER);
+            try
             {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(tagSizeReportedByHeader, (MP3AudioHeader) audioHeader);
+                audioHeader = readAudioHeader(fc, path, name);
             }
+            finally
+            {
+                instrumentation.phaseEnded(InstrumentationPhase.READ_HEADER, start);
+            }
+            mp3StartByte = ((MP3AudioHeader) audioHeader).getMp3StartByte();
+        }
 
+        if (readMode == ReadMode.HEADER_ONLY)
+        {
+            tagLoaded = false;
+            return;
+        }
+        tagComplete = TagOptions.current().getReadFields() == null;
+
+        long start = instrumentation.phaseStarted(InstrumentationPhase.READ_TAG);
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.TAG_PARSE);
+        String outcome = FlightRecorderEvent.FAILED;
+        try
+        {
             //Read v1 tags (if any)
-            readV1Tag(file, newFile, loadOptions);
+            try
+            {
+                readV1Tag(fc, name, loadOptions);
+            }
+            catch (IOException ioe)
+            {
+                checkOutsideProbeBudget(fc, ioe);
+            }
 
             //Read v2 tags (if any)
-            readV2Tag(file, loadOptions, (int)((MP3AudioHeader) audioHeader).getMp3StartByte());
-
-            //If we have a v2 tag use that, if we do not but have v1 tag use that
-            //otherwise use nothing
-            //TODO:if have both should we merge
-            //rather than just returning specific ID3v22 tag, would it be better to return v24 version ?
-            if (this.getID3v2Tag() != null)
+            try
             {
-                tag = this.getID3v2Tag();
+                readV2Tag(fc, name, loadOptions, (int) mp3StartByte);
             }
-            else if (id3v1tag != null)
+            catch (IOException ioe)
             {
-                tag = id3v1tag;
+                checkOutsideProbeBudget(fc, ioe);
             }
+            outcome = FlightRecorderEvent.SUCCEEDED;
         }
         finally
         {
-            if (newFile != null)
+            instrumentation.phaseEnded(InstrumentationPhase.READ_TAG, start);
+            if (event.isEnabled())
             {
-                newFile.close();
+                event.end(fc.size(), SupportedFileFormat.MP3.getFilesuffix(), mp3StartByte, outcome);
             }
         }
+
+        //If we have a v2 tag use that, if we do not but have v1 tag use that
+        //otherwise use nothing
+        //TODO:if have both should we merge
+        //rather than just returning specific ID3v22 tag, would it be better to return v24 version ?
+        if (this.getID3v2Tag() != null)
+        {
+            tag = this.getID3v2Tag();
+        }
+        else if (id3v1tag != null)
+        {
+            tag = id3v1tag;
+        }
+    }
+
+    /**
+     * When probing keep the audio header and any tag read even if the budget was not enough to read the other tag
+     *
+     * @param fc  channel of the MP3
+     * @param ioe failure reading a tag
+     * @throws IOException ioe unless the read was outside the probe budget
+     */
+    private void checkOutsideProbeBudget(FileChannel fc, IOException ioe) throws IOException
+    {
+        if (!ProbeChannel.isBudgetExceeded(fc))
+        {
+            throw ioe;
+        }
+        Log.log(logger, Level.CONFIG, "Tag is outside probe budget:{}", ioe.getMessage());
+    }
+
+    /**
+     * Read the audio header, which is found by searching for the first frame after the ID3v2 tag
+     *
+     * @param fc   channel of the MP3
+     * @param path path of the MP3 for messages
+     * @param name name of the MP3 for messages
+     * @return the audio header
+     * @throws IOException
+     * @throws InvalidAudioFrameException
+     */
+    private MP3AudioHeader readAudioHeader(FileChannel fc, String path, String name) throws IOException, InvalidAudioFrameException
+    {
+        //Read ID3v2 tag size (if tag exists) to allow audioHeader parsing to skip over tag
+        long tagSizeReportedByHeader = AbstractID3v2Tag.getV2TagSizeIfExists(fc);
+        Log.log(logger, Level.CONFIG, "TagHeaderSize:{}", Hex.asHex(tagSizeReportedByHeader));
+        MP3AudioHeader audioHeader = new MP3AudioHeader(fc, name, tagSizeReportedByHeader);
+
+        //If the audio header is not straight after the end of the tag then search from start of file
+        if (tagSizeReportedByHeader != audioHeader.getMp3StartByte())
+        {
+            Log.log(logger, Level.CONFIG, "First header found after tag:{}", audioHeader);
+            audioHeader = checkAudioStart(fc, path, tagSizeReportedByHeader, audioHeader);
+        }
+        return audioHeader;
     }
 
     /**
@@ -513,26 +660,14 @@ public class MP3File extends AudioFile
      */
     public long getMP3StartByte(File file) throws InvalidAudioFrameException, IOException
     {
+        FileInputStream fis = new FileInputStream(file);
         try
         {
-            //Read ID3v2 tag size (if tag exists) to allow audio header parsing to skip over tag
-            long startByte = AbstractID3v2Tag.getV2TagSizeIfExists(file);
-
-            MP3AudioHeader audioHeader = new MP3AudioHeader(file, startByte);
-            if (startByte != audioHeader.getMp3StartByte())
-            {
-                logger.config("First header found after tag:" + audioHeader);
-                audioHeader = checkAudioStart(startByte, audioHeader);
-            }
-            return audioHeader.getMp3StartByte();
-        }
-        catch (InvalidAudioFrameException iafe)
-        {
-            throw iafe;
+            return readAudioHeader(fis.getChannel(), file.getPath(), file.getName()).getMp3StartByte();
         }
-        catch (IOException ioe)
+        finally
         {
-            throw ioe;
+            fis.close();
         }
     }
 
@@ -550,7 +685,7 @@ public class MP3File extends AudioFile
      */
     public File extractID3v2TagDataIntoFile(File outputFile) throws TagNotFoundException, IOException
     {
-        int startByte = (int) ((MP3AudioHeader) audioHeader).getMp3StartByte();
+        int startByte = (int) getMP3AudioHeader().getMp3StartByte();
         if (startByte >= 0)
         {
 
@@ -577,7 +712,12 @@ public class MP3File extends AudioFile
      */
     public MP3AudioHeader getMP3AudioHeader()
     {
-        return (MP3AudioHeader) getAudioHeader();
+        AudioHeader header = getAudioHeader();
+        if (header instanceof LazyAudioHeader)
+        {
+            header = ((LazyAudioHeader) header).getAudioHeader();
+        }
+        return (MP3AudioHeader) header;
     }
 
     /**
@@ -804,6 +944,10 @@ public class MP3File extends AudioFile
      */
     public void save() throws IOException, TagException
     {
+        if (this.file == null)
+        {
+            throw new IOException(ErrorMessage.GENERAL_WRITE_FAILED_NOT_READ_FROM_FILE.getMsg());
+        }
         save(this.file);
     }
 
@@ -836,6 +980,18 @@ public class MP3File extends AudioFile
      */
     public void precheck(File file) throws IOException
     {
+        if (!tagLoaded)
+        {
+            logger.severe(ErrorMessage.GENERAL_WRITE_FAILED_TAG_NOT_READ.getMsg(file.getName()));
+            throw new IOException(ErrorMessage.GENERAL_WRITE_FAILED_TAG_NOT_READ.getMsg(file.getName()));
+        }
+
+        if (!tagComplete)
+        {
+            logger.severe(ErrorMessage.GENERAL_WRITE_FAILED_TAG_NOT_COMPLETE.getMsg(file.getName()));
+            throw new IOException(ErrorMessage.GENERAL_WRITE_FAILED_TAG_NOT_COMPLETE.getMsg(file.getName()));
+        }
+
         if (!file.exists())
         {
             logger.severe(ErrorMessage.GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND.getMsg(file.getName()));
@@ -868,16 +1024,18 @@ public class MP3File extends AudioFile
         //Ensure we are dealing with absolute filepaths not relative ones
         File file = fileToSave.getAbsoluteFile();
 
-        logger.config("Saving  : " + file.getPath());
+        Log.log(logger, Level.CONFIG, "Saving  : {}", file.getPath());
 
         //Checks before starting write
         precheck(file);
 
+        //Use the same options throughout when not written through AudioFileIO
+        TagOptions previous = TagOptions.setCurrent(getTagOptions());
         RandomAccessFile rfile = null;
         try
         {
             //ID3v2 Tag
-            if (TagOptionSingleton.getInstance().isId3v2Save())
+            if (TagOptions.current().isId3v2Save())
             {
                 if (id3v2tag == null)
                 {
@@ -885,19 +1043,19 @@ public class MP3File extends AudioFile
                     (new ID3v24Tag()).delete(rfile);
                     (new ID3v23Tag()).delete(rfile);
                     (new ID3v22Tag()).delete(rfile);
-                    logger.config("Deleting ID3v2 tag:"+file.getName());
+                    Log.log(logger, Level.CONFIG, "Deleting ID3v2 tag:{}", file.getName());
                     rfile.close();
                 }
                 else
                 {
-                    logger.config("Writing ID3v2 tag:"+file.getName());
-                    id3v2tag.write(file, ((MP3AudioHeader) this.getAudioHeader()).getMp3StartByte());
+                    Log.log(logger, Level.CONFIG, "Writing ID3v2 tag:{}", file.getName());
+                    id3v2tag.write(file, getMP3AudioHeader().getMp3StartByte());
                 }
             }
             rfile = new RandomAccessFile(file, "rw");
 
             //Lyrics 3 Tag
-            if (TagOptionSingleton.getInstance().isLyrics3Save())
+            if (TagOptions.current().isLyrics3Save())
             {
                 if (lyrics3tag != null)
                 {
@@ -905,7 +1063,7 @@ public class MP3File extends AudioFile
                 }
             }
             //ID3v1 tag
-            if (TagOptionSingleton.getInstance().isId3v1Save())
+            if (TagOptions.current().isId3v1Save())
             {
                 logger.config("Processing ID3v1");
                 if (id3v1tag == null)
@@ -937,6 +1095,7 @@ public class MP3File extends AudioFile
         }
         finally
         {
+            TagOptions.setCurrent(previous);
             if (rfile != null)
             {
                 rfile.close();
@@ -1025,15 +1184,16 @@ public class MP3File extends AudioFile
     @Override
     public Tag createDefaultTag()
     {
-        if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V24)
+        ID3V2Version id3v2Version = getTagOptions().getID3V2Version();
+        if(id3v2Version==ID3V2Version.ID3_V24)
         {    
             return new ID3v24Tag();
         }
-        else if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V23)
+        else if(id3v2Version==ID3V2Version.ID3_V23)
         {
             return new ID3v23Tag();
         }
-        else if(TagOptionSingleton.getInstance().getID3V2Version()==ID3V2Version.ID3_V22)
+        else if(id3v2Version==ID3V2Version.ID3_V22)
         {
             return new ID3v22Tag();
         }
@@ -1115,7 +1275,7 @@ public class MP3File extends AudioFile
     public Tag getTagAndConvertOrCreateAndSetDefault()
     {
         Tag tag = getTagOrCreateDefault();
-        tag=convertTag(tag, TagOptionSingleton.getInstance().getID3V2Version());
+        tag=convertTag(tag, getTagOptions().getID3V2Version());
         setTag(tag);
         return tag;
     }
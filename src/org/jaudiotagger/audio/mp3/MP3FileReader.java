@@ -6,12 +6,13 @@ import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
 import org.jaudiotagger.audio.exceptions.ReadOnlyFileException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagException;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 
 /**
  * Read Mp3 Info (retrofitted to entagged ,done differently to entagged which is why some methods throw RuntimeException)
@@ -19,12 +20,12 @@ import java.io.RandomAccessFile;
  */
 public class MP3FileReader extends AudioFileReader
 {
-    protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException
+    protected GenericAudioHeader getEncodingInfo(RandomAccessSource raf) throws CannotReadException, IOException
     {
         throw new RuntimeException("MP3FileReader.getEncodingInfo should be called");
     }
 
-    protected Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException
+    protected Tag getTag(RandomAccessSource raf) throws CannotReadException, IOException
     {
         throw new RuntimeException("MP3FileReader.getEncodingInfo should be called");
     }
@@ -40,6 +41,28 @@ public class MP3FileReader extends AudioFileReader
         return mp3File;
     }
 
+    /**
+     * @param f
+     * @param prefix
+     * @return
+     */
+    public AudioFile read(File f, ByteBuffer prefix) throws IOException, TagException, ReadOnlyFileException, InvalidAudioFrameException
+    {
+        MP3File mp3File = new MP3File(f, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG, true, prefix);
+        return mp3File;
+    }
+
+    /**
+     * @param source
+     * @return
+     */
+    //Override because we read mp3s differently to the entagged code
+    public AudioFile read(RandomAccessSource source) throws IOException, TagException, InvalidAudioFrameException
+    {
+        MP3File mp3File = new MP3File(source, MP3File.LOAD_IDV1TAG | MP3File.LOAD_IDV2TAG);
+        return mp3File;
+    }
+
     /**
      * Read
      *
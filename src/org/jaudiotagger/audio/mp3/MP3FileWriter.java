@@ -36,7 +36,7 @@ public class MP3FileWriter extends AudioFileWriter
      * @throws CannotWriteException
      */
     @Override
-    public synchronized void delete(AudioFile af) throws CannotReadException, CannotWriteException
+    public void delete(AudioFile af) throws CannotReadException, CannotWriteException
     {
         ((MP3File)af).setID3v1Tag(null);
         ((MP3File)af).setID3v2Tag(null);                
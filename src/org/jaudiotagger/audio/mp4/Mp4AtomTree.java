@@ -1,5 +1,6 @@
 package org.jaudiotagger.audio.mp4;
 
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.utils.tree.DefaultMutableTreeNode;
 import org.jaudiotagger.utils.tree.DefaultTreeModel;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
@@ -84,6 +85,18 @@ public class Mp4AtomTree
         buildTree(raf, closeOnExit);
     }
 
+    /**
+     * Create Atom Tree of the source, which is left open
+     *
+     * @param source
+     * @throws IOException
+     * @throws CannotReadException
+     */
+    public Mp4AtomTree(RandomAccessSource source) throws IOException, CannotReadException
+    {
+        buildTree(source.getChannel(), false);
+    }
+
     /**
      * Build a tree of the atoms in the file
      *
@@ -95,11 +108,22 @@ public class Mp4AtomTree
      */
     public DefaultTreeModel buildTree(RandomAccessFile raf, boolean closeExit) throws IOException, CannotReadException
     {
-        FileChannel fc = null;
+        return buildTree(raf.getChannel(), closeExit);
+    }
+
+    /**
+     * Build a tree of the atoms in the channel
+     *
+     * @param fc
+     * @param closeExit false to keep the channel open
+     * @return
+     * @throws java.io.IOException
+     * @throws org.jaudiotagger.audio.exceptions.CannotReadException
+     */
+    private DefaultTreeModel buildTree(FileChannel fc, boolean closeExit) throws IOException, CannotReadException
+    {
         try
         {
-            fc = raf.getChannel();
-
             //make sure at start of file
             fc.position(0);
 
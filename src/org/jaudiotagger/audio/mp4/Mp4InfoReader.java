@@ -21,12 +21,14 @@ package org.jaudiotagger.audio.mp4;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotReadVideoException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.audio.generic.RegionReader;
 import org.jaudiotagger.audio.mp4.atom.*;
 import org.jaudiotagger.logging.ErrorMessage;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.logging.Logger;
 
 /**
@@ -84,7 +86,7 @@ public class Mp4InfoReader
         return false;
     }
 
-    public GenericAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException
+    public GenericAudioHeader read(RandomAccessSource raf) throws CannotReadException, IOException
     {
         Mp4AudioHeader info = new Mp4AudioHeader();
 
@@ -108,9 +110,9 @@ public class Mp4InfoReader
         {
             throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_AUDIO.getMsg());
         }
-        ByteBuffer moovBuffer = ByteBuffer.allocate(moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
-        raf.getChannel().read(moovBuffer);
-        moovBuffer.rewind();
+        FileChannel fc = raf.getChannel();
+        ByteBuffer moovBuffer = RegionReader.read(fc, fc.position(), moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
+        fc.position(fc.position() + moovBuffer.limit());
 
         //Level 2-Searching for "mvhd" somewhere within "moov", we make a slice after finding header
         //so all get() methods will be relative to mvdh positions
@@ -330,7 +332,7 @@ public class Mp4InfoReader
         }
 
         //Build AtomTree to ensure it is valid, this means we can detect any problems early on
-        new Mp4AtomTree(raf,false);
+        new Mp4AtomTree(raf);
 
         return info;
     }
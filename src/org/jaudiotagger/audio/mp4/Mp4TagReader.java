@@ -19,11 +19,16 @@
 package org.jaudiotagger.audio.mp4;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.audio.generic.RegionReader;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
 import org.jaudiotagger.audio.mp4.atom.Mp4MetaBox;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
+import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.mp4.Mp4FieldKey;
 import org.jaudiotagger.tag.mp4.Mp4NonStandardFieldKey;
 import org.jaudiotagger.tag.mp4.Mp4Tag;
@@ -31,9 +36,11 @@ import org.jaudiotagger.tag.mp4.atom.Mp4DataBox;
 import org.jaudiotagger.tag.mp4.field.*;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
+import java.nio.channels.FileChannel;
 import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -81,7 +88,7 @@ public class Mp4TagReader
      * There are gaps between these boxes
 
      */
-    public Mp4Tag read(RandomAccessFile raf) throws CannotReadException, IOException
+    public Mp4Tag read(RandomAccessSource raf) throws CannotReadException, IOException
     {
         Mp4Tag tag = new Mp4Tag();
 
@@ -92,9 +99,9 @@ public class Mp4TagReader
         {
             throw new CannotReadException(ErrorMessage.MP4_FILE_NOT_CONTAINER.getMsg());
         }
-        ByteBuffer moovBuffer = ByteBuffer.allocate(moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
-        raf.getChannel().read(moovBuffer);
-        moovBuffer.rewind();
+        FileChannel fc = raf.getChannel();
+        ByteBuffer moovBuffer = RegionReader.read(fc, fc.position(), moovHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH);
+        fc.position(fc.position() + moovBuffer.limit());
 
         //Level 2-Searching for "udta" within "moov"
         Mp4BoxHeader boxHeader = Mp4BoxHeader.seekWithinLevel(moovBuffer, Mp4AtomIdentifier.UDTA.getFieldName());
@@ -147,9 +154,11 @@ public class Mp4TagReader
         int length = boxHeader.getLength() - Mp4BoxHeader.HEADER_LENGTH;
         ByteBuffer metadataBuffer = moovBuffer.slice();
         //Datalength is longer are there boxes after ilst at this level?
-        logger.config("headerlengthsays:" + length + "datalength:" + metadataBuffer.limit());
+        Log.log(logger, Level.CONFIG, "headerlengthsays:{}datalength:{}", length, metadataBuffer.limit());
         int read = 0;
-        logger.config("Started to read metadata fields at position is in metadata buffer:" + metadataBuffer.position());
+        Set<FieldKey> readFields = TagOptions.current().getReadFields();
+        Set<String> readFieldIds = readFields == null ? null : Mp4Tag.getFieldIds(readFields);
+        Log.log(logger, Level.CONFIG, "Started to read metadata fields at position is in metadata buffer:{}", metadataBuffer.position());
         while (read < length)
         {
             //Read the boxHeader
@@ -157,8 +166,8 @@ public class Mp4TagReader
 
             //Create the corresponding datafield from the id, and slice the buffer so position of main buffer
             //wont get affected
-            logger.config("Next position is at:" + metadataBuffer.position());
-            createMp4Field(tag, boxHeader, metadataBuffer.slice());
+            Log.log(logger, Level.CONFIG, "Next position is at:{}", metadataBuffer.position());
+            createMp4Field(tag, boxHeader, metadataBuffer.slice(), readFieldIds);
 
             //Move position in buffer to the start of the next parentHeader
             metadataBuffer.position(metadataBuffer.position() + boxHeader.getDataLength());
@@ -176,32 +185,46 @@ public class Mp4TagReader
      * @param tag
      * @param header
      * @param raw
+     * @param readFieldIds ids of the fields to read, null to read all fields
      * @return
      * @throws UnsupportedEncodingException
      */
-    private void createMp4Field(Mp4Tag tag, Mp4BoxHeader header, ByteBuffer raw) throws UnsupportedEncodingException
+    private void createMp4Field(Mp4Tag tag, Mp4BoxHeader header, ByteBuffer raw, Set<String> readFieldIds) throws UnsupportedEncodingException
     {
         //Header with no data #JAUDIOTAGGER-463
          if(header.getDataLength()==0)
         {
             //Just Ignore
         }
-        //Reverse Dns Atom
+        //Reverse Dns Atom, the id is only known once the mean and name have been read
         else if (header.getId().equals(Mp4TagReverseDnsField.IDENTIFIER))
         {
             //
+            TagField field;
             try
             {
-                TagField field = new Mp4TagReverseDnsField(header, raw);
-                tag.addField(field);
+                field = new Mp4TagReverseDnsField(header, raw);
             }
             catch (Exception e)
             {
                 logger.warning(ErrorMessage.MP4_UNABLE_READ_REVERSE_DNS_FIELD.getMsg(e.getMessage()));
-                TagField field = new Mp4TagRawBinaryField(header, raw);
+                field = new Mp4TagRawBinaryField(header, raw);
+            }
+
+            if (readFieldIds != null && !readFieldIds.contains(field.getId()))
+            {
+                tag.getSkippedFields().add(field.getId());
+            }
+            else
+            {
                 tag.addField(field);
             }
         }
+        //Not one of the fields asked for
+        else if (readFieldIds != null && !readFieldIds.contains(header.getId()))
+        {
+            skipMp4Field(tag, header, raw);
+        }
         //Normal Parent with Data atom
         else
         {
@@ -213,7 +236,7 @@ public class Mp4TagReader
                 //Need this to decide what type of Field to create
                 int type = Utils.getIntBE(raw, Mp4DataBox.TYPE_POS_INCLUDING_HEADER, Mp4DataBox.TYPE_POS_INCLUDING_HEADER + Mp4DataBox.TYPE_LENGTH - 1);
                 Mp4FieldType fieldType = Mp4FieldType.getFieldType(type);
-                logger.config("Box Type id:" + header.getId() + ":type:" + fieldType);
+                Log.log(logger, Level.CONFIG, "Box Type id:{}:type:{}", header.getId(), fieldType);
 
                 //Special handling for some specific identifiers otherwise just base on class id
                 if (header.getId().equals(Mp4FieldKey.TRACK.getFieldName()))
@@ -313,4 +336,34 @@ public class Mp4TagReader
         }
 
     }
+
+    /**
+     * Record a field that is not read, as for reading each image in a coverart atom counts as a separate field
+     *
+     * @param tag
+     * @param header
+     * @param raw
+     */
+    private void skipMp4Field(Mp4Tag tag, Mp4BoxHeader header, ByteBuffer raw)
+    {
+        if (header.getId().equals(Mp4FieldKey.ARTWORK.getFieldName()))
+        {
+            //Only the size of each data atom is read
+            int processedDataSize = 0;
+            while (processedDataSize + Mp4BoxHeader.OFFSET_LENGTH <= header.getDataLength())
+            {
+                int dataAtomLength = Utils.getIntBE(raw, processedDataSize, processedDataSize + Mp4BoxHeader.OFFSET_LENGTH - 1);
+                if (dataAtomLength <= 0)
+                {
+                    break;
+                }
+                tag.getSkippedFields().add(header.getId());
+                processedDataSize += dataAtomLength;
+            }
+        }
+        else
+        {
+            tag.getSkippedFields().add(header.getId());
+        }
+    }
 }
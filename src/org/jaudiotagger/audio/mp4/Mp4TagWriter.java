@@ -18,12 +18,17 @@
  */
 package org.jaudiotagger.audio.mp4;
 
+import org.jaudiotagger.audio.SupportedFileFormat;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.generic.Cancellation;
+import org.jaudiotagger.audio.generic.FlightRecorderEvent;
+import org.jaudiotagger.audio.generic.FlightRecorderEventType;
 import org.jaudiotagger.audio.mp4.atom.*;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.Tag;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.mp4.Mp4Tag;
 import org.jaudiotagger.tag.mp4.Mp4TagCreator;
 import org.jaudiotagger.utils.tree.DefaultMutableTreeNode;
@@ -33,6 +38,7 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -85,7 +91,8 @@ public class Mp4TagWriter
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.tag.mp4");
 
-    private Mp4TagCreator tc = new Mp4TagCreator();
+    //Holds no state so can be shared by concurrent writes
+    private final Mp4TagCreator tc = new Mp4TagCreator();
 
 
     /**
@@ -386,7 +393,7 @@ public class Mp4TagWriter
                //after ilst as a child of meta 
                if (oldMetaLevelFreeAtomSize > 0)
                {
-                   logger.config("Writing:Option 2:Smaller Size have free atom:" + oldIlstSize + ":" + newIlstSize);
+                   Log.log(logger, Level.CONFIG, "Writing:Option 2:Smaller Size have free atom:{}:{}", oldIlstSize, newIlstSize);
                    writeDataUptoIncludingIlst(fileReadChannel, fileWriteChannel, oldIlstSize, startIlstWithinFile, rawIlstData);
 
                    //Write the modified free atom that comes after ilst
@@ -464,7 +471,7 @@ public class Mp4TagWriter
                if (additionalSpaceRequiredForMetadata <= (oldMetaLevelFreeAtomSize - Mp4BoxHeader.HEADER_LENGTH))
                {
                    int newFreeSize = oldMetaLevelFreeAtomSize - (additionalSpaceRequiredForMetadata);
-                   logger.config("Writing:Option 5;Larger Size can use meta free atom need extra:" + newFreeSize + "bytes");
+                   Log.log(logger, Level.CONFIG, "Writing:Option 5;Larger Size can use meta free atom need extra:{}bytes", newFreeSize);
 
                    writeDataUptoIncludingIlst(fileReadChannel, fileWriteChannel, oldIlstSize, startIlstWithinFile, rawIlstData);
 
@@ -707,16 +714,26 @@ public class Mp4TagWriter
     {
         long amountToBeWritten=fileReadChannel.size() - fileReadChannel.position();
         long written   = 0;
-        long chunksize = TagOptionSingleton.getInstance().getWriteChunkSize();
+        long chunksize = TagOptions.current().getWriteChunkSize();
         long count = amountToBeWritten / chunksize;
 
         long mod   = amountToBeWritten % chunksize;
-        for(int i = 0; i<count; i++)
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.COPY);
+        try
+        {
+            for(int i = 0; i<count; i++)
+            {
+                Cancellation.checkpoint();
+                written+=fileWriteChannel.transferFrom(fileReadChannel,fileWriteChannel.position(), chunksize);
+                fileWriteChannel.position(fileWriteChannel.position() + chunksize);
+            }
+            written+=fileWriteChannel.transferFrom(fileReadChannel,fileWriteChannel.position(), mod);
+        }
+        finally
         {
-            written+=fileWriteChannel.transferFrom(fileReadChannel,fileWriteChannel.position(), chunksize);
-            fileWriteChannel.position(fileWriteChannel.position() + chunksize);
+            event.end(event.isEnabled() ? fileReadChannel.size() : 0, SupportedFileFormat.MP4.getFilesuffix(), written,
+                      written == amountToBeWritten ? FlightRecorderEvent.SUCCEEDED : FlightRecorderEvent.FAILED);
         }
-        written+=fileWriteChannel.transferFrom(fileReadChannel,fileWriteChannel.position(), mod);
         if(written!=amountToBeWritten)
         {
             throw new CannotWriteException("Was meant to write "+amountToBeWritten+" bytes but only written "+written+" bytes");
@@ -869,12 +886,12 @@ public class Mp4TagWriter
             //sure that the discrepancy if any is preserved
             Mp4StcoBox newStco = newAtomTree.getStco();
 
-            logger.finer("stco:Original First Offset" + stco.getFirstOffSet());
-            logger.finer("stco:Original Diff" + (int) (stco.getFirstOffSet() - mdatHeader.getFilePos()));
-            logger.finer("stco:Original Mdat Pos" + mdatHeader.getFilePos());
-            logger.finer("stco:New First Offset" + newStco.getFirstOffSet());
-            logger.finer("stco:New Diff" + (int) ((newStco.getFirstOffSet() - newMdatHeader.getFilePos())));
-            logger.finer("stco:New Mdat Pos" + newMdatHeader.getFilePos());
+            Log.log(logger, Level.FINER, "stco:Original First Offset{}", stco.getFirstOffSet());
+            Log.log(logger, Level.FINER, "stco:Original Diff{}", (int) (stco.getFirstOffSet() - mdatHeader.getFilePos()));
+            Log.log(logger, Level.FINER, "stco:Original Mdat Pos{}", mdatHeader.getFilePos());
+            Log.log(logger, Level.FINER, "stco:New First Offset{}", newStco.getFirstOffSet());
+            Log.log(logger, Level.FINER, "stco:New Diff{}", (int) ((newStco.getFirstOffSet() - newMdatHeader.getFilePos())));
+            Log.log(logger, Level.FINER, "stco:New Mdat Pos{}", newMdatHeader.getFilePos());
             int diff = (int) (stco.getFirstOffSet() - mdatHeader.getFilePos());
             if ((newStco.getFirstOffSet() - newMdatHeader.getFilePos()) != diff)
             {
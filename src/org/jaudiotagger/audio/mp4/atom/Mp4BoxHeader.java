@@ -20,13 +20,16 @@ package org.jaudiotagger.audio.mp4.atom;
 
 import org.jaudiotagger.audio.exceptions.InvalidBoxHeaderException;
 import org.jaudiotagger.audio.exceptions.NullBoxIdException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -144,7 +147,7 @@ public class Mp4BoxHeader
         //Calculate box id
         this.id = Utils.getString(b, IDENTIFIER_POS, IDENTIFIER_LENGTH, "ISO-8859-1");
 
-        logger.finest("Mp4BoxHeader id:"+id+":length:"+length);
+        Log.log(logger, Level.FINEST, "Mp4BoxHeader id:{}:length:{}", id, length);
         if (id.equals("\0\0\0\0"))
         {
             throw new NullBoxIdException(ErrorMessage.MP4_UNABLE_TO_FIND_NEXT_ATOM_BECAUSE_IDENTIFIER_IS_INVALID.getMsg(id));
@@ -242,6 +245,20 @@ public class Mp4BoxHeader
     }
 
 
+    /**
+     * Seek for box with the specified id starting from the current location of filepointer
+     *
+     * @param raf
+     * @param id
+     * @throws java.io.IOException
+     * @return
+     * @see #seekWithinLevel(RandomAccessSource, String)
+     */
+    public static Mp4BoxHeader seekWithinLevel(RandomAccessFile raf, String id) throws IOException
+    {
+        return seekWithinLevel(new RandomAccessSource(raf), id);
+    }
+
     /**
      * Seek for box with the specified id starting from the current location of filepointer,
      * <p/>
@@ -255,9 +272,9 @@ public class Mp4BoxHeader
      * @throws java.io.IOException
      * @return
      */
-    public static Mp4BoxHeader seekWithinLevel(RandomAccessFile raf, String id) throws IOException
+    public static Mp4BoxHeader seekWithinLevel(RandomAccessSource raf, String id) throws IOException
     {
-        logger.finer("Started searching for:" + id + " in file at:" + raf.getChannel().position());
+        Log.log(logger, Level.FINER, "Started searching for:{} in file at:{}", id, raf.getChannel().position());
 
         Mp4BoxHeader boxHeader = new Mp4BoxHeader();
         ByteBuffer headerBuffer = ByteBuffer.allocate(HEADER_LENGTH);
@@ -270,7 +287,7 @@ public class Mp4BoxHeader
         boxHeader.update(headerBuffer);
         while (!boxHeader.getId().equals(id))
         {
-            logger.finer("Found:" + boxHeader.getId() + " Still searching for:" + id + " in file at:" + raf.getChannel().position());
+            Log.log(logger, Level.FINER, "Found:{} Still searching for:{} in file at:{}", boxHeader.getId(), id, raf.getChannel().position());
 
             //Something gone wrong probably not at the start of an atom so return null;
             if (boxHeader.getLength() < Mp4BoxHeader.HEADER_LENGTH)
@@ -278,14 +295,14 @@ public class Mp4BoxHeader
                 return null;
             }
             int noOfBytesSkipped = raf.skipBytes(boxHeader.getDataLength());
-            logger.finer("Skipped:" + noOfBytesSkipped);
+            Log.log(logger, Level.FINER, "Skipped:{}", noOfBytesSkipped);
             if (noOfBytesSkipped < boxHeader.getDataLength())
             {
                 return null;
             }
             headerBuffer.rewind();
             bytesRead = raf.getChannel().read(headerBuffer);
-            logger.finer("Header Bytes Read:" + bytesRead);
+            Log.log(logger, Level.FINER, "Header Bytes Read:{}", bytesRead);
             headerBuffer.rewind();
             if (bytesRead == Mp4BoxHeader.HEADER_LENGTH)
             {
@@ -315,7 +332,7 @@ public class Mp4BoxHeader
      */
     public static Mp4BoxHeader seekWithinLevel(ByteBuffer data, String id) throws IOException
     {
-        logger.finer("Started searching for:" + id + " in bytebuffer at" + data.position());
+        Log.log(logger, Level.FINER, "Started searching for:{} in bytebuffer at{}", id, data.position());
 
         Mp4BoxHeader boxHeader = new Mp4BoxHeader();
         if (data.remaining() >= Mp4BoxHeader.HEADER_LENGTH)
@@ -328,7 +345,7 @@ public class Mp4BoxHeader
         }
         while (!boxHeader.getId().equals(id))
         {
-            logger.finer("Found:" + boxHeader.getId() + " Still searching for:" + id + " in bytebuffer at" + data.position());
+            Log.log(logger, Level.FINER, "Found:{} Still searching for:{} in bytebuffer at{}", boxHeader.getId(), id, data.position());
             //Something gone wrong probably not at the start of an atom so return null;
             if (boxHeader.getLength() < Mp4BoxHeader.HEADER_LENGTH)
             {
@@ -349,7 +366,7 @@ public class Mp4BoxHeader
                 return null;
             }
         }
-        logger.finer("Found:" + id + " in bytebuffer at" + data.position());
+        Log.log(logger, Level.FINER, "Found:{} in bytebuffer at{}", id, data.position());
 
         return boxHeader;
     }
@@ -21,6 +21,7 @@ package org.jaudiotagger.audio.ogg;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.ogg.util.OggInfoReader;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.tag.Tag;
@@ -40,8 +41,8 @@ public class OggFileReader extends AudioFileReader
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
 
-    private OggInfoReader ir;
-    private OggVorbisTagReader vtr;
+    private final OggInfoReader ir;
+    private final OggVorbisTagReader vtr;
 
     public OggFileReader()
     {
@@ -49,12 +50,12 @@ public class OggFileReader extends AudioFileReader
         vtr = new OggVorbisTagReader();
     }
 
-    protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException
+    protected GenericAudioHeader getEncodingInfo(RandomAccessSource raf) throws CannotReadException, IOException
     {
         return ir.read(raf);
     }
 
-    protected Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException
+    protected Tag getTag(RandomAccessSource raf) throws CannotReadException, IOException
     {
         return vtr.read(raf);
     }
@@ -44,9 +44,23 @@ public class OggVorbisCommentTagCreator
 
     //Creates the ByteBuffer for the ogg tag
     public ByteBuffer convert(Tag tag) throws UnsupportedEncodingException
+    {
+        return convert(tag, 0);
+    }
+
+    /**
+     * Creates the ByteBuffer for the ogg tag followed by paddingSize zero bytes after the framing bit, the padding
+     * is ignored by decoders but allows the tag to grow later without changing the size of the packet
+     *
+     * @param tag
+     * @param paddingSize
+     * @return
+     * @throws UnsupportedEncodingException
+     */
+    public ByteBuffer convert(Tag tag, int paddingSize) throws UnsupportedEncodingException
     {
         ByteBuffer ogg = creator.convert(tag);
-        int tagLength = ogg.capacity() + VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH + OggVorbisCommentTagCreator.FIELD_FRAMING_BIT_LENGTH;
+        int tagLength = ogg.capacity() + VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH + OggVorbisCommentTagCreator.FIELD_FRAMING_BIT_LENGTH + paddingSize;
 
         ByteBuffer buf = ByteBuffer.allocate(tagLength);
 
@@ -20,20 +20,23 @@
 package org.jaudiotagger.audio.ogg;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
 import org.jaudiotagger.audio.ogg.util.VorbisPacketType;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentReader;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -65,10 +68,10 @@ public class OggVorbisTagReader
      * @throws CannotReadException
      * @throws IOException
      */
-    public Tag read(RandomAccessFile raf) throws CannotReadException, IOException
+    public Tag read(RandomAccessSource raf) throws CannotReadException, IOException
     {
         logger.config("Starting to read ogg vorbis tag from file:");
-        byte[] rawVorbisCommentData = readRawPacketData(raf);
+        ByteBuffer rawVorbisCommentData = readRawPacketBuffer(raf);
 
         //Begin tag reading
         VorbisCommentTag tag = vorbisCommentReader.read(rawVorbisCommentData, true);
@@ -84,10 +87,10 @@ public class OggVorbisTagReader
      * @throws CannotReadException
      * @throws IOException
      */
-    public int readOggVorbisRawSize(RandomAccessFile raf) throws CannotReadException, IOException
+    public int readOggVorbisRawSize(RandomAccessSource raf) throws CannotReadException, IOException
     {
-        byte[] rawVorbisCommentData = readRawPacketData(raf);
-        return rawVorbisCommentData.length + VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH;
+        ByteBuffer rawVorbisCommentData = readRawPacketBuffer(raf);
+        return rawVorbisCommentData.remaining() + VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH;
     }
 
     /**
@@ -98,7 +101,26 @@ public class OggVorbisTagReader
      * @throws CannotReadException if unable to find vorbiscomment header
      * @throws IOException
      */
-    public byte[] readRawPacketData(RandomAccessFile raf) throws CannotReadException, IOException
+    public byte[] readRawPacketData(RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        ByteBuffer rawVorbisCommentData = readRawPacketBuffer(raf);
+        byte[] b = new byte[rawVorbisCommentData.remaining()];
+        rawVorbisCommentData.get(b);
+        return b;
+    }
+
+    /**
+     * Retrieve the raw VorbisComment packet data as a buffer, does not include the OggVorbis header
+     * <p/>
+     * The packet data of each page is read straight into the buffer, so it is only copied once however many pages
+     * the packet spans
+     *
+     * @param raf
+     * @return buffer holding the packet data between its position and limit
+     * @throws CannotReadException if unable to find vorbiscomment header
+     * @throws IOException
+     */
+    public ByteBuffer readRawPacketBuffer(RandomAccessSource raf) throws CannotReadException, IOException
     {
         logger.fine("Read 1st page");
         //1st page = codec infos
@@ -119,8 +141,7 @@ public class OggVorbisTagReader
         }
 
         //Convert the comment raw data which maybe over many pages back into raw packet
-        byte[] rawVorbisCommentData = convertToVorbisCommentPacket(pageHeader, raf);
-        return rawVorbisCommentData;
+        return convertToVorbisCommentPacket(pageHeader, raf);
     }
 
 
@@ -159,26 +180,25 @@ public class OggVorbisTagReader
      * @throws java.io.IOException
      * @return
      */
-    private byte[] convertToVorbisCommentPacket(OggPageHeader startVorbisCommentPage, RandomAccessFile raf) throws IOException, CannotReadException
+    private ByteBuffer convertToVorbisCommentPacket(OggPageHeader startVorbisCommentPage, RandomAccessSource raf) throws IOException, CannotReadException
     {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        byte[] b = new byte[startVorbisCommentPage.getPacketList().get(0).getLength() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH)];
-        raf.read(b);
-        baos.write(b);
+        ByteBuffer packet = readPacketData(null, startVorbisCommentPage.getPacketList().get(0).getLength() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH), raf);
 
         //Because there is at least one other packet (SetupHeaderPacket) this means the Comment Packet has finished
         //on this page so thats all we need and we can return
         if (startVorbisCommentPage.getPacketList().size() > 1)
         {
             logger.config("Comments finish on 2nd Page because there is another packet on this page");
-            return baos.toByteArray();
+            packet.flip();
+            return packet;
         }
 
         //There is only the VorbisComment packet on page if it has completed on this page we can return
         if (!startVorbisCommentPage.isLastPacketIncomplete())
         {
             logger.config("Comments finish on 2nd Page because this packet is complete");
-            return baos.toByteArray();
+            packet.flip();
+            return packet;
         }
 
         //The VorbisComment extends to the next page, so should be at end of page already
@@ -187,27 +207,55 @@ public class OggVorbisTagReader
         {
             logger.config("Reading next page");
             OggPageHeader nextPageHeader = OggPageHeader.read(raf);
-            b = new byte[nextPageHeader.getPacketList().get(0).getLength()];
-            raf.read(b);
-            baos.write(b);
+            packet = readPacketData(packet, nextPageHeader.getPacketList().get(0).getLength(), raf);
 
             //Because there is at least one other packet (SetupHeaderPacket) this means the Comment Packet has finished
             //on this page so thats all we need and we can return
             if (nextPageHeader.getPacketList().size() > 1)
             {
                 logger.config("Comments finish on Page because there is another packet on this page");
-                return baos.toByteArray();
+                packet.flip();
+                return packet;
             }
 
             //There is only the VorbisComment packet on page if it has completed on this page we can return
             if (!nextPageHeader.isLastPacketIncomplete())
             {
                 logger.config("Comments finish on Page because this packet is complete");
-                return baos.toByteArray();
+                packet.flip();
+                return packet;
             }
         }
     }
 
+    /**
+     * Read length bytes from the current file position onto the end of the packet, growing the packet buffer if
+     * required. The buffer is at least doubled when it grows so a packet spanning many pages is not copied per page.
+     *
+     * @param packet buffer in write mode, or null to create one
+     * @param length
+     * @param raf
+     * @return the buffer holding the packet which may not be the one passed in
+     * @throws IOException
+     */
+    private ByteBuffer readPacketData(ByteBuffer packet, int length, RandomAccessSource raf) throws IOException
+    {
+        if (packet == null)
+        {
+            packet = ByteBuffer.allocate(length);
+        }
+        else if (packet.remaining() < length)
+        {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(packet.capacity() * 2, packet.position() + length));
+            packet.flip();
+            larger.put(packet);
+            packet = larger;
+        }
+        raf.readFully(packet.array(), packet.arrayOffset() + packet.position(), length);
+        packet.position(packet.position() + length);
+        return packet;
+    }
+
     /**
      * The Vorbis Setup Header may span multiple(2) pages, athough it doesnt normally. We pass the start of the
      * file offset of the OggPage it belongs on, it probably won't be first packet.
@@ -217,7 +265,7 @@ public class OggVorbisTagReader
      * @throws java.io.IOException
      * @return
      */
-    public byte[] convertToVorbisSetupHeaderPacket(long fileOffsetOfStartingOggPage, RandomAccessFile raf) throws IOException, CannotReadException
+    public byte[] convertToVorbisSetupHeaderPacket(long fileOffsetOfStartingOggPage, RandomAccessSource raf) throws IOException, CannotReadException
     {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
@@ -304,7 +352,7 @@ public class OggVorbisTagReader
      * @throws java.io.IOException
      * @return
      */
-    public byte[] convertToVorbisSetupHeaderPacketAndAdditionalPackets(long fileOffsetOfStartingOggPage, RandomAccessFile raf) throws IOException, CannotReadException
+    public byte[] convertToVorbisSetupHeaderPacketAndAdditionalPackets(long fileOffsetOfStartingOggPage, RandomAccessSource raf) throws IOException, CannotReadException
     {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
@@ -398,7 +446,7 @@ public class OggVorbisTagReader
      * @throws CannotReadException
      * @throws IOException
      */
-    public OggVorbisHeaderSizes readOggVorbisHeaderSizes(RandomAccessFile raf) throws CannotReadException, IOException
+    public OggVorbisHeaderSizes readOggVorbisHeaderSizes(RandomAccessSource raf) throws CannotReadException, IOException
     {
         logger.fine("Started to read comment and setup header sizes:");
 
@@ -429,7 +477,7 @@ public class OggVorbisTagReader
             throw new CannotReadException("Cannot find comment block (no vorbiscomment header)");
         }
         raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-        logger.config("Found start of comment header at:" + raf.getFilePointer());
+        Log.log(logger, Level.CONFIG, "Found start of comment header at:{}", raf.getFilePointer());
 
         //Calculate Comment Size (not inc header)
         while (true)
@@ -443,7 +491,7 @@ public class OggVorbisTagReader
             if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
             {
                 //done comment size
-                logger.config("Found end of comment:size:" + commentHeaderSize + "finishes at file position:" + raf.getFilePointer());
+                Log.log(logger, Level.CONFIG, "Found end of comment:size:{}finishes at file position:{}", commentHeaderSize, raf.getFilePointer());
                 break;
             }
             pageHeader = OggPageHeader.read(raf);
@@ -465,14 +513,14 @@ public class OggVorbisTagReader
                 throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_VORBIS_HEADER_FOUND.getMsg());
             }
             raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-            logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            Log.log(logger, Level.CONFIG, "Found start of vorbis setup header at file position:{}", raf.getFilePointer());
 
             //Set this to the  start of the OggPage that setupheader was found on
             setupHeaderStartPosition = raf.getFilePointer() - (OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
 
             //Add packet data to size to the setup header size
             setupHeaderSize = packet.getLength();
-            logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            Log.log(logger, Level.FINE, "Adding:{} to setup header size", packet.getLength());
 
             //Skip over the packet data
             raf.skipBytes(packet.getLength());
@@ -481,7 +529,7 @@ public class OggVorbisTagReader
             //got the size of the setup header.
             if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
             {
-                logger.config("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                Log.log(logger, Level.CONFIG, "Found end of setupheader:size:{}finishes at:{}", setupHeaderSize, raf.getFilePointer());
                 if (packetList.size() > 1)
                 {
                     extraPackets = packetList.subList(1, packetList.size());
@@ -495,12 +543,12 @@ public class OggVorbisTagReader
                 while (true)
                 {
                     setupHeaderSize += packetList.get(0).getLength();
-                    logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    Log.log(logger, Level.FINE, "Adding:{} to setup header size", packetList.get(0).getLength());
                     raf.skipBytes(packetList.get(0).getLength());
                     if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
                     {
                         //done setup size
-                        logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        Log.log(logger, Level.FINE, "Found end of setupheader:size:{}finishes at:{}", setupHeaderSize, raf.getFilePointer());
                         if (packetList.size() > 1)
                         {
                             extraPackets = packetList.subList(1, packetList.size());
@@ -527,7 +575,7 @@ public class OggVorbisTagReader
                 throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_VORBIS_HEADER_FOUND.getMsg());
             }
             raf.seek(raf.getFilePointer() - (VorbisHeader.FIELD_PACKET_TYPE_LENGTH + VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH));
-            logger.config("Found start of vorbis setup header at file position:" + raf.getFilePointer());
+            Log.log(logger, Level.CONFIG, "Found start of vorbis setup header at file position:{}", raf.getFilePointer());
 
             //Set this to the  start of the OggPage that setupheader was found on
             setupHeaderStartPosition = raf.getFilePointer() - (OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length)
@@ -535,7 +583,7 @@ public class OggVorbisTagReader
 
             //Add packet data to size to the setup header size
             setupHeaderSize = packet.getLength();
-            logger.fine("Adding:" + packet.getLength() + " to setup header size");
+            Log.log(logger, Level.FINE, "Adding:{} to setup header size", packet.getLength());
 
             //Skip over the packet data
             raf.skipBytes(packet.getLength());
@@ -544,7 +592,7 @@ public class OggVorbisTagReader
             //got the size of the setup header.
             if (packetList.size() > 2 || !pageHeader.isLastPacketIncomplete())
             {
-                logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                Log.log(logger, Level.FINE, "Found end of setupheader:size:{}finishes at:{}", setupHeaderSize, raf.getFilePointer());
                 if (packetList.size() > 2)
                 {
                     extraPackets = packetList.subList(2, packetList.size());
@@ -558,12 +606,12 @@ public class OggVorbisTagReader
                 while (true)
                 {
                     setupHeaderSize += packetList.get(0).getLength();
-                    logger.fine("Adding:" + packetList.get(0).getLength() + " to setup header size");
+                    Log.log(logger, Level.FINE, "Adding:{} to setup header size", packetList.get(0).getLength());
                     raf.skipBytes(packetList.get(0).getLength());
                     if (packetList.size() > 1 || !pageHeader.isLastPacketIncomplete())
                     {
                         //done setup size
-                        logger.fine("Found end of setupheader:size:" + setupHeaderSize + "finishes at:" + raf.getFilePointer());
+                        Log.log(logger, Level.FINE, "Found end of setupheader:size:{}finishes at:{}", setupHeaderSize, raf.getFilePointer());
                         if (packetList.size() > 1)
                         {
                             extraPackets = packetList.subList(1, packetList.size());
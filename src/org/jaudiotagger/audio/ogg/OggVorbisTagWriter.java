@@ -21,9 +21,14 @@ package org.jaudiotagger.audio.ogg;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.generic.Cancellation;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
 
 import java.io.ByteArrayOutputStream;
@@ -32,6 +37,8 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -44,14 +51,19 @@ public class OggVorbisTagWriter
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
 
-    private OggVorbisCommentTagCreator tc = new OggVorbisCommentTagCreator();
-    private OggVorbisTagReader reader = new OggVorbisTagReader();
+    //Count of writes and of those that were done in place
+    private static final AtomicLong writeCount = new AtomicLong();
+    private static final AtomicLong inPlaceWriteCount = new AtomicLong();
+
+    //Neither holds state so they can be shared by concurrent writes
+    private final OggVorbisCommentTagCreator tc = new OggVorbisCommentTagCreator();
+    private final OggVorbisTagReader reader = new OggVorbisTagReader();
 
     public void delete(RandomAccessFile raf, RandomAccessFile tempRaf) throws IOException, CannotReadException, CannotWriteException
     {
         try
         {
-            reader.read(raf);
+            reader.read(new RandomAccessSource(raf));
         }
         catch (CannotReadException e)
         {
@@ -69,45 +81,63 @@ public class OggVorbisTagWriter
     public void write(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException
     {
         logger.config("Starting to write file:");
+        writeCount.incrementAndGet();
 
         //1st Page:Identification Header
         logger.fine("Read 1st Page:identificationHeader:");
         OggPageHeader pageHeader = OggPageHeader.read(raf);
-        raf.seek(pageHeader.getStartByte());
-
-        //Write 1st page (unchanged) and place writer pointer at end of data
-        rafTemp.getChannel().transferFrom(raf.getChannel(), 0, pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
-        rafTemp.skipBytes(pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
-        logger.fine("Written identificationHeader:");
+        raf.seek(raf.getFilePointer() + pageHeader.getPageLength());
 
         //2nd page:Comment and Setup if there is enough room, may also (although not normally) contain audio frames
         OggPageHeader secondPageHeader = OggPageHeader.read(raf);
 
         //2nd Page:Store the end of Header
         long secondPageHeaderEndPos = raf.getFilePointer();
-        logger.fine("Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:" + secondPageHeaderEndPos);
+        Log.log(logger, Level.FINE, "Read 2nd Page:comment and setup and possibly audio:Header finishes at file position:{}", secondPageHeaderEndPos);
 
         //Get header sizes
         raf.seek(0);
-        OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes = reader.readOggVorbisHeaderSizes(raf);
+        OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes = reader.readOggVorbisHeaderSizes(new RandomAccessSource(raf));
 
-        //Convert the OggVorbisComment header to raw packet data
+        //If the new comment fits within the existing comment packet the 2nd page can be updated in place
         ByteBuffer newComment = tc.convert(tag);
+        if (newComment.capacity() <= vorbisHeaderSizes.getCommentHeaderSize() && isSecondPageOnly(secondPageHeader))
+        {
+            ByteBuffer paddedComment = tc.convert(tag, vorbisHeaderSizes.getCommentHeaderSize() - newComment.capacity());
+            if (replaceSecondPageInPlace(vorbisHeaderSizes, secondPageHeader, paddedComment, secondPageHeaderEndPos, raf))
+            {
+                inPlaceWriteCount.incrementAndGet();
+                return;
+            }
+        }
+
+        //Otherwise rewrite the file, reserving padding if required
+        int paddingSize = TagOptions.current().getOggVorbisCommentPaddingSize();
+        if (paddingSize > 0)
+        {
+            newComment = tc.convert(tag, paddingSize);
+        }
+
+        //Write 1st page (unchanged) and place writer pointer at end of data
+        raf.seek(pageHeader.getStartByte());
+        rafTemp.getChannel().transferFrom(raf.getChannel(), 0, pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
+        rafTemp.skipBytes(pageHeader.getPageLength() + OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + pageHeader.getSegmentTable().length);
+        logger.fine("Written identificationHeader:");
 
         //Compute new comment length(this may need to be spread over multiple pages)
         int newCommentLength = newComment.capacity();
 
         //Calculate new size of new 2nd page
         int newSecondPageDataLength = vorbisHeaderSizes.getSetupHeaderSize() + newCommentLength + vorbisHeaderSizes.getExtraPacketDataSize();
-        logger.fine("Old 2nd Page no of packets: " + secondPageHeader.getPacketList().size());
-        logger.fine("Old 2nd Page size: " + secondPageHeader.getPageLength());
-        logger.fine("Old last packet incomplete: " + secondPageHeader.isLastPacketIncomplete());
-        logger.fine("Setup Header Size: " + vorbisHeaderSizes.getSetupHeaderSize());
-        logger.fine("Extra Packets: " + vorbisHeaderSizes.getExtraPacketList().size());
-        logger.fine("Extra Packet Data Size: " + vorbisHeaderSizes.getExtraPacketDataSize());
-        logger.fine("Old comment: " + vorbisHeaderSizes.getCommentHeaderSize());
-        logger.fine("New comment: " + newCommentLength);
-        logger.fine("New Page Data Size: " + newSecondPageDataLength);
+        Log.log(logger, Level.FINE, "Old 2nd Page no of packets: {}", secondPageHeader.getPacketList().size());
+        Log.log(logger, Level.FINE, "Old 2nd Page size: {}", secondPageHeader.getPageLength());
+        Log.log(logger, Level.FINE, "Old last packet incomplete: {}", secondPageHeader.isLastPacketIncomplete());
+        Log.log(logger, Level.FINE, "Setup Header Size: {}", vorbisHeaderSizes.getSetupHeaderSize());
+        Log.log(logger, Level.FINE, "Extra Packets: {}", vorbisHeaderSizes.getExtraPacketList().size());
+        Log.log(logger, Level.FINE, "Extra Packet Data Size: {}", vorbisHeaderSizes.getExtraPacketDataSize());
+        Log.log(logger, Level.FINE, "Old comment: {}", vorbisHeaderSizes.getCommentHeaderSize());
+        Log.log(logger, Level.FINE, "New comment: {}", newCommentLength);
+        Log.log(logger, Level.FINE, "New Page Data Size: {}", newSecondPageDataLength);
         //Second Page containing new vorbis, setup and possibly some extra packets can fit on one page
         if (isCommentAndSetupHeaderFitsOnASinglePage(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList()))
         {
@@ -120,7 +150,7 @@ public class OggVorbisTagWriter
             //   OR
             //There are more than the packets in which case have complete setup header and some audio packets
             //we dont care if the last audio packet is split on next page as long as we preserve it
-            if ((secondPageHeader.getPageLength() < OggPageHeader.MAXIMUM_PAGE_DATA_SIZE) && (((secondPageHeader.getPacketList().size() == 2) && (!secondPageHeader.isLastPacketIncomplete())) || (secondPageHeader.getPacketList().size() > 2)))
+            if (isSecondPageOnly(secondPageHeader))
             {
                 logger.fine("Header and Setup remain on single page:");
                 replaceSecondPageOnly(vorbisHeaderSizes, newCommentLength, newSecondPageDataLength, secondPageHeader, newComment, secondPageHeaderEndPos, raf, rafTemp);
@@ -140,6 +170,80 @@ public class OggVorbisTagWriter
         }
     }
 
+    /**
+     * @return number of writes since the class was loaded
+     */
+    public static long getWriteCount()
+    {
+        return writeCount.get();
+    }
+
+    /**
+     * @return number of writes that updated the comment in place without rewriting the file
+     */
+    public static long getInPlaceWriteCount()
+    {
+        return inPlaceWriteCount.get();
+    }
+
+    /**
+     * @param secondPageHeader
+     * @return true if the comment and setup header are wholly on the 2nd page
+     */
+    private boolean isSecondPageOnly(OggPageHeader secondPageHeader)
+    {
+        return (secondPageHeader.getPageLength() < OggPageHeader.MAXIMUM_PAGE_DATA_SIZE) && (((secondPageHeader.getPacketList().size() == 2) && (!secondPageHeader.isLastPacketIncomplete())) || (secondPageHeader.getPacketList().size() > 2));
+    }
+
+    /**
+     * The new comment has been padded to the size of the existing comment so the new 2nd page should be the same
+     * size as the existing one, if so overwrite the existing page in the original file
+     *
+     * @param vorbisHeaderSizes
+     * @param secondPageHeader
+     * @param newComment
+     * @param secondPageHeaderEndPos
+     * @param raf
+     * @return true if the page was replaced, false if the new page is a different size so the file must be rewritten
+     * @throws IOException
+     */
+    private boolean replaceSecondPageInPlace(
+            OggVorbisTagReader.OggVorbisHeaderSizes vorbisHeaderSizes,
+            OggPageHeader secondPageHeader,
+            ByteBuffer newComment,
+            long secondPageHeaderEndPos,
+            RandomAccessFile raf) throws IOException
+    {
+        int newCommentLength = newComment.capacity();
+        int newSecondPageLength = vorbisHeaderSizes.getSetupHeaderSize() + newCommentLength + vorbisHeaderSizes.getExtraPacketDataSize();
+        ByteBuffer secondPageBuffer = startCreateBasicSecondPage(vorbisHeaderSizes, newCommentLength, newSecondPageLength, secondPageHeader, newComment);
+        int oldSecondPageLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + secondPageHeader.getSegmentTable().length + secondPageHeader.getPageLength();
+        if (secondPageBuffer.capacity() != oldSecondPageLength)
+        {
+            Log.log(logger, Level.FINE, "New 2nd page size:{} does not match old size:{}", secondPageBuffer.capacity(), oldSecondPageLength);
+            return false;
+        }
+
+        logger.fine("WriteOgg in place");
+        //Read in setup header and extra packets
+        long position = secondPageHeaderEndPos + vorbisHeaderSizes.getCommentHeaderSize();
+        while (secondPageBuffer.hasRemaining())
+        {
+            int read = raf.getChannel().read(secondPageBuffer, position);
+            if (read < 0)
+            {
+                return false;
+            }
+            position += read;
+        }
+        calculateChecksumOverPage(secondPageBuffer);
+
+        //Write through the file rather than its channel so an interrupt cannot stop the write partway
+        Cancellation.checkpoint();
+        Utils.write(raf, secondPageBuffer, secondPageHeader.getStartByte());
+        return true;
+    }
+
     /**
      * Calculate checkSum over the Page
      *
@@ -182,8 +286,8 @@ public class OggVorbisTagWriter
         logger.fine("WriteOgg Type 1");
         byte[] segmentTable = createSegmentTable(newCommentLength, vorbisHeaderSizes.getSetupHeaderSize(), vorbisHeaderSizes.getExtraPacketList());
         int newSecondPageHeaderLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + segmentTable.length;
-        logger.fine("New second page header length:" + newSecondPageHeaderLength);
-        logger.fine("No of segments:" + segmentTable.length);
+        Log.log(logger, Level.FINE, "New second page header length:{}", newSecondPageHeaderLength);
+        Log.log(logger, Level.FINE, "No of segments:{}", segmentTable.length);
 
         ByteBuffer secondPageBuffer = ByteBuffer.allocate(newSecondPageLength + newSecondPageHeaderLength);
         secondPageBuffer.order(ByteOrder.LITTLE_ENDIAN);
@@ -266,8 +370,8 @@ public class OggVorbisTagWriter
 
         //Add setup header and packets
         int pageSequence = secondPageHeader.getPageSequence();
-        byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), raf);
-        logger.finest(setupHeaderData.length + ":" + secondPageBuffer.position() + ":" + secondPageBuffer.capacity());
+        byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), new RandomAccessSource(raf));
+        Log.log(logger, Level.FINEST, "{}:{}:{}", setupHeaderData.length, secondPageBuffer.position(), secondPageBuffer.capacity());
         secondPageBuffer.put(setupHeaderData);
 
         calculateChecksumOverPage(secondPageBuffer);
@@ -295,7 +399,7 @@ public class OggVorbisTagWriter
 
         //We need to work out how to split the newcommentlength over the pages
         int noOfCompletePagesNeededForComment = newCommentLength / OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.config("Comment requires:" + noOfCompletePagesNeededForComment + " complete pages");
+        Log.log(logger, Level.CONFIG, "Comment requires:{} complete pages", noOfCompletePagesNeededForComment);
 
         //Create the Pages
         int newCommentOffset = 0;
@@ -340,7 +444,7 @@ public class OggVorbisTagWriter
         }
 
         int lastPageCommentPacketSize = newCommentLength % OggPageHeader.MAXIMUM_PAGE_DATA_SIZE;
-        logger.fine("Last comment packet size:" + lastPageCommentPacketSize);
+        Log.log(logger, Level.FINE, "Last comment packet size:{}", lastPageCommentPacketSize);
 
         //End of comment and setup header cannot fit on the last page
         if (!isCommentAndSetupHeaderFitsOnASinglePage(lastPageCommentPacketSize, originalHeaderSizes.getSetupHeaderSize(), originalHeaderSizes.getExtraPacketList()))
@@ -367,7 +471,7 @@ public class OggVorbisTagWriter
                 {
                     pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
                 }
-                logger.fine("Writing Last Comment Page "+pageSequence +" to file");
+                Log.log(logger, Level.FINE, "Writing Last Comment Page {} to file", pageSequence);
                 pageSequence++;
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -377,7 +481,7 @@ public class OggVorbisTagWriter
             {
                 byte[] segmentTable = this.createSegmentTable(originalHeaderSizes.getSetupHeaderSize(),originalHeaderSizes.getExtraPacketList());
                 int pageHeaderLength = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + segmentTable.length;
-                byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), raf);
+                byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), new RandomAccessSource(raf));
                 ByteBuffer pageBuffer = ByteBuffer.allocate(setupHeaderData.length + pageHeaderLength);
                 pageBuffer.order(ByteOrder.LITTLE_ENDIAN);
                 pageBuffer.put(secondPageHeader.getRawHeaderData(), 0, OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH - 1);
@@ -389,7 +493,7 @@ public class OggVorbisTagWriter
                 pageBuffer.put(setupHeaderData);
                 pageBuffer.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, pageSequence);
                 //pageBuffer.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, OggPageHeader.HeaderTypeFlag.CONTINUED_PACKET.getFileValue());
-                logger.fine("Writing Setup Header and packets Page "+pageSequence +" to file");
+                Log.log(logger, Level.FINE, "Writing Setup Header and packets Page {} to file", pageSequence);
 
                 calculateChecksumOverPage(pageBuffer);
                 rafTemp.getChannel().write(pageBuffer);
@@ -415,7 +519,7 @@ public class OggVorbisTagWriter
 
             //Add setup Header and Extra Packets (although it will fit in this page, it may be over multiple pages in its original form
             //so need to use this function to convert to raw data
-            byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), raf);
+            byte[] setupHeaderData = reader.convertToVorbisSetupHeaderPacketAndAdditionalPackets(originalHeaderSizes.getSetupHeaderStartPosition(), new RandomAccessSource(raf));
             lastHeaderBuffer.put(setupHeaderData);
 
             //Page Sequence No
@@ -488,7 +592,7 @@ public class OggVorbisTagWriter
         //less pages before then there used to be, so need to adjust
         long startAudio = raf.getFilePointer();
         long startAudioWritten = rafTemp.getFilePointer();
-        logger.fine("Writing audio, audio starts in original file at :" + startAudio + ":Written to:" + startAudioWritten);
+        Log.log(logger, Level.FINE, "Writing audio, audio starts in original file at :{}:Written to:{}", startAudio, startAudioWritten);
         while (raf.getFilePointer() < raf.length())
         {
             logger.fine("Reading Ogg Page");
@@ -527,7 +631,7 @@ public class OggVorbisTagWriter
      */
     private byte[] createSegmentTable(int newCommentLength, int setupHeaderLength, List<OggPageHeader.PacketStartAndLength> extraPackets)
     {
-        logger.finest("Create SegmentTable CommentLength:" + newCommentLength + ":SetupHeaderLength:" + setupHeaderLength);
+        Log.log(logger, Level.FINEST, "Create SegmentTable CommentLength:{}:SetupHeaderLength:{}", newCommentLength, setupHeaderLength);
         ByteArrayOutputStream resultBaos = new ByteArrayOutputStream();
 
         byte[] newStart;
@@ -559,8 +663,8 @@ public class OggVorbisTagWriter
             restShouldBe = createSegments(setupHeaderLength, false);
         }
 
-        logger.finest("Created " + newStart.length + " segments for header");
-        logger.finest("Created " + restShouldBe.length + " segments for setup");
+        Log.log(logger, Level.FINEST, "Created {} segments for header", newStart.length);
+        Log.log(logger, Level.FINEST, "Created {} segments for setup", restShouldBe.length);
 
         try
         {
@@ -570,7 +674,7 @@ public class OggVorbisTagWriter
             {
                 //Packets are being copied literally not converted from a length, so always pass
                 //false parameter, TODO is this statement correct
-                logger.finer("Creating segments for " + extraPackets.size() + " packets");
+                Log.log(logger, Level.FINER, "Creating segments for {} packets", extraPackets.size());
                 for (OggPageHeader.PacketStartAndLength packet : extraPackets)
                 {
                     nextPacket = createSegments(packet.getLength(), false);
@@ -644,7 +748,10 @@ public class OggVorbisTagWriter
     //this will return 256 segments which is illegal, should be checked somewhere
     private byte[] createSegments(int length, boolean quitStream)
     {
-        logger.finest("Create Segments for length:" + length + ":QuitStream:" + quitStream);
+        if (logger.isLoggable(Level.FINEST))
+        {
+            logger.finest("Create Segments for length:" + length + ":QuitStream:" + quitStream);
+        }
         //It is valid to have nil length packets
         if (length == 0)
         {
@@ -686,7 +793,7 @@ public class OggVorbisTagWriter
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment");
+        Log.log(logger, Level.FINEST, "Require:{} segments for comment", totalDataSize);
 
         if (setupHeaderLength == 0)
         {
@@ -700,7 +807,7 @@ public class OggVorbisTagWriter
                 totalDataSize++;
             }
         }
-        logger.finest("Require:" + totalDataSize + " segments for comment plus setup");
+        Log.log(logger, Level.FINEST, "Require:{} segments for comment plus setup", totalDataSize);
 
         for (OggPageHeader.PacketStartAndLength extraPacket : extraPacketList)
         {
@@ -718,7 +825,7 @@ public class OggVorbisTagWriter
             }
         }
 
-        logger.finest("Total No Of Segment If New Comment And Header Put On One Page:" + totalDataSize);
+        Log.log(logger, Level.FINEST, "Total No Of Segment If New Comment And Header Put On One Page:{}", totalDataSize);
         return totalDataSize <= OggPageHeader.MAXIMUM_NO_OF_SEGMENT_SIZE;
     }
 
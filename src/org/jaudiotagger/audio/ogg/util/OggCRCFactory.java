@@ -34,8 +34,13 @@ public class OggCRCFactory
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg");
 
-    private static long[] crc_lookup = new long[256];
-    private static boolean init = false;
+    //Filled when the class is loaded so it is safely visible to all threads
+    private static final long[] crc_lookup = new long[256];
+
+    static
+    {
+        init();
+    }
 
 
     public static void init()
@@ -58,7 +63,6 @@ public class OggCRCFactory
 
             crc_lookup[i] = (r);
         }
-        init = true;
     }
 
 
@@ -69,12 +73,6 @@ public class OggCRCFactory
 
     public static byte[] computeCRC(byte[] data)
     {
-
-        if (!init)
-        {
-            init();
-        }
-
         long crc_reg = 0;
 
         for (byte aData : data)
@@ -21,11 +21,11 @@ package org.jaudiotagger.audio.ogg.util;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
 import java.util.logging.Logger;
 import java.util.Arrays;
 
@@ -37,7 +37,7 @@ public class OggInfoReader
     // Logger Object
     public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.ogg.atom");
 
-    public GenericAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException
+    public GenericAudioHeader read(RandomAccessSource raf) throws CannotReadException, IOException
     {
         long start = raf.getFilePointer();
         GenericAudioHeader info = new GenericAudioHeader();
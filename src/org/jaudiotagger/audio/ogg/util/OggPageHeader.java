@@ -19,8 +19,10 @@
 package org.jaudiotagger.audio.ogg.util;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
 import java.io.IOException;
@@ -114,7 +116,7 @@ public class OggPageHeader
        {
            //byteBuffer
            int start = byteBuffer.position();
-           logger.fine("Trying to read OggPage at:" + start);
+           Log.log(logger, Level.FINE, "Trying to read OggPage at:{}", start);
 
            byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
            byteBuffer.get(b);
@@ -143,9 +145,21 @@ public class OggPageHeader
      * @throws CannotReadException
      */
     public static OggPageHeader read(RandomAccessFile raf) throws IOException, CannotReadException
+    {
+        return read(new RandomAccessSource(raf));
+    }
+
+    /**
+     * Read next PageHeader from source
+     * @param raf
+     * @return
+     * @throws IOException
+     * @throws CannotReadException
+     */
+    public static OggPageHeader read(RandomAccessSource raf) throws IOException, CannotReadException
     {
         long start = raf.getFilePointer();
-        logger.fine("Trying to read OggPage at:" + start);
+        Log.log(logger, Level.FINE, "Trying to read OggPage at:{}", start);
 
         byte[] b = new byte[OggPageHeader.CAPTURE_PATTERN.length];
         raf.read(b);
@@ -230,10 +244,7 @@ public class OggPageHeader
             isValid = true;
         }
 
-        if(logger.isLoggable(Level.CONFIG))
-        {
-            logger.config("Constructed OggPage:" + this.toString());
-        }
+        Log.log(logger, Level.CONFIG, "Constructed OggPage:{}", this);
     }
 
     private int u(int i)
@@ -251,7 +262,7 @@ public class OggPageHeader
 
     public double getAbsoluteGranulePosition()
     {
-        logger.fine("Number Of Samples: " + absoluteGranulePosition);
+        Log.log(logger, Level.FINE, "Number Of Samples: {}", absoluteGranulePosition);
         return this.absoluteGranulePosition;
     }
 
@@ -270,7 +281,7 @@ public class OggPageHeader
 
     public int getPageLength()
     {
-        logger.fine("This page length: " + pageLength);
+        Log.log(logger, Level.FINE, "This page length: {}", pageLength);
         return this.pageLength;
     }
 
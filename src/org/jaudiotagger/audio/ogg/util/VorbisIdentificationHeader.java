@@ -20,7 +20,9 @@ package org.jaudiotagger.audio.ogg.util;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.VorbisVersion;
+import org.jaudiotagger.logging.Log;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 
@@ -125,18 +127,18 @@ public class VorbisIdentificationHeader implements VorbisHeader
     public void decodeHeader(byte[] b)
     {
         int packetType = b[FIELD_PACKET_TYPE_POS];
-        logger.fine("packetType" + packetType);
+        Log.log(logger, Level.FINE, "packetType{}", packetType);
         String vorbis = Utils.getString(b, VorbisHeader.FIELD_CAPTURE_PATTERN_POS, VorbisHeader.FIELD_CAPTURE_PATTERN_LENGTH, "ISO-8859-1");
 
         if (packetType == VorbisPacketType.IDENTIFICATION_HEADER.getType() && vorbis.equals(CAPTURE_PATTERN))
         {
             this.vorbisVersion = b[7] + (b[8] << 8) + (b[9] << 16) + (b[10] << 24);
-            logger.fine("vorbisVersion" + vorbisVersion);
+            Log.log(logger, Level.FINE, "vorbisVersion{}", vorbisVersion);
             this.audioChannels = u(b[FIELD_AUDIO_CHANNELS_POS]);
-            logger.fine("audioChannels" + audioChannels);
+            Log.log(logger, Level.FINE, "audioChannels{}", audioChannels);
             this.audioSampleRate = u(b[12]) + (u(b[13]) << 8) + (u(b[14]) << 16) + (u(b[15]) << 24);
-            logger.fine("audioSampleRate" + audioSampleRate);
-            logger.fine("audioSampleRate" + b[12] + " " + b[13] + " " + b[14]);
+            Log.log(logger, Level.FINE, "audioSampleRate{}", audioSampleRate);
+            Log.log(logger, Level.FINE, "audioSampleRate{} {} {}", b[12], b[13], b[14]);
 
             //TODO is this right spec says signed
             this.bitrateMinimal = u(b[16]) + (u(b[17]) << 8) + (u(b[18]) << 16) + (u(b[19]) << 24);
@@ -146,7 +148,7 @@ public class VorbisIdentificationHeader implements VorbisHeader
             //byte blockSize1 = (byte) ( b[28] & 15 );
 
             int framingFlag = b[FIELD_FRAMING_FLAG_POS];
-            logger.fine("framingFlag" + framingFlag);
+            Log.log(logger, Level.FINE, "framingFlag{}", framingFlag);
             if (framingFlag != 0)
             {
                 isValid = true;
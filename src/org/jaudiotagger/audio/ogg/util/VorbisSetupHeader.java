@@ -1,7 +1,9 @@
 package org.jaudiotagger.audio.ogg.util;
 
 import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.logging.Log;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -33,7 +35,7 @@ public class VorbisSetupHeader implements VorbisHeader
     public void decodeHeader(byte[] b)
     {
         int packetType = b[FIELD_PACKET_TYPE_POS];
-        logger.fine("packetType" + packetType);
+        Log.log(logger, Level.FINE, "packetType{}", packetType);
         String vorbis = Utils.getString(b, FIELD_CAPTURE_PATTERN_POS, FIELD_CAPTURE_PATTERN_LENGTH, "ISO-8859-1");
         if (packetType == VorbisPacketType.SETUP_HEADER.getType() && vorbis.equals(CAPTURE_PATTERN))
         {
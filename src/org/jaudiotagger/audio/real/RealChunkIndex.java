@@ -0,0 +1,129 @@
+package org.jaudiotagger.audio.real;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.ProbeChannel;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.logging.Log;
+
+/**
+ * Index of the chunks of a RealMedia file that hold the audio header and tag.
+ * <p/>
+ * Only the 8 byte header of each chunk is read, the file pointer is then moved past the chunk body, so the
+ * DATA chunk holding the media is never read. The bodies of the PROP and CONT chunks are loaded, and the walk
+ * stops as soon as both have been found.
+ */
+public class RealChunkIndex {
+
+	// Logger Object
+	public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.real");
+
+	private static final int CHUNK_HEADER_LENGTH = 8;
+
+	private RealChunk prop;
+	private RealChunk cont;
+	private boolean complete = true;
+
+	private RealChunkIndex() {
+	}
+
+	/**
+	 * Build the index for the file, the file pointer is left at an undefined position
+	 *
+	 * @param raf
+	 * @return
+	 * @throws CannotReadException if the file is corrupt before the PROP chunk has been found
+	 * @throws IOException
+	 */
+	public static RealChunkIndex read(RandomAccessSource raf)
+			throws CannotReadException, IOException {
+		final RealChunkIndex index = new RealChunkIndex();
+		final long fileLength = raf.length();
+		final ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_LENGTH);
+		final byte[] id = new byte[4];
+		long position = 0;
+		try {
+			while (position + CHUNK_HEADER_LENGTH <= fileLength
+					&& (index.prop == null || index.cont == null)) {
+				header.clear();
+				while (header.hasRemaining()) {
+					if (raf.getChannel().read(header, position + header.position()) < 0) {
+						throw new EOFException("RealAudio chunk header at position " + position + " is cut short");
+					}
+				}
+				header.flip();
+				header.get(id);
+				final String chunkId = new String(id, "ISO-8859-1");
+				final long size = header.getInt() & 0xFFFFFFFFL;
+				if (size < CHUNK_HEADER_LENGTH) {
+					if (index.prop == null) {
+						throw new CannotReadException(
+								"Corrupt file: RealAudio chunk length at position "
+										+ position + " cannot be less than 8");
+					}
+					logger.warning("RealAudio chunk length at position " + position
+							+ " is less than 8, ignoring rest of file");
+					break;
+				}
+
+				if (logger.isLoggable(Level.FINEST)) {
+					Log.log(logger, Level.FINEST, "Found chunk {} size:{} at:{}", chunkId, size, position);
+				}
+				if ((RealChunk.PROP.equals(chunkId) && index.prop == null)
+						|| (RealChunk.CONT.equals(chunkId) && index.cont == null)) {
+					if (size > fileLength - position) {
+						throw new CannotReadException(
+								"Corrupt file: RealAudio chunk length of " + size
+										+ " at position " + position
+										+ " extends beyond the end of the file");
+					}
+					final byte[] bytes = new byte[(int) size - CHUNK_HEADER_LENGTH];
+					raf.seek(position + CHUNK_HEADER_LENGTH);
+					raf.readFully(bytes);
+					final RealChunk chunk = new RealChunk(chunkId, (int) size, bytes);
+					if (chunk.isPROP()) {
+						index.prop = chunk;
+					} else {
+						index.cont = chunk;
+					}
+				}
+				position += size;
+			}
+		} catch (IOException ioe) {
+			//When probing keep the PROP chunk for the audio header even if the budget was not enough to find the CONT chunk
+			if (index.prop == null || !ProbeChannel.isBudgetExceeded(raf.getChannel())) {
+				throw ioe;
+			}
+			Log.log(logger, Level.CONFIG, "Rest of RealAudio file is outside probe budget:{}", ioe.getMessage());
+			index.complete = false;
+		}
+		return index;
+	}
+
+	/**
+	 * @return the PROP chunk holding the file properties, or null if the file has none
+	 */
+	public RealChunk getPropChunk() {
+		return prop;
+	}
+
+	/**
+	 * @return the CONT chunk holding the content description, or null if the file has none
+	 */
+	public RealChunk getContChunk() {
+		return cont;
+	}
+
+	/**
+	 * @return false if the file was being probed and the budget ran out before the CONT chunk was found, so
+	 *         {@link #getContChunk()} does not tell whether the file has one
+	 */
+	public boolean isComplete() {
+		return complete;
+	}
+}
@@ -1,28 +1,91 @@
 package org.jaudiotagger.audio.real;
 
+import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.AudioFileReader;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.tag.FieldDataInvalidException;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.Tag;
 
 import java.io.DataInputStream;
+import java.io.File;
 import java.io.IOException;
-import java.io.RandomAccessFile;
 
 /**
  * Real Media File Format: Major Chunks: .RMF PROP MDPR CONT DATA INDX
+ * <p/>
+ * The chunks are located with a {@link RealChunkIndex} so only the PROP and CONT chunks are read, when reading
+ * the whole file the one index is used for both the audio header and the tag.
  */
 public class RealFileReader extends AudioFileReader
 {
+    /**
+     * The source being read by {@link #read(File, RandomAccessSource)} on this thread and its index once built
+     */
+    private final ThreadLocal<SourceIndex> readIndex = new ThreadLocal<SourceIndex>();
+
+    private static class SourceIndex
+    {
+        private final RandomAccessSource source;
+        private RealChunkIndex index;
+
+        private SourceIndex(RandomAccessSource source)
+        {
+            this.source = source;
+        }
+    }
 
     @Override
-    protected GenericAudioHeader getEncodingInfo(RandomAccessFile raf) throws CannotReadException, IOException
+    protected AudioFile read(File f, RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        readIndex.set(new SourceIndex(raf));
+        try
+        {
+            return super.read(f, raf);
+        }
+        finally
+        {
+            readIndex.remove();
+        }
+    }
+
+    /**
+     * @param raf
+     * @return the index of the source, when called during a read the index is only built once
+     * @throws CannotReadException
+     * @throws IOException
+     */
+    private RealChunkIndex getIndex(RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        SourceIndex sourceIndex = readIndex.get();
+        if (sourceIndex == null || sourceIndex.source != raf)
+        {
+            return RealChunkIndex.read(raf);
+        }
+        if (sourceIndex.index == null)
+        {
+            sourceIndex.index = RealChunkIndex.read(raf);
+        }
+        return sourceIndex.index;
+    }
+
+    @Override
+    protected GenericAudioHeader getEncodingInfo(RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        return getEncodingInfo(getIndex(raf));
+    }
+
+    private GenericAudioHeader getEncodingInfo(RealChunkIndex index) throws CannotReadException, IOException
     {
         final GenericAudioHeader rv = new GenericAudioHeader();
-        final RealChunk prop = findPropChunk(raf);
+        final RealChunk prop = index.getPropChunk();
+        if (prop == null)
+        {
+            throw new CannotReadException("Corrupt file: RealAudio file has no PROP chunk");
+        }
         final DataInputStream dis = prop.getDataInputStream();
         final int objVersion = Utils.readUint16(dis);
         if (objVersion == 0)
@@ -45,26 +108,23 @@ public class RealFileReader extends AudioFileReader
         return rv;
     }
 
-    private RealChunk findPropChunk(RandomAccessFile raf) throws IOException, CannotReadException
-    {
-        final RealChunk rmf = RealChunk.readChunk(raf);
-        final RealChunk prop = RealChunk.readChunk(raf);
-        return prop;
-    }
-
-    private RealChunk findContChunk(RandomAccessFile raf) throws IOException, CannotReadException
+    @Override
+    protected Tag getTag(RandomAccessSource raf) throws CannotReadException, IOException
     {
-        final RealChunk rmf = RealChunk.readChunk(raf);
-        final RealChunk prop = RealChunk.readChunk(raf);
-        RealChunk rv = RealChunk.readChunk(raf);
-        while (!rv.isCONT()) rv = RealChunk.readChunk(raf);
-        return rv;
+        return getTag(getIndex(raf));
     }
 
-    @Override
-    protected Tag getTag(RandomAccessFile raf) throws CannotReadException, IOException
+    private Tag getTag(RealChunkIndex index) throws CannotReadException, IOException
     {
-        final RealChunk cont = findContChunk(raf);
+        final RealChunk cont = index.getContChunk();
+        if (cont == null)
+        {
+            if (!index.isComplete())
+            {
+                throw new CannotReadException("RealAudio CONT chunk is outside the probe budget");
+            }
+            return new RealTag();
+        }
         final DataInputStream dis = cont.getDataInputStream();
         final String title = Utils.readString(dis, Utils.readUint16(dis));
         final String author = Utils.readString(dis, Utils.readUint16(dis));
@@ -18,6 +18,7 @@
  */
 package org.jaudiotagger.audio.wav;
 
+import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.exceptions.CannotWriteException;
 import org.jaudiotagger.audio.generic.AudioFileWriter;
 import org.jaudiotagger.tag.Tag;
@@ -25,15 +26,23 @@ import org.jaudiotagger.tag.Tag;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 
+/**
+ * Write Wav metadata
+ * <p/>
+ * The metadata chunks are updated in place in the original file, the temporary file is never written to so the
+ * audio data is not copied.
+ */
 public class WavFileWriter extends AudioFileWriter
 {
-    protected void writeTag(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotWriteException, IOException
+    private WavTagWriter tw = new WavTagWriter();
+
+    protected void writeTag(Tag tag, RandomAccessFile raf, RandomAccessFile rafTemp) throws CannotReadException, CannotWriteException, IOException
     {
-        //Nothing to do for wav file, no tag are supported
+        tw.write((WavTag) tag, raf);
     }
 
-    protected void deleteTag(RandomAccessFile raf, RandomAccessFile tempRaf) throws CannotWriteException, IOException
+    protected void deleteTag(RandomAccessFile raf, RandomAccessFile tempRaf) throws CannotReadException, CannotWriteException, IOException
     {
-        //Nothing to do for wav file, no tag are supported
+        tw.delete(raf);
     }
-}
\ No newline at end of file
+}
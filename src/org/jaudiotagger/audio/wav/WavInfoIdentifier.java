@@ -0,0 +1,96 @@
+/*
+ * Entagged Audio Tag library
+ * Copyright (c) 2003-2005 Raphaël Slinckx <raphael@slinckx.net>
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jaudiotagger.audio.wav;
+
+import org.jaudiotagger.tag.FieldKey;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Subchunks of the RIFF LIST/INFO chunk that map to generic fields
+ * <p/>
+ * IPRT is not part of the original RIFF specification but is used by some applications for the track number, it is
+ * read but ITRK is always used when writing.
+ */
+public enum WavInfoIdentifier
+{
+    TITLE("INAM", FieldKey.TITLE),
+    ARTIST("IART", FieldKey.ARTIST),
+    ALBUM("IPRD", FieldKey.ALBUM),
+    COMMENT("ICMT", FieldKey.COMMENT),
+    YEAR("ICRD", FieldKey.YEAR),
+    GENRE("IGNR", FieldKey.GENRE),
+    TRACK("ITRK", FieldKey.TRACK),
+    TRACK_ALTERNATIVE("IPRT", FieldKey.TRACK),
+    ;
+
+    private static final Map<String, WavInfoIdentifier> CODE_TYPE_MAP = new HashMap<String, WavInfoIdentifier>();
+    private static final Map<FieldKey, WavInfoIdentifier> FIELDKEY_TYPE_MAP = new EnumMap<FieldKey, WavInfoIdentifier>(FieldKey.class);
+
+    static
+    {
+        for (WavInfoIdentifier next : WavInfoIdentifier.values())
+        {
+            CODE_TYPE_MAP.put(next.getCode(), next);
+            if (!FIELDKEY_TYPE_MAP.containsKey(next.getFieldKey()))
+            {
+                FIELDKEY_TYPE_MAP.put(next.getFieldKey(), next);
+            }
+        }
+    }
+
+    private final String code;
+    private final FieldKey fieldKey;
+
+    WavInfoIdentifier(String code, FieldKey fieldKey)
+    {
+        this.code = code;
+        this.fieldKey = fieldKey;
+    }
+
+    public String getCode()
+    {
+        return code;
+    }
+
+    public FieldKey getFieldKey()
+    {
+        return fieldKey;
+    }
+
+    /**
+     * @param code four character INFO subchunk id
+     * @return the identifier or null if the code does not map to a generic field
+     */
+    public static WavInfoIdentifier getByCode(String code)
+    {
+        return CODE_TYPE_MAP.get(code);
+    }
+
+    /**
+     * @param fieldKey
+     * @return the identifier used to write the field or null if the field cannot be stored in LIST/INFO
+     */
+    public static WavInfoIdentifier getByFieldKey(FieldKey fieldKey)
+    {
+        return FIELDKEY_TYPE_MAP.get(fieldKey);
+    }
+}
@@ -23,9 +23,43 @@ import org.jaudiotagger.tag.FieldDataInvalidException;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
 
+/**
+ * Wav metadata, held in the RIFF LIST/INFO chunk and optionally an id3 chunk
+ * <p/>
+ * The generic fields hold the LIST/INFO values, where a field was only found in the id3 chunk its value is also
+ * copied into the generic fields. INFO subchunks that do not map to a generic field are kept under their own
+ * four character id so they are not lost when the file is saved.
+ */
 public class WavTag extends GenericTag
 {
+    private AbstractID3v2Tag id3Tag;
+
+    /**
+     * @return the tag read from the id3 chunk, or null if the file has no id3 chunk
+     */
+    public AbstractID3v2Tag getID3Tag()
+    {
+        return id3Tag;
+    }
+
+    public void setID3Tag(AbstractID3v2Tag id3Tag)
+    {
+        this.id3Tag = id3Tag;
+    }
+
+    /**
+     * Add LIST/INFO subchunk that has no generic equivalent
+     *
+     * @param id    four character INFO id such as ISFT
+     * @param value
+     */
+    public void addInfoField(String id, String value)
+    {
+        addField(new GenericTagTextField(id, value));
+    }
+
     public String toString()
     {
         String output = "WAV " + super.toString();
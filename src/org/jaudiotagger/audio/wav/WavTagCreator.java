@@ -0,0 +1,212 @@
+/*
+ * Entagged Audio Tag library
+ * Copyright (c) 2003-2005 Raphaël Slinckx <raphael@slinckx.net>
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jaudiotagger.audio.wav;
+
+import org.jaudiotagger.audio.wav.util.WavChunkHeader;
+import org.jaudiotagger.tag.FieldDataInvalidException;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.KeyNotFoundException;
+import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagTextField;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.logging.Logger;
+
+/**
+ * Create the raw LIST/INFO and id3 chunks for a WavTag so they can be written to file
+ */
+public class WavTagCreator
+{
+    // Logger Object
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.wav");
+
+    /**
+     * Convert tag to the chunks that hold it, the LIST/INFO chunk followed by the id3 chunk if the tag has an
+     * id3 tag. Either may be omitted if it has no content, so the buffer may be empty.
+     *
+     * @param tag
+     * @return
+     * @throws IOException
+     */
+    public ByteBuffer convert(WavTag tag) throws IOException
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] info = convertInfo(tag);
+        if (info.length > 0)
+        {
+            writeChunk(baos, WavChunkHeader.LIST, info);
+        }
+
+        if (tag.getID3Tag() != null)
+        {
+            writeChunk(baos, WavChunkHeader.ID3, convertId3(tag));
+        }
+        return ByteBuffer.wrap(baos.toByteArray());
+    }
+
+    /**
+     * Create a JUNK chunk occupying exactly size bytes including its header
+     *
+     * @param size must be zero or at least the size of a chunk header
+     * @return
+     */
+    public static ByteBuffer createJunkChunk(long size)
+    {
+        ByteBuffer junk = ByteBuffer.allocate((int) size);
+        if (size >= WavChunkHeader.CHUNK_HEADER_LENGTH)
+        {
+            junk.put(WavChunkHeader.createHeader(WavChunkHeader.JUNK, size - WavChunkHeader.CHUNK_HEADER_LENGTH));
+        }
+        junk.rewind();
+        return junk;
+    }
+
+    private void writeChunk(ByteArrayOutputStream baos, String id, byte[] body) throws IOException
+    {
+        baos.write(WavChunkHeader.createHeader(id, body.length).array());
+        baos.write(body);
+        if ((body.length & 1) != 0)
+        {
+            baos.write(0);
+        }
+    }
+
+    /**
+     * @return body of LIST/INFO chunk, or empty array if there are no fields to write
+     */
+    private byte[] convertInfo(WavTag tag) throws IOException
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Iterator<TagField> fields = tag.getFields();
+        while (fields.hasNext())
+        {
+            TagField field = fields.next();
+            if (!(field instanceof TagTextField) || field.isEmpty())
+            {
+                continue;
+            }
+
+            String code = getInfoCode(field.getId());
+            if (code == null)
+            {
+                logger.warning("Unable to store field " + field.getId() + " in LIST/INFO chunk");
+                continue;
+            }
+            writeChunk(baos, code, encodeValue(((TagTextField) field).getContent()));
+        }
+
+        if (baos.size() == 0)
+        {
+            return new byte[0];
+        }
+        byte[] subchunks = baos.toByteArray();
+        ByteArrayOutputStream info = new ByteArrayOutputStream(subchunks.length + WavChunkHeader.CHUNK_ID_LENGTH);
+        info.write(WavChunkHeader.INFO.getBytes(TextEncoding.CHARSET_ISO_8859_1));
+        info.write(subchunks);
+        return info.toByteArray();
+    }
+
+    /**
+     * @param id field id, either a FieldKey name or the four character id of an unmapped INFO subchunk
+     * @return the INFO subchunk id or null if the field cannot be written to LIST/INFO
+     */
+    private String getInfoCode(String id)
+    {
+        try
+        {
+            WavInfoIdentifier identifier = WavInfoIdentifier.getByFieldKey(FieldKey.valueOf(id));
+            if (identifier != null)
+            {
+                return identifier.getCode();
+            }
+        }
+        catch (IllegalArgumentException iae)
+        {
+            //Not a generic field
+        }
+
+        if (id.length() == WavChunkHeader.CHUNK_ID_LENGTH && id.charAt(0) == 'I')
+        {
+            return id;
+        }
+        return null;
+    }
+
+    /**
+     * Values are written null terminated as ISO-8859-1 where possible for compatibility with older applications,
+     * otherwise as UTF-8
+     */
+    private byte[] encodeValue(String value) throws IOException
+    {
+        String terminated = value + '\0';
+        if (Charset.forName(TextEncoding.CHARSET_ISO_8859_1).newEncoder().canEncode(value))
+        {
+            return terminated.getBytes(TextEncoding.CHARSET_ISO_8859_1);
+        }
+        return terminated.getBytes(TextEncoding.CHARSET_UTF_8);
+    }
+
+    /**
+     * Update the id3 tag with the generic field values and convert to bytes
+     */
+    private byte[] convertId3(WavTag tag) throws IOException
+    {
+        AbstractID3v2Tag id3Tag = tag.getID3Tag();
+        for (WavInfoIdentifier next : WavInfoIdentifier.values())
+        {
+            FieldKey fieldKey = next.getFieldKey();
+            if (WavInfoIdentifier.getByFieldKey(fieldKey) != next)
+            {
+                continue;
+            }
+
+            try
+            {
+                String value = tag.getFirst(fieldKey);
+                if (value.length() > 0)
+                {
+                    id3Tag.setField(fieldKey, value);
+                }
+                else
+                {
+                    id3Tag.deleteField(fieldKey);
+                }
+            }
+            catch (KeyNotFoundException knfe)
+            {
+                logger.warning("Unable to update id3 field " + fieldKey + ":" + knfe.getMessage());
+            }
+            catch (FieldDataInvalidException fdie)
+            {
+                logger.warning("Unable to update id3 field " + fieldKey + ":" + fdie.getMessage());
+            }
+        }
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        id3Tag.write(Channels.newChannel(baos));
+        return baos.toByteArray();
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Entagged Audio Tag library
+ * Copyright (c) 2003-2005 Raphaël Slinckx <raphael@slinckx.net>
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jaudiotagger.audio.wav;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.audio.wav.util.WavChunkHeader;
+import org.jaudiotagger.audio.wav.util.WavChunkIndex;
+import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
+import org.jaudiotagger.tag.FieldDataInvalidException;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagException;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.id3.ID3v22Tag;
+import org.jaudiotagger.tag.id3.ID3v23Tag;
+import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Read the LIST/INFO and id3 chunks of a Wav file
+ * <p/>
+ * Only the bodies of the metadata chunks are read, their location comes from the {@link WavChunkIndex} so the
+ * audio data is never touched.
+ */
+public class WavTagReader
+{
+    // Logger Object
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.wav");
+
+    private static final int ID3_VERSION_OFFSET = 3;
+
+
+    public WavTag read(RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        return read(raf, WavChunkIndex.read(raf));
+    }
+
+    public WavTag read(RandomAccessSource raf, WavChunkIndex index) throws IOException
+    {
+        WavTag tag = new WavTag();
+        if (index.getInfoChunk() != null)
+        {
+            readInfoChunk(raf, index.getInfoChunk(), tag);
+        }
+
+        if (index.getId3Chunk() != null)
+        {
+            readId3Chunk(raf, index.getId3Chunk(), tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Read chunk body into buffer, truncated if the chunk claims to extend beyond the end of the file
+     */
+    private ByteBuffer readChunkData(RandomAccessSource raf, WavChunkHeader chunk) throws IOException
+    {
+        long available = raf.length() - chunk.getDataLocation();
+        int size = (int) Math.max(0, Math.min(chunk.getSize(), available));
+        ByteBuffer data = ByteBuffer.allocate(size);
+        raf.getChannel().read(data, chunk.getDataLocation());
+        data.flip();
+        return data;
+    }
+
+    private void readInfoChunk(RandomAccessSource raf, WavChunkHeader chunk, WavTag tag) throws IOException
+    {
+        ByteBuffer data = readChunkData(raf, chunk);
+        data.order(ByteOrder.LITTLE_ENDIAN);
+
+        //Skip the INFO list type
+        data.position(Math.min(data.limit(), WavChunkHeader.CHUNK_ID_LENGTH));
+        while (data.remaining() >= WavChunkHeader.CHUNK_HEADER_LENGTH)
+        {
+            byte[] id = new byte[WavChunkHeader.CHUNK_ID_LENGTH];
+            data.get(id);
+            long size = data.getInt() & 0xFFFFFFFFL;
+            if (size > data.remaining())
+            {
+                logger.warning("INFO subchunk " + new String(id, TextEncoding.CHARSET_ISO_8859_1) + " extends beyond end of LIST chunk");
+                break;
+            }
+
+            byte[] value = new byte[(int) size];
+            data.get(value);
+            if ((size & 1) != 0 && data.hasRemaining())
+            {
+                data.get();
+            }
+
+            String code = new String(id, TextEncoding.CHARSET_ISO_8859_1);
+            String text = decodeValue(value);
+            Log.log(logger, Level.FINER, "Read INFO subchunk {}:{}", code, text);
+
+            WavInfoIdentifier identifier = WavInfoIdentifier.getByCode(code);
+            try
+            {
+                if (identifier != null)
+                {
+                    tag.addField(identifier.getFieldKey(), text);
+                }
+                else
+                {
+                    tag.addInfoField(code, text);
+                }
+            }
+            catch (FieldDataInvalidException fdie)
+            {
+                logger.warning("Unable to add INFO subchunk " + code + ":" + fdie.getMessage());
+            }
+        }
+    }
+
+    /**
+     * INFO values are null terminated and traditionally ISO-8859-1 but many applications write UTF-8, so use
+     * UTF-8 if the bytes are valid UTF-8
+     */
+    private String decodeValue(byte[] value) throws IOException
+    {
+        int length = value.length;
+        while (length > 0 && value[length - 1] == 0)
+        {
+            length--;
+        }
+
+        try
+        {
+            return Charset.forName(TextEncoding.CHARSET_UTF_8).newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(value, 0, length)).toString();
+        }
+        catch (CharacterCodingException cce)
+        {
+            return new String(value, 0, length, TextEncoding.CHARSET_ISO_8859_1);
+        }
+    }
+
+    private void readId3Chunk(RandomAccessSource raf, WavChunkHeader chunk, WavTag tag) throws IOException
+    {
+        ByteBuffer data = readChunkData(raf, chunk);
+        if (data.limit() < AbstractID3v2Tag.TAG_HEADER_LENGTH
+                || data.get(0) != 'I' || data.get(1) != 'D' || data.get(2) != '3')
+        {
+            logger.warning(ErrorMessage.WAV_UNABLE_TO_READ_ID3_CHUNK.getMsg("no ID3 header"));
+            return;
+        }
+
+        AbstractID3v2Tag id3Tag;
+        try
+        {
+            switch (data.get(ID3_VERSION_OFFSET))
+            {
+                case ID3v22Tag.MAJOR_VERSION:
+                    id3Tag = new ID3v22Tag(data, "");
+                    break;
+                case ID3v23Tag.MAJOR_VERSION:
+                    id3Tag = new ID3v23Tag(data, "");
+                    break;
+                case ID3v24Tag.MAJOR_VERSION:
+                    id3Tag = new ID3v24Tag(data, "");
+                    break;
+                default:
+                    logger.warning(ErrorMessage.WAV_UNABLE_TO_READ_ID3_CHUNK.getMsg("unknown version " + data.get(ID3_VERSION_OFFSET)));
+                    return;
+            }
+        }
+        catch (TagException te)
+        {
+            logger.warning(ErrorMessage.WAV_UNABLE_TO_READ_ID3_CHUNK.getMsg(te.getMessage()));
+            return;
+        }
+        tag.setID3Tag(id3Tag);
+
+        //Fill in any generic fields not held in LIST/INFO
+        for (WavInfoIdentifier next : WavInfoIdentifier.values())
+        {
+            FieldKey fieldKey = next.getFieldKey();
+            if (tag.getFirst(fieldKey).length() == 0)
+            {
+                String value = id3Tag.getFirst(fieldKey);
+                if (value != null && value.length() > 0)
+                {
+                    try
+                    {
+                        tag.setField(fieldKey, value);
+                    }
+                    catch (FieldDataInvalidException fdie)
+                    {
+                        logger.warning("Unable to copy id3 field " + fieldKey + ":" + fdie.getMessage());
+                    }
+                }
+            }
+        }
+    }
+}
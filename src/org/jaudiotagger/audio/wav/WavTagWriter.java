@@ -0,0 +1,354 @@
+/*
+ * Entagged Audio Tag library
+ * Copyright (c) 2003-2005 Raphaël Slinckx <raphael@slinckx.net>
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jaudiotagger.audio.wav;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.generic.Cancellation;
+import org.jaudiotagger.audio.generic.Utils;
+import org.jaudiotagger.audio.wav.util.WavChunkHeader;
+import org.jaudiotagger.audio.wav.util.WavChunkIndex;
+import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Write the LIST/INFO and id3 chunks of a Wav file in place
+ * <p/>
+ * The audio data is never moved, so the cost of a write depends on the size of the metadata rather than the size
+ * of the file. The metadata is written either into an existing run of metadata and JUNK/PAD chunks before the data
+ * chunk if it fits, with any space left over filled with a JUNK chunk, or otherwise after the data chunk.
+ * Metadata chunks that are no longer used are blanked out as JUNK if before the data, or removed if after it.
+ * Only the RIFF size field and the metadata chunks are rewritten.
+ * <p/>
+ * Cancellation is checked before the first change, after that the writes go through the RandomAccessFile rather than
+ * its FileChannel so an interrupt cannot stop them partway and leave the file inconsistent.
+ */
+public class WavTagWriter
+{
+    // Logger Object
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.wav");
+
+    private WavTagCreator tc = new WavTagCreator();
+
+    /**
+     * Delete the LIST/INFO and id3 chunks from the file
+     *
+     * @param raf
+     * @throws CannotReadException
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void delete(RandomAccessFile raf) throws CannotReadException, CannotWriteException, IOException
+    {
+        write(raf, ByteBuffer.allocate(0));
+    }
+
+    /**
+     * Write tag to file
+     *
+     * @param tag
+     * @param raf
+     * @throws CannotReadException
+     * @throws CannotWriteException
+     * @throws IOException
+     */
+    public void write(WavTag tag, RandomAccessFile raf) throws CannotReadException, CannotWriteException, IOException
+    {
+        write(raf, tc.convert(tag));
+    }
+
+    private void write(RandomAccessFile raf, ByteBuffer metadata) throws CannotReadException, CannotWriteException, IOException
+    {
+        WavChunkIndex index = WavChunkIndex.read(raf);
+        WavChunkHeader dataChunk = index.getDataChunk();
+        if (dataChunk == null)
+        {
+            throw new CannotWriteException(ErrorMessage.WAV_NO_DATA_CHUNK_FOR_WRITE.getMsg());
+        }
+
+        List<WavChunkHeader> slot = null;
+        if (metadata.limit() > 0)
+        {
+            slot = findSlotBeforeData(index, metadata.limit());
+        }
+
+        //Work out the new length of the file before changing anything, so a file that cannot be written is left as is
+        Tail tail = readTail(raf, index, slot != null ? ByteBuffer.allocate(0) : metadata);
+        long newLength = tail != null ? tail.getEnd() : raf.length();
+        if (!index.isRf64() && newLength - WavChunkHeader.CHUNK_HEADER_LENGTH > 0xFFFFFFFFL)
+        {
+            throw new CannotWriteException(ErrorMessage.WAV_FILE_TOO_LARGE_FOR_RIFF.getMsg(newLength));
+        }
+
+        //Once the file starts changing the write is completed, the writes cannot be interrupted
+        Cancellation.checkpoint();
+
+        //Blank out metadata chunks before the audio that are not part of the slot
+        for (WavChunkHeader chunk : index.getChunks())
+        {
+            if (chunk.getStartLocation() >= dataChunk.getStartLocation())
+            {
+                break;
+            }
+
+            if (isMetadata(chunk) && (slot == null || !slot.contains(chunk)))
+            {
+                blankChunk(raf, chunk);
+            }
+        }
+
+        if (slot != null)
+        {
+            long start = slot.get(0).getStartLocation();
+            long length = slot.get(slot.size() - 1).getEndLocation() - start;
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                Log.log(logger, Level.CONFIG, "Writing metadata of size {} into slot of size {} at {}", metadata.limit(), length, start);
+            }
+            Utils.write(raf, metadata, start);
+            Utils.write(raf, WavTagCreator.createJunkChunk(length - metadata.limit()), start + metadata.limit());
+        }
+
+        if (tail != null)
+        {
+            writeTail(raf, index, tail);
+        }
+        updateRiffSize(raf, index);
+    }
+
+    /**
+     * @return true if chunk holds metadata managed by this writer
+     */
+    private boolean isMetadata(WavChunkHeader chunk)
+    {
+        return chunk.isInfoList() || chunk.isId3();
+    }
+
+    /**
+     * Find a run of adjacent metadata and padding chunks before the data chunk that can hold the metadata, the
+     * metadata has to fill the run exactly or leave enough space for a JUNK chunk header.
+     *
+     * @return the chunks making up the slot or null if no suitable slot exists
+     */
+    private List<WavChunkHeader> findSlotBeforeData(WavChunkIndex index, int metadataLength)
+    {
+        List<WavChunkHeader> run = new ArrayList<WavChunkHeader>();
+        for (WavChunkHeader chunk : index.getChunks())
+        {
+            if (chunk == index.getDataChunk())
+            {
+                break;
+            }
+
+            if (isMetadata(chunk) || chunk.isPadding())
+            {
+                run.add(chunk);
+                long runLength = chunk.getEndLocation() - run.get(0).getStartLocation();
+                if (runLength == metadataLength || runLength >= metadataLength + WavChunkHeader.CHUNK_HEADER_LENGTH)
+                {
+                    return run;
+                }
+            }
+            else
+            {
+                run = new ArrayList<WavChunkHeader>();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Replace chunk with a JUNK chunk of the same size, the old content is zeroed
+     */
+    private void blankChunk(RandomAccessFile raf, WavChunkHeader chunk) throws IOException
+    {
+        Log.log(logger, Level.CONFIG, "Blanking chunk {}", chunk);
+        Utils.write(raf, WavTagCreator.createJunkChunk(chunk.getEndLocation() - chunk.getStartLocation()), chunk.getStartLocation());
+    }
+
+    /**
+     * The part of the file following the data chunk as it is to be rewritten
+     */
+    private static class Tail
+    {
+        /**
+         * Size of the data chunk if it has to be corrected because it runs beyond the end of the file, otherwise -1
+         */
+        private long correctedDataSize = -1;
+
+        /**
+         * Where the rewrite starts, may be one past the end of file if the pad byte of the last chunk is missing
+         */
+        private long position;
+
+        private ByteBuffer metadata;
+
+        /**
+         * Other chunks that have to be moved up
+         */
+        private List<ByteBuffer> moved = new ArrayList<ByteBuffer>();
+
+        /**
+         * @return length of the file once the tail has been written
+         */
+        private long getEnd()
+        {
+            long end = position + metadata.remaining();
+            for (ByteBuffer chunkData : moved)
+            {
+                end += chunkData.remaining();
+            }
+            return end;
+        }
+    }
+
+    /**
+     * Work out how the part of the file following the data chunk has to be rewritten to remove any existing metadata
+     * chunks and append the new metadata. Other chunks following the first metadata chunk are read so they can be
+     * moved up, these are expected to be small. Nothing is written.
+     *
+     * @return the tail to write, or null if the tail does not need rewriting
+     */
+    private Tail readTail(RandomAccessFile raf, WavChunkIndex index, ByteBuffer metadata) throws IOException
+    {
+        WavChunkHeader dataChunk = index.getDataChunk();
+        long fileLength = index.getFileLength();
+
+        List<WavChunkHeader> tailChunks = new ArrayList<WavChunkHeader>();
+        WavChunkHeader firstMetadata = null;
+        long tailEnd = dataChunk.getEndLocation();
+        for (WavChunkHeader chunk : index.getChunks())
+        {
+            if (chunk.getStartLocation() > dataChunk.getStartLocation())
+            {
+                tailChunks.add(chunk);
+                tailEnd = chunk.getDataLocation() + chunk.getSize() > fileLength ? fileLength : chunk.getEndLocation();
+                if (firstMetadata == null && isMetadata(chunk))
+                {
+                    firstMetadata = chunk;
+                }
+            }
+        }
+
+        if (firstMetadata == null && metadata.limit() == 0)
+        {
+            return null;
+        }
+
+        Tail tail = new Tail();
+        tail.metadata = metadata;
+
+        //The data chunk claims to extend beyond the end of the file, so its size has to be fixed before writing after it
+        if (dataChunk.getDataLocation() + dataChunk.getSize() > fileLength)
+        {
+            tail.correctedDataSize = fileLength - dataChunk.getDataLocation();
+            tailEnd = fileLength + (tail.correctedDataSize & 1);
+        }
+
+        tail.position = firstMetadata != null ? firstMetadata.getStartLocation() : tailEnd;
+
+        for (WavChunkHeader chunk : tailChunks)
+        {
+            if (chunk.getStartLocation() >= tail.position && !isMetadata(chunk))
+            {
+                ByteBuffer chunkData = ByteBuffer.allocate((int) (Math.min(chunk.getEndLocation(), fileLength) - chunk.getStartLocation()));
+                raf.getChannel().read(chunkData, chunk.getStartLocation());
+                chunkData.flip();
+                tail.moved.add(chunkData);
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Rewrite the part of the file following the data chunk
+     */
+    private void writeTail(RandomAccessFile raf, WavChunkIndex index, Tail tail) throws IOException
+    {
+        WavChunkHeader dataChunk = index.getDataChunk();
+        long fileLength = index.getFileLength();
+
+        if (tail.correctedDataSize != -1)
+        {
+            logger.warning(ErrorMessage.WAV_DATA_CHUNK_SIZE_CORRECTED.getMsg(dataChunk.getSize(), tail.correctedDataSize));
+            if (index.isRf64())
+            {
+                writeDs64Size(raf, index, WavChunkIndex.DS64_DATA_SIZE_OFFSET, tail.correctedDataSize);
+            }
+            if (!index.isRf64() || tail.correctedDataSize < WavChunkHeader.SIZE_IN_DS64)
+            {
+                Utils.write(raf, WavChunkHeader.createHeader(WavChunkHeader.DATA, tail.correctedDataSize), dataChunk.getStartLocation());
+            }
+        }
+
+        long position = tail.position;
+        Log.log(logger, Level.CONFIG, "Writing metadata of size {} after audio at {}", tail.metadata.limit(), position);
+        if (position > fileLength)
+        {
+            //Pad byte for odd sized chunk
+            Utils.write(raf, ByteBuffer.allocate((int) (position - fileLength)), fileLength);
+        }
+        position += Utils.write(raf, tail.metadata, position);
+        for (ByteBuffer chunkData : tail.moved)
+        {
+            position += Utils.write(raf, chunkData, position);
+        }
+        raf.setLength(position);
+    }
+
+    /**
+     * Write 64 bit size into the ds64 chunk of an RF64 file
+     */
+    private void writeDs64Size(RandomAccessFile raf, WavChunkIndex index, int offset, long value) throws IOException
+    {
+        ByteBuffer size = ByteBuffer.allocate(8);
+        size.order(ByteOrder.LITTLE_ENDIAN);
+        size.putLong(value);
+        size.flip();
+        Utils.write(raf, size, index.getDs64Chunk().getDataLocation() + offset);
+    }
+
+    /**
+     * Set RIFF size to match the new file length, for RF64 files the size is held in the ds64 chunk
+     */
+    private void updateRiffSize(RandomAccessFile raf, WavChunkIndex index) throws IOException
+    {
+        long riffSize = raf.length() - WavChunkHeader.CHUNK_HEADER_LENGTH;
+        if (index.isRf64())
+        {
+            writeDs64Size(raf, index, WavChunkIndex.DS64_RIFF_SIZE_OFFSET, riffSize);
+            return;
+        }
+
+        ByteBuffer size = ByteBuffer.allocate(WavChunkHeader.CHUNK_SIZE_LENGTH);
+        size.order(ByteOrder.LITTLE_ENDIAN);
+        size.putInt((int) riffSize);
+        size.flip();
+        Utils.write(raf, size, WavChunkIndex.RIFF_SIZE_OFFSET);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Entagged Audio Tag library
+ * Copyright (c) 2003-2005 Raphaël Slinckx <raphael@slinckx.net>
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jaudiotagger.audio.wav.util;
+
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Header of a single RIFF chunk, the four character id followed by the little endian size of the chunk body
+ * <p/>
+ * The size does not include the 8 byte header itself or the pad byte that follows a chunk with an odd size.
+ */
+public class WavChunkHeader
+{
+    public static final int CHUNK_ID_LENGTH     = 4;
+    public static final int CHUNK_SIZE_LENGTH   = 4;
+    public static final int CHUNK_HEADER_LENGTH = CHUNK_ID_LENGTH + CHUNK_SIZE_LENGTH;
+
+    public static final String FMT  = "fmt ";
+    public static final String FACT = "fact";
+    public static final String DATA = "data";
+    public static final String LIST = "LIST";
+    public static final String INFO = "INFO";
+    public static final String ID3  = "id3 ";
+    public static final String ID3_UPPERCASE = "ID3 ";
+    public static final String JUNK = "JUNK";
+    public static final String PAD  = "PAD ";
+    public static final String DS64 = "ds64";
+
+    //Size held in the chunk header of an RF64 file when the real size is held in the ds64 chunk
+    public static final long SIZE_IN_DS64 = 0xFFFFFFFFL;
+
+    private final String id;
+    private final long size;
+    private final long startLocation;
+    private String listType;
+
+    /**
+     * Read the header of the chunk starting at the current file pointer, the body is not read
+     *
+     * @param raf
+     * @return the header or null if there are not enough bytes left in the file to hold a header
+     * @throws IOException
+     */
+    public static WavChunkHeader readHeader(RandomAccessSource raf) throws IOException
+    {
+        long startLocation = raf.getFilePointer();
+        ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_LENGTH);
+        int bytesRead = raf.getChannel().read(header, startLocation);
+        if (bytesRead < CHUNK_HEADER_LENGTH)
+        {
+            return null;
+        }
+        raf.seek(startLocation + CHUNK_HEADER_LENGTH);
+        header.rewind();
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        byte[] id = new byte[CHUNK_ID_LENGTH];
+        header.get(id);
+        long size = header.getInt() & 0xFFFFFFFFL;
+        return new WavChunkHeader(new String(id, "ISO-8859-1"), size, startLocation);
+    }
+
+    public WavChunkHeader(String id, long size, long startLocation)
+    {
+        this.id = id;
+        this.size = size;
+        this.startLocation = startLocation;
+    }
+
+    /**
+     * Create the raw bytes for a chunk header ready to be written to file
+     *
+     * @param id
+     * @param size size of the chunk body
+     * @return
+     */
+    public static ByteBuffer createHeader(String id, long size)
+    {
+        ByteBuffer header = ByteBuffer.allocate(CHUNK_HEADER_LENGTH);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < CHUNK_ID_LENGTH; i++)
+        {
+            header.put((byte) id.charAt(i));
+        }
+        header.putInt((int) size);
+        header.flip();
+        return header;
+    }
+
+    /**
+     * @return true if the id looks like a valid RIFF chunk identifier (printable ascii)
+     */
+    public boolean isValidId()
+    {
+        for (int i = 0; i < id.length(); i++)
+        {
+            char c = id.charAt(i);
+            if (c < 0x20 || c > 0x7e)
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String getId()
+    {
+        return id;
+    }
+
+    public long getSize()
+    {
+        return size;
+    }
+
+    /**
+     * @return the offset in the file of the start of the chunk header
+     */
+    public long getStartLocation()
+    {
+        return startLocation;
+    }
+
+    /**
+     * @return the offset in the file of the start of the chunk body
+     */
+    public long getDataLocation()
+    {
+        return startLocation + CHUNK_HEADER_LENGTH;
+    }
+
+    /**
+     * @return the offset in the file immediately after this chunk including any pad byte
+     */
+    public long getEndLocation()
+    {
+        return getDataLocation() + size + (size & 1);
+    }
+
+    /**
+     * @return the form type for LIST chunks, such as INFO, null for other chunks
+     */
+    public String getListType()
+    {
+        return listType;
+    }
+
+    public void setListType(String listType)
+    {
+        this.listType = listType;
+    }
+
+    public boolean isInfoList()
+    {
+        return LIST.equals(id) && INFO.equals(listType);
+    }
+
+    public boolean isId3()
+    {
+        return ID3.equals(id) || ID3_UPPERCASE.equals(id);
+    }
+
+    /**
+     * @return true if the chunk only holds filler and can be reused to store metadata
+     */
+    public boolean isPadding()
+    {
+        return JUNK.equals(id) || PAD.equals(id);
+    }
+
+    public String toString()
+    {
+        return id + (listType != null ? ":" + listType : "") + " size:" + size + " at:" + startLocation;
+    }
+}
@@ -0,0 +1,380 @@
+/*
+ * Entagged Audio Tag library
+ * Copyright (c) 2003-2005 Raphaël Slinckx <raphael@slinckx.net>
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jaudiotagger.audio.wav.util;
+
+import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the chunks within a RIFF WAVE file
+ * <p/>
+ * The index is built by reading just the 8 byte header of each chunk and then seeking past the chunk body, so
+ * the cost of building it does not depend on the size of the audio. The only body read is the four byte form type
+ * of LIST chunks so that LIST/INFO can be identified.
+ * <p/>
+ * RF64 and BW64 files, used for recordings larger than 4GB, are also supported. These hold 0xFFFFFFFF in the 32 bit
+ * size fields of the RIFF header and of any chunk too large for 32 bits, with the real 64 bit sizes held in a ds64
+ * chunk that must be the first chunk in the file. The sizes returned by the index are always the real sizes.
+ */
+public class WavChunkIndex
+{
+    // Logger Object
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.wav");
+
+    public static final String RIFF = "RIFF";
+    public static final String WAVE = "WAVE";
+    public static final String RF64 = "RF64";
+    public static final String BW64 = "BW64";
+
+    public static final int RIFF_HEADER_LENGTH = 12;
+    public static final int RIFF_SIZE_OFFSET   = 4;
+
+    //Offsets of the 64 bit sizes within the ds64 chunk body, followed by the sample count and the size table
+    public static final int DS64_RIFF_SIZE_OFFSET    = 0;
+    public static final int DS64_DATA_SIZE_OFFSET    = 8;
+    public static final int DS64_SAMPLE_COUNT_OFFSET = 16;
+    public static final int DS64_TABLE_LENGTH_OFFSET = 24;
+    public static final int DS64_MIN_LENGTH          = 28;
+    public static final int DS64_TABLE_ENTRY_LENGTH  = 12;
+
+    private final long fileLength;
+    private final boolean rf64;
+    private long riffSize;
+    private final List<WavChunkHeader> chunks = new ArrayList<WavChunkHeader>();
+
+    //RF64 only, the 64 bit sizes from the ds64 chunk
+    private WavChunkHeader ds64Chunk;
+    private long ds64DataSize;
+    private long ds64SampleCount;
+    private final Map<String, Long> ds64ChunkSizes = new HashMap<String, Long>();
+
+    private WavChunkHeader fmtChunk;
+    private WavChunkHeader dataChunk;
+    private WavChunkHeader infoChunk;
+    private WavChunkHeader id3Chunk;
+
+    private WavChunkIndex(long fileLength, long riffSize, boolean rf64)
+    {
+        this.fileLength = fileLength;
+        this.riffSize = riffSize;
+        this.rf64 = rf64;
+    }
+
+    /**
+     * Build the index for the file, the file pointer is left at an undefined position
+     *
+     * @param raf
+     * @return
+     * @throws CannotReadException if not a RIFF, RF64 or BW64 WAVE file
+     * @throws IOException
+     */
+    public static WavChunkIndex read(RandomAccessFile raf) throws CannotReadException, IOException
+    {
+        return read(new RandomAccessSource(raf));
+    }
+
+    /**
+     * Build the index for the source, its position is left undefined
+     *
+     * @param raf
+     * @return
+     * @throws CannotReadException if not a RIFF, RF64 or BW64 WAVE file
+     * @throws IOException
+     */
+    public static WavChunkIndex read(RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        long fileLength = raf.length();
+        if (fileLength < RIFF_HEADER_LENGTH)
+        {
+            throw new CannotReadException(ErrorMessage.WAV_FILE_TOO_SMALL.getMsg());
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(RIFF_HEADER_LENGTH);
+        raf.getChannel().read(header, 0);
+        header.rewind();
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        byte[] riff = new byte[4];
+        byte[] wave = new byte[4];
+        header.get(riff);
+        long riffSize = header.getInt() & 0xFFFFFFFFL;
+        header.get(wave);
+        String riffId = new String(riff, "ISO-8859-1");
+        boolean rf64 = RF64.equals(riffId) || BW64.equals(riffId);
+        if ((!RIFF.equals(riffId) && !rf64) || !WAVE.equals(new String(wave, "ISO-8859-1")))
+        {
+            throw new CannotReadException(ErrorMessage.WAV_RIFF_HEADER_NOT_VALID.getMsg());
+        }
+
+        WavChunkIndex index = new WavChunkIndex(fileLength, riffSize, rf64);
+        if (rf64)
+        {
+            index.readDs64(raf);
+        }
+        index.readChunks(raf, RIFF_HEADER_LENGTH);
+        return index;
+    }
+
+    /**
+     * Read the 64 bit sizes from the ds64 chunk that immediately follows the header of an RF64 file
+     *
+     * @param raf
+     * @throws CannotReadException if there is no valid ds64 chunk
+     * @throws IOException
+     */
+    private void readDs64(RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        raf.seek(RIFF_HEADER_LENGTH);
+        WavChunkHeader chunk = WavChunkHeader.readHeader(raf);
+        if (chunk == null || !WavChunkHeader.DS64.equals(chunk.getId()) || chunk.getSize() < DS64_MIN_LENGTH
+                || chunk.getEndLocation() > fileLength)
+        {
+            throw new CannotReadException(ErrorMessage.WAV_RF64_NO_DS64_CHUNK.getMsg());
+        }
+
+        ByteBuffer ds64 = ByteBuffer.allocate((int) chunk.getSize());
+        raf.getChannel().read(ds64, chunk.getDataLocation());
+        ds64.rewind();
+        ds64.order(ByteOrder.LITTLE_ENDIAN);
+        riffSize = ds64.getLong(DS64_RIFF_SIZE_OFFSET);
+        ds64DataSize = ds64.getLong(DS64_DATA_SIZE_OFFSET);
+        ds64SampleCount = ds64.getLong(DS64_SAMPLE_COUNT_OFFSET);
+
+        //Table holding the sizes of any other chunks larger than 4GB
+        long tableLength = ds64.getInt(DS64_TABLE_LENGTH_OFFSET) & 0xFFFFFFFFL;
+        ds64.position(DS64_MIN_LENGTH);
+        byte[] id = new byte[WavChunkHeader.CHUNK_ID_LENGTH];
+        for (long i = 0; i < tableLength && ds64.remaining() >= DS64_TABLE_ENTRY_LENGTH; i++)
+        {
+            ds64.get(id);
+            ds64ChunkSizes.put(new String(id, "ISO-8859-1"), ds64.getLong());
+        }
+        ds64Chunk = chunk;
+
+        if (logger.isLoggable(Level.CONFIG))
+        {
+            Log.log(logger, Level.CONFIG, "RF64 riff size:{} data size:{} sample count:{}", riffSize, ds64DataSize, ds64SampleCount);
+        }
+    }
+
+    /**
+     * @return the real size of an RF64 chunk whose header holds {@link WavChunkHeader#SIZE_IN_DS64}, or null if the
+     *         ds64 chunk does not hold its size
+     */
+    private Long getDs64Size(String id)
+    {
+        if (WavChunkHeader.DATA.equals(id))
+        {
+            return ds64DataSize;
+        }
+        return ds64ChunkSizes.get(id);
+    }
+
+    /**
+     * Walk the chunk headers from the given location to the end of the file
+     *
+     * @param raf
+     * @param location
+     * @throws IOException
+     */
+    private void readChunks(RandomAccessSource raf, long location) throws IOException
+    {
+        while (location + WavChunkHeader.CHUNK_HEADER_LENGTH <= fileLength)
+        {
+            raf.seek(location);
+            WavChunkHeader chunk = WavChunkHeader.readHeader(raf);
+            if (chunk == null)
+            {
+                break;
+            }
+
+            if (!chunk.isValidId())
+            {
+                logger.warning(ErrorMessage.WAV_CHUNK_ID_NOT_VALID.getMsg(location));
+                break;
+            }
+
+            if (rf64 && chunk.getSize() == WavChunkHeader.SIZE_IN_DS64)
+            {
+                Long size = getDs64Size(chunk.getId());
+                if (size == null)
+                {
+                    logger.warning(ErrorMessage.WAV_RF64_SIZE_NOT_IN_DS64.getMsg(chunk.getId()));
+                    break;
+                }
+                chunk = new WavChunkHeader(chunk.getId(), size, chunk.getStartLocation());
+            }
+
+            if (WavChunkHeader.LIST.equals(chunk.getId()) && chunk.getSize() >= 4)
+            {
+                byte[] listType = new byte[4];
+                raf.readFully(listType);
+                chunk.setListType(new String(listType, "ISO-8859-1"));
+            }
+
+            Log.log(logger, Level.FINER, "Found chunk {}", chunk);
+            addChunk(chunk);
+
+            location = chunk.getEndLocation();
+        }
+    }
+
+    private void addChunk(WavChunkHeader chunk)
+    {
+        chunks.add(chunk);
+        if (WavChunkHeader.FMT.equals(chunk.getId()))
+        {
+            if (fmtChunk == null)
+            {
+                fmtChunk = chunk;
+            }
+        }
+        else if (WavChunkHeader.DATA.equals(chunk.getId()))
+        {
+            if (dataChunk == null)
+            {
+                dataChunk = chunk;
+            }
+        }
+        else if (chunk.isInfoList())
+        {
+            if (infoChunk == null)
+            {
+                infoChunk = chunk;
+            }
+        }
+        else if (chunk.isId3())
+        {
+            if (id3Chunk == null)
+            {
+                id3Chunk = chunk;
+            }
+        }
+    }
+
+    /**
+     * @return all chunks in the order they appear in the file
+     */
+    public List<WavChunkHeader> getChunks()
+    {
+        return Collections.unmodifiableList(chunks);
+    }
+
+    public WavChunkHeader getFmtChunk()
+    {
+        return fmtChunk;
+    }
+
+    public WavChunkHeader getDataChunk()
+    {
+        return dataChunk;
+    }
+
+    public WavChunkHeader getInfoChunk()
+    {
+        return infoChunk;
+    }
+
+    public WavChunkHeader getId3Chunk()
+    {
+        return id3Chunk;
+    }
+
+    /**
+     * @return the size held in the RIFF header, or in the ds64 chunk for RF64 files
+     */
+    public long getRiffSize()
+    {
+        return riffSize;
+    }
+
+    /**
+     * @return true if this is an RF64 or BW64 file with its sizes held in a ds64 chunk
+     */
+    public boolean isRf64()
+    {
+        return rf64;
+    }
+
+    /**
+     * @return the ds64 chunk of an RF64 file, null for other files
+     */
+    public WavChunkHeader getDs64Chunk()
+    {
+        return ds64Chunk;
+    }
+
+    /**
+     * @return the sample count held in the ds64 chunk of an RF64 file, zero for other files
+     */
+    public long getDs64SampleCount()
+    {
+        return ds64SampleCount;
+    }
+
+    public long getFileLength()
+    {
+        return fileLength;
+    }
+
+    /**
+     * Size of the audio data
+     * <p/>
+     * Truncated files and some streaming encoders report a data chunk size larger than the file, in which case
+     * the audio is assumed to run to the end of the file.
+     *
+     * @return size of audio data in bytes, or -1 if the file has no data chunk
+     */
+    public long getAudioDataSize()
+    {
+        if (dataChunk == null)
+        {
+            return -1;
+        }
+        long available = fileLength - dataChunk.getDataLocation();
+        if (dataChunk.getSize() > available)
+        {
+            return available;
+        }
+        return dataChunk.getSize();
+    }
+
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder((rf64 ? "RF64" : "RIFF") + "-WAVE size:" + riffSize);
+        for (WavChunkHeader chunk : chunks)
+        {
+            sb.append("\n").append(chunk);
+        }
+        return sb.toString();
+    }
+}
@@ -45,7 +45,7 @@ public class WavFormatHeader
 
             if (format == WAVE_FORMAT_EXTENSIBLE && u(b[24]) == 22) {
                 validBitsPerSample = u(b[26]);
-                channelMask = u(b[31]) * 16777216 + u(b[20]) * 65536 + u(b[29]) * 256 + u(b[28]);
+                channelMask = u(b[31]) * 16777216 + u(b[30]) * 65536 + u(b[29]) * 256 + u(b[28]);
                 subFormat = u(b[33]) * 256 + u(b[32]);
             }
 
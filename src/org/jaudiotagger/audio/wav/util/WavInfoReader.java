@@ -20,54 +20,77 @@ package org.jaudiotagger.audio.wav.util;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
 import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.logging.ErrorMessage;
 
 import java.io.IOException;
-import java.io.RandomAccessFile;
+import java.util.logging.Logger;
 
+/**
+ * Read the audio header of a Wav file
+ * <p/>
+ * The format is read from the fmt chunk and the length calculated from the size of the data chunk, both found
+ * using the {@link WavChunkIndex} so only the chunk headers and the fmt chunk body are read whatever the size
+ * of the file. For RF64 files the index holds the 64 bit data size from the ds64 chunk, so the length of files
+ * larger than 4GB is calculated correctly.
+ */
 public class WavInfoReader
 {
-    public GenericAudioHeader read(RandomAccessFile raf) throws CannotReadException, IOException
+    // Logger Object
+    public static Logger logger = Logger.getLogger("org.jaudiotagger.audio.wav");
+
+    //Length of fmt chunk body used by WavFormatHeader, covers WAVE_FORMAT_EXTENSIBLE
+    private static final int FMT_BODY_LENGTH = 40;
+
+    //Length of the RIFF header and minimal fmt chunk assumed when the file has no data chunk
+    private static final int CANONICAL_HEADER_LENGTH = 36;
+
+    public GenericAudioHeader read(RandomAccessSource raf) throws CannotReadException, IOException
+    {
+        return read(raf, WavChunkIndex.read(raf));
+    }
+
+    public GenericAudioHeader read(RandomAccessSource raf, WavChunkIndex index) throws CannotReadException, IOException
     {
-        // Reads wav header----------------------------------------
         GenericAudioHeader info = new GenericAudioHeader();
 
-        if (raf.length() < 12)
+        WavChunkHeader fmtChunk = index.getFmtChunk();
+        if (fmtChunk == null)
         {
-            throw new CannotReadException("This is not a WAV File (<12 bytes)");
+            throw new CannotReadException(ErrorMessage.WAV_NO_FMT_CHUNK.getMsg());
         }
-        byte[] b = new byte[12];
-        raf.read(b);
 
-        WavRIFFHeader wh = new WavRIFFHeader(b);
-        if (wh.isValid())
-        {
-            b = new byte[34];
-            raf.read(b);
+        //WavFormatHeader expects the chunk header followed by the body
+        byte[] b = new byte[WavChunkHeader.CHUNK_HEADER_LENGTH + FMT_BODY_LENGTH];
+        raf.seek(fmtChunk.getStartLocation());
+        raf.readFully(b, 0, WavChunkHeader.CHUNK_HEADER_LENGTH + (int) Math.min(fmtChunk.getSize(), FMT_BODY_LENGTH));
 
-            WavFormatHeader wfh = new WavFormatHeader(b);
-            if (wfh.isValid())
-            {
-                // Populates
-                // encodingInfo----------------------------------------------------
-                info.setPreciseLength(((float) raf.length() - (float) 36) / wfh.getBytesPerSecond());
-                info.setChannelNumber(wfh.getChannelNumber());
-                info.setSamplingRate(wfh.getSamplingRate());
-                info.setBitsPerSample(wfh.getBitsPerSample());
-                info.setEncodingType("WAV-RIFF " + wfh.getBitsPerSample() + " bits");
-                info.setExtraEncodingInfos("");
-                info.setBitrate(wfh.getBytesPerSecond() * 8 / 1000);
-                info.setVariableBitRate(false);
-            }
-            else
-            {
-                throw new CannotReadException("Wav Format Header not valid");
-            }
+        WavFormatHeader wfh = new WavFormatHeader(b);
+        if (!wfh.isValid())
+        {
+            throw new CannotReadException(ErrorMessage.WAV_FORMAT_HEADER_NOT_VALID.getMsg());
         }
-        else
+
+        long audioDataSize = index.getAudioDataSize();
+        if (audioDataSize < 0)
         {
-            throw new CannotReadException("Wav RIFF Header not valid");
+            logger.warning(ErrorMessage.WAV_NO_DATA_CHUNK.getMsg());
+            audioDataSize = index.getFileLength() - CANONICAL_HEADER_LENGTH;
         }
 
+        // Populates
+        // encodingInfo----------------------------------------------------
+        if (wfh.getBytesPerSecond() > 0)
+        {
+            info.setPreciseLength((float) ((double) audioDataSize / wfh.getBytesPerSecond()));
+        }
+        info.setChannelNumber(wfh.getChannelNumber());
+        info.setSamplingRate(wfh.getSamplingRate());
+        info.setBitsPerSample(wfh.getBitsPerSample());
+        info.setEncodingType("WAV-RIFF " + wfh.getBitsPerSample() + " bits");
+        info.setExtraEncodingInfos("");
+        info.setBitrate(wfh.getBytesPerSecond() * 8 / 1000);
+        info.setVariableBitRate(false);
         return info;
     }
 }
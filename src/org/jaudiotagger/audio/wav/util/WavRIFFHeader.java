@@ -30,7 +30,7 @@ public class WavRIFFHeader
         //System.err.println(RIFF);
         String WAVE = new String(b, 8, 4);
         //System.err.println(WAVE);
-        if (RIFF.equals("RIFF") && WAVE.equals("WAVE"))
+        if ((RIFF.equals(WavChunkIndex.RIFF) || RIFF.equals(WavChunkIndex.RF64) || RIFF.equals(WavChunkIndex.BW64)) && WAVE.equals(WavChunkIndex.WAVE))
         {
             isValid = true;
         }
@@ -34,8 +34,13 @@ public enum ErrorMessage
     GENERAL_WRITE_FAILED_NEW_FILE_DOESNT_EXIST("New file {0} does not appear to exist"),
     GENERAL_WRITE_FAILED_BECAUSE("Cannot make changes to file {0} because {1}"),
     GENERAL_WRITE_FAILED_BECAUSE_FILE_NOT_FOUND("Cannot make changes to file {0} because the file cannot be found"),
+    GENERAL_WRITE_FAILED_NOT_READ_FROM_FILE("Cannot make changes to audio that was not read from a file"),
+    GENERAL_WRITE_FAILED_TAG_NOT_READ("Cannot make changes to file {0} because it was read without its tag"),
+    GENERAL_WRITE_FAILED_TAG_NOT_COMPLETE("Cannot make changes to file {0} because only some fields of its tag were read"),
     GENERAL_WRITE_WARNING_UNABLE_TO_DELETE_BACKUP_FILE("Unable to delete the backup file {0}"),        
     GENERAL_WRITE_PROBLEM_CLOSING_FILE_HANDLE("Problem closing file handles for file {0} because {1}"),
+    GENERAL_CANCELLED("Operation was cancelled"),
+    GENERAL_TIMED_OUT("Operation did not complete within the time allowed"),
     GENERAL_DELETE_FAILED("Cannot delete file {0}"),
     GENERAL_DELETE_FAILED_FILE_LOCKED("Cannot delete file {0} because it is being used by another application"),
     GENERAL_DELETE_FAILED_BECAUSE_FILE_IS_TOO_SMALL("Cannot write to file {0} because too small to be an audio file"),
@@ -63,6 +68,9 @@ public enum ErrorMessage
     GENERAL_READ_FAILED_UNABLE_TO_CLOSE_RANDOM_ACCESS_FILE("Unable to close random access file: {0}"),
     GENERAL_READ_FAILED_FILE_TOO_SMALL("Unable to read file because it is too small to be valid audio file: {0}"),
     GENERAL_READ_FAILED_DO_NOT_HAVE_PERMISSION_TO_READ_FILE("Unable to read file do not have permission to read: {0}"),
+    GENERAL_READ_FAILED_SKIPPED_RANGE("Unable to read from position {0} of stream because it was skipped over by an earlier read"),
+    GENERAL_READ_FAILED_OUTSIDE_PROBE_BUDGET("Unable to read from position {0} because it is outside the {1}"),
+    GENERAL_READ_FAILED_DEFERRED_AUDIO_HEADER("Unable to read the audio header when first used:{0}"),
     ASF_FILE_HEADER_SIZE_DOES_NOT_MATCH_FILE_SIZE("For file {0} the File header size is {1} but different to actual file size of {2}"),
     ASF_FILE_HEADER_MISSING("For file {0} the File Header missing. Invalid ASF/WMA file."),
     ASF_HEADER_MISSING("For file {0} the Asf Header missing. Invalid ASF/WMA file."),
@@ -117,6 +125,18 @@ public enum ErrorMessage
     NO_AUDIO_HEADER_FOUND("No audio header found within {0}"),
     NOT_STANDARD_MP$_GENRE("This is not a standard genre value, use custom genre field instead"),
     FLAC_NO_BLOCKTYPE("Flac file has invalid block type {0}"),
+    WAV_FILE_TOO_SMALL("This is not a WAV File (<12 bytes)"),
+    WAV_RIFF_HEADER_NOT_VALID("Wav RIFF Header not valid"),
+    WAV_FORMAT_HEADER_NOT_VALID("Wav Format Header not valid"),
+    WAV_NO_FMT_CHUNK("Wav file does not contain a fmt chunk"),
+    WAV_NO_DATA_CHUNK("Wav file does not contain a data chunk, estimating length from file size"),
+    WAV_CHUNK_ID_NOT_VALID("Wav file contains an invalid chunk identifier at offset {0}, ignoring rest of file"),
+    WAV_UNABLE_TO_READ_ID3_CHUNK("Unable to read id3 chunk in wav file:{0}"),
+    WAV_NO_DATA_CHUNK_FOR_WRITE("Unable to write metadata because wav file does not contain a data chunk"),
+    WAV_DATA_CHUNK_SIZE_CORRECTED("Wav data chunk size of {0} extends beyond end of file, corrected to {1}"),
+    WAV_FILE_TOO_LARGE_FOR_RIFF("Wav file of length {0} is too large for a RIFF header"),
+    WAV_RF64_NO_DS64_CHUNK("RF64 wav file does not start with a ds64 chunk"),
+    WAV_RF64_SIZE_NOT_IN_DS64("RF64 wav file has no ds64 size for chunk {0}, ignoring rest of file"),
     ;
 
 
@@ -0,0 +1,270 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Level guarded logging with the message only built when it will be logged.
+ *
+ */
+package org.jaudiotagger.logging;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Level guarded logging for the code that runs for every frame, atom or datatype read
+ * <p/>
+ * Calling <code>logger.finest("offset:" + offset)</code> builds the message even when finest logging is off, so
+ * parsing a tag allocates strings for every frame that are never used. Instead the message is given as a format
+ * with a <code>{}</code> placeholder for each argument, and is only built if the level is enabled:
+ * <pre>
+ * Log.log(logger, Level.FINEST, "{}:Start of frame body at:{}", getLoggingFilename(), byteBuffer.position());
+ * </pre>
+ * There are overloads for up to three arguments, each either an <code>Object</code> or a <code>long</code> so that
+ * positions and sizes are not boxed, so when the level is disabled a call allocates nothing. Messages without
+ * arguments should be passed to the Logger directly because a constant string costs nothing.
+ * <p/>
+ * The log record gives the class and method that called this class as its source, as it would if the Logger had
+ * been called directly.
+ */
+public final class Log
+{
+    private static final String PLACEHOLDER = "{}";
+
+    private Log()
+    {
+    }
+
+    public static void log(Logger logger, Level level, String format, Object arg)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, long arg)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, Object arg1, Object arg2)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, Object arg1, long arg2)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, long arg1, Object arg2)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, long arg1, long arg2)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, Object arg1, Object arg2, Object arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, Object arg1, Object arg2, long arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, Object arg1, long arg2, Object arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, Object arg1, long arg2, long arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, long arg1, Object arg2, Object arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, long arg1, Object arg2, long arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, long arg1, long arg2, Object arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    public static void log(Logger logger, Level level, String format, long arg1, long arg2, long arg3)
+    {
+        if (logger.isLoggable(level))
+        {
+            StringBuilder sb = new StringBuilder();
+            int from = 0;
+            from = appendNext(sb, format, from, arg1);
+            from = appendNext(sb, format, from, arg2);
+            from = appendNext(sb, format, from, arg3);
+            publish(logger, level, sb.append(format, from, format.length()).toString());
+        }
+    }
+
+    /**
+     * Append the format up to the next placeholder followed by the argument, an argument without a placeholder is
+     * appended to the end
+     *
+     * @return the position in the format after the placeholder
+     */
+    private static int appendNext(StringBuilder sb, String format, int from, Object arg)
+    {
+        int index = format.indexOf(PLACEHOLDER, from);
+        if (index == -1)
+        {
+            sb.append(format, from, format.length()).append(arg);
+            return format.length();
+        }
+        sb.append(format, from, index).append(arg);
+        return index + PLACEHOLDER.length();
+    }
+
+    private static int appendNext(StringBuilder sb, String format, int from, long arg)
+    {
+        int index = format.indexOf(PLACEHOLDER, from);
+        if (index == -1)
+        {
+            sb.append(format, from, format.length()).append(arg);
+            return format.length();
+        }
+        sb.append(format, from, index).append(arg);
+        return index + PLACEHOLDER.length();
+    }
+
+    /**
+     * Log the message with the caller of this class as the source
+     */
+    private static void publish(Logger logger, Level level, String message)
+    {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName(logger.getName());
+        for (StackTraceElement element : new Throwable().getStackTrace())
+        {
+            if (!element.getClassName().equals(Log.class.getName()))
+            {
+                record.setSourceClassName(element.getClassName());
+                record.setSourceMethodName(element.getMethodName());
+                break;
+            }
+        }
+        logger.log(record);
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * The fields of a tag that were found but not read.
+ *
+ */
+package org.jaudiotagger.tag;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields of a tag that were passed over without being read because they were not one of the
+ * {@link TagOptions#getReadFields() fields asked for}
+ * <p/>
+ * Only the id of each field is known, such as the ID3 frame id, Vorbis Comment field name or MP4 atom id, the
+ * tag still reports such fields as present and includes them in its field count.
+ */
+public class SkippedFields
+{
+    private final Map<String, Integer> counts = new LinkedHashMap<String, Integer>();
+    private int count;
+
+    /**
+     * Record a field that was skipped
+     *
+     * @param id id of the field in the format of the tag
+     */
+    public void add(String id)
+    {
+        Integer previous = counts.get(id);
+        counts.put(id, previous == null ? 1 : previous + 1);
+        count++;
+    }
+
+    /**
+     * @param id
+     * @return true if at least one field with this id was skipped
+     */
+    public boolean contains(String id)
+    {
+        return counts.containsKey(id);
+    }
+
+    /**
+     * @param id
+     * @return number of fields with this id that were skipped
+     */
+    public int getCount(String id)
+    {
+        Integer idCount = counts.get(id);
+        return idCount == null ? 0 : idCount;
+    }
+
+    /**
+     * @return number of fields skipped
+     */
+    public int getCount()
+    {
+        return count;
+    }
+
+    /**
+     * @return ids of the fields skipped in the order they were found
+     */
+    public Set<String> getIds()
+    {
+        return Collections.unmodifiableSet(counts.keySet());
+    }
+
+    public boolean isEmpty()
+    {
+        return count == 0;
+    }
+
+    public String toString()
+    {
+        return counts.toString();
+    }
+}
@@ -31,6 +31,8 @@ import org.jaudiotagger.tag.id3.framebody.ID3v24FrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.tag.lyrics3.Lyrics3v2Fields;
 import org.jaudiotagger.tag.options.PadNumberOption;
+import org.jaudiotagger.tag.options.ReadMode;
+import org.jaudiotagger.tag.options.ReadStrategy;
 import org.jaudiotagger.tag.reference.GenreTypes;
 import org.jaudiotagger.tag.reference.ID3V2Version;
 import org.jaudiotagger.tag.reference.Languages;
@@ -38,13 +40,15 @@ import org.jaudiotagger.tag.reference.Languages;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TagOptionSingleton
 {
     /**
      *
      */
-    private static HashMap<String, TagOptionSingleton> tagOptionTable = new HashMap<String, TagOptionSingleton>();
+    private static final ConcurrentHashMap<String, TagOptionSingleton> tagOptionTable = new ConcurrentHashMap<String, TagOptionSingleton>();
 
     /**
      *
@@ -54,7 +58,7 @@ public class TagOptionSingleton
     /**
      *
      */
-    private static String defaultOptions = DEFAULT;
+    private static volatile String defaultOptions = DEFAULT;
 
     /**
      *
@@ -77,6 +81,16 @@ public class TagOptionSingleton
      */
     private HashMap<String, String> replaceWordMap = new HashMap<String, String>();
 
+    /**
+     * Whether the default keywords, lyrics3 fields, replace words and parenthesis have been added to the maps
+     */
+    private volatile boolean defaultMapsLoaded = false;
+
+    /**
+     * Snapshot of the current options, or null if an option has changed since it was last taken
+     */
+    private volatile TagOptions tagOptions;
+
 
     /**
      * default language for any ID3v2 tags frames which require it. This string
@@ -281,6 +295,27 @@ public class TagOptionSingleton
 
     private boolean isWriteMp4GenresAsText=false;
 
+    /**
+     * Number of bytes of padding to reserve after the framing bit of the Vorbis Comment packet when an OggVorbis
+     * file has to be rewritten
+     */
+    private int oggVorbisCommentPaddingSize=0;
+
+    /**
+     * How regions of the file holding tag and header data are loaded when read
+     */
+    private ReadStrategy readStrategy = ReadStrategy.AUTO;
+
+    /**
+     * Whether the audio header, the tag or both are read
+     */
+    private ReadMode readMode = ReadMode.ALL;
+
+    /**
+     * The only fields whose values are read, null to read them all
+     */
+    private Set<FieldKey> readFields = null;
+
     private ID3V2Version id3v2Version = ID3V2Version.ID3_V23;
 
     /**
@@ -311,19 +346,59 @@ public class TagOptionSingleton
 
         if (tagOptions == null)
         {
-            tagOptions = new TagOptionSingleton();
-            tagOptionTable.put(instanceKey, tagOptions);
+            //If another thread got there first use its instance so all callers share the same options
+            TagOptionSingleton newTagOptions = new TagOptionSingleton();
+            tagOptions = tagOptionTable.putIfAbsent(instanceKey, newTagOptions);
+            if (tagOptions == null)
+            {
+                tagOptions = newTagOptions;
+            }
         }
 
         return tagOptions;
     }
 
+    /**
+     * Get an immutable snapshot of the options used when reading and writing, later changes to this instance
+     * do not affect the snapshot. The same snapshot is returned until an option is changed.
+     *
+     * @return
+     */
+    public TagOptions getTagOptions()
+    {
+        TagOptions options = tagOptions;
+        if (options == null)
+        {
+            synchronized (this)
+            {
+                options = tagOptions;
+                if (options == null)
+                {
+                    options = new TagOptions(this);
+                    tagOptions = options;
+                }
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Discard the snapshot returned by {@link #getTagOptions()} so the next call takes a new one, called by every
+     * setter after the option has been changed. Holding the lock means a snapshot being taken concurrently is
+     * either discarded here or sees the new value.
+     */
+    private synchronized void optionsChanged()
+    {
+        tagOptions = null;
+    }
+
     /**
      * @param filenameTagSave
      */
     public void setFilenameTagSave(boolean filenameTagSave)
     {
         this.filenameTagSave = filenameTagSave;
+        optionsChanged();
     }
 
     /**
@@ -340,6 +415,7 @@ public class TagOptionSingleton
     public void setID3V2Version(ID3V2Version  id3v2Version)
     {
         this.id3v2Version = id3v2Version;
+        optionsChanged();
     }
 
     /**
@@ -374,6 +450,7 @@ public class TagOptionSingleton
     public void setId3v1Save(boolean id3v1Save)
     {
         this.id3v1Save = id3v1Save;
+        optionsChanged();
     }
 
     /**
@@ -390,6 +467,7 @@ public class TagOptionSingleton
     public void setId3v1SaveAlbum(boolean id3v1SaveAlbum)
     {
         this.id3v1SaveAlbum = id3v1SaveAlbum;
+        optionsChanged();
     }
 
     /**
@@ -406,6 +484,7 @@ public class TagOptionSingleton
     public void setId3v1SaveArtist(boolean id3v1SaveArtist)
     {
         this.id3v1SaveArtist = id3v1SaveArtist;
+        optionsChanged();
     }
 
     /**
@@ -422,6 +501,7 @@ public class TagOptionSingleton
     public void setId3v1SaveComment(boolean id3v1SaveComment)
     {
         this.id3v1SaveComment = id3v1SaveComment;
+        optionsChanged();
     }
 
     /**
@@ -438,6 +518,7 @@ public class TagOptionSingleton
     public void setId3v1SaveGenre(boolean id3v1SaveGenre)
     {
         this.id3v1SaveGenre = id3v1SaveGenre;
+        optionsChanged();
     }
 
     /**
@@ -454,6 +535,7 @@ public class TagOptionSingleton
     public void setId3v1SaveTitle(boolean id3v1SaveTitle)
     {
         this.id3v1SaveTitle = id3v1SaveTitle;
+        optionsChanged();
     }
 
     /**
@@ -470,6 +552,7 @@ public class TagOptionSingleton
     public void setId3v1SaveTrack(boolean id3v1SaveTrack)
     {
         this.id3v1SaveTrack = id3v1SaveTrack;
+        optionsChanged();
     }
 
     /**
@@ -486,6 +569,7 @@ public class TagOptionSingleton
     public void setId3v1SaveYear(boolean id3v1SaveYear)
     {
         this.id3v1SaveYear = id3v1SaveYear;
+        optionsChanged();
     }
 
     /**
@@ -503,6 +587,7 @@ public class TagOptionSingleton
     public void setId3v2PaddingCopyTag(boolean id3v2PaddingCopyTag)
     {
         this.id3v2PaddingCopyTag = id3v2PaddingCopyTag;
+        optionsChanged();
     }
 
     /**
@@ -520,6 +605,7 @@ public class TagOptionSingleton
     public void setId3v2PaddingWillShorten(boolean id3v2PaddingWillShorten)
     {
         this.id3v2PaddingWillShorten = id3v2PaddingWillShorten;
+        optionsChanged();
     }
 
     /**
@@ -536,6 +622,7 @@ public class TagOptionSingleton
     public void setId3v2Save(boolean id3v2Save)
     {
         this.id3v2Save = id3v2Save;
+        optionsChanged();
     }
 
     /**
@@ -552,6 +639,7 @@ public class TagOptionSingleton
      */
     public Iterator<Class<? extends ID3v24FrameBody>> getKeywordIterator()
     {
+        ensureDefaultMapsLoaded();
         return keywordMap.keySet().iterator();
     }
 
@@ -561,6 +649,7 @@ public class TagOptionSingleton
      */
     public Iterator<String> getKeywordListIterator(Class<? extends ID3v24FrameBody> id3v2_4FrameBody)
     {
+        ensureDefaultMapsLoaded();
         return keywordMap.get(id3v2_4FrameBody).iterator();
     }
 
@@ -577,6 +666,7 @@ public class TagOptionSingleton
         {
             language = lang;
         }
+        optionsChanged();
     }
 
     /**
@@ -595,6 +685,7 @@ public class TagOptionSingleton
     public void setLyrics3KeepEmptyFieldIfRead(boolean lyrics3KeepEmptyFieldIfRead)
     {
         this.lyrics3KeepEmptyFieldIfRead = lyrics3KeepEmptyFieldIfRead;
+        optionsChanged();
     }
 
     /**
@@ -611,6 +702,7 @@ public class TagOptionSingleton
     public void setLyrics3Save(boolean lyrics3Save)
     {
         this.lyrics3Save = lyrics3Save;
+        optionsChanged();
     }
 
     /**
@@ -627,6 +719,7 @@ public class TagOptionSingleton
     public void setLyrics3SaveEmptyField(boolean lyrics3SaveEmptyField)
     {
         this.lyrics3SaveEmptyField = lyrics3SaveEmptyField;
+        optionsChanged();
     }
 
     /**
@@ -645,7 +738,9 @@ public class TagOptionSingleton
      */
     public void setLyrics3SaveField(String id, boolean save)
     {
+        ensureDefaultMapsLoaded();
         this.lyrics3SaveFieldMap.put(id, save);
+        optionsChanged();
     }
 
     /**
@@ -657,6 +752,7 @@ public class TagOptionSingleton
      */
     public boolean getLyrics3SaveField(String id)
     {
+        ensureDefaultMapsLoaded();
         return lyrics3SaveFieldMap.get(id);
     }
 
@@ -665,6 +761,7 @@ public class TagOptionSingleton
      */
     public HashMap<String, Boolean> getLyrics3SaveFieldMap()
     {
+        ensureDefaultMapsLoaded();
         return lyrics3SaveFieldMap;
     }
 
@@ -674,6 +771,7 @@ public class TagOptionSingleton
      */
     public String getNewReplaceWord(String oldWord)
     {
+        ensureDefaultMapsLoaded();
         return replaceWordMap.get(oldWord);
     }
 
@@ -688,6 +786,7 @@ public class TagOptionSingleton
     public void setNumberMP3SyncFrame(int numberMP3SyncFrame)
     {
         this.numberMP3SyncFrame = numberMP3SyncFrame;
+        optionsChanged();
     }
 
     /**
@@ -708,6 +807,7 @@ public class TagOptionSingleton
      */
     public Iterator<String> getOldReplaceWordIterator()
     {
+        ensureDefaultMapsLoaded();
         return replaceWordMap.keySet().iterator();
     }
 
@@ -717,6 +817,7 @@ public class TagOptionSingleton
      */
     public boolean isOpenParenthesis(String open)
     {
+        ensureDefaultMapsLoaded();
         return parenthesisMap.containsKey(open);
     }
 
@@ -725,6 +826,7 @@ public class TagOptionSingleton
      */
     public Iterator<String> getOpenParenthesisIterator()
     {
+        ensureDefaultMapsLoaded();
         return parenthesisMap.keySet().iterator();
     }
 
@@ -735,6 +837,7 @@ public class TagOptionSingleton
     public void setOriginalSavedAfterAdjustingID3v2Padding(boolean originalSavedAfterAdjustingID3v2Padding)
     {
         this.originalSavedAfterAdjustingID3v2Padding = originalSavedAfterAdjustingID3v2Padding;
+        optionsChanged();
     }
 
     /**
@@ -764,6 +867,7 @@ public class TagOptionSingleton
         {
             timeStampFormat = tsf;
         }
+        optionsChanged();
     }
 
     /**
@@ -821,8 +925,36 @@ public class TagOptionSingleton
         isEncodeUTF16BomAsLittleEndian = true;
         writeChunkSize=5000000;
         isWriteMp4GenresAsText=false;
+        oggVorbisCommentPaddingSize=0;
+        readStrategy = ReadStrategy.AUTO;
+        readMode = ReadMode.ALL;
+        readFields = null;
         padNumberTotalLength = PadNumberOption.PAD_ONE_ZERO;
         id3v2Version = ID3V2Version.ID3_V23;
+        //The keyword, lyrics3, replace word and parenthesis maps are only filled when first used
+        defaultMapsLoaded = false;
+        optionsChanged();
+    }
+
+    /**
+     * Fill the keyword, lyrics3, replace word and parenthesis maps with their defaults if not already done, these
+     * are rarely used so are not filled by setToDefault() to avoid loading the genre and lyrics3 tables on startup
+     */
+    private void ensureDefaultMapsLoaded()
+    {
+        if (!defaultMapsLoaded)
+        {
+            loadDefaultMaps();
+        }
+    }
+
+    private synchronized void loadDefaultMaps()
+    {
+        if (defaultMapsLoaded)
+        {
+            return;
+        }
+
         //default all lyrics3 fields to save. id3v1 fields are individual
         // settings. id3v2 fields are always looked at to save.
         Iterator<String> iterator = Lyrics3v2Fields.getInstanceOf().getIdToValueMap().keySet().iterator();
@@ -836,49 +968,49 @@ public class TagOptionSingleton
 
         try
         {
-            addKeyword(FrameBodyCOMM.class, "ultimix");
-            addKeyword(FrameBodyCOMM.class, "dance");
-            addKeyword(FrameBodyCOMM.class, "mix");
-            addKeyword(FrameBodyCOMM.class, "remix");
-            addKeyword(FrameBodyCOMM.class, "rmx");
-            addKeyword(FrameBodyCOMM.class, "live");
-            addKeyword(FrameBodyCOMM.class, "cover");
-            addKeyword(FrameBodyCOMM.class, "soundtrack");
-            addKeyword(FrameBodyCOMM.class, "version");
-            addKeyword(FrameBodyCOMM.class, "acoustic");
-            addKeyword(FrameBodyCOMM.class, "original");
-            addKeyword(FrameBodyCOMM.class, "cd");
-            addKeyword(FrameBodyCOMM.class, "extended");
-            addKeyword(FrameBodyCOMM.class, "vocal");
-            addKeyword(FrameBodyCOMM.class, "unplugged");
-            addKeyword(FrameBodyCOMM.class, "acapella");
-            addKeyword(FrameBodyCOMM.class, "edit");
-            addKeyword(FrameBodyCOMM.class, "radio");
-            addKeyword(FrameBodyCOMM.class, "original");
-            addKeyword(FrameBodyCOMM.class, "album");
-            addKeyword(FrameBodyCOMM.class, "studio");
-            addKeyword(FrameBodyCOMM.class, "instrumental");
-            addKeyword(FrameBodyCOMM.class, "unedited");
-            addKeyword(FrameBodyCOMM.class, "karoke");
-            addKeyword(FrameBodyCOMM.class, "quality");
-            addKeyword(FrameBodyCOMM.class, "uncensored");
-            addKeyword(FrameBodyCOMM.class, "clean");
-            addKeyword(FrameBodyCOMM.class, "dirty");
-
-            addKeyword(FrameBodyTIPL.class, "f.");
-            addKeyword(FrameBodyTIPL.class, "feat");
-            addKeyword(FrameBodyTIPL.class, "feat.");
-            addKeyword(FrameBodyTIPL.class, "featuring");
-            addKeyword(FrameBodyTIPL.class, "ftng");
-            addKeyword(FrameBodyTIPL.class, "ftng.");
-            addKeyword(FrameBodyTIPL.class, "ft.");
-            addKeyword(FrameBodyTIPL.class, "ft");
+            putKeyword(FrameBodyCOMM.class, "ultimix");
+            putKeyword(FrameBodyCOMM.class, "dance");
+            putKeyword(FrameBodyCOMM.class, "mix");
+            putKeyword(FrameBodyCOMM.class, "remix");
+            putKeyword(FrameBodyCOMM.class, "rmx");
+            putKeyword(FrameBodyCOMM.class, "live");
+            putKeyword(FrameBodyCOMM.class, "cover");
+            putKeyword(FrameBodyCOMM.class, "soundtrack");
+            putKeyword(FrameBodyCOMM.class, "version");
+            putKeyword(FrameBodyCOMM.class, "acoustic");
+            putKeyword(FrameBodyCOMM.class, "original");
+            putKeyword(FrameBodyCOMM.class, "cd");
+            putKeyword(FrameBodyCOMM.class, "extended");
+            putKeyword(FrameBodyCOMM.class, "vocal");
+            putKeyword(FrameBodyCOMM.class, "unplugged");
+            putKeyword(FrameBodyCOMM.class, "acapella");
+            putKeyword(FrameBodyCOMM.class, "edit");
+            putKeyword(FrameBodyCOMM.class, "radio");
+            putKeyword(FrameBodyCOMM.class, "original");
+            putKeyword(FrameBodyCOMM.class, "album");
+            putKeyword(FrameBodyCOMM.class, "studio");
+            putKeyword(FrameBodyCOMM.class, "instrumental");
+            putKeyword(FrameBodyCOMM.class, "unedited");
+            putKeyword(FrameBodyCOMM.class, "karoke");
+            putKeyword(FrameBodyCOMM.class, "quality");
+            putKeyword(FrameBodyCOMM.class, "uncensored");
+            putKeyword(FrameBodyCOMM.class, "clean");
+            putKeyword(FrameBodyCOMM.class, "dirty");
+
+            putKeyword(FrameBodyTIPL.class, "f.");
+            putKeyword(FrameBodyTIPL.class, "feat");
+            putKeyword(FrameBodyTIPL.class, "feat.");
+            putKeyword(FrameBodyTIPL.class, "featuring");
+            putKeyword(FrameBodyTIPL.class, "ftng");
+            putKeyword(FrameBodyTIPL.class, "ftng.");
+            putKeyword(FrameBodyTIPL.class, "ft.");
+            putKeyword(FrameBodyTIPL.class, "ft");
 
             iterator = GenreTypes.getInstanceOf().getValueToIdMap().keySet().iterator();
 
             while (iterator.hasNext())
             {
-                addKeyword(FrameBodyCOMM.class, iterator.next());
+                putKeyword(FrameBodyCOMM.class, iterator.next());
             }
         }
         catch (TagException ex)
@@ -887,26 +1019,24 @@ public class TagOptionSingleton
             throw new RuntimeException(ex);
         }
 
+        replaceWordMap.put("v.", "vs.");
+        replaceWordMap.put("vs.", "vs.");
+        replaceWordMap.put("versus", "vs.");
+        replaceWordMap.put("f.", "feat.");
+        replaceWordMap.put("feat", "feat.");
+        replaceWordMap.put("featuring", "feat.");
+        replaceWordMap.put("ftng.", "feat.");
+        replaceWordMap.put("ftng", "feat.");
+        replaceWordMap.put("ft.", "feat.");
+        replaceWordMap.put("ft", "feat.");
 
-        addReplaceWord("v.", "vs.");
-        addReplaceWord("vs.", "vs.");
-        addReplaceWord("versus", "vs.");
-        addReplaceWord("f.", "feat.");
-        addReplaceWord("feat", "feat.");
-        addReplaceWord("featuring", "feat.");
-        addReplaceWord("ftng.", "feat.");
-        addReplaceWord("ftng", "feat.");
-        addReplaceWord("ft.", "feat.");
-        addReplaceWord("ft", "feat.");
-
-
-        iterator = this.getKeywordListIterator(FrameBodyTIPL.class);
+        parenthesisMap.put("(", ")");
+        parenthesisMap.put("[", "]");
+        parenthesisMap.put("{", "}");
+        parenthesisMap.put("<", ">");
 
-
-        addParenthesis("(", ")");
-        addParenthesis("[", "]");
-        addParenthesis("{", "}");
-        addParenthesis("<", ">");
+        //Only publish once the maps are filled, so other threads never see them partly filled
+        defaultMapsLoaded = true;
     }
 
 
@@ -916,6 +1046,15 @@ public class TagOptionSingleton
      * @throws TagException
      */
     public void addKeyword(Class<? extends ID3v24FrameBody> id3v2FrameBodyClass, String keyword) throws TagException
+    {
+        ensureDefaultMapsLoaded();
+        putKeyword(id3v2FrameBodyClass, keyword);
+    }
+
+    /**
+     * Add keyword without loading the default maps, used while they are being loaded
+     */
+    private void putKeyword(Class<? extends ID3v24FrameBody> id3v2FrameBodyClass, String keyword) throws TagException
     {
         if (!AbstractID3v2FrameBody.class.isAssignableFrom(id3v2FrameBodyClass))
         {
@@ -946,6 +1085,7 @@ public class TagOptionSingleton
      */
     public void addParenthesis(String open, String close)
     {
+        ensureDefaultMapsLoaded();
         parenthesisMap.put(open, close);
     }
 
@@ -955,6 +1095,7 @@ public class TagOptionSingleton
      */
     public void addReplaceWord(String oldWord, String newWord)
     {
+        ensureDefaultMapsLoaded();
         replaceWordMap.put(oldWord, newWord);
     }
 
@@ -975,6 +1116,7 @@ public class TagOptionSingleton
     public void setUnsyncTags(boolean unsyncTags)
     {
         this.unsyncTags = unsyncTags;
+        optionsChanged();
     }
 
     /**
@@ -996,6 +1138,7 @@ public class TagOptionSingleton
     public void setRemoveTrailingTerminatorOnWrite(boolean removeTrailingTerminatorOnWrite)
     {
         this.removeTrailingTerminatorOnWrite = removeTrailingTerminatorOnWrite;
+        optionsChanged();
     }
 
     /**
@@ -1021,6 +1164,7 @@ public class TagOptionSingleton
         {
             this.id3v23DefaultTextEncoding = id3v23DefaultTextEncoding;
         }
+        optionsChanged();
     }
 
     /**
@@ -1047,6 +1191,7 @@ public class TagOptionSingleton
             this.id3v24DefaultTextEncoding = id3v24DefaultTextEncoding;
         }
 
+        optionsChanged();
     }
 
     /**
@@ -1072,6 +1217,7 @@ public class TagOptionSingleton
         {
             this.id3v24UnicodeTextEncoding = id3v24UnicodeTextEncoding;
         }
+        optionsChanged();
     }
 
     /**
@@ -1097,6 +1243,7 @@ public class TagOptionSingleton
     public void setResetTextEncodingForExistingFrames(boolean resetTextEncodingForExistingFrames)
     {
         this.resetTextEncodingForExistingFrames = resetTextEncodingForExistingFrames;
+        optionsChanged();
     }
 
     /**
@@ -1116,6 +1263,7 @@ public class TagOptionSingleton
     public void setTruncateTextWithoutErrors(boolean truncateTextWithoutErrors)
     {
         this.truncateTextWithoutErrors = truncateTextWithoutErrors;
+        optionsChanged();
     }
 
     public boolean isPadNumbers()
@@ -1126,6 +1274,7 @@ public class TagOptionSingleton
     public void setPadNumbers(boolean padNumbers)
     {
         this.padNumbers = padNumbers;
+        optionsChanged();
     }
 
     public boolean isAndroid()
@@ -1136,6 +1285,7 @@ public class TagOptionSingleton
     public void setAndroid(boolean android)
     {
         isAndroid = android;
+        optionsChanged();
     }
 
     /**
@@ -1151,6 +1301,7 @@ public class TagOptionSingleton
     public void setPlayerCompatability(int playerCompatability)
     {
         this.playerCompatability = playerCompatability;
+        optionsChanged();
     }
 
     /**
@@ -1165,6 +1316,7 @@ public class TagOptionSingleton
     public void setEncodeUTF16BomAsLittleEndian(boolean encodeUTF16BomAsLittleEndian)
     {
         isEncodeUTF16BomAsLittleEndian = encodeUTF16BomAsLittleEndian;
+        optionsChanged();
     }
 
     /**
@@ -1180,6 +1332,7 @@ public class TagOptionSingleton
     public void setWriteChunkSize(long writeChunkSize)
     {
         this.writeChunkSize = writeChunkSize;
+        optionsChanged();
     }
 
     /**
@@ -1194,6 +1347,7 @@ public class TagOptionSingleton
     public void setWriteMp4GenresAsText(boolean writeMp4GenresAsText)
     {
         isWriteMp4GenresAsText = writeMp4GenresAsText;
+        optionsChanged();
     }
 
     /**
@@ -1207,6 +1361,7 @@ public class TagOptionSingleton
     public void setPadNumberTotalLength(PadNumberOption padNumberTotalLength)
     {
         this.padNumberTotalLength = padNumberTotalLength;
+        optionsChanged();
     }
 
     /**
@@ -1220,5 +1375,70 @@ public class TagOptionSingleton
     public void setAPICDescriptionITunesCompatible(boolean APICDescriptionITunesCompatible)
     {
         isAPICDescriptionITunesCompatible = APICDescriptionITunesCompatible;
+        optionsChanged();
+    }
+
+    /**
+     * When an OggVorbis file has to be rewritten because the comment packet no longer fits, this many bytes of
+     * padding are reserved after the framing bit of the packet. Later edits that fit within the packet can then be
+     * written in place without rewriting the file.
+     */
+    public int getOggVorbisCommentPaddingSize()
+    {
+        return oggVorbisCommentPaddingSize;
+    }
+
+    public void setOggVorbisCommentPaddingSize(int oggVorbisCommentPaddingSize)
+    {
+        this.oggVorbisCommentPaddingSize = oggVorbisCommentPaddingSize;
+        optionsChanged();
+    }
+
+    /**
+     * How the tag region of an MP3, the moov atom of an MP4 and FLAC picture blocks are loaded when read, the
+     * default of AUTO memory maps them when that is safe and worthwhile
+     */
+    public ReadStrategy getReadStrategy()
+    {
+        return readStrategy;
+    }
+
+    public void setReadStrategy(ReadStrategy readStrategy)
+    {
+        this.readStrategy = readStrategy;
+        optionsChanged();
+    }
+
+    /**
+     * Whether the audio header, the tag or both are read, the default of ALL reads both. Reading only the tag
+     * skips the search for the first MP3 frame and the scan for the last Ogg page, the audio header is then read
+     * when first used.
+     */
+    public ReadMode getReadMode()
+    {
+        return readMode;
+    }
+
+    public void setReadMode(ReadMode readMode)
+    {
+        this.readMode = readMode;
+        optionsChanged();
+    }
+
+    /**
+     * The only fields whose values are read, the default of null reads every field. Other fields are passed over
+     * without being decoded but the tag still reports them as present and counts them, use
+     * {@link FieldKey#COVER_ART} to read artwork rather than just find out if there is any. A tag read this way
+     * cannot be written back to the file.
+     */
+    public Set<FieldKey> getReadFields()
+    {
+        return readFields;
+    }
+
+    public void setReadFields(Set<FieldKey> readFields)
+    {
+        this.readFields = readFields;
+        optionsChanged();
     }
 }
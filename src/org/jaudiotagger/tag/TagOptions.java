@@ -0,0 +1,312 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Immutable snapshot of the options used when reading and writing tags.
+ *
+ */
+package org.jaudiotagger.tag;
+
+import org.jaudiotagger.tag.options.PadNumberOption;
+import org.jaudiotagger.tag.options.ReadMode;
+import org.jaudiotagger.tag.options.ReadStrategy;
+import org.jaudiotagger.tag.reference.ID3V2Version;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Immutable snapshot of the options in a {@link TagOptionSingleton} that are consulted while reading and writing
+ * <p/>
+ * A snapshot is obtained from {@link TagOptionSingleton#getTagOptions()} and passed to
+ * {@link org.jaudiotagger.audio.AudioFileIO#read(java.io.File, TagOptions)} or
+ * {@link org.jaudiotagger.audio.AudioFileIO#write(org.jaudiotagger.audio.AudioFile, TagOptions)}, so threads can
+ * use different settings at the same time and changes made to the singleton during a call have no effect on it.
+ * <p/>
+ * The frames and datatypes that make up a tag are not given the options directly, instead they are made current
+ * for the thread for the duration of the read or write and looked up with {@link #current()}. Outside of a read or
+ * write {@link #current()} returns a snapshot of the default {@link TagOptionSingleton}.
+ * <p/>
+ * The keyword, parenthesis, replace word and Lyrics3 field maps of the singleton are not part of the snapshot.
+ */
+public final class TagOptions
+{
+    private static final ThreadLocal<TagOptions> currentOptions = new ThreadLocal<TagOptions>();
+
+    private final ID3V2Version id3v2Version;
+    private final boolean id3v1Save;
+    private final boolean id3v1SaveAlbum;
+    private final boolean id3v1SaveArtist;
+    private final boolean id3v1SaveComment;
+    private final boolean id3v1SaveGenre;
+    private final boolean id3v1SaveTitle;
+    private final boolean id3v1SaveTrack;
+    private final boolean id3v1SaveYear;
+    private final boolean id3v2Save;
+    private final boolean lyrics3Save;
+    private final boolean lyrics3KeepEmptyFieldIfRead;
+    private final boolean lyrics3SaveEmptyField;
+    private final boolean unsyncTags;
+    private final boolean removeTrailingTerminatorOnWrite;
+    private final byte id3v23DefaultTextEncoding;
+    private final byte id3v24DefaultTextEncoding;
+    private final byte id3v24UnicodeTextEncoding;
+    private final boolean resetTextEncodingForExistingFrames;
+    private final boolean padNumbers;
+    private final PadNumberOption padNumberTotalLength;
+    private final boolean isAndroid;
+    private final boolean isAPICDescriptionITunesCompatible;
+    private final boolean isEncodeUTF16BomAsLittleEndian;
+    private final long writeChunkSize;
+    private final boolean isWriteMp4GenresAsText;
+    private final int oggVorbisCommentPaddingSize;
+    private final ReadStrategy readStrategy;
+    private final ReadMode readMode;
+    private final Set<FieldKey> readFields;
+
+    /**
+     * Copy the current values of options
+     *
+     * @param options
+     */
+    TagOptions(TagOptionSingleton options)
+    {
+        id3v2Version = options.getID3V2Version();
+        id3v1Save = options.isId3v1Save();
+        id3v1SaveAlbum = options.isId3v1SaveAlbum();
+        id3v1SaveArtist = options.isId3v1SaveArtist();
+        id3v1SaveComment = options.isId3v1SaveComment();
+        id3v1SaveGenre = options.isId3v1SaveGenre();
+        id3v1SaveTitle = options.isId3v1SaveTitle();
+        id3v1SaveTrack = options.isId3v1SaveTrack();
+        id3v1SaveYear = options.isId3v1SaveYear();
+        id3v2Save = options.isId3v2Save();
+        lyrics3Save = options.isLyrics3Save();
+        lyrics3KeepEmptyFieldIfRead = options.isLyrics3KeepEmptyFieldIfRead();
+        lyrics3SaveEmptyField = options.isLyrics3SaveEmptyField();
+        unsyncTags = options.isUnsyncTags();
+        removeTrailingTerminatorOnWrite = options.isRemoveTrailingTerminatorOnWrite();
+        id3v23DefaultTextEncoding = options.getId3v23DefaultTextEncoding();
+        id3v24DefaultTextEncoding = options.getId3v24DefaultTextEncoding();
+        id3v24UnicodeTextEncoding = options.getId3v24UnicodeTextEncoding();
+        resetTextEncodingForExistingFrames = options.isResetTextEncodingForExistingFrames();
+        padNumbers = options.isPadNumbers();
+        padNumberTotalLength = options.getPadNumberTotalLength();
+        isAndroid = options.isAndroid();
+        isAPICDescriptionITunesCompatible = options.isAPICDescriptionITunesCompatible();
+        isEncodeUTF16BomAsLittleEndian = options.isEncodeUTF16BomAsLittleEndian();
+        writeChunkSize = options.getWriteChunkSize();
+        isWriteMp4GenresAsText = options.isWriteMp4GenresAsText();
+        oggVorbisCommentPaddingSize = options.getOggVorbisCommentPaddingSize();
+        readStrategy = options.getReadStrategy();
+        readMode = options.getReadMode();
+        if (options.getReadFields() == null)
+        {
+            readFields = null;
+        }
+        else
+        {
+            Set<FieldKey> copy = EnumSet.noneOf(FieldKey.class);
+            copy.addAll(options.getReadFields());
+            readFields = Collections.unmodifiableSet(copy);
+        }
+    }
+
+    /**
+     * @return the options current for this thread, or a snapshot of the default TagOptionSingleton if no read
+     *         or write is in progress
+     */
+    public static TagOptions current()
+    {
+        TagOptions options = currentOptions.get();
+        if (options == null)
+        {
+            return TagOptionSingleton.getInstance().getTagOptions();
+        }
+        return options;
+    }
+
+    /**
+     * Make options current for this thread, callers should restore the previous options once they are finished
+     *
+     * @param options the options to use, or null to revert to the default TagOptionSingleton
+     * @return the options that were current before, or null if there were none
+     */
+    public static TagOptions setCurrent(TagOptions options)
+    {
+        TagOptions previous = currentOptions.get();
+        if (options == null)
+        {
+            currentOptions.remove();
+        }
+        else
+        {
+            currentOptions.set(options);
+        }
+        return previous;
+    }
+
+    public ID3V2Version getID3V2Version()
+    {
+        return id3v2Version;
+    }
+
+    public boolean isId3v1Save()
+    {
+        return id3v1Save;
+    }
+
+    public boolean isId3v1SaveAlbum()
+    {
+        return id3v1SaveAlbum;
+    }
+
+    public boolean isId3v1SaveArtist()
+    {
+        return id3v1SaveArtist;
+    }
+
+    public boolean isId3v1SaveComment()
+    {
+        return id3v1SaveComment;
+    }
+
+    public boolean isId3v1SaveGenre()
+    {
+        return id3v1SaveGenre;
+    }
+
+    public boolean isId3v1SaveTitle()
+    {
+        return id3v1SaveTitle;
+    }
+
+    public boolean isId3v1SaveTrack()
+    {
+        return id3v1SaveTrack;
+    }
+
+    public boolean isId3v1SaveYear()
+    {
+        return id3v1SaveYear;
+    }
+
+    public boolean isId3v2Save()
+    {
+        return id3v2Save;
+    }
+
+    public boolean isLyrics3Save()
+    {
+        return lyrics3Save;
+    }
+
+    public boolean isLyrics3KeepEmptyFieldIfRead()
+    {
+        return lyrics3KeepEmptyFieldIfRead;
+    }
+
+    public boolean isLyrics3SaveEmptyField()
+    {
+        return lyrics3SaveEmptyField;
+    }
+
+    public boolean isUnsyncTags()
+    {
+        return unsyncTags;
+    }
+
+    public boolean isRemoveTrailingTerminatorOnWrite()
+    {
+        return removeTrailingTerminatorOnWrite;
+    }
+
+    public byte getId3v23DefaultTextEncoding()
+    {
+        return id3v23DefaultTextEncoding;
+    }
+
+    public byte getId3v24DefaultTextEncoding()
+    {
+        return id3v24DefaultTextEncoding;
+    }
+
+    public byte getId3v24UnicodeTextEncoding()
+    {
+        return id3v24UnicodeTextEncoding;
+    }
+
+    public boolean isResetTextEncodingForExistingFrames()
+    {
+        return resetTextEncodingForExistingFrames;
+    }
+
+    public boolean isPadNumbers()
+    {
+        return padNumbers;
+    }
+
+    public PadNumberOption getPadNumberTotalLength()
+    {
+        return padNumberTotalLength;
+    }
+
+    public boolean isAndroid()
+    {
+        return isAndroid;
+    }
+
+    public boolean isAPICDescriptionITunesCompatible()
+    {
+        return isAPICDescriptionITunesCompatible;
+    }
+
+    public boolean isEncodeUTF16BomAsLittleEndian()
+    {
+        return isEncodeUTF16BomAsLittleEndian;
+    }
+
+    public long getWriteChunkSize()
+    {
+        return writeChunkSize;
+    }
+
+    public boolean isWriteMp4GenresAsText()
+    {
+        return isWriteMp4GenresAsText;
+    }
+
+    public int getOggVorbisCommentPaddingSize()
+    {
+        return oggVorbisCommentPaddingSize;
+    }
+
+    public ReadStrategy getReadStrategy()
+    {
+        return readStrategy;
+    }
+
+    public ReadMode getReadMode()
+    {
+        return readMode;
+    }
+
+    /**
+     * @return the only fields whose values are read, or null if every field is read
+     */
+    public Set<FieldKey> getReadFields()
+    {
+        return readFields;
+    }
+}
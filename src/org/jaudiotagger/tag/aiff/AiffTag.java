@@ -12,10 +12,18 @@ import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.KeyNotFoundException;
 import org.jaudiotagger.tag.Tag;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.TagTextField;
+import org.jaudiotagger.tag.id3.AbstractID3v2Frame;
 import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.id3.ID3v22Frames;
+import org.jaudiotagger.tag.id3.ID3v22Tag;
+import org.jaudiotagger.tag.id3.ID3v23Frames;
+import org.jaudiotagger.tag.id3.ID3v23Tag;
 import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.id3.framebody.AbstractFrameBodyTextInfo;
 import org.jaudiotagger.tag.images.Artwork;
+import org.jaudiotagger.tag.reference.ID3V2Version;
 
 /** AiffTag wraps ID3Tag for most of its metadata */
 public class AiffTag /* extends GenericTag */ implements Tag {
@@ -40,6 +48,46 @@ public class AiffTag /* extends GenericTag */ implements Tag {
         id3Tag = t;
     }
 
+    /** Creates an empty ID3 tag of the version set in the current TagOptions */
+    public static AbstractID3v2Tag createDefaultID3Tag () {
+        return createDefaultID3Tag (TagOptions.current().getID3V2Version());
+    }
+
+    /** Creates an empty ID3 tag of the given version */
+    public static AbstractID3v2Tag createDefaultID3Tag (ID3V2Version id3v2Version) {
+        if (id3v2Version == ID3V2Version.ID3_V22) {
+            return new ID3v22Tag();
+        }
+        else if (id3v2Version == ID3V2Version.ID3_V23) {
+            return new ID3v23Tag();
+        }
+        return new ID3v24Tag();
+    }
+
+    /** Returns the copyright message, stored in the (c) chunk, empty if not set */
+    public String getCopyright () {
+        return id3Tag.getFirst(getCopyrightFrameId());
+    }
+
+    /** Sets the copyright message, stored in the (c) chunk */
+    public void setCopyright (String copyright) {
+        if (copyright == null || copyright.length() == 0) {
+            id3Tag.removeFrame(getCopyrightFrameId());
+            return;
+        }
+        AbstractID3v2Frame frame = id3Tag.createFrame(getCopyrightFrameId());
+        ((AbstractFrameBodyTextInfo) frame.getBody()).setText(copyright);
+        id3Tag.setFrame(frame);
+    }
+
+    /** Returns the id of the frame holding the copyright message for the version of the ID3 tag */
+    private String getCopyrightFrameId () {
+        if (id3Tag instanceof ID3v22Tag) {
+            return ID3v22Frames.FRAME_ID_V2_COPYRIGHTINFO;
+        }
+        return ID3v23Frames.FRAME_ID_V3_COPYRIGHTINFO;
+    }
+
     public void addField(TagField field) throws FieldDataInvalidException
     {
         id3Tag.addField(field);
@@ -16,11 +16,13 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Level;
 
 /**
  * Represents a list of {@link Cloneable}(!!) {@link AbstractDataType}s, continuing until the end of the buffer.
@@ -124,7 +126,7 @@ public abstract class AbstractDataTypeList<T extends AbstractDataType> extends A
      */
     public byte[] writeByteArray()
     {
-        logger.config("Writing DataTypeList " + this.getIdentifier());
+        Log.log(logger, Level.CONFIG, "Writing DataTypeList {}", this.getIdentifier());
         final byte[] buffer = new byte[getSize()];
         int offset = 0;
         for (final AbstractDataType data : getValue()) {
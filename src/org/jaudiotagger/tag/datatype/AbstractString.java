@@ -23,11 +23,13 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
+import java.util.logging.Level;
 
 /**
  * A partial implementation for String based ID3 fields
@@ -117,7 +119,7 @@ public abstract class AbstractString extends AbstractDataType
         }
         else
         {
-            logger.finest("Failed Trying to decode" + value + "with" + encoder.toString());
+            Log.log(logger, Level.FINEST, "Failed Trying to decode{}with{}", value, encoder.toString());
             return false;
         }
     }
@@ -23,8 +23,10 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
+import java.util.logging.Level;
 
 /**
  * Represents a stream of bytes, continuing until the end of the buffer. Usually used for binary data or where
@@ -113,7 +115,7 @@ public class ByteArraySizeTerminated extends AbstractDataType
      */
     public byte[] writeByteArray()
     {
-        logger.config("Writing byte array" + this.getIdentifier());
+        Log.log(logger, Level.CONFIG, "Writing byte array{}", this.getIdentifier());
         return (byte[]) value;
     }
 }
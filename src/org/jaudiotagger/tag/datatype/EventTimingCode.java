@@ -13,9 +13,11 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.EventTimingTypes;
+import java.util.logging.Level;
 
 /**
  * A single event timing code. Part of a list of timing codes ({@link EventTimingCodeList}), that are contained in
@@ -90,7 +92,7 @@ public class EventTimingCode extends AbstractDataType implements Cloneable
         int localOffset = originalOffset;
         int size = getSize();
 
-        logger.finest("offset:" + localOffset);
+        Log.log(logger, Level.FINEST, "offset:{}", localOffset);
 
         //The read has extended further than the defined frame size (ok to extend upto
         //size because the next datatype may be of length 0.)
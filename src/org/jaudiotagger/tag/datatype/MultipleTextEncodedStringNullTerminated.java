@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
@@ -82,7 +83,7 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
     {
-        logger.finer("Reading MultipleTextEncodedStringNullTerminated from array from offset:" + offset);
+        Log.log(logger, Level.FINER, "Reading MultipleTextEncodedStringNullTerminated from array from offset:{}", offset);
         //Continue until unable to read a null terminated String
         while (true)
         {
@@ -119,7 +120,7 @@ public class MultipleTextEncodedStringNullTerminated extends AbstractDataType
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  MultipleTextEncodedStringNullTerminated:" + value + " size:" + size);
+        Log.log(logger, Level.FINER, "Read  MultipleTextEncodedStringNullTerminated:{} size:{}", value, size);
     }
 
     /**
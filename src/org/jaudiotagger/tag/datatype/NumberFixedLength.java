@@ -23,9 +23,11 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.ID3Tags;
+import java.util.logging.Level;
 
 
 /**
@@ -143,7 +145,7 @@ public class NumberFixedLength extends AbstractDataType
             lvalue += (arr[i] & 0xff);
         }
         value = lvalue;
-        logger.config("Read NumberFixedlength:" + value);
+        Log.log(logger, Level.CONFIG, "Read NumberFixedlength:{}", value);
     }
 
 
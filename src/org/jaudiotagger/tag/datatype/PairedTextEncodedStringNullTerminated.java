@@ -1,5 +1,6 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.utils.EqualsUtil;
@@ -90,7 +91,7 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
     {
-        logger.finer("Reading PairTextEncodedStringNullTerminated from array from offset:" + offset);
+        Log.log(logger, Level.FINER, "Reading PairTextEncodedStringNullTerminated from array from offset:{}", offset);
         //Continue until unable to read a null terminated String
         while (true)
         {
@@ -152,7 +153,7 @@ public class PairedTextEncodedStringNullTerminated extends AbstractDataType
                 throw new InvalidDataTypeException("No null terminated Strings found");
             }
         }
-        logger.finer("Read  PairTextEncodedStringNullTerminated:" + value + " size:" + size);
+        Log.log(logger, Level.FINER, "Read  PairTextEncodedStringNullTerminated:{} size:{}", value, size);
     }
 
 
@@ -1,7 +1,8 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.tag.options.PadNumberOption;
@@ -10,6 +11,7 @@ import org.jaudiotagger.utils.EqualsUtil;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.*;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -85,7 +87,7 @@ public class PartOfSet extends AbstractString
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
     {
-        logger.finest("Reading from array from offset:" + offset);
+        Log.log(logger, Level.FINEST, "Reading from array from offset:{}", offset);
 
         //Get the Specified Decoder
         String charSetName = getTextEncodingCharSet();
@@ -109,7 +111,7 @@ public class PartOfSet extends AbstractString
 
         //SetSize, important this is correct for finding the next datatype
         setSize(arr.length - offset);
-        logger.config("Read SizeTerminatedString:" + value + " size:" + size);
+        Log.log(logger, Level.CONFIG, "Read SizeTerminatedString:{} size:{}", value, size);
     }
 
     /**
@@ -127,7 +129,7 @@ public class PartOfSet extends AbstractString
         //Try and write to buffer using the CharSet defined by getTextEncodingCharSet()
         try
         {
-            if (TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+            if (TagOptions.current().isRemoveTrailingTerminatorOnWrite())
             {
                 if (value.length() > 0)
                 {
@@ -178,7 +180,7 @@ public class PartOfSet extends AbstractString
     {
         byte textEncoding = this.getBody().getTextEncoding();
         String charSetName = TextEncoding.getInstanceOf().getValueForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charSetName);
+        Log.log(logger, Level.FINEST, "text encoding:{} charset:{}", textEncoding, charSetName);
         return charSetName;
     }
 
@@ -367,13 +369,13 @@ public class PartOfSet extends AbstractString
         {
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!TagOptions.current().isPadNumbers())
             {
                 return rawCount;
             }
             else
             {
-                padNumber(sb, count, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                padNumber(sb, count, TagOptions.current().getPadNumberTotalLength());
             }
             return sb.toString();
         }
@@ -445,13 +447,13 @@ public class PartOfSet extends AbstractString
         {
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!TagOptions.current().isPadNumbers())
             {
                 return rawTotal;
             }
             else
             {
-                padNumber(sb, total, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                padNumber(sb, total, TagOptions.current().getPadNumberTotalLength());
 
             }
             return sb.toString();
@@ -462,7 +464,7 @@ public class PartOfSet extends AbstractString
 
             //Don't Pad
             StringBuffer sb = new StringBuffer();
-            if (!TagOptionSingleton.getInstance().isPadNumbers())
+            if (!TagOptions.current().isPadNumbers())
             {
                 return rawText;
             }
@@ -470,16 +472,16 @@ public class PartOfSet extends AbstractString
             {
                 if (count != null)
                 {
-                    padNumber(sb, count, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, count, TagOptions.current().getPadNumberTotalLength());
                 }
                 else if (total != null)
                 {
-                    padNumber(sb, 0, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, 0, TagOptions.current().getPadNumberTotalLength());
                 }
                 if (total != null)
                 {
                     sb.append(SEPARATOR);
-                    padNumber(sb, total, TagOptionSingleton.getInstance().getPadNumberTotalLength());
+                    padNumber(sb, total, TagOptions.current().getPadNumberTotalLength());
                 }
                 if (extra != null)
                 {
@@ -23,6 +23,7 @@
  */
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
@@ -33,6 +34,7 @@ import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetDecoder;
 import java.nio.charset.CharsetEncoder;
+import java.util.logging.Level;
 
 
 /**
@@ -87,7 +89,7 @@ public class StringFixedLength extends AbstractString
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
     {
-        logger.config("Reading from array from offset:" + offset);
+        Log.log(logger, Level.CONFIG, "Reading from array from offset:{}", offset);
         try
         {
             String charSetName = getTextEncodingCharSet();
@@ -95,7 +97,7 @@ public class StringFixedLength extends AbstractString
 
             //Decode buffer if runs into problems should through exception which we
             //catch and then set value to empty string.
-            logger.finest("Array length is:" + arr.length + "offset is:" + offset + "Size is:" + size);
+            Log.log(logger, Level.FINEST, "Array length is:{}offset is:{}Size is:{}", arr.length, offset, size);
 
 
             if (arr.length - offset < size)
@@ -114,7 +116,7 @@ public class StringFixedLength extends AbstractString
             logger.severe(ce.getMessage());
             value = "";
         }
-        logger.config("Read StringFixedLength:" + value);
+        Log.log(logger, Level.CONFIG, "Read StringFixedLength:{}", value);
     }
 
     /**
@@ -223,7 +225,7 @@ public class StringFixedLength extends AbstractString
     {
         byte textEncoding = this.getBody().getTextEncoding();
         String charSetName = TextEncoding.getInstanceOf().getValueForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charSetName);
+        Log.log(logger, Level.FINEST, "text encoding:{} charset:{}", textEncoding, charSetName);
         return charSetName;
     }
 }
@@ -1,13 +1,15 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.charset.*;
+import java.util.logging.Level;
 
 /**
  * Represents a String whose size is determined by finding of a null character at the end of the String.
@@ -68,7 +70,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         }
         int bufferSize;
 
-        logger.finer("Reading from array starting from offset:" + offset);
+        Log.log(logger, Level.FINER, "Reading from array starting from offset:{}", offset);
         int size;
 
         //Get the Specified Decoder
@@ -96,7 +98,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
                     buffer.mark();
                     buffer.reset();
                     endPosition = buffer.position() - 1;
-                    logger.finest("Null terminator found starting at:" + endPosition);
+                    Log.log(logger, Level.FINEST, "Null terminator found starting at:{}", endPosition);
 
                     isNullTerminatorFound = true;
                     break;
@@ -112,7 +114,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
                             buffer.mark();
                             buffer.reset();
                             endPosition = buffer.position() - 2;
-                            logger.finest("UTF16:Null terminator found starting  at:" + endPosition);
+                            Log.log(logger, Level.FINEST, "UTF16:Null terminator found starting  at:{}", endPosition);
                             isNullTerminatorFound = true;
                             break;
                         }
@@ -153,7 +155,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         }
 
 
-        logger.finest("End Position is:" + endPosition + "Offset:" + offset);
+        Log.log(logger, Level.FINEST, "End Position is:{}Offset:{}", endPosition, offset);
 
         //Set Size so offset is ready for next field (includes the null terminator)
         size = endPosition - offset;
@@ -168,7 +170,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
         //catch and then set value to empty string. (We don't read the null terminator
         //because we dont want to display this)
         bufferSize = endPosition - offset;
-        logger.finest("Text size is:" + bufferSize);
+        Log.log(logger, Level.FINEST, "Text size is:{}", bufferSize);
         if (bufferSize == 0)
         {
             value = "";
@@ -189,7 +191,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
             value = outBuffer.toString();
         }
         //Set Size so offset is ready for next field (includes the null terminator)
-        logger.config("Read NullTerminatedString:" + value + " size inc terminator:" + size);
+        Log.log(logger, Level.CONFIG, "Read NullTerminatedString:{} size inc terminator:{}", value, size);
     }
 
     /**
@@ -199,7 +201,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
      */
     public byte[] writeByteArray()
     {
-        logger.config("Writing NullTerminatedString." + value);
+        Log.log(logger, Level.CONFIG, "Writing NullTerminatedString.{}", value);
         byte[] data;
         //Write to buffer using the CharSet defined by getTextEncodingCharSet()
         //Add a null terminator which will be encoded based on encoding.
@@ -208,7 +210,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
             String charSetName = getTextEncodingCharSet();
             if (charSetName.equals(TextEncoding.CHARSET_UTF_16))
             {
-                if(TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian())
+                if(TagOptions.current().isEncodeUTF16BomAsLittleEndian())
                 {
                     charSetName = TextEncoding.CHARSET_UTF_16_LE_ENCODING_FORMAT;
                     CharsetEncoder encoder = Charset.forName(charSetName).newEncoder();
@@ -249,7 +251,7 @@ public class TextEncodedStringNullTerminated extends AbstractString
     {
         byte textEncoding = this.getBody().getTextEncoding();
         String charSetName = TextEncoding.getInstanceOf().getValueForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charSetName);
+        Log.log(logger, Level.FINEST, "text encoding:{} charset:{}", textEncoding, charSetName);
         return charSetName;
     }
 }
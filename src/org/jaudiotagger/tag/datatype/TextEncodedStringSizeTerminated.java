@@ -1,7 +1,8 @@
 package org.jaudiotagger.tag.datatype;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
@@ -11,6 +12,7 @@ import java.nio.charset.*;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.logging.Level;
 
 /**
  * Represents a String which is not delimited by null character.
@@ -77,7 +79,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      */
     public void readByteArray(byte[] arr, int offset) throws InvalidDataTypeException
     {
-        logger.finest("Reading from array from offset:" + offset);
+        Log.log(logger, Level.FINEST, "Reading from array from offset:{}", offset);
 
         //Get the Specified Decoder
         String charSetName = getTextEncodingCharSet();
@@ -86,7 +88,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
 
         //Decode sliced inBuffer
         ByteBuffer inBuffer;
-        if(TagOptionSingleton.getInstance().isAndroid())
+        if(TagOptions.current().isAndroid())
         {
            //#302 [dallen] truncating array manually since the decoder.decode() does not honor the offset in the in buffer
            byte[] truncArr = new byte[arr.length - offset];
@@ -119,7 +121,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
         }
         //SetSize, important this is correct for finding the next datatype
         setSize(arr.length - offset);
-        logger.config("Read SizeTerminatedString:" + value + " size:" + size);
+        Log.log(logger, Level.CONFIG, "Read SizeTerminatedString:{} size:{}", value, size);
 
     }
 
@@ -219,7 +221,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      */
     private void stripTrailingNull()
     {
-        if (TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+        if (TagOptions.current().isRemoveTrailingTerminatorOnWrite())
         {
             String stringValue = (String) value;
             if (stringValue.length() > 0)
@@ -241,7 +243,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
      */
     private void checkTrailingNull( List<String> values, String stringValue)
     {
-        if(!TagOptionSingleton.getInstance().isRemoveTrailingTerminatorOnWrite())
+        if(!TagOptions.current().isRemoveTrailingTerminatorOnWrite())
         {
             if (stringValue.length() > 0 && stringValue.charAt(stringValue.length() - 1) == '\0')
             {
@@ -275,7 +277,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
             String actualCharSet = null;
             if (charSetName.equals(TextEncoding.CHARSET_UTF_16))
             {
-                if(TagOptionSingleton.getInstance().isEncodeUTF16BomAsLittleEndian())
+                if(TagOptions.current().isEncodeUTF16BomAsLittleEndian())
                 {
                     actualCharSet = TextEncoding.CHARSET_UTF_16_LE_ENCODING_FORMAT;
                 }
@@ -338,7 +340,7 @@ public class TextEncodedStringSizeTerminated extends AbstractString
     {
         byte textEncoding = this.getBody().getTextEncoding();
         String charSetName = TextEncoding.getInstanceOf().getValueForId(textEncoding);
-        logger.finest("text encoding:" + textEncoding + " charset:" + charSetName);
+        Log.log(logger, Level.FINEST, "text encoding:{} charset:{}", textEncoding, charSetName);
         return charSetName;
     }
 
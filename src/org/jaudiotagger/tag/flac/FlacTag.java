@@ -26,6 +26,7 @@ public class FlacTag implements Tag
 {
     private VorbisCommentTag tag = null;
     private List<MetadataBlockDataPicture> images = new ArrayList<MetadataBlockDataPicture>();
+    private int skippedImageCount;
 
     public FlacTag()
     {
@@ -33,9 +34,30 @@ public class FlacTag implements Tag
     }
 
     public FlacTag(VorbisCommentTag tag, List<MetadataBlockDataPicture> images)
+    {
+        this(tag, images, 0);
+    }
+
+    /**
+     * @param tag
+     * @param images
+     * @param skippedImageCount number of picture blocks not read because artwork was not one of the fields asked for
+     */
+    public FlacTag(VorbisCommentTag tag, List<MetadataBlockDataPicture> images, int skippedImageCount)
     {
         this.tag = tag;
         this.images = images;
+        this.skippedImageCount = skippedImageCount;
+    }
+
+    /**
+     * @return number of picture blocks that were not read because artwork was not one of the fields asked for,
+     *         they are included in {@link #getFieldCount()} and {@link #hasField(FieldKey)}
+     * @see TagOptions#getReadFields()
+     */
+    public int getSkippedImageCount()
+    {
+        return skippedImageCount;
     }
 
     /**
@@ -120,7 +142,7 @@ public class FlacTag implements Tag
      */
     public boolean isEmpty()
     {
-        return (tag == null || tag.isEmpty()) && images.size() == 0;
+        return (tag == null || tag.isEmpty()) && images.size() == 0 && skippedImageCount == 0;
     }
 
     public void setField(FieldKey genericKey, String value) throws KeyNotFoundException, FieldDataInvalidException
@@ -337,7 +359,7 @@ public class FlacTag implements Tag
 
     public int getFieldCount()
     {
-        return tag.getFieldCount() + images.size();
+        return tag.getFieldCount() + images.size() + skippedImageCount;
     }
 
     public int getFieldCountIncludingSubValues()
@@ -476,7 +498,7 @@ public class FlacTag implements Tag
     {
         if (genericKey==FieldKey.COVER_ART)
         {
-            return images.size() > 0;
+            return images.size() > 0 || skippedImageCount > 0;
         }
         else
         {
@@ -498,7 +520,7 @@ public class FlacTag implements Tag
     {
        if (id.equals(FieldKey.COVER_ART.name()))
        {
-           return images.size() > 0;
+           return images.size() > 0 || skippedImageCount > 0;
        }
        else
        {
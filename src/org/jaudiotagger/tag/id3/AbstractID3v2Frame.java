@@ -15,18 +15,22 @@
  */
 package org.jaudiotagger.tag.id3;
 
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.generic.Instrumentation;
+import org.jaudiotagger.audio.generic.InstrumentationPhase;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyEncrypted;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyFactory;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.utils.EqualsUtil;
 
 import java.io.ByteArrayOutputStream;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.nio.ByteBuffer;
+import java.util.Set;
 import java.util.logging.Level;
 
 /**
@@ -54,6 +58,14 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     //when processing many files
     private String loggingFilename = "";
 
+    /**
+     * Identifiers of the frames whose body is read, null to read every frame
+     */
+    protected Set<String> readFrameIds;
+
+    //Set if the body was passed over, the frame then has no body
+    private boolean bodySkipped;
+
     /**
      *
      * @return size in bytes of the frameid field
@@ -115,44 +127,26 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
     //TODO the identifier checks should be done in the relevent subclasses
     public AbstractID3v2Frame(String identifier)
     {
-        logger.config("Creating empty frame of type" + identifier);
+        Log.log(logger, Level.CONFIG, "Creating empty frame of type{}", identifier);
         this.identifier = identifier;
 
-        // Use reflection to map id to frame body, which makes things much easier
-        // to keep things up to date.
-        try
-        {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
-            frameBody = c.newInstance();
-        }
-        catch (ClassNotFoundException cnfe)
+        frameBody = FrameBodyFactory.createBody(identifier);
+        if (frameBody == null)
         {
-            logger.severe(cnfe.getMessage());
+            logger.severe("No frame body for identifier:" + identifier);
             frameBody = new FrameBodyUnsupported(identifier);
         }
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
-        {
-            logger.log(Level.SEVERE, "InstantiationException:" + identifier, ie);
-            throw new RuntimeException(ie);
-        }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
-        {
-            logger.log(Level.SEVERE, "IllegalAccessException:" + identifier, iae);
-            throw new RuntimeException(iae);
-        }
         frameBody.setHeader(this);
         if (this instanceof ID3v24Frame)
         {
-            frameBody.setTextEncoding(TagOptionSingleton.getInstance().getId3v24DefaultTextEncoding());
+            frameBody.setTextEncoding(TagOptions.current().getId3v24DefaultTextEncoding());
         }
         else if (this instanceof ID3v23Frame)
         {
-            frameBody.setTextEncoding(TagOptionSingleton.getInstance().getId3v23DefaultTextEncoding());
+            frameBody.setTextEncoding(TagOptions.current().getId3v23DefaultTextEncoding());
         }
 
-        logger.config("Created empty frame of type" + identifier);
+        Log.log(logger, Level.CONFIG, "Created empty frame of type{}", identifier);
     }
 
     /**
@@ -253,92 +247,80 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
      * @return a newly created FrameBody
      * @throws InvalidFrameException unable to construct a framebody from the data
      */
-    @SuppressWarnings("unchecked")
-    //TODO using reflection is rather slow perhaps we should change this
     protected AbstractID3v2FrameBody readBody(String identifier, ByteBuffer byteBuffer, int frameSize)
             throws InvalidFrameException, InvalidDataTypeException
     {
-        //Use reflection to map id to frame body, which makes things much easier
-        //to keep things up to date,although slight performance hit.
         logger.finest("Creating framebody:start");
 
         AbstractID3v2FrameBody frameBody;
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        boolean isArtwork = identifier.equals(ID3v24Frames.FRAME_ID_ATTACHED_PICTURE) || identifier.equals(ID3v22Frames.FRAME_ID_V2_ATTACHED_PICTURE);
+        long start = isArtwork ? instrumentation.phaseStarted(InstrumentationPhase.READ_ARTWORK) : 0;
         try
         {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
-            Class<?>[] constructorParameterTypes = {Class.forName("java.nio.ByteBuffer"), Integer.TYPE};
-            Object[] constructorParameterValues = {byteBuffer, frameSize};
-            Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
-            frameBody = (construct.newInstance(constructorParameterValues));
-        }
-        //No class defined for this frame type,use FrameUnsupported
-        catch (ClassNotFoundException cex)
-        {
-            logger.config(getLoggingFilename() + ":" + "Identifier not recognised:" + identifier + " using FrameBodyUnsupported");
-            try
+            frameBody = FrameBodyFactory.createBody(identifier, byteBuffer, frameSize);
+            //No class defined for this frame type,use FrameUnsupported
+            if (frameBody == null)
             {
+                Log.log(logger, Level.CONFIG, "{}:Identifier not recognised:{} using FrameBodyUnsupported", getLoggingFilename(), identifier);
                 frameBody = new FrameBodyUnsupported(byteBuffer, frameSize);
             }
-            //Should only throw InvalidFrameException but unfortunately legacy hierachy forces
-            //read method to declare it can throw InvalidtagException
-            catch (InvalidFrameException ife)
-            {
-                throw ife;
-            }
-            catch (InvalidTagException te)
-            {
-                throw new InvalidFrameException(te.getMessage());
-            }
         }
-        //An error has occurred during frame instantiation, if underlying cause is an unchecked exception or error
-        //propagate it up otherwise mark this frame as invalid
-        catch (InvocationTargetException ite)
+        //Should only throw InvalidFrameException or InvalidDataTypeException but unfortunately legacy hierachy forces
+        //read method to declare it can throw InvalidtagException, unchecked exceptions and errors are propagated
+        catch (InvalidFrameException ife)
         {
-            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + ite.getCause().getMessage());
-            if (ite.getCause() instanceof Error)
-            {
-                throw (Error) ite.getCause();
-            }
-            else if (ite.getCause() instanceof RuntimeException)
-            {
-                throw (RuntimeException) ite.getCause();
-            }
-            else if(ite.getCause() instanceof  InvalidFrameException )
-            {
-                throw (InvalidFrameException)ite.getCause();
-            }
-            else if(ite.getCause() instanceof  InvalidDataTypeException )
-            {
-                throw (InvalidDataTypeException)ite.getCause();
-            }
-            else
-            {
-                throw new InvalidFrameException(ite.getCause().getMessage());
-            }
+            throw ife;
         }
-        //No Such Method should not happen
-        catch (NoSuchMethodException sme)
+        catch (InvalidDataTypeException idte)
         {
-            logger.log(Level.SEVERE, getLoggingFilename() + ":" + "No such method:" + sme.getMessage(), sme);
-            throw new RuntimeException(sme.getMessage());
+            throw idte;
         }
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
+        catch (InvalidTagException te)
         {
-            logger.log(Level.SEVERE, getLoggingFilename() + ":" + "Instantiation exception:" + ie.getMessage(), ie);
-            throw new RuntimeException(ie.getMessage());
+            logger.severe(getLoggingFilename() + ":" + "An error occurred within abstractID3v2FrameBody for identifier:" + identifier + ":" + te.getMessage());
+            throw new InvalidFrameException(te.getMessage());
         }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
+        finally
         {
-            logger.log(Level.SEVERE, getLoggingFilename() + ":" + "Illegal access exception :" + iae.getMessage(), iae);
-            throw new RuntimeException(iae.getMessage());
+            if (isArtwork)
+            {
+                instrumentation.phaseEnded(InstrumentationPhase.READ_ARTWORK, start);
+            }
         }
-        logger.finest(getLoggingFilename() + ":" + "Created framebody:end" + frameBody.getIdentifier());
+        Log.log(logger, Level.FINEST, "{}:Created framebody:end{}", getLoggingFilename(), frameBody.getIdentifier());
         frameBody.setHeader(this);
         return frameBody;
     }
 
+    /**
+     * If this frame is not one of the {@link #readFrameIds} move the buffer past its body without reading it
+     *
+     * @param byteBuffer positioned at the start of the body
+     * @param bodySize
+     * @return true if the body was skipped
+     */
+    protected boolean skipBody(ByteBuffer byteBuffer, int bodySize)
+    {
+        if (readFrameIds == null || readFrameIds.contains(identifier))
+        {
+            return false;
+        }
+        Log.log(logger, Level.FINEST, "{}:Skipping body of frame:{}", getLoggingFilename(), identifier);
+        byteBuffer.position(byteBuffer.position() + bodySize);
+        bodySkipped = true;
+        return true;
+    }
+
+    /**
+     * @return true if the body of the frame was not read because the frame was not one of the fields asked for
+     * @see TagOptions#getReadFields()
+     */
+    public boolean isBodySkipped()
+    {
+        return bodySkipped;
+    }
+
     /**
      * Get the next frame id, throwing an exception if unable to do this and check against just having padded data
      * 
@@ -366,7 +348,7 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
         }
 
         identifier = new String(buffer);
-        logger.fine(getLoggingFilename() + ":" + "Identifier is" + identifier);
+        Log.log(logger, Level.FINE, "{}:Identifier is{}", getLoggingFilename(), identifier);
         return identifier;
     }
 
@@ -387,65 +369,23 @@ public abstract class AbstractID3v2Frame extends AbstractTagFrame implements Tag
      * @return newly created framebody for this type
      * @throws InvalidFrameException if unable to construct a framebody for the identifier and body provided.
      */
-    @SuppressWarnings("unchecked")
-    //TODO using reflection is rather slow perhaps we should change this
     protected AbstractID3v2FrameBody readBody(String identifier, AbstractID3v2FrameBody body) throws InvalidFrameException
     {
-        /* Use reflection to map id to frame body, which makes things much easier
-         * to keep things up to date, although slight performance hit.
-         */
-        AbstractID3v2FrameBody frameBody;
-        try
+        if (!FrameBodyFactory.isSupported(identifier))
         {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
-            Class<?>[] constructorParameterTypes = {body.getClass()};
-            Object[] constructorParameterValues = {body};
-            Constructor<AbstractID3v2FrameBody> construct = c.getConstructor(constructorParameterTypes);
-            frameBody = (construct.newInstance(constructorParameterValues));
-        }
-        catch (ClassNotFoundException cex)
-        {
-            logger.config("Identifier not recognised:" + identifier + " unable to create framebody");
+            Log.log(logger, Level.CONFIG, "Identifier not recognised:{} unable to create framebody", identifier);
             throw new InvalidFrameException("FrameBody" + identifier + " does not exist");
         }
+
+        AbstractID3v2FrameBody frameBody = FrameBodyFactory.createBody(identifier, body);
         //If suitable constructor does not exist
-        catch (NoSuchMethodException sme)
+        if (frameBody == null)
         {
-            logger.log(Level.SEVERE, "No such method:" + sme.getMessage(), sme);
+            logger.severe("No constructor for FrameBody" + identifier + " that takes:" + body.getClass().getName());
             throw new InvalidFrameException("FrameBody" + identifier + " does not have a constructor that takes:" + body.getClass().getName());
         }
-        catch (InvocationTargetException ite)
-        {
-            logger.severe("An error occurred within abstractID3v2FrameBody");
-            logger.log(Level.SEVERE, "Invocation target exception:" + ite.getCause().getMessage(), ite.getCause());
-            if (ite.getCause() instanceof Error)
-            {
-                throw (Error) ite.getCause();
-            }
-            else if (ite.getCause() instanceof RuntimeException)
-            {
-                throw (RuntimeException) ite.getCause();
-            }
-            else
-            {
-                throw new InvalidFrameException(ite.getCause().getMessage());
-            }
-        }
-
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
-        {
-            logger.log(Level.SEVERE, "Instantiation exception:" + ie.getMessage(), ie);
-            throw new RuntimeException(ie.getMessage());
-        }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
-        {
-            logger.log(Level.SEVERE, "Illegal access exception :" + iae.getMessage(), iae);
-            throw new RuntimeException(iae.getMessage());
-        }
 
-        logger.finer("frame Body created" + frameBody.getIdentifier());
+        Log.log(logger, Level.FINER, "frame Body created{}", frameBody.getIdentifier());
         frameBody.setHeader(this);
         return frameBody;
     }
@@ -16,13 +16,22 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.SupportedFileFormat;
 import org.jaudiotagger.audio.exceptions.UnableToCreateFileException;
 import org.jaudiotagger.audio.exceptions.UnableToModifyFileException;
 import org.jaudiotagger.audio.exceptions.UnableToRenameFileException;
+import org.jaudiotagger.audio.generic.Cancellation;
+import org.jaudiotagger.audio.generic.FlightRecorderEvent;
+import org.jaudiotagger.audio.generic.FlightRecorderEventType;
+import org.jaudiotagger.audio.generic.Instrumentation;
+import org.jaudiotagger.audio.generic.InstrumentationPhase;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.FileSystemMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.*;
 import org.jaudiotagger.tag.id3.framebody.*;
@@ -114,6 +123,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
     protected static final String TYPE_INVALIDFRAMES = "invalidFrames";
     protected int invalidFrames = 0;
 
+    /**
+     * Frames whose body was not read because they were not one of the fields asked for
+     */
+    protected SkippedFields skippedFrames = new SkippedFields();
+
     /**
      * True if files has a ID3v2 header
      *
@@ -121,7 +135,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      * @return
      * @throws IOException
      */
-    private static boolean isID3V2Header(RandomAccessFile raf) throws IOException
+    private static boolean isID3V2Header(RandomAccessSource raf) throws IOException
     {
         long start = raf.getFilePointer();
         byte[] tagIdentifier = new byte[FIELD_TAGID_LENGTH];
@@ -145,6 +159,18 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      * @throws IOException
      */
     public static boolean isId3Tag(RandomAccessFile raf) throws IOException
+    {
+        return isId3Tag(new RandomAccessSource(raf));
+    }
+
+    /**
+     * Determines if the source contains an id3 tag and if so positions the source just after the end of the tag.
+     *
+     * @param raf
+     * @return
+     * @throws IOException
+     */
+    public static boolean isId3Tag(RandomAccessSource raf) throws IOException
     {
         if (!isID3V2Header(raf))
         {
@@ -862,7 +888,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public void setFrame(String identifier, List<AbstractID3v2Frame> multiFrame)
     {
-        logger.finest("Adding " + multiFrame.size() + " frames for " + identifier);
+        Log.log(logger, Level.FINEST, "Adding {} frames for {}", multiFrame.size(), identifier);
         frameMap.put(identifier, multiFrame);
     }
 
@@ -986,7 +1012,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public void removeFrame(String identifier)
     {
-        logger.finest("Removing frame with identifier:" + identifier);
+        Log.log(logger, Level.FINEST, "Removing frame with identifier:{}", identifier);
         frameMap.remove(identifier);
     }
 
@@ -1004,7 +1030,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
             {
                 if (((AbstractID3v2Frame) o).getBody() instanceof FrameBodyUnsupported)
                 {
-                    logger.finest("Removing frame" + ((AbstractID3v2Frame) o).getIdentifier());
+                    Log.log(logger, Level.FINEST, "Removing frame{}", ((AbstractID3v2Frame) o).getIdentifier());
                     i.remove();
                 }
             }
@@ -1032,7 +1058,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         //with the same id
         for (String match : result)
         {
-            logger.finest("Removing frame with identifier:" + match + "because starts with:" + identifier);
+            Log.log(logger, Level.FINEST, "Removing frame with identifier:{}because starts with:{}", match, identifier);
             frameMap.remove(match);
         }
     }
@@ -1064,7 +1090,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     protected FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException
     {
-        logger.finest("locking fileChannel for " + filePath);
+        Log.log(logger, Level.FINEST, "locking fileChannel for {}", filePath);
         FileLock fileLock;
         try
         {
@@ -1128,21 +1154,12 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
     {
         FileInputStream fis = null;
         FileChannel fc = null;
-        ByteBuffer bb = null;
         try
         {
             //Files
             fis = new FileInputStream(file);
             fc = fis.getChannel();
-
-            //Read possible Tag header  Byte Buffer
-            bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
-            fc.read(bb);
-            bb.flip();
-            if (bb.limit() < (TAG_HEADER_LENGTH))
-            {
-                return 0;
-            }
+            return getV2TagSizeIfExists(fc);
         }
         finally
         {
@@ -1156,6 +1173,26 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
                 fis.close();
             }
         }
+    }
+
+    /**
+     * Checks to see if the channel starts with an ID3tag and if so return the size of the tag (including header),
+     * if no such tag exists return zero. The position of the channel is not changed.
+     *
+     * @param fc
+     * @return the end of the tag in the file or zero if no tag exists.
+     * @throws java.io.IOException
+     */
+    public static long getV2TagSizeIfExists(FileChannel fc) throws IOException
+    {
+        //Read possible Tag header  Byte Buffer
+        ByteBuffer bb = ByteBuffer.allocate(TAG_HEADER_LENGTH);
+        fc.read(bb, 0);
+        bb.flip();
+        if (bb.limit() < (TAG_HEADER_LENGTH))
+        {
+            return 0;
+        }
 
         //ID3 identifier
         byte[] tagIdentifier = new byte[FIELD_TAGID_LENGTH];
@@ -1195,7 +1232,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
     public boolean seek(ByteBuffer byteBuffer)
     {
         byteBuffer.rewind();
-        logger.config("ByteBuffer pos:" + byteBuffer.position() + ":limit" + byteBuffer.limit() + ":cap" + byteBuffer.capacity());
+        Log.log(logger, Level.CONFIG, "ByteBuffer pos:{}:limit{}:cap{}", byteBuffer.position(), byteBuffer.limit(), byteBuffer.capacity());
 
 
         byte[] tagIdentifier = new byte[FIELD_TAGID_LENGTH];
@@ -1255,6 +1292,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         logger.finer("Need to move audio file to accommodate tag");
         FileChannel fcIn = null;
         FileChannel fcOut;
+        long fileSize = file.length();
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.ADJUST_PADDING);
+        String outcome = FlightRecorderEvent.FAILED;
+        long moved = 0;
+        boolean replacing = false;
 
         //Create buffer holds the necessary padding
         ByteBuffer paddingBuffer = ByteBuffer.wrap(new byte[paddingSize]);
@@ -1265,7 +1307,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         try
         {
             paddedFile = File.createTempFile(Utils.getBaseFilenameForTempFile(file), ".new", file.getParentFile());
-            logger.finest("Created temp file:" + paddedFile.getName() + " for " + file.getName());
+            Log.log(logger, Level.FINEST, "Created temp file:{} for {}", paddedFile.getName(), file.getName());
         }
         //Vista:Can occur if have Write permission on folder this file would be created in Denied
         catch (IOException ioe)
@@ -1305,7 +1347,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
             long written = fcOut.write(paddingBuffer);
 
             //Write rest of file starting from audio
-            logger.finer("Copying:" + (file.length() - audioStart) + "bytes");
+            Log.log(logger, Level.FINER, "Copying:{}bytes", (file.length() - audioStart));
 
             //If the amount to be copied is very large we split into 10MB lumps to try and avoid
             //out of memory errors
@@ -1314,7 +1356,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
             {
                 fcIn.position(audioStart);
                 long written2 = fcOut.transferFrom(fcIn, paddingSize, audiolength);
-                logger.finer("Written padding:" + written + " Data:" + written2);
+                Log.log(logger, Level.FINER, "Written padding:{} Data:{}", written, written2);
                 if (written2 != audiolength)
                 {
                     throw new RuntimeException(ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING.getMsg(audiolength, written2));
@@ -1327,10 +1369,11 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
                 long written2 = 0;
                 for (int i = 0; i < noOfChunks; i++)
                 {
+                    Cancellation.checkpoint();
                     written2 += fcIn.transferTo(audioStart + (i * MAXIMUM_WRITABLE_CHUNK_SIZE), MAXIMUM_WRITABLE_CHUNK_SIZE, fcOut);
                 }
                 written2 += fcIn.transferTo(audioStart + (noOfChunks * MAXIMUM_WRITABLE_CHUNK_SIZE), lastChunkSize, fcOut);
-                logger.finer("Written padding:" + written + " Data:" + written2);
+                Log.log(logger, Level.FINER, "Written padding:{} Data:{}", written, written2);
                 if (written2 != audiolength)
                 {
                     throw new RuntimeException(ErrorMessage.MP3_UNABLE_TO_ADJUST_PADDING.getMsg(audiolength, written2));
@@ -1357,12 +1400,28 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
                 }
             }
 
+            //Last chance to stop before the original file is changed
+            Cancellation.checkpoint();
+
             //Replace file with paddedFile
-            replaceFile(file, paddedFile);
+            replacing = true;
+            moved = paddingSize + audiolength;
+            Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+            instrumentation.bytesWritten(moved);
+            long start = instrumentation.phaseStarted(InstrumentationPhase.WRITE_RENAME);
+            try
+            {
+                replaceFile(file, paddedFile);
+            }
+            finally
+            {
+                instrumentation.phaseEnded(InstrumentationPhase.WRITE_RENAME, start);
+            }
 
             //Update modification time
             //TODO is this the right file ?
             paddedFile.setLastModified(lastModified);
+            outcome = FlightRecorderEvent.SUCCEEDED;
         }
         catch (UnableToRenameFileException ure)
         {
@@ -1394,6 +1453,13 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
             {
                 logger.log(Level.WARNING, "Problem closing channels and locks:" + e.getMessage(), e);
             }
+
+            //Failed or cancelled whilst copying so the original file is unchanged
+            if (!replacing && !paddedFile.delete())
+            {
+                logger.warning(ErrorMessage.GENERAL_WRITE_FAILED_TO_DELETE_TEMPORARY_FILE.getMsg(paddedFile.getAbsolutePath()));
+            }
+            event.end(fileSize, SupportedFileFormat.MP3.getFilesuffix(), moved, outcome);
         }
     }
 
@@ -1414,24 +1480,34 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         FileLock fileLock = null;
 
         //We need to adjust location of audio file if true
+        Instrumentation instrumentation = AudioFileIO.getInstrumentation();
+        instrumentation.writeDecision(sizeIncPadding <= audioStartLocation);
         if (sizeIncPadding > audioStartLocation)
         {
             logger.finest("Adjusting Padding");
             adjustPadding(file, sizeIncPadding, audioStartLocation);
         }
+        else
+        {
+            //Last chance to stop before the tag is changed in place
+            Cancellation.checkpoint();
+        }
 
         try
         {
-            fc = new RandomAccessFile(file, "rw").getChannel();
+            //Write through the file rather than its channel so an interrupt cannot stop the write partway
+            RandomAccessFile raf = new RandomAccessFile(file, "rw");
+            fc = raf.getChannel();
             fileLock = getFileLockForWriting(fc, file.getPath());
-            fc.write(headerBuffer);
-            fc.write(ByteBuffer.wrap(bodyByteBuffer));
-            fc.write(ByteBuffer.wrap(new byte[padding]));
+            Utils.write(raf, headerBuffer, 0);
+            raf.write(bodyByteBuffer);
+            raf.write(new byte[padding]);
+            instrumentation.bytesWritten(headerBuffer.limit() + bodyByteBuffer.length + padding);
         }
         catch (FileNotFoundException fe)
         {
             logger.log(Level.SEVERE, getLoggingFilename() + fe.getMessage(), fe);
-            if (fe.getMessage().equals(FileSystemMessage.ACCESS_IS_DENIED.getMsg()))
+            if (FileSystemMessage.ACCESS_IS_DENIED.getMsg().equals(fe.getMessage()))
             {
                 logger.severe(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING.getMsg(file.getPath()));
                 throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING.getMsg(file.getPath()));
@@ -1445,7 +1521,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         catch (IOException ioe)
         {
             logger.log(Level.SEVERE, getLoggingFilename() + ioe.getMessage(), ioe);
-            if (ioe.getMessage().equals(FileSystemMessage.ACCESS_IS_DENIED.getMsg()))
+            if (FileSystemMessage.ACCESS_IS_DENIED.getMsg().equals(ioe.getMessage()))
             {
                 logger.severe(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING.getMsg(file.getParentFile().getPath()));
                 throw new UnableToModifyFileException(ErrorMessage.GENERAL_WRITE_FAILED_TO_OPEN_FILE_FOR_EDITING.getMsg(file.getParentFile().getPath()));
@@ -1460,7 +1536,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         {
             if (fc != null)
             {
-                if (fileLock != null)
+                if (fileLock != null && fc.isOpen())
                 {
                     fileLock.release();
                 }
@@ -1565,6 +1641,58 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         }
     }
 
+    /**
+     * @return identifiers of the frames whose body is read, or null to read every frame
+     * @see TagOptions#getReadFields()
+     */
+    protected Set<String> getReadFrameIds()
+    {
+        Set<FieldKey> readFields = TagOptions.current().getReadFields();
+        if (readFields == null)
+        {
+            return null;
+        }
+        Set<String> readFrameIds = new HashSet<String>();
+        for (FieldKey fieldKey : readFields)
+        {
+            try
+            {
+                readFrameIds.add(getFrameAndSubIdFromGenericKey(fieldKey).getFrameId());
+            }
+            catch (KeyNotFoundException knfe)
+            {
+                //Field not supported by this version of ID3
+            }
+        }
+        return readFrameIds;
+    }
+
+    /**
+     * Record a frame whose body was not read, a duplicate of a frame that is not allowed more than once is
+     * ignored just as it would be if read
+     *
+     * @param frameId
+     */
+    protected void loadSkippedFrame(String frameId)
+    {
+        if ((ID3v24Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
+            (ID3v23Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
+            (ID3v22Frames.getInstanceOf().isMultipleAllowed(frameId)) ||
+            (!skippedFrames.contains(frameId)))
+        {
+            skippedFrames.add(frameId);
+        }
+    }
+
+    /**
+     * @return frames whose body was not read because they were not one of the fields asked for, they are
+     *         included in {@link #getFieldCount()} and {@link #hasField(FieldKey)} but cannot be retrieved
+     */
+    public SkippedFields getSkippedFields()
+    {
+        return skippedFrames;
+    }
+
     /**
      * Add frame to the frame map
      *
@@ -1573,6 +1701,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     protected void loadFrameIntoMap(String frameId, AbstractID3v2Frame next)
     {
+        AudioFileIO.getInstrumentation().framesParsed(1);
         if (next.getBody() instanceof FrameBodyEncrypted)
         {
             loadFrameIntoSpecifiedMap(encryptedFrameMap, frameId, next);
@@ -1608,7 +1737,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
                 {
                     ArrayList<AbstractID3v2Frame> multiValues = (ArrayList<AbstractID3v2Frame>) o;
                     multiValues.add(next);
-                    logger.finer("Adding Multi Frame(1)" + frameId);
+                    Log.log(logger, Level.FINER, "Adding Multi Frame(1){}", frameId);
                 }
                 else
                 {
@@ -1616,12 +1745,12 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
                     multiValues.add((AbstractID3v2Frame) o);
                     multiValues.add(next);
                     map.put(frameId, multiValues);
-                    logger.finer("Adding Multi Frame(2)" + frameId);
+                    Log.log(logger, Level.FINER, "Adding Multi Frame(2){}", frameId);
                 }
             }
             else
             {
-                logger.finer("Adding Multi FrameList(3)" + frameId);
+                Log.log(logger, Level.FINER, "Adding Multi FrameList(3){}", frameId);
                 map.put(frameId, next);
             }
         }
@@ -1639,7 +1768,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         }
         else
         {
-            logger.finer("Adding Frame" + frameId);
+            Log.log(logger, Level.FINER, "Adding Frame{}", frameId);
             map.put(frameId, next);
         }
     }
@@ -1892,7 +2021,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
 
         try
         {
-            return getFirstField(key) != null;
+            return getFirstField(key) != null || skippedFrames.contains(getFrameAndSubIdFromGenericKey(key).getFrameId());
         }
         catch(KeyNotFoundException knfe)
         {
@@ -1908,7 +2037,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public boolean hasField(String id)
     {
-        return hasFrame(id);
+        return hasFrame(id) || skippedFrames.contains(id);
     }
 
     /**
@@ -1918,7 +2047,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
      */
     public boolean isEmpty()
     {
-        return frameMap.size() == 0;
+        return frameMap.size() == 0 && skippedFrames.isEmpty();
     }
 
     /**
@@ -2057,7 +2186,7 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         {
             //this is thrown when no more elements
         }
-        return count;
+        return count + skippedFrames.getCount();
     }
 
     /**
@@ -2095,7 +2224,8 @@ public abstract class AbstractID3v2Tag extends AbstractID3Tag implements Tag
         {
             //this is thrown when no more elements
         }
-        return count;
+        //Skipped frames count as one field as their values are not known
+        return count + skippedFrames.getCount();
     }
 
     //TODO is this a special field?
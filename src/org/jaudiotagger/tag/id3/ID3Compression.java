@@ -1,6 +1,7 @@
 package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidFrameException;
 
 import java.nio.ByteBuffer;
@@ -33,7 +34,7 @@ public class ID3Compression
      */
     protected static ByteBuffer uncompress(String identifier,String filename, ByteBuffer byteBuffer, int decompressedFrameSize, int realFrameSize) throws InvalidFrameException
     {
-        logger.config(filename + ":About to decompress " + realFrameSize + " bytes, expect result to be:" + decompressedFrameSize + " bytes");
+        Log.log(logger, Level.CONFIG, "{}:About to decompress {} bytes, expect result to be:{} bytes", filename, realFrameSize, decompressedFrameSize);
         // Decompress the bytes into this buffer, size initialized from header field
         byte[] result = new byte[decompressedFrameSize];
         byte[] input = new byte[realFrameSize];
@@ -49,7 +50,7 @@ public class ID3Compression
         try
         {
             int inflatedTo = decompresser.inflate(result);
-            logger.config(filename + ":Decompressed to " + inflatedTo + " bytes");
+            Log.log(logger, Level.CONFIG, "{}:Decompressed to {} bytes", filename, inflatedTo);
         }
         catch (DataFormatException dfe)
         {
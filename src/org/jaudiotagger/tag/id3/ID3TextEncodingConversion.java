@@ -1,6 +1,6 @@
 package org.jaudiotagger.tag.id3;
 
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
 import java.util.logging.Logger;
@@ -32,9 +32,9 @@ public class ID3TextEncodingConversion
         {
             logger.warning("Header has not yet been set for this framebody");
 
-            if (TagOptionSingleton.getInstance().isResetTextEncodingForExistingFrames())
+            if (TagOptions.current().isResetTextEncodingForExistingFrames())
             {
-                return TagOptionSingleton.getInstance().getId3v23DefaultTextEncoding();
+                return TagOptions.current().getId3v23DefaultTextEncoding();
             }
             else
             {
@@ -43,10 +43,10 @@ public class ID3TextEncodingConversion
         }
         else if (header instanceof ID3v24Frame)
         {
-            if (TagOptionSingleton.getInstance().isResetTextEncodingForExistingFrames())
+            if (TagOptions.current().isResetTextEncodingForExistingFrames())
             {
                 //Replace with default
-                return TagOptionSingleton.getInstance().getId3v24DefaultTextEncoding();
+                return TagOptions.current().getId3v24DefaultTextEncoding();
             }
             else
             {
@@ -56,10 +56,10 @@ public class ID3TextEncodingConversion
         }
         else
         {
-            if (TagOptionSingleton.getInstance().isResetTextEncodingForExistingFrames())
+            if (TagOptions.current().isResetTextEncodingForExistingFrames())
             {
                 //Replace with default
-                return TagOptionSingleton.getInstance().getId3v23DefaultTextEncoding();
+                return TagOptions.current().getId3v23DefaultTextEncoding();
             }
             else
             {
@@ -84,7 +84,7 @@ public class ID3TextEncodingConversion
         }
         else if (header instanceof ID3v24Frame)
         {
-            return TagOptionSingleton.getInstance().getId3v24UnicodeTextEncoding();
+            return TagOptions.current().getId3v24UnicodeTextEncoding();
         }
         else
         {
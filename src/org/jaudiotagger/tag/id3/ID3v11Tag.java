@@ -225,13 +225,24 @@ public class ID3v11Tag extends ID3v1Tag
      * @throws IOException
      */
     public ID3v11Tag(RandomAccessFile file, String loggingFilename) throws TagNotFoundException, IOException
+    {
+        this(file.getChannel(), loggingFilename);
+    }
+
+    /**
+     * Creates a new ID3v11 datatype from the end of the channel.
+     *
+     * @param fc
+     * @param loggingFilename
+     * @throws TagNotFoundException
+     * @throws IOException
+     */
+    public ID3v11Tag(FileChannel fc, String loggingFilename) throws TagNotFoundException, IOException
     {
         setLoggingFilename(loggingFilename);
-        FileChannel fc;
         ByteBuffer byteBuffer = ByteBuffer.allocate(TAG_LENGTH);
 
-        fc = file.getChannel();
-        fc.position(file.length() - TAG_LENGTH);
+        fc.position(fc.size() - TAG_LENGTH);
 
         fc.read(byteBuffer);
         byteBuffer.flip();
@@ -551,7 +562,7 @@ public class ID3v11Tag extends ID3v1Tag
         file.seek(file.length());
         System.arraycopy(TAG_ID, FIELD_TAGID_POS, buffer, FIELD_TAGID_POS, TAG_ID.length);
         int offset = FIELD_TITLE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveTitle())
+        if (TagOptions.current().isId3v1SaveTitle())
         {
             str = ID3Tags.truncate(title, FIELD_TITLE_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -560,7 +571,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_ARTIST_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveArtist())
+        if (TagOptions.current().isId3v1SaveArtist())
         {
             str = ID3Tags.truncate(artist, FIELD_ARTIST_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -569,7 +580,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_ALBUM_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveAlbum())
+        if (TagOptions.current().isId3v1SaveAlbum())
         {
             str = ID3Tags.truncate(album, FIELD_ALBUM_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -578,7 +589,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_YEAR_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveYear())
+        if (TagOptions.current().isId3v1SaveYear())
         {
             str = ID3Tags.truncate(year, FIELD_YEAR_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -587,7 +598,7 @@ public class ID3v11Tag extends ID3v1Tag
             }
         }
         offset = FIELD_COMMENT_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveComment())
+        if (TagOptions.current().isId3v1SaveComment())
         {
             str = ID3Tags.truncate(comment, FIELD_COMMENT_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -598,7 +609,7 @@ public class ID3v11Tag extends ID3v1Tag
         offset = FIELD_TRACK_POS;
         buffer[offset] = track; // skip one byte extra blank for 1.1 definition
         offset = FIELD_GENRE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveGenre())
+        if (TagOptions.current().isId3v1SaveGenre())
         {
             buffer[offset] = genre;
         }
@@ -26,6 +26,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.reference.GenreTypes;
@@ -36,6 +37,7 @@ import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.util.*;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 
 /**
@@ -184,13 +186,24 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
      * @throws IOException
      */
     public ID3v1Tag(RandomAccessFile file, String loggingFilename) throws TagNotFoundException, IOException
+    {
+        this(file.getChannel(), loggingFilename);
+    }
+
+    /**
+     * Creates a new ID3v1 datatype from the end of the channel.
+     *
+     * @param fc
+     * @param loggingFilename
+     * @throws TagNotFoundException
+     * @throws IOException
+     */
+    public ID3v1Tag(FileChannel fc, String loggingFilename) throws TagNotFoundException, IOException
     {
         setLoggingFilename(loggingFilename);
-        FileChannel fc;
         ByteBuffer byteBuffer;
 
-        fc = file.getChannel();
-        fc.position(file.length() - TAG_LENGTH);
+        fc.position(fc.size() - TAG_LENGTH);
         byteBuffer = ByteBuffer.allocate(TAG_LENGTH);
         fc.read(byteBuffer);
         byteBuffer.flip();
@@ -920,7 +933,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         {
             throw new TagNotFoundException(getLoggingFilename() + ":" + "ID3v1 tag not found");
         }
-        logger.finer(getLoggingFilename() + ":" + "Reading v1 tag");
+        Log.log(logger, Level.FINER, "{}:Reading v1 tag", getLoggingFilename());
         //Do single file read of data to cut down on file reads
         byte[] dataBuffer = new byte[TAG_LENGTH];
         byteBuffer.position(0);
@@ -939,11 +952,11 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         }
         album = Utils.getString(dataBuffer, FIELD_ALBUM_POS, FIELD_ALBUM_LENGTH, "ISO-8859-1").trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(album);
-        logger.finest(getLoggingFilename() + ":" + "Orig Album is:" + comment + ":");
+        Log.log(logger, Level.FINEST, "{}:Orig Album is:{}:", getLoggingFilename(), comment);
         if (m.find())
         {
             album = album.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Album is:" + album + ":");
+            Log.log(logger, Level.FINEST, "{}:Album is:{}:", getLoggingFilename(), album);
         }
         year = Utils.getString(dataBuffer, FIELD_YEAR_POS, FIELD_YEAR_LENGTH, "ISO-8859-1").trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(year);
@@ -953,11 +966,11 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         }
         comment = Utils.getString(dataBuffer, FIELD_COMMENT_POS, FIELD_COMMENT_LENGTH, "ISO-8859-1").trim();
         m = AbstractID3v1Tag.endofStringPattern.matcher(comment);
-        logger.finest(getLoggingFilename() + ":" + "Orig Comment is:" + comment + ":");
+        Log.log(logger, Level.FINEST, "{}:Orig Comment is:{}:", getLoggingFilename(), comment);
         if (m.find())
         {
             comment = comment.substring(0, m.start());
-            logger.finest(getLoggingFilename() + ":" + "Comment is:" + comment + ":");
+            Log.log(logger, Level.FINEST, "{}:Comment is:{}:", getLoggingFilename(), comment);
         }
         genre = dataBuffer[FIELD_GENRE_POS];
 
@@ -993,7 +1006,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
         //Copy the TAGID into new buffer
         System.arraycopy(TAG_ID, FIELD_TAGID_POS, buffer, FIELD_TAGID_POS, TAG_ID.length);
         int offset = FIELD_TITLE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveTitle())
+        if (TagOptions.current().isId3v1SaveTitle())
         {
             str = ID3Tags.truncate(title, FIELD_TITLE_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1002,7 +1015,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_ARTIST_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveArtist())
+        if (TagOptions.current().isId3v1SaveArtist())
         {
             str = ID3Tags.truncate(artist, FIELD_ARTIST_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1011,7 +1024,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_ALBUM_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveAlbum())
+        if (TagOptions.current().isId3v1SaveAlbum())
         {
             str = ID3Tags.truncate(album, FIELD_ALBUM_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1020,7 +1033,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_YEAR_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveYear())
+        if (TagOptions.current().isId3v1SaveYear())
         {
             str = ID3Tags.truncate(year, AbstractID3v1Tag.FIELD_YEAR_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1029,7 +1042,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_COMMENT_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveComment())
+        if (TagOptions.current().isId3v1SaveComment())
         {
             str = ID3Tags.truncate(comment, FIELD_COMMENT_LENGTH);
             for (i = 0; i < str.length(); i++)
@@ -1038,7 +1051,7 @@ public class ID3v1Tag extends AbstractID3v1Tag implements Tag
             }
         }
         offset = FIELD_GENRE_POS;
-        if (TagOptionSingleton.getInstance().isId3v1SaveGenre())
+        if (TagOptions.current().isId3v1SaveGenre())
         {
             buffer[offset] = genre;
         }
@@ -17,9 +17,11 @@ package org.jaudiotagger.tag.id3;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.id3.framebody.AbstractID3v2FrameBody;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyDeprecated;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyFactory;
 import org.jaudiotagger.tag.id3.framebody.FrameBodyUnsupported;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 import org.jaudiotagger.utils.EqualsUtil;
@@ -28,6 +30,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -112,11 +115,10 @@ public class ID3v22Frame extends AbstractID3v2Frame
      * create a new frame from scratch using user values
      * @param identifier
      */
-    @SuppressWarnings("unchecked")
     public ID3v22Frame(String identifier)
     {
 
-        logger.config("Creating empty frame of type" + identifier);
+        Log.log(logger, Level.CONFIG, "Creating empty frame of type{}", identifier);
         String bodyIdentifier = identifier;
         this.identifier = identifier;
 
@@ -148,32 +150,14 @@ public class ID3v22Frame extends AbstractID3v2Frame
             }
         }
 
-        // Use reflection to map id to frame body, which makes things much easier
-        // to keep things up to date.
-        try
-        {
-            Class<AbstractID3v2FrameBody> c = (Class<AbstractID3v2FrameBody>) Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + bodyIdentifier);
-            frameBody = c.newInstance();
-        }
-        catch (ClassNotFoundException cnfe)
+        frameBody = FrameBodyFactory.createBody(bodyIdentifier);
+        if (frameBody == null)
         {
-            logger.log(Level.SEVERE, cnfe.getMessage(), cnfe);
+            logger.severe("No frame body for identifier:" + bodyIdentifier);
             frameBody = new FrameBodyUnsupported(identifier);
         }
-        //Instantiate Interface/Abstract should not happen
-        catch (InstantiationException ie)
-        {
-            logger.log(Level.SEVERE, ie.getMessage(), ie);
-            throw new RuntimeException(ie);
-        }
-        //Private Constructor shouild not happen
-        catch (IllegalAccessException iae)
-        {
-            logger.log(Level.SEVERE, iae.getMessage(), iae);
-            throw new RuntimeException(iae);
-        }
         frameBody.setHeader(this);
-        logger.config("Created empty frame of type" + this.identifier + "with frame body of" + bodyIdentifier);
+        Log.log(logger, Level.CONFIG, "Created empty frame of type{}with frame body of{}", this.identifier, bodyIdentifier);
 
     }
 
@@ -194,7 +178,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
         identifier = ID3Tags.convertFrameID23To22(frame.getIdentifier());
         if (identifier != null)
         {
-            logger.config("V2:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            Log.log(logger, Level.CONFIG, "V2:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
             this.frameBody = (AbstractID3v2FrameBody) ID3Tags.copyObject(frame.getBody());
         }
         // Is it a known v3 frame which needs forcing to v2 frame e.g. APIC - PIC
@@ -203,7 +187,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
             identifier = ID3Tags.forceFrameID23To22(frame.getIdentifier());
             if (identifier != null)
             {
-                logger.config("V2:Force:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.CONFIG, "V2:Force:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
             }
             // No mechanism exists to convert it to a v22 frame
@@ -220,14 +204,14 @@ public class ID3v22Frame extends AbstractID3v2Frame
             {
                 this.frameBody = frame.getBody();
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.CONFIG, "DEPRECATED:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
             }
             //or was it still deprecated, if so leave as is
             else
             {
                 this.frameBody = new FrameBodyDeprecated((FrameBodyDeprecated) frame.getBody());
                 identifier = frame.getIdentifier();
-                logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.CONFIG, "DEPRECATED:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
             }
         }
         // Unknown Frame e.g NCON
@@ -235,7 +219,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
         {
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             identifier = frame.getIdentifier();
-            logger.config("v2:UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            Log.log(logger, Level.CONFIG, "v2:UNKNOWN:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
         }
     }
 
@@ -276,8 +260,24 @@ public class ID3v22Frame extends AbstractID3v2Frame
      * @throws org.jaudiotagger.tag.InvalidFrameException
      */
     public ID3v22Frame(ByteBuffer byteBuffer, String loggingFilename) throws InvalidFrameException, InvalidDataTypeException
+    {
+        this(byteBuffer, loggingFilename, null);
+    }
+
+    /**
+     * Creates a new ID3v22Frame datatype by reading from byteBuffer, only reading the body if it is one of the frames
+     * asked for
+     *
+     * @param byteBuffer      to read from
+     * @param loggingFilename
+     * @param readFrameIds    identifiers of the frames whose body is read, null to read every frame
+     * @throws org.jaudiotagger.tag.InvalidFrameException
+     * @see #isBodySkipped()
+     */
+    public ID3v22Frame(ByteBuffer byteBuffer, String loggingFilename, Set<String> readFrameIds) throws InvalidFrameException, InvalidDataTypeException
     {
         setLoggingFilename(loggingFilename);
+        this.readFrameIds = readFrameIds;
         read(byteBuffer);
     }
 
@@ -332,7 +332,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
         // Is this a valid identifier?
         if (!isValidID3v2FrameIdentifier(identifier))
         {
-            logger.config("Invalid identifier:" + identifier);
+            Log.log(logger, Level.CONFIG, "Invalid identifier:{}", identifier);
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.20 frame");
         }
@@ -356,7 +356,12 @@ public class ID3v22Frame extends AbstractID3v2Frame
         }
         else
         {
-            logger.fine("Frame Size Is:" + frameSize);
+            Log.log(logger, Level.FINE, "Frame Size Is:{}", frameSize);
+            if (skipBody(byteBuffer, frameSize))
+            {
+                return;
+            }
+
             //Convert v2.2 to v2.4 id just for reading the data
             String id = ID3Tags.convertFrameID22To24(identifier);
             if (id == null)
@@ -378,7 +383,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
                     }
                 }
             }
-            logger.fine("Identifier was:" + identifier + " reading using:" + id);
+            Log.log(logger, Level.FINE, "Identifier was:{} reading using:{}", identifier, id);
 
             //Create Buffer that only contains the body of this frame rather than the remainder of tag
             ByteBuffer frameBodyBuffer = byteBuffer.slice();
@@ -420,7 +425,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
      */
     public void write(ByteArrayOutputStream tagBuffer)
     {
-        logger.config("Write Frame to Buffer" + getIdentifier());
+        Log.log(logger, Level.CONFIG, "Write Frame to Buffer{}", getIdentifier());
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(getFrameHeaderSize());
@@ -460,7 +465,7 @@ public class ID3v22Frame extends AbstractID3v2Frame
         headerBuffer.put((byte) ((size & 0x00FF0000) >> 16));
         headerBuffer.put((byte) ((size & 0x0000FF00) >> 8));
         headerBuffer.put((byte) (size & 0x000000FF));
-        logger.fine("Frame Size Is Actual:" + size + ":Encoded bin:" + Integer.toBinaryString(size) + ":Encoded Hex" + Integer.toHexString(size));
+        Log.log(logger, Level.FINE, "Frame Size Is Actual:{}:Encoded bin:{}:Encoded Hex{}", size, Integer.toBinaryString(size), Integer.toHexString(size));
     }
 
     /**
@@ -106,7 +106,6 @@ public class ID3v22Frames extends ID3Frames
     public static final String FRAME_ID_V2_ALBUM_ARTIST_SORT_ORDER_ITUNES = "TS2";
     public static final String FRAME_ID_V2_COMPOSER_SORT_ORDER_ITUNES = "TSC";
 
-    private static ID3v22Frames id3v22Frames;
 
     /**
      * Maps from Generic key to ID3 key
@@ -118,14 +117,17 @@ public class ID3v22Frames extends ID3Frames
      */
     protected EnumMap<ID3v22FieldKey, FieldKey> id3ToTagField = new EnumMap<ID3v22FieldKey,FieldKey>(ID3v22FieldKey.class);
 
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3v22Frames INSTANCE = new ID3v22Frames();
+    }
 
     public static ID3v22Frames getInstanceOf()
     {
-        if (id3v22Frames == null)
-        {
-            id3v22Frames = new ID3v22Frames();
-        }
-        return id3v22Frames;
+        return InstanceHolder.INSTANCE;
     }
 
     private ID3v22Frames()
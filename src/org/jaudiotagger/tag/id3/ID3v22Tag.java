@@ -15,9 +15,11 @@
  */
 package org.jaudiotagger.tag.id3;
 
+import java.util.Set;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.datatype.DataTypes;
@@ -298,12 +300,18 @@ public class ID3v22Tag extends AbstractID3v2Tag
 
         if (unsynchronization)
         {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (compression)
         {
-            logger.config(ErrorMessage.ID3_TAG_COMPRESSED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_COMPRESSED.getMsg(getLoggingFilename()));
+            }
         }
 
         //Not allowable/Unknown Flags
@@ -344,7 +352,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
         {
             throw new TagNotFoundException("ID3v2.20 tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file");
+        Log.log(logger, Level.CONFIG, "{}:Reading tag from file", getLoggingFilename());
 
         //Read the flags
         readHeaderFlags(byteBuffer);
@@ -361,7 +369,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
             bufferWithoutHeader = ID3Unsynchronization.synchronize(bufferWithoutHeader);
         }
         readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":" + "Loaded Frames,there are:" + frameMap.keySet().size());
+        Log.log(logger, Level.CONFIG, "{}:Loaded Frames,there are:{}", getLoggingFilename(), frameMap.keySet().size());
     }
 
     /**
@@ -375,10 +383,11 @@ public class ID3v22Tag extends AbstractID3v2Tag
         ID3v22Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        Set<String> readFrameIds = getReadFrameIds();
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames sizes and padding is:" + size);
+        Log.log(logger, Level.FINEST, "{}:Start of frame body at:{},frames sizes and padding is:{}", getLoggingFilename(), byteBuffer.position(), size);
         /* todo not done yet. Read the first Frame, there seems to be quite a
          ** common case of extra data being between the tag header and the first
          ** frame so should we allow for this when reading first frame, but not subsequent frames
@@ -389,15 +398,20 @@ public class ID3v22Tag extends AbstractID3v2Tag
             try
             {
                 //Read Frame
-                logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
-                next = new ID3v22Frame(byteBuffer, getLoggingFilename());
+                Log.log(logger, Level.FINEST, "{}:looking for next frame at:{}", getLoggingFilename(), byteBuffer.position());
+                next = new ID3v22Frame(byteBuffer, getLoggingFilename(), readFrameIds);
                 String id = next.getIdentifier();
+                if (next.isBodySkipped())
+                {
+                    loadSkippedFrame(id);
+                    continue;
+                }
                 loadFrameIntoMap(id, next);
             }
             //Found Padding, no more frames
             catch (PaddingException ex)
             {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                Log.log(logger, Level.CONFIG, "{}:Found padding starting at:{}", getLoggingFilename(), byteBuffer.position());
                 break;
             }
             //Found Empty Frame
@@ -408,7 +422,7 @@ public class ID3v22Tag extends AbstractID3v2Tag
             }
             catch (InvalidFrameIdentifierException ifie)
             {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                Log.log(logger, Level.CONFIG, "{}:Invalid Frame Identifier:{}", getLoggingFilename(), ifie.getMessage());
                 this.invalidFrames++;
                 //Dont try and find any more frames
                 break;
@@ -508,24 +522,24 @@ public class ID3v22Tag extends AbstractID3v2Tag
     public void write(File file, long audioStartLocation) throws IOException
     {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:"+getLoggingFilename());
+        Log.log(logger, Level.CONFIG, "Writing tag to file:{}", getLoggingFilename());
 
         // Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            Log.log(logger, Level.CONFIG, "{}:bodybytebuffer:sizeafterunsynchronisation:{}", getLoggingFilename(), bodyByteBuffer.length);
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        Log.log(logger, Level.CONFIG, "{}:Current audiostart:{}", getLoggingFilename(), audioStartLocation);
+        Log.log(logger, Level.CONFIG, "{}:Size including padding:{}", getLoggingFilename(), sizeIncPadding);
+        Log.log(logger, Level.CONFIG, "{}:Padding:{}", getLoggingFilename(), padding);
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file,headerBuffer, bodyByteBuffer,padding,sizeIncPadding,audioStartLocation);
@@ -538,17 +552,17 @@ public class ID3v22Tag extends AbstractID3v2Tag
     @Override
     public void write(WritableByteChannel channel) throws IOException
     {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        Log.log(logger, Level.CONFIG, "{}:Writing tag to channel", getLoggingFilename());
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        Log.log(logger, Level.CONFIG, "{}:bodybytebuffer:sizebeforeunsynchronisation:{}", getLoggingFilename(), bodyByteBuffer.length);
 
         //Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            Log.log(logger, Level.CONFIG, "{}:bodybytebuffer:sizeafterunsynchronisation:{}", getLoggingFilename(), bodyByteBuffer.length);
         }
         ByteBuffer headerBuffer = writeHeaderToBuffer(0, bodyByteBuffer.length);
 
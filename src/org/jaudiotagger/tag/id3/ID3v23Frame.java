@@ -19,6 +19,7 @@ import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.EmptyFrameException;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
@@ -30,6 +31,8 @@ import org.jaudiotagger.utils.EqualsUtil;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -143,7 +146,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.CONFIG, "UNKNOWN:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                 return;
             }
             // Deprecated frame for v24
@@ -156,7 +159,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    Log.log(logger, Level.CONFIG, "DEPRECATED:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                 }
                 //or was it still deprecated, if so leave as is
                 else
@@ -166,7 +169,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
 
                     identifier = frame.getIdentifier();
-                    logger.config("DEPRECATED:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    Log.log(logger, Level.CONFIG, "DEPRECATED:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                     return;
                 }
             }
@@ -177,7 +180,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 identifier = ID3Tags.convertFrameID24To23(frame.getIdentifier());
                 if (identifier != null)
                 {
-                    logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    Log.log(logger, Level.FINER, "V4:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
@@ -189,7 +192,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     identifier = ID3Tags.forceFrameID24To23(frame.getIdentifier());
                     if (identifier != null)
                     {
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        Log.log(logger, Level.FINER, "V4:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         this.frameBody.setTextEncoding(ID3TextEncodingConversion.getTextEncoding(this,this.frameBody.getTextEncoding()));
@@ -206,7 +209,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                         identifier = frame.getIdentifier();
                         this.frameBody = new FrameBodyUnsupported(identifier, baos.toByteArray());
                         this.frameBody.setHeader(this);
-                        logger.finer("V4:Orig id is:" + frame.getIdentifier() + ":New Id Unsupported is:" + identifier);
+                        Log.log(logger, Level.FINER, "V4:Orig id is:{}:New Id Unsupported is:{}", frame.getIdentifier(), identifier);
                         return;
                     }
                 }
@@ -225,7 +228,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 identifier = ID3Tags.convertFrameID22To23(frame.getIdentifier());
                 if (identifier != null)
                 {
-                    logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                    Log.log(logger, Level.CONFIG, "V3:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                     this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                     this.frameBody.setHeader(this);
                     return;
@@ -237,7 +240,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                     identifier = ID3Tags.forceFrameID22To23(frame.getIdentifier());
                     if (identifier != null)
                     {
-                        logger.config("V22Orig id is:" + frame.getIdentifier() + "New id is:" + identifier);
+                        Log.log(logger, Level.CONFIG, "V22Orig id is:{}New id is:{}", frame.getIdentifier(), identifier);
                         this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         return;
@@ -248,7 +251,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                         this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                         this.frameBody.setHeader(this);
                         identifier = frame.getIdentifier();
-                        logger.config("Deprecated:V22:orig id id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                        Log.log(logger, Level.CONFIG, "Deprecated:V22:orig id id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                         return;
                     }
                 }
@@ -259,7 +262,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.config("UNKNOWN:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.CONFIG, "UNKNOWN:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                 return;
             }
         }
@@ -275,8 +278,24 @@ public class ID3v23Frame extends AbstractID3v2Frame
      * @throws org.jaudiotagger.tag.InvalidFrameException
      */
     public ID3v23Frame(ByteBuffer byteBuffer, String loggingFilename) throws InvalidFrameException, InvalidDataTypeException
+    {
+        this(byteBuffer, loggingFilename, null);
+    }
+
+    /**
+     * Creates a new ID3v23Frame datatype by reading from byteBuffer, only reading the body if it is one of the frames
+     * asked for
+     *
+     * @param byteBuffer      to read from
+     * @param loggingFilename
+     * @param readFrameIds    identifiers of the frames whose body is read, null to read every frame
+     * @throws org.jaudiotagger.tag.InvalidFrameException
+     * @see #isBodySkipped()
+     */
+    public ID3v23Frame(ByteBuffer byteBuffer, String loggingFilename, Set<String> readFrameIds) throws InvalidFrameException, InvalidDataTypeException
     {
         setLoggingFilename(loggingFilename);
+        this.readFrameIds = readFrameIds;
         read(byteBuffer);
     }
 
@@ -342,7 +361,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
         String identifier = readIdentifier(byteBuffer);
         if (!isValidID3v2FrameIdentifier(identifier))
         {
-            logger.config(getLoggingFilename() + ":Invalid identifier:" + identifier);
+            Log.log(logger, Level.CONFIG, "{}:Invalid identifier:{}", getLoggingFilename(), identifier);
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -391,7 +410,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
                 id = UNSUPPORTED_ID;
             }
         }
-        logger.fine(getLoggingFilename() + ":Identifier was:" + identifier + " reading using:" + id + "with frame size:" + frameSize);
+        if (logger.isLoggable(Level.FINE))
+        {
+            logger.fine(getLoggingFilename() + ":Identifier was:" + identifier + " reading using:" + id + "with frame size:" + frameSize);
+        }
 
         //Read extra bits appended to frame header for various encodings
         //These are not included in header size but are included in frame size but won't be read when we actually
@@ -403,7 +425,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
             //Read the Decompressed Size
             decompressedFrameSize = byteBuffer.getInt();
             extraHeaderBytesCount = FRAME_COMPRESSION_UNCOMPRESSED_SIZE;
-            logger.fine(getLoggingFilename() + ":Decompressed frame size is:" + decompressedFrameSize);
+            Log.log(logger, Level.FINE, "{}:Decompressed frame size is:{}", getLoggingFilename(), decompressedFrameSize);
         }
 
         if (((EncodingFlags) encodingFlags).isEncryption())
@@ -422,6 +444,10 @@ public class ID3v23Frame extends AbstractID3v2Frame
 
         //Work out the real size of the frameBody data
         int realFrameSize = frameSize - extraHeaderBytesCount;
+        if (skipBody(byteBuffer, realFrameSize))
+        {
+            return;
+        }
 
         ByteBuffer frameBodyBuffer;
         //Read the body data
@@ -450,7 +476,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
             //it then be created as FrameBodyUnsupported
             if (!(frameBody instanceof ID3v23FrameBody))
             {
-                logger.config(getLoggingFilename() + ":Converted frameBody with:" + identifier + " to deprecated frameBody");
+                Log.log(logger, Level.CONFIG, "{}:Converted frameBody with:{} to deprecated frameBody", getLoggingFilename(), identifier);
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         }
@@ -468,7 +494,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
      */
     public void write(ByteArrayOutputStream tagBuffer)
     {
-        logger.config("Writing frame to buffer:" + getIdentifier());
+        Log.log(logger, Level.CONFIG, "Writing frame to buffer:{}", getIdentifier());
         //This is where we will write header, move position to where we can
         //write body
         ByteBuffer headerBuffer = ByteBuffer.allocate(FRAME_HEADER_SIZE);
@@ -484,7 +510,7 @@ public class ID3v23Frame extends AbstractID3v2Frame
         headerBuffer.put(Utils.getDefaultBytes(getIdentifier(), "ISO-8859-1"), 0, FRAME_ID_SIZE);
         //Write Frame Size
         int size = frameBody.getSize();
-        logger.fine("Frame Size Is:" + size);
+        Log.log(logger, Level.FINE, "Frame Size Is:{}", size);
         headerBuffer.putInt(frameBody.getSize());
 
         //Write the Flags
@@ -121,7 +121,6 @@ public class ID3v23Frames extends ID3Frames
     public static final String FRAME_ID_V3_COMPOSER_SORT_ORDER_ITUNES = "TSOC";
     public static final String FRAME_ID_V3_SET_SUBTITLE = "TSST";
 
-    private static ID3v23Frames id3v23Frames;
 
     /**
      * Maps from Generic key to ID3 key
@@ -134,13 +133,17 @@ public class ID3v23Frames extends ID3Frames
      */
     protected EnumMap<ID3v23FieldKey, FieldKey> id3ToTagField = new EnumMap<ID3v23FieldKey,FieldKey>(ID3v23FieldKey.class);
     
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final ID3v23Frames INSTANCE = new ID3v23Frames();
+    }
+
     public static ID3v23Frames getInstanceOf()
     {
-        if (id3v23Frames == null)
-        {
-            id3v23Frames = new ID3v23Frames();
-        }
-        return id3v23Frames;
+        return InstanceHolder.INSTANCE;
     }
 
     private ID3v23Frames()
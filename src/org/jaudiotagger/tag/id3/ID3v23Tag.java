@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.datatype.DataTypes;
@@ -225,7 +226,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
         {
             newFrame = new ID3v23Frame(ID3v23Frames.FRAME_ID_V3_TYER);
             ((FrameBodyTYER) newFrame.getBody()).setText(tmpBody.getYear());
-            logger.config("Adding Frame:" + newFrame.getIdentifier());
+            Log.log(logger, Level.CONFIG, "Adding Frame:{}", newFrame.getIdentifier());
             frameMap.put(newFrame.getIdentifier(), newFrame);
         }
         if (!tmpBody.getDate().equals(""))
@@ -233,7 +234,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
             newFrame = new ID3v23Frame(ID3v23Frames.FRAME_ID_V3_TDAT);
             ((FrameBodyTDAT) newFrame.getBody()).setText(tmpBody.getDate());
             ((FrameBodyTDAT) newFrame.getBody()).setMonthOnly(tmpBody.isMonthOnly());
-            logger.config("Adding Frame:" + newFrame.getIdentifier());
+            Log.log(logger, Level.CONFIG, "Adding Frame:{}", newFrame.getIdentifier());
             frameMap.put(newFrame.getIdentifier(), newFrame);
         }
         if (!tmpBody.getTime().equals(""))
@@ -241,7 +242,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
             newFrame = new ID3v23Frame(ID3v23Frames.FRAME_ID_V3_TIME);
             ((FrameBodyTIME) newFrame.getBody()).setText(tmpBody.getTime());
             ((FrameBodyTIME) newFrame.getBody()).setHoursOnly(tmpBody.isHoursOnly());
-            logger.config("Adding Frame:" + newFrame.getIdentifier());
+            Log.log(logger, Level.CONFIG, "Adding Frame:{}", newFrame.getIdentifier());
             frameMap.put(newFrame.getIdentifier(), newFrame);
         }
     }
@@ -430,17 +431,26 @@ public class ID3v23Tag extends AbstractID3v2Tag
 
         if (isUnsynchronization())
         {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (extended)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (experimental)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            }
         }
     }
 
@@ -471,13 +481,19 @@ public class ID3v23Tag extends AbstractID3v2Tag
             paddingSize=buffer.getInt();
             if(paddingSize>0)
             {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                if (logger.isLoggable(Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                }
             }
             size = size - ( paddingSize + TAG_EXT_HEADER_LENGTH);
         }
         else if (extendedHeaderSize == TAG_EXT_HEADER_DATA_LENGTH + TAG_EXT_HEADER_CRC_LENGTH)
         {
-            logger.config(ErrorMessage.ID3_TAG_CRC.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_CRC.getMsg(getLoggingFilename()));
+            }
 
             //Flag should be setField, if nor just act as if it is
             byte extFlag = buffer.get();
@@ -492,12 +508,18 @@ public class ID3v23Tag extends AbstractID3v2Tag
             paddingSize = buffer.getInt();
             if(paddingSize>0)
             {
-                logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                if (logger.isLoggable(Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.ID3_TAG_PADDING_SIZE.getMsg(getLoggingFilename(),paddingSize));
+                }
             }
             size = size - (paddingSize + TAG_EXT_HEADER_LENGTH + TAG_EXT_HEADER_CRC_LENGTH);
             //CRC Data
             crc32 = buffer.getInt();
-            logger.config(ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(getLoggingFilename(),crc32));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_CRC_SIZE.getMsg(getLoggingFilename(),crc32));
+            }
         }
         //Extended header size is only allowed to be six or ten bytes so this is invalid but instead
         //of giving up lets guess its six bytes and carry on and see if we can read file ok
@@ -519,13 +541,16 @@ public class ID3v23Tag extends AbstractID3v2Tag
         {
             throw new TagNotFoundException(getIdentifier() + " tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading ID3v23 tag");
+        Log.log(logger, Level.CONFIG, "{}:Reading ID3v23 tag", getLoggingFilename());
 
         readHeaderFlags(buffer);
 
         // Read the size, this is size of tag not including the tag header
         size = ID3SyncSafeInteger.bufferToValue(buffer);
-        logger.config(ErrorMessage.ID_TAG_SIZE.getMsg(getLoggingFilename(),size));
+        if (logger.isLoggable(Level.CONFIG))
+        {
+            logger.config(ErrorMessage.ID_TAG_SIZE.getMsg(getLoggingFilename(),size));
+        }
 
         //Extended Header
         if (extended)
@@ -542,7 +567,7 @@ public class ID3v23Tag extends AbstractID3v2Tag
         }
 
         readFrames(bufferWithoutHeader, size);
-        logger.config(getLoggingFilename() + ":Loaded Frames,there are:" + frameMap.keySet().size());
+        Log.log(logger, Level.CONFIG, "{}:Loaded Frames,there are:{}", getLoggingFilename(), frameMap.keySet().size());
 
     }
 
@@ -561,11 +586,12 @@ public class ID3v23Tag extends AbstractID3v2Tag
         ID3v23Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        Set<String> readFrameIds = getReadFrameIds();
 
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
-        logger.finest(getLoggingFilename() + ":Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        Log.log(logger, Level.FINEST, "{}:Start of frame body at:{},frames data size is:{}", getLoggingFilename(), byteBuffer.position(), size);
 
         // Read the frames until got to up to the size as specified in header or until
         // we hit an invalid frame identifier or padding
@@ -575,15 +601,20 @@ public class ID3v23Tag extends AbstractID3v2Tag
             try
             {
                 //Read Frame
-                logger.finest(getLoggingFilename() + ":Looking for next frame at:" + byteBuffer.position());
-                next = new ID3v23Frame(byteBuffer, getLoggingFilename());
+                Log.log(logger, Level.FINEST, "{}:Looking for next frame at:{}", getLoggingFilename(), byteBuffer.position());
+                next = new ID3v23Frame(byteBuffer, getLoggingFilename(), readFrameIds);
                 id = next.getIdentifier();
+                if (next.isBodySkipped())
+                {
+                    loadSkippedFrame(id);
+                    continue;
+                }
                 loadFrameIntoMap(id, next);
             }
             //Found Padding, no more frames
             catch (PaddingException ex)
             {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                Log.log(logger, Level.CONFIG, "{}:Found padding starting at:{}", getLoggingFilename(), byteBuffer.position());
                 break;
             }
             //Found Empty Frame, log it - empty frames should not exist
@@ -726,25 +757,25 @@ public class ID3v23Tag extends AbstractID3v2Tag
     public void write(File file, long audioStartLocation) throws IOException
     {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:"+getLoggingFilename());
+        Log.log(logger, Level.CONFIG, "Writing tag to file:{}", getLoggingFilename());
 
         //Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        Log.log(logger, Level.CONFIG, "{}:bodybytebuffer:sizebeforeunsynchronisation:{}", getLoggingFilename(), bodyByteBuffer.length);
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            Log.log(logger, Level.CONFIG, "{}:bodybytebuffer:sizeafterunsynchronisation:{}", getLoggingFilename(), bodyByteBuffer.length);
         }
 
         int sizeIncPadding = calculateTagSize(bodyByteBuffer.length + TAG_HEADER_LENGTH, (int) audioStartLocation);
         int padding = sizeIncPadding - (bodyByteBuffer.length + TAG_HEADER_LENGTH);
-        logger.config(getLoggingFilename() + ":Current audiostart:" + audioStartLocation);
-        logger.config(getLoggingFilename() + ":Size including padding:" + sizeIncPadding);
-        logger.config(getLoggingFilename() + ":Padding:" + padding);
+        Log.log(logger, Level.CONFIG, "{}:Current audiostart:{}", getLoggingFilename(), audioStartLocation);
+        Log.log(logger, Level.CONFIG, "{}:Size including padding:{}", getLoggingFilename(), sizeIncPadding);
+        Log.log(logger, Level.CONFIG, "{}:Padding:{}", getLoggingFilename(), padding);
 
         ByteBuffer headerBuffer = writeHeaderToBuffer(padding, bodyByteBuffer.length);
         writeBufferToFile(file, headerBuffer, bodyByteBuffer, padding, sizeIncPadding, audioStartLocation);
@@ -756,17 +787,17 @@ public class ID3v23Tag extends AbstractID3v2Tag
     @Override
     public void write(WritableByteChannel channel) throws IOException
     {
-        logger.config(getLoggingFilename() + ":Writing tag to channel");
+        Log.log(logger, Level.CONFIG, "{}:Writing tag to channel", getLoggingFilename());
 
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
-        logger.config(getLoggingFilename() + ":bodybytebuffer:sizebeforeunsynchronisation:" + bodyByteBuffer.length);
+        Log.log(logger, Level.CONFIG, "{}:bodybytebuffer:sizebeforeunsynchronisation:{}", getLoggingFilename(), bodyByteBuffer.length);
 
         // Unsynchronize if option enabled and unsync required
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyByteBuffer);
         if (isUnsynchronization())
         {
             bodyByteBuffer = ID3Unsynchronization.unsynchronize(bodyByteBuffer);
-            logger.config(getLoggingFilename() + ":bodybytebuffer:sizeafterunsynchronisation:" + bodyByteBuffer.length);
+            Log.log(logger, Level.CONFIG, "{}:bodybytebuffer:sizeafterunsynchronisation:{}", getLoggingFilename(), bodyByteBuffer.length);
         }
         ByteBuffer headerBuffer = writeHeaderToBuffer(0, bodyByteBuffer.length);
 
@@ -901,6 +932,19 @@ public class ID3v23Tag extends AbstractID3v2Tag
         return ID3v23Frames.getInstanceOf();
     }
 
+    /**
+     * The date is read along with the year because the two are combined into a single field
+     */
+    protected Set<String> getReadFrameIds()
+    {
+        Set<String> readFrameIds = super.getReadFrameIds();
+        if (readFrameIds != null && readFrameIds.contains(ID3v23Frames.FRAME_ID_V3_TYER))
+        {
+            readFrameIds.add(ID3v23Frames.FRAME_ID_V3_TDAT);
+        }
+        return readFrameIds;
+    }
+
     /**
      * @return comparator used to order frames in preferred order for writing to file
      *         so that most important frames are written first.
@@ -20,6 +20,7 @@ import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
 import org.jaudiotagger.logging.Hex;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.datatype.Lyrics3Line;
 import org.jaudiotagger.tag.id3.framebody.*;
@@ -30,7 +31,9 @@ import org.jaudiotagger.utils.EqualsUtil;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Set;
 import java.util.Iterator;
+import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -123,7 +126,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
     {
         // Is it a straight conversion e.g TALB - TALB
         identifier = ID3Tags.convertFrameID23To24(frame.getIdentifier());
-        logger.finer("Creating V24frame from v23:" + frame.getIdentifier() + ":" + identifier);
+        Log.log(logger, Level.FINER, "Creating V24frame from v23:{}:{}", frame.getIdentifier(), identifier);
 
 
         //We cant convert unsupported bodies properly
@@ -132,7 +135,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             this.frameBody.setHeader(this);
             identifier = frame.getIdentifier();
-            logger.finer("V3:UnsupportedBody:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            Log.log(logger, Level.FINER, "V3:UnsupportedBody:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
         }//Simple Copy
         else if (identifier != null)
         {
@@ -145,7 +148,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
             }
             else
             {
-                logger.finer("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.FINER, "V3:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                 this.frameBody = (AbstractTagFrameBody) ID3Tags.copyObject(frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -156,7 +159,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
             identifier = ID3Tags.forceFrameID23To24(frame.getIdentifier());
             if (identifier != null)
             {
-                logger.config("V3:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.CONFIG, "V3:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
                 this.frameBody = this.readBody(identifier, (AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
             }
@@ -167,7 +170,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
                 this.frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frame.getBody());
                 this.frameBody.setHeader(this);
                 identifier = frame.getIdentifier();
-                logger.finer("V3:Deprecated:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+                Log.log(logger, Level.FINER, "V3:Deprecated:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
             }
         }
         // Unknown Frame e.g NCON or TDRL (because TDRL unknown to V23)
@@ -176,7 +179,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
             this.frameBody = new FrameBodyUnsupported((FrameBodyUnsupported) frame.getBody());
             this.frameBody.setHeader(this);
             identifier = frame.getIdentifier();
-            logger.finer("V3:Unknown:Orig id is:" + frame.getIdentifier() + ":New id is:" + identifier);
+            Log.log(logger, Level.FINER, "V3:Unknown:Orig id is:{}:New id is:{}", frame.getIdentifier(), identifier);
         }
     }
 
@@ -322,8 +325,24 @@ public class ID3v24Frame extends AbstractID3v2Frame
      *
      */
     public ID3v24Frame(ByteBuffer byteBuffer, String loggingFilename) throws InvalidFrameException, InvalidDataTypeException
+    {
+        this(byteBuffer, loggingFilename, null);
+    }
+
+    /**
+     * Creates a new ID3v24Frame datatype by reading from byteBuffer, only reading the body if it is one of the frames
+     * asked for
+     *
+     * @param byteBuffer      to read from
+     * @param loggingFilename
+     * @param readFrameIds    identifiers of the frames whose body is read, null to read every frame
+     * @throws org.jaudiotagger.tag.InvalidFrameException
+     * @see #isBodySkipped()
+     */
+    public ID3v24Frame(ByteBuffer byteBuffer, String loggingFilename, Set<String> readFrameIds) throws InvalidFrameException, InvalidDataTypeException
     {
         setLoggingFilename(loggingFilename);
+        this.readFrameIds = readFrameIds;
         read(byteBuffer);
     }
 
@@ -566,7 +585,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
         {
             //If not valid move file pointer back to one byte after
             //the original check so can try again.
-            logger.config(getLoggingFilename() + ":" + "Invalid identifier:" + identifier);
+            Log.log(logger, Level.CONFIG, "{}:Invalid identifier:{}", getLoggingFilename(), identifier);
             byteBuffer.position(byteBuffer.position() - (getFrameIdSize() - 1));
             throw new InvalidFrameIdentifierException(getLoggingFilename() + ":" + identifier + ":is not a valid ID3v2.30 frame");
         }
@@ -601,11 +620,15 @@ public class ID3v24Frame extends AbstractID3v2Frame
             //Read the sync safe size field
             dataLengthSize = ID3SyncSafeInteger.bufferToValue(byteBuffer);
             extraHeaderBytesCount += FRAME_DATA_LENGTH_SIZE;
-            logger.config(getLoggingFilename() + ":" + "Frame Size Is:" + frameSize + " Data Length Size:" + dataLengthSize);
+            Log.log(logger, Level.CONFIG, "{}:Frame Size Is:{} Data Length Size:{}", getLoggingFilename(), frameSize, dataLengthSize);
         }
 
         //Work out the real size of the frameBody data
         int realFrameSize = frameSize - extraHeaderBytesCount;
+        if (skipBody(byteBuffer, realFrameSize))
+        {
+            return;
+        }
 
         //Create Buffer that only contains the body of this frame rather than the remainder of tag
         ByteBuffer frameBodyBuffer = byteBuffer.slice();
@@ -622,7 +645,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
             //bytes to be dropped so the existing buffer is large enough to hold the modifications
             frameBodyBuffer = ID3Unsynchronization.synchronize(frameBodyBuffer);
             syncSize = frameBodyBuffer.limit();
-            logger.config(getLoggingFilename() + ":" + "Frame Size After Syncing is:" + syncSize);
+            Log.log(logger, Level.CONFIG, "{}:Frame Size After Syncing is:{}", getLoggingFilename(), syncSize);
         }
 
         //Read the body data
@@ -645,7 +668,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
             }
             if (!(frameBody instanceof ID3v24FrameBody))
             {
-                logger.config(getLoggingFilename() + ":" + "Converted frame body with:" + identifier + " to deprecated framebody");
+                Log.log(logger, Level.CONFIG, "{}:Converted frame body with:{} to deprecated framebody", getLoggingFilename(), identifier);
                 frameBody = new FrameBodyDeprecated((AbstractID3v2FrameBody) frameBody);
             }
         }
@@ -666,7 +689,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
     {
         boolean unsynchronization;
 
-        logger.config("Writing frame to file:" + getIdentifier());
+        Log.log(logger, Level.CONFIG, "Writing frame to file:{}", getIdentifier());
 
         //This is where we will write header, move position to where we can
         //write bodybuffer
@@ -678,11 +701,11 @@ public class ID3v24Frame extends AbstractID3v2Frame
 
         //Does it need unsynchronizing, and are we allowing unsychronizing
         byte[] bodyBuffer = bodyOutputStream.toByteArray();
-        unsynchronization = TagOptionSingleton.getInstance().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
+        unsynchronization = TagOptions.current().isUnsyncTags() && ID3Unsynchronization.requiresUnsynchronization(bodyBuffer);
         if (unsynchronization)
         {
             bodyBuffer = ID3Unsynchronization.unsynchronize(bodyBuffer);
-            logger.config("bodybytebuffer:sizeafterunsynchronisation:" + bodyBuffer.length);
+            Log.log(logger, Level.CONFIG, "bodybytebuffer:sizeafterunsynchronisation:{}", bodyBuffer.length);
         }
 
         //Write Frame Header
@@ -697,7 +720,7 @@ public class ID3v24Frame extends AbstractID3v2Frame
         //Write Frame Size based on size of body buffer (if it has been unsynced then it size
         //will have increased accordingly
         int size = bodyBuffer.length;
-        logger.fine("Frame Size Is:" + size);
+        Log.log(logger, Level.FINE, "Frame Size Is:{}", size);
         headerBuffer.put(ID3SyncSafeInteger.valueToBuffer(size));
 
         //Write the Flags
@@ -953,17 +976,26 @@ public class ID3v24Frame extends AbstractID3v2Frame
 
             if (isGrouping())
             {
-                logger.config(ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(getLoggingFilename(), identifier));
+                if (logger.isLoggable(Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_GROUPED.getMsg(getLoggingFilename(), identifier));
+                }
             }
 
             if (isUnsynchronised())
             {
-                logger.config(ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(getLoggingFilename(), identifier));
+                if (logger.isLoggable(Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_UNSYNCHRONISED.getMsg(getLoggingFilename(), identifier));
+                }
             }
 
             if (isDataLengthIndicator())
             {
-                logger.config(ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(getLoggingFilename(), identifier));
+                if (logger.isLoggable(Level.CONFIG))
+                {
+                    logger.config(ErrorMessage.MP3_FRAME_IS_DATA_LENGTH_INDICATOR.getMsg(getLoggingFilename(), identifier));
+                }
             }
         }
 
@@ -18,6 +18,7 @@ package org.jaudiotagger.tag.id3;
 import org.jaudiotagger.FileConstants;
 import org.jaudiotagger.audio.mp3.MP3File;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.*;
 import org.jaudiotagger.tag.images.Artwork;
 import org.jaudiotagger.tag.datatype.DataTypes;
@@ -394,7 +395,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
                    {
                        if (firstFrame.getBody() instanceof FrameBodyTDRC)
                        {
-                           logger.finest("Modifying frame in map:" + newFrame.getIdentifier());
+                           Log.log(logger, Level.FINEST, "Modifying frame in map:{}", newFrame.getIdentifier());
                            FrameBodyTDRC body = (FrameBodyTDRC) firstFrame.getBody();
                            FrameBodyTDRC newBody = (FrameBodyTDRC) newFrame.getBody();
 
@@ -652,7 +653,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
             }
         }
         size += super.getSize();
-        logger.finer("Tag Size is" + size);
+        Log.log(logger, Level.FINER, "Tag Size is{}", size);
         return size;
     }
 
@@ -739,17 +740,26 @@ public class ID3v24Tag extends AbstractID3v2Tag
 
         if (isUnsynchronization())
         {
-            logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_UNSYNCHRONIZED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (extended)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXTENDED.getMsg(getLoggingFilename()));
+            }
         }
 
         if (experimental)
         {
-            logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            if (logger.isLoggable(Level.CONFIG))
+            {
+                logger.config(ErrorMessage.ID3_TAG_EXPERIMENTAL.getMsg(getLoggingFilename()));
+            }
         }
 
         if (footer)
@@ -837,12 +847,12 @@ public class ID3v24Tag extends AbstractID3v2Tag
         {
             throw new TagNotFoundException(getLoggingFilename() + ":" + getIdentifier() + " tag not found");
         }
-        logger.config(getLoggingFilename() + ":" + "Reading ID3v24 tag");
+        Log.log(logger, Level.CONFIG, "{}:Reading ID3v24 tag", getLoggingFilename());
         readHeaderFlags(byteBuffer);
 
         // Read the size, this is size of tag apart from tag header
         size = ID3SyncSafeInteger.bufferToValue(byteBuffer);
-        logger.config(getLoggingFilename() + ":" + "Reading tag from file size set in header is" + size);
+        Log.log(logger, Level.CONFIG, "{}:Reading tag from file size set in header is{}", getLoggingFilename(), size);
 
         if (extended)
         {
@@ -861,31 +871,37 @@ public class ID3v24Tag extends AbstractID3v2Tag
      */
     protected void readFrames(ByteBuffer byteBuffer, int size)
     {
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at" + byteBuffer.position());
+        Log.log(logger, Level.FINEST, "{}:Start of frame body at{}", getLoggingFilename(), byteBuffer.position());
         //Now start looking for frames
         ID3v24Frame next;
         frameMap = new LinkedHashMap();
         encryptedFrameMap = new LinkedHashMap();
+        Set<String> readFrameIds = getReadFrameIds();
 
         //Read the size from the Tag Header
         this.fileReadSize = size;
         // Read the frames until got to upto the size as specified in header
-        logger.finest(getLoggingFilename() + ":" + "Start of frame body at:" + byteBuffer.position() + ",frames data size is:" + size);
+        Log.log(logger, Level.FINEST, "{}:Start of frame body at:{},frames data size is:{}", getLoggingFilename(), byteBuffer.position(), size);
         while (byteBuffer.position() <= size)
         {
             String id;
             try
             {
                 //Read Frame
-                logger.finest(getLoggingFilename() + ":" + "looking for next frame at:" + byteBuffer.position());
-                next = new ID3v24Frame(byteBuffer, getLoggingFilename());
+                Log.log(logger, Level.FINEST, "{}:looking for next frame at:{}", getLoggingFilename(), byteBuffer.position());
+                next = new ID3v24Frame(byteBuffer, getLoggingFilename(), readFrameIds);
                 id = next.getIdentifier();
+                if (next.isBodySkipped())
+                {
+                    loadSkippedFrame(id);
+                    continue;
+                }
                 loadFrameIntoMap(id, next);
             }
             //Found Padding, no more frames
             catch (PaddingException ex)
             {
-                logger.config(getLoggingFilename() + ":Found padding starting at:" + byteBuffer.position());
+                Log.log(logger, Level.CONFIG, "{}:Found padding starting at:{}", getLoggingFilename(), byteBuffer.position());
                 break;
             }
             //Found Empty Frame
@@ -896,7 +912,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
             }
             catch (InvalidFrameIdentifierException ifie)
             {
-                logger.config(getLoggingFilename() + ":" + "Invalid Frame Identifier:" + ifie.getMessage());
+                Log.log(logger, Level.CONFIG, "{}:Invalid Frame Identifier:{}", getLoggingFilename(), ifie.getMessage());
                 this.invalidFrames++;
                 //Don't try and find any more frames
                 break;
@@ -1073,7 +1089,7 @@ public class ID3v24Tag extends AbstractID3v2Tag
     public void write(File file, long audioStartLocation) throws IOException
     {
         setLoggingFilename(file.getName());
-        logger.config("Writing tag to file:"+getLoggingFilename());
+        Log.log(logger, Level.CONFIG, "Writing tag to file:{}", getLoggingFilename());
 
         //Write Body Buffer
         byte[] bodyByteBuffer = writeFramesToBuffer().toByteArray();
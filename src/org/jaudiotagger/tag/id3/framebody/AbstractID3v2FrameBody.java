@@ -25,6 +25,7 @@
 package org.jaudiotagger.tag.id3.framebody;
 
 import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidDataTypeException;
 import org.jaudiotagger.tag.InvalidFrameException;
 import org.jaudiotagger.tag.InvalidTagException;
@@ -34,6 +35,7 @@ import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 
 /**
  * Contains the content for an ID3v2 frame, (the header is held directly within the frame
@@ -149,7 +151,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
     public void read(ByteBuffer byteBuffer) throws InvalidTagException
     {
         int size = getSize();
-        logger.config("Reading body for" + this.getIdentifier() + ":" + size);
+        Log.log(logger, Level.CONFIG, "Reading body for{}:{}", this.getIdentifier(), size);
 
         //Allocate a buffer to the size of the Frame Body and read from file
         byte[] buffer = new byte[size];
@@ -164,7 +166,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
         for (AbstractDataType object : objectList)
         //correct dataType.
         {
-            logger.finest("offset:" + offset);
+            Log.log(logger, Level.FINEST, "offset:{}", offset);
 
             //The read has extended further than the defined frame size (ok to extend upto
             //size because the next datatype may be of length 0.)
@@ -199,7 +201,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
     public void write(ByteArrayOutputStream tagBuffer)
 
     {
-        logger.config("Writing frame body for" + this.getIdentifier() + ":Est Size:" + size);
+        Log.log(logger, Level.CONFIG, "Writing frame body for{}:Est Size:{}", this.getIdentifier(), size);
         //Write the various fields to file in order
         for (AbstractDataType object : objectList)
         {
@@ -218,7 +220,7 @@ public abstract class AbstractID3v2FrameBody extends AbstractTagFrameBody
             }
         }
         setSize();
-        logger.config("Written frame body for" + this.getIdentifier() + ":Real Size:" + size);
+        Log.log(logger, Level.CONFIG, "Written frame body for{}:Real Size:{}", this.getIdentifier(), size);
 
     }
 
@@ -17,7 +17,7 @@ package org.jaudiotagger.tag.id3.framebody;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.*;
 import org.jaudiotagger.tag.id3.ID3v24Frames;
 import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
@@ -250,7 +250,7 @@ public class FrameBodyAPIC extends AbstractID3v2FrameBody implements ID3v24Frame
      */
     public void write(ByteArrayOutputStream tagBuffer)
     {
-        if(TagOptionSingleton.getInstance().isAPICDescriptionITunesCompatible())
+        if(TagOptions.current().isAPICDescriptionITunesCompatible())
         {
             this.setTextEncoding(TextEncoding.ISO_8859_1);
             if (!((AbstractString) getObject(DataTypes.OBJ_DESCRIPTION)).canBeEncoded())
@@ -0,0 +1,1215 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Creates the frame body for a frame identifier without using reflection.
+ *
+ */
+package org.jaudiotagger.tag.id3.framebody;
+
+import org.jaudiotagger.tag.InvalidTagException;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Creates frame bodies from their identifier
+ * <p/>
+ * The body for identifier XXXX is the class FrameBodyXXXX, previously this was found with Class.forName() and
+ * created using reflection, which meant every body class had to be looked up by name the first time it was seen and
+ * every body was created through a reflective constructor call. Instead the identifier is mapped to an index once and
+ * the body constructed directly.
+ * <p/>
+ * When adding a new FrameBody class it must also be added here, to IDENTIFIERS and to the switch of each create
+ * method under the case for its position. FrameBodyFactoryTest checks every identifier creates the right class through
+ * each create method.
+ */
+public final class FrameBodyFactory
+{
+    /**
+     * Identifiers that have their own frame body, the position in the array is used by the create methods
+     */
+    private static final String[] IDENTIFIERS = {
+            "AENC", "APIC", "ASPI", "CHAP", "COMM", "COMR", "CRM", "CTOC", "ENCR", "EQU2",
+            "EQUA", "ETCO", "GEOB", "GRID", "IPLS", "LINK", "MCDI", "MLLT", "OWNE", "PCNT",
+            "PIC", "POPM", "POSS", "PRIV", "RBUF", "RVA2", "RVAD", "RVRB", "SEEK", "SIGN",
+            "SYLT", "SYTC", "TALB", "TBPM", "TCMP", "TCOM", "TCON", "TCOP", "TDAT", "TDEN",
+            "TDLY", "TDOR", "TDRC", "TDRL", "TDTG", "TENC", "TEXT", "TFLT", "TIME", "TIPL",
+            "TIT1", "TIT2", "TIT3", "TKEY", "TLAN", "TLEN", "TMCL", "TMED", "TMOO", "TOAL",
+            "TOFN", "TOLY", "TOPE", "TORY", "TOWN", "TPE1", "TPE2", "TPE3", "TPE4", "TPOS",
+            "TPRO", "TPUB", "TRCK", "TRDA", "TRSN", "TRSO", "TSIZ", "TSO2", "TSOA", "TSOC",
+            "TSOP", "TSOT", "TSRC", "TSSE", "TSST", "TXXX", "TYER", "UFID", "USER", "USLT",
+            "WCOM", "WCOP", "WOAF", "WOAR", "WOAS", "WORS", "WPAY", "WPUB", "WXXX", "XSOA",
+            "XSOP", "XSOT"
+    };
+
+    private static final Map<String, Integer> indexes = new HashMap<String, Integer>(IDENTIFIERS.length * 2);
+
+    static
+    {
+        for (int i = 0; i < IDENTIFIERS.length; i++)
+        {
+            indexes.put(IDENTIFIERS[i], i);
+        }
+    }
+
+    private FrameBodyFactory()
+    {
+    }
+
+    private static int indexOf(String identifier)
+    {
+        Integer index = indexes.get(identifier);
+        if (index == null)
+        {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * @param identifier
+     * @return true if there is a frame body class for this identifier
+     */
+    public static boolean isSupported(String identifier)
+    {
+        return indexes.containsKey(identifier);
+    }
+
+    /**
+     * Create an empty frame body
+     *
+     * @param identifier
+     * @return the new frame body, or null if there is no frame body for this identifier
+     */
+    public static AbstractID3v2FrameBody createBody(String identifier)
+    {
+        switch (indexOf(identifier))
+        {
+            case 0:
+                return new FrameBodyAENC();
+            case 1:
+                return new FrameBodyAPIC();
+            case 2:
+                return new FrameBodyASPI();
+            case 3:
+                return new FrameBodyCHAP();
+            case 4:
+                return new FrameBodyCOMM();
+            case 5:
+                return new FrameBodyCOMR();
+            case 6:
+                return new FrameBodyCRM();
+            case 7:
+                return new FrameBodyCTOC();
+            case 8:
+                return new FrameBodyENCR();
+            case 9:
+                return new FrameBodyEQU2();
+            case 10:
+                return new FrameBodyEQUA();
+            case 11:
+                return new FrameBodyETCO();
+            case 12:
+                return new FrameBodyGEOB();
+            case 13:
+                return new FrameBodyGRID();
+            case 14:
+                return new FrameBodyIPLS();
+            case 15:
+                return new FrameBodyLINK();
+            case 16:
+                return new FrameBodyMCDI();
+            case 17:
+                return new FrameBodyMLLT();
+            case 18:
+                return new FrameBodyOWNE();
+            case 19:
+                return new FrameBodyPCNT();
+            case 20:
+                return new FrameBodyPIC();
+            case 21:
+                return new FrameBodyPOPM();
+            case 22:
+                return new FrameBodyPOSS();
+            case 23:
+                return new FrameBodyPRIV();
+            case 24:
+                return new FrameBodyRBUF();
+            case 25:
+                return new FrameBodyRVA2();
+            case 26:
+                return new FrameBodyRVAD();
+            case 27:
+                return new FrameBodyRVRB();
+            case 28:
+                return new FrameBodySEEK();
+            case 29:
+                return new FrameBodySIGN();
+            case 30:
+                return new FrameBodySYLT();
+            case 31:
+                return new FrameBodySYTC();
+            case 32:
+                return new FrameBodyTALB();
+            case 33:
+                return new FrameBodyTBPM();
+            case 34:
+                return new FrameBodyTCMP();
+            case 35:
+                return new FrameBodyTCOM();
+            case 36:
+                return new FrameBodyTCON();
+            case 37:
+                return new FrameBodyTCOP();
+            case 38:
+                return new FrameBodyTDAT();
+            case 39:
+                return new FrameBodyTDEN();
+            case 40:
+                return new FrameBodyTDLY();
+            case 41:
+                return new FrameBodyTDOR();
+            case 42:
+                return new FrameBodyTDRC();
+            case 43:
+                return new FrameBodyTDRL();
+            case 44:
+                return new FrameBodyTDTG();
+            case 45:
+                return new FrameBodyTENC();
+            case 46:
+                return new FrameBodyTEXT();
+            case 47:
+                return new FrameBodyTFLT();
+            case 48:
+                return new FrameBodyTIME();
+            case 49:
+                return new FrameBodyTIPL();
+            case 50:
+                return new FrameBodyTIT1();
+            case 51:
+                return new FrameBodyTIT2();
+            case 52:
+                return new FrameBodyTIT3();
+            case 53:
+                return new FrameBodyTKEY();
+            case 54:
+                return new FrameBodyTLAN();
+            case 55:
+                return new FrameBodyTLEN();
+            case 56:
+                return new FrameBodyTMCL();
+            case 57:
+                return new FrameBodyTMED();
+            case 58:
+                return new FrameBodyTMOO();
+            case 59:
+                return new FrameBodyTOAL();
+            case 60:
+                return new FrameBodyTOFN();
+            case 61:
+                return new FrameBodyTOLY();
+            case 62:
+                return new FrameBodyTOPE();
+            case 63:
+                return new FrameBodyTORY();
+            case 64:
+                return new FrameBodyTOWN();
+            case 65:
+                return new FrameBodyTPE1();
+            case 66:
+                return new FrameBodyTPE2();
+            case 67:
+                return new FrameBodyTPE3();
+            case 68:
+                return new FrameBodyTPE4();
+            case 69:
+                return new FrameBodyTPOS();
+            case 70:
+                return new FrameBodyTPRO();
+            case 71:
+                return new FrameBodyTPUB();
+            case 72:
+                return new FrameBodyTRCK();
+            case 73:
+                return new FrameBodyTRDA();
+            case 74:
+                return new FrameBodyTRSN();
+            case 75:
+                return new FrameBodyTRSO();
+            case 76:
+                return new FrameBodyTSIZ();
+            case 77:
+                return new FrameBodyTSO2();
+            case 78:
+                return new FrameBodyTSOA();
+            case 79:
+                return new FrameBodyTSOC();
+            case 80:
+                return new FrameBodyTSOP();
+            case 81:
+                return new FrameBodyTSOT();
+            case 82:
+                return new FrameBodyTSRC();
+            case 83:
+                return new FrameBodyTSSE();
+            case 84:
+                return new FrameBodyTSST();
+            case 85:
+                return new FrameBodyTXXX();
+            case 86:
+                return new FrameBodyTYER();
+            case 87:
+                return new FrameBodyUFID();
+            case 88:
+                return new FrameBodyUSER();
+            case 89:
+                return new FrameBodyUSLT();
+            case 90:
+                return new FrameBodyWCOM();
+            case 91:
+                return new FrameBodyWCOP();
+            case 92:
+                return new FrameBodyWOAF();
+            case 93:
+                return new FrameBodyWOAR();
+            case 94:
+                return new FrameBodyWOAS();
+            case 95:
+                return new FrameBodyWORS();
+            case 96:
+                return new FrameBodyWPAY();
+            case 97:
+                return new FrameBodyWPUB();
+            case 98:
+                return new FrameBodyWXXX();
+            case 99:
+                return new FrameBodyXSOA();
+            case 100:
+                return new FrameBodyXSOP();
+            case 101:
+                return new FrameBodyXSOT();
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Create a frame body by reading it from the buffer
+     *
+     * @param identifier
+     * @param byteBuffer to read the frame body from
+     * @param frameSize
+     * @return the new frame body, or null if there is no frame body that can be read for this identifier
+     * @throws InvalidTagException if the data cannot be read into the frame body
+     */
+    public static AbstractID3v2FrameBody createBody(String identifier, ByteBuffer byteBuffer, int frameSize)
+            throws InvalidTagException
+    {
+        switch (indexOf(identifier))
+        {
+            case 0:
+                return new FrameBodyAENC(byteBuffer, frameSize);
+            case 1:
+                return new FrameBodyAPIC(byteBuffer, frameSize);
+            case 2:
+                return new FrameBodyASPI(byteBuffer, frameSize);
+            case 3:
+                return new FrameBodyCHAP(byteBuffer, frameSize);
+            case 4:
+                return new FrameBodyCOMM(byteBuffer, frameSize);
+            case 5:
+                return new FrameBodyCOMR(byteBuffer, frameSize);
+            case 6:
+                return new FrameBodyCRM(byteBuffer, frameSize);
+            case 7:
+                return new FrameBodyCTOC(byteBuffer, frameSize);
+            case 8:
+                return new FrameBodyENCR(byteBuffer, frameSize);
+            case 9:
+                return new FrameBodyEQU2(byteBuffer, frameSize);
+            case 11:
+                return new FrameBodyETCO(byteBuffer, frameSize);
+            case 12:
+                return new FrameBodyGEOB(byteBuffer, frameSize);
+            case 13:
+                return new FrameBodyGRID(byteBuffer, frameSize);
+            case 14:
+                return new FrameBodyIPLS(byteBuffer, frameSize);
+            case 15:
+                return new FrameBodyLINK(byteBuffer, frameSize);
+            case 16:
+                return new FrameBodyMCDI(byteBuffer, frameSize);
+            case 18:
+                return new FrameBodyOWNE(byteBuffer, frameSize);
+            case 19:
+                return new FrameBodyPCNT(byteBuffer, frameSize);
+            case 20:
+                return new FrameBodyPIC(byteBuffer, frameSize);
+            case 21:
+                return new FrameBodyPOPM(byteBuffer, frameSize);
+            case 22:
+                return new FrameBodyPOSS(byteBuffer, frameSize);
+            case 23:
+                return new FrameBodyPRIV(byteBuffer, frameSize);
+            case 24:
+                return new FrameBodyRBUF(byteBuffer, frameSize);
+            case 25:
+                return new FrameBodyRVA2(byteBuffer, frameSize);
+            case 26:
+                return new FrameBodyRVAD(byteBuffer, frameSize);
+            case 27:
+                return new FrameBodyRVRB(byteBuffer, frameSize);
+            case 28:
+                return new FrameBodySEEK(byteBuffer, frameSize);
+            case 29:
+                return new FrameBodySIGN(byteBuffer, frameSize);
+            case 30:
+                return new FrameBodySYLT(byteBuffer, frameSize);
+            case 31:
+                return new FrameBodySYTC(byteBuffer, frameSize);
+            case 32:
+                return new FrameBodyTALB(byteBuffer, frameSize);
+            case 33:
+                return new FrameBodyTBPM(byteBuffer, frameSize);
+            case 34:
+                return new FrameBodyTCMP(byteBuffer, frameSize);
+            case 35:
+                return new FrameBodyTCOM(byteBuffer, frameSize);
+            case 36:
+                return new FrameBodyTCON(byteBuffer, frameSize);
+            case 37:
+                return new FrameBodyTCOP(byteBuffer, frameSize);
+            case 38:
+                return new FrameBodyTDAT(byteBuffer, frameSize);
+            case 39:
+                return new FrameBodyTDEN(byteBuffer, frameSize);
+            case 40:
+                return new FrameBodyTDLY(byteBuffer, frameSize);
+            case 41:
+                return new FrameBodyTDOR(byteBuffer, frameSize);
+            case 42:
+                return new FrameBodyTDRC(byteBuffer, frameSize);
+            case 43:
+                return new FrameBodyTDRL(byteBuffer, frameSize);
+            case 44:
+                return new FrameBodyTDTG(byteBuffer, frameSize);
+            case 45:
+                return new FrameBodyTENC(byteBuffer, frameSize);
+            case 46:
+                return new FrameBodyTEXT(byteBuffer, frameSize);
+            case 47:
+                return new FrameBodyTFLT(byteBuffer, frameSize);
+            case 48:
+                return new FrameBodyTIME(byteBuffer, frameSize);
+            case 49:
+                return new FrameBodyTIPL(byteBuffer, frameSize);
+            case 50:
+                return new FrameBodyTIT1(byteBuffer, frameSize);
+            case 51:
+                return new FrameBodyTIT2(byteBuffer, frameSize);
+            case 52:
+                return new FrameBodyTIT3(byteBuffer, frameSize);
+            case 53:
+                return new FrameBodyTKEY(byteBuffer, frameSize);
+            case 54:
+                return new FrameBodyTLAN(byteBuffer, frameSize);
+            case 55:
+                return new FrameBodyTLEN(byteBuffer, frameSize);
+            case 56:
+                return new FrameBodyTMCL(byteBuffer, frameSize);
+            case 57:
+                return new FrameBodyTMED(byteBuffer, frameSize);
+            case 58:
+                return new FrameBodyTMOO(byteBuffer, frameSize);
+            case 59:
+                return new FrameBodyTOAL(byteBuffer, frameSize);
+            case 60:
+                return new FrameBodyTOFN(byteBuffer, frameSize);
+            case 61:
+                return new FrameBodyTOLY(byteBuffer, frameSize);
+            case 62:
+                return new FrameBodyTOPE(byteBuffer, frameSize);
+            case 63:
+                return new FrameBodyTORY(byteBuffer, frameSize);
+            case 64:
+                return new FrameBodyTOWN(byteBuffer, frameSize);
+            case 65:
+                return new FrameBodyTPE1(byteBuffer, frameSize);
+            case 66:
+                return new FrameBodyTPE2(byteBuffer, frameSize);
+            case 67:
+                return new FrameBodyTPE3(byteBuffer, frameSize);
+            case 68:
+                return new FrameBodyTPE4(byteBuffer, frameSize);
+            case 69:
+                return new FrameBodyTPOS(byteBuffer, frameSize);
+            case 70:
+                return new FrameBodyTPRO(byteBuffer, frameSize);
+            case 71:
+                return new FrameBodyTPUB(byteBuffer, frameSize);
+            case 72:
+                return new FrameBodyTRCK(byteBuffer, frameSize);
+            case 73:
+                return new FrameBodyTRDA(byteBuffer, frameSize);
+            case 74:
+                return new FrameBodyTRSN(byteBuffer, frameSize);
+            case 75:
+                return new FrameBodyTRSO(byteBuffer, frameSize);
+            case 76:
+                return new FrameBodyTSIZ(byteBuffer, frameSize);
+            case 77:
+                return new FrameBodyTSO2(byteBuffer, frameSize);
+            case 78:
+                return new FrameBodyTSOA(byteBuffer, frameSize);
+            case 79:
+                return new FrameBodyTSOC(byteBuffer, frameSize);
+            case 80:
+                return new FrameBodyTSOP(byteBuffer, frameSize);
+            case 81:
+                return new FrameBodyTSOT(byteBuffer, frameSize);
+            case 82:
+                return new FrameBodyTSRC(byteBuffer, frameSize);
+            case 83:
+                return new FrameBodyTSSE(byteBuffer, frameSize);
+            case 84:
+                return new FrameBodyTSST(byteBuffer, frameSize);
+            case 85:
+                return new FrameBodyTXXX(byteBuffer, frameSize);
+            case 86:
+                return new FrameBodyTYER(byteBuffer, frameSize);
+            case 87:
+                return new FrameBodyUFID(byteBuffer, frameSize);
+            case 88:
+                return new FrameBodyUSER(byteBuffer, frameSize);
+            case 89:
+                return new FrameBodyUSLT(byteBuffer, frameSize);
+            case 90:
+                return new FrameBodyWCOM(byteBuffer, frameSize);
+            case 91:
+                return new FrameBodyWCOP(byteBuffer, frameSize);
+            case 92:
+                return new FrameBodyWOAF(byteBuffer, frameSize);
+            case 93:
+                return new FrameBodyWOAR(byteBuffer, frameSize);
+            case 94:
+                return new FrameBodyWOAS(byteBuffer, frameSize);
+            case 95:
+                return new FrameBodyWORS(byteBuffer, frameSize);
+            case 96:
+                return new FrameBodyWPAY(byteBuffer, frameSize);
+            case 97:
+                return new FrameBodyWPUB(byteBuffer, frameSize);
+            case 98:
+                return new FrameBodyWXXX(byteBuffer, frameSize);
+            case 99:
+                return new FrameBodyXSOA(byteBuffer, frameSize);
+            case 100:
+                return new FrameBodyXSOP(byteBuffer, frameSize);
+            case 101:
+                return new FrameBodyXSOT(byteBuffer, frameSize);
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Create a frame body from another frame body, such as a FrameBodyTDRC from a FrameBodyTYER
+     * <p/>
+     * The frame body for the identifier must have a constructor that takes the exact class of body.
+     *
+     * @param identifier
+     * @param body
+     * @return the new frame body, or null if there is no frame body for this identifier or it has no constructor
+     *         that takes the class of body
+     */
+    public static AbstractID3v2FrameBody createBody(String identifier, AbstractID3v2FrameBody body)
+    {
+        Class<? extends AbstractID3v2FrameBody> bodyClass = body.getClass();
+        switch (indexOf(identifier))
+        {
+            case 0:
+                if (bodyClass == FrameBodyAENC.class)
+                {
+                    return new FrameBodyAENC((FrameBodyAENC) body);
+                }
+                return null;
+            case 1:
+                if (bodyClass == FrameBodyPIC.class)
+                {
+                    return new FrameBodyAPIC((FrameBodyPIC) body);
+                }
+                if (bodyClass == FrameBodyAPIC.class)
+                {
+                    return new FrameBodyAPIC((FrameBodyAPIC) body);
+                }
+                return null;
+            case 2:
+                if (bodyClass == FrameBodyASPI.class)
+                {
+                    return new FrameBodyASPI((FrameBodyASPI) body);
+                }
+                return null;
+            case 3:
+                if (bodyClass == FrameBodyCHAP.class)
+                {
+                    return new FrameBodyCHAP((FrameBodyCHAP) body);
+                }
+                return null;
+            case 4:
+                if (bodyClass == FrameBodyCOMM.class)
+                {
+                    return new FrameBodyCOMM((FrameBodyCOMM) body);
+                }
+                return null;
+            case 5:
+                if (bodyClass == FrameBodyCOMR.class)
+                {
+                    return new FrameBodyCOMR((FrameBodyCOMR) body);
+                }
+                return null;
+            case 6:
+                if (bodyClass == FrameBodyCRM.class)
+                {
+                    return new FrameBodyCRM((FrameBodyCRM) body);
+                }
+                return null;
+            case 7:
+                if (bodyClass == FrameBodyCTOC.class)
+                {
+                    return new FrameBodyCTOC((FrameBodyCTOC) body);
+                }
+                return null;
+            case 8:
+                if (bodyClass == FrameBodyENCR.class)
+                {
+                    return new FrameBodyENCR((FrameBodyENCR) body);
+                }
+                return null;
+            case 9:
+                if (bodyClass == FrameBodyEQU2.class)
+                {
+                    return new FrameBodyEQU2((FrameBodyEQU2) body);
+                }
+                return null;
+            case 10:
+                if (bodyClass == FrameBodyEQUA.class)
+                {
+                    return new FrameBodyEQUA((FrameBodyEQUA) body);
+                }
+                return null;
+            case 11:
+                if (bodyClass == FrameBodyETCO.class)
+                {
+                    return new FrameBodyETCO((FrameBodyETCO) body);
+                }
+                return null;
+            case 12:
+                if (bodyClass == FrameBodyGEOB.class)
+                {
+                    return new FrameBodyGEOB((FrameBodyGEOB) body);
+                }
+                return null;
+            case 13:
+                if (bodyClass == FrameBodyGRID.class)
+                {
+                    return new FrameBodyGRID((FrameBodyGRID) body);
+                }
+                return null;
+            case 14:
+                if (bodyClass == FrameBodyTIPL.class)
+                {
+                    return new FrameBodyIPLS((FrameBodyTIPL) body);
+                }
+                if (bodyClass == FrameBodyIPLS.class)
+                {
+                    return new FrameBodyIPLS((FrameBodyIPLS) body);
+                }
+                return null;
+            case 15:
+                if (bodyClass == FrameBodyLINK.class)
+                {
+                    return new FrameBodyLINK((FrameBodyLINK) body);
+                }
+                return null;
+            case 16:
+                if (bodyClass == FrameBodyMCDI.class)
+                {
+                    return new FrameBodyMCDI((FrameBodyMCDI) body);
+                }
+                return null;
+            case 17:
+                if (bodyClass == FrameBodyMLLT.class)
+                {
+                    return new FrameBodyMLLT((FrameBodyMLLT) body);
+                }
+                return null;
+            case 18:
+                if (bodyClass == FrameBodyOWNE.class)
+                {
+                    return new FrameBodyOWNE((FrameBodyOWNE) body);
+                }
+                return null;
+            case 19:
+                if (bodyClass == FrameBodyPCNT.class)
+                {
+                    return new FrameBodyPCNT((FrameBodyPCNT) body);
+                }
+                return null;
+            case 20:
+                if (bodyClass == FrameBodyAPIC.class)
+                {
+                    return new FrameBodyPIC((FrameBodyAPIC) body);
+                }
+                if (bodyClass == FrameBodyPIC.class)
+                {
+                    return new FrameBodyPIC((FrameBodyPIC) body);
+                }
+                return null;
+            case 21:
+                if (bodyClass == FrameBodyPOPM.class)
+                {
+                    return new FrameBodyPOPM((FrameBodyPOPM) body);
+                }
+                return null;
+            case 22:
+                if (bodyClass == FrameBodyPOSS.class)
+                {
+                    return new FrameBodyPOSS((FrameBodyPOSS) body);
+                }
+                return null;
+            case 23:
+                if (bodyClass == FrameBodyPRIV.class)
+                {
+                    return new FrameBodyPRIV((FrameBodyPRIV) body);
+                }
+                return null;
+            case 24:
+                if (bodyClass == FrameBodyRBUF.class)
+                {
+                    return new FrameBodyRBUF((FrameBodyRBUF) body);
+                }
+                return null;
+            case 25:
+                if (bodyClass == FrameBodyRVAD.class)
+                {
+                    return new FrameBodyRVA2((FrameBodyRVAD) body);
+                }
+                if (bodyClass == FrameBodyRVA2.class)
+                {
+                    return new FrameBodyRVA2((FrameBodyRVA2) body);
+                }
+                return null;
+            case 26:
+                if (bodyClass == FrameBodyRVA2.class)
+                {
+                    return new FrameBodyRVAD((FrameBodyRVA2) body);
+                }
+                if (bodyClass == FrameBodyRVAD.class)
+                {
+                    return new FrameBodyRVAD((FrameBodyRVAD) body);
+                }
+                return null;
+            case 27:
+                if (bodyClass == FrameBodyRVRB.class)
+                {
+                    return new FrameBodyRVRB((FrameBodyRVRB) body);
+                }
+                return null;
+            case 28:
+                if (bodyClass == FrameBodySEEK.class)
+                {
+                    return new FrameBodySEEK((FrameBodySEEK) body);
+                }
+                return null;
+            case 29:
+                if (bodyClass == FrameBodySIGN.class)
+                {
+                    return new FrameBodySIGN((FrameBodySIGN) body);
+                }
+                return null;
+            case 30:
+                if (bodyClass == FrameBodySYLT.class)
+                {
+                    return new FrameBodySYLT((FrameBodySYLT) body);
+                }
+                return null;
+            case 31:
+                if (bodyClass == FrameBodySYTC.class)
+                {
+                    return new FrameBodySYTC((FrameBodySYTC) body);
+                }
+                return null;
+            case 32:
+                if (bodyClass == FrameBodyTALB.class)
+                {
+                    return new FrameBodyTALB((FrameBodyTALB) body);
+                }
+                return null;
+            case 33:
+                if (bodyClass == FrameBodyTBPM.class)
+                {
+                    return new FrameBodyTBPM((FrameBodyTBPM) body);
+                }
+                return null;
+            case 34:
+                if (bodyClass == FrameBodyTCMP.class)
+                {
+                    return new FrameBodyTCMP((FrameBodyTCMP) body);
+                }
+                return null;
+            case 35:
+                if (bodyClass == FrameBodyTCOM.class)
+                {
+                    return new FrameBodyTCOM((FrameBodyTCOM) body);
+                }
+                return null;
+            case 36:
+                if (bodyClass == FrameBodyTCON.class)
+                {
+                    return new FrameBodyTCON((FrameBodyTCON) body);
+                }
+                return null;
+            case 37:
+                if (bodyClass == FrameBodyTCOP.class)
+                {
+                    return new FrameBodyTCOP((FrameBodyTCOP) body);
+                }
+                return null;
+            case 38:
+                if (bodyClass == FrameBodyTDAT.class)
+                {
+                    return new FrameBodyTDAT((FrameBodyTDAT) body);
+                }
+                return null;
+            case 39:
+                if (bodyClass == FrameBodyTDEN.class)
+                {
+                    return new FrameBodyTDEN((FrameBodyTDEN) body);
+                }
+                return null;
+            case 40:
+                if (bodyClass == FrameBodyTDLY.class)
+                {
+                    return new FrameBodyTDLY((FrameBodyTDLY) body);
+                }
+                return null;
+            case 41:
+                if (bodyClass == FrameBodyTORY.class)
+                {
+                    return new FrameBodyTDOR((FrameBodyTORY) body);
+                }
+                if (bodyClass == FrameBodyTDOR.class)
+                {
+                    return new FrameBodyTDOR((FrameBodyTDOR) body);
+                }
+                return null;
+            case 42:
+                if (bodyClass == FrameBodyTYER.class)
+                {
+                    return new FrameBodyTDRC((FrameBodyTYER) body);
+                }
+                if (bodyClass == FrameBodyTIME.class)
+                {
+                    return new FrameBodyTDRC((FrameBodyTIME) body);
+                }
+                if (bodyClass == FrameBodyTDAT.class)
+                {
+                    return new FrameBodyTDRC((FrameBodyTDAT) body);
+                }
+                if (bodyClass == FrameBodyTRDA.class)
+                {
+                    return new FrameBodyTDRC((FrameBodyTRDA) body);
+                }
+                if (bodyClass == FrameBodyTDRC.class)
+                {
+                    return new FrameBodyTDRC((FrameBodyTDRC) body);
+                }
+                return null;
+            case 43:
+                if (bodyClass == FrameBodyTDRL.class)
+                {
+                    return new FrameBodyTDRL((FrameBodyTDRL) body);
+                }
+                return null;
+            case 44:
+                if (bodyClass == FrameBodyTDTG.class)
+                {
+                    return new FrameBodyTDTG((FrameBodyTDTG) body);
+                }
+                return null;
+            case 45:
+                if (bodyClass == FrameBodyTENC.class)
+                {
+                    return new FrameBodyTENC((FrameBodyTENC) body);
+                }
+                return null;
+            case 46:
+                if (bodyClass == FrameBodyTEXT.class)
+                {
+                    return new FrameBodyTEXT((FrameBodyTEXT) body);
+                }
+                return null;
+            case 47:
+                if (bodyClass == FrameBodyTFLT.class)
+                {
+                    return new FrameBodyTFLT((FrameBodyTFLT) body);
+                }
+                return null;
+            case 48:
+                if (bodyClass == FrameBodyTIME.class)
+                {
+                    return new FrameBodyTIME((FrameBodyTIME) body);
+                }
+                return null;
+            case 49:
+                if (bodyClass == FrameBodyIPLS.class)
+                {
+                    return new FrameBodyTIPL((FrameBodyIPLS) body);
+                }
+                return null;
+            case 50:
+                if (bodyClass == FrameBodyTIT1.class)
+                {
+                    return new FrameBodyTIT1((FrameBodyTIT1) body);
+                }
+                return null;
+            case 51:
+                if (bodyClass == FrameBodyTIT2.class)
+                {
+                    return new FrameBodyTIT2((FrameBodyTIT2) body);
+                }
+                return null;
+            case 52:
+                if (bodyClass == FrameBodyTIT3.class)
+                {
+                    return new FrameBodyTIT3((FrameBodyTIT3) body);
+                }
+                return null;
+            case 53:
+                if (bodyClass == FrameBodyTKEY.class)
+                {
+                    return new FrameBodyTKEY((FrameBodyTKEY) body);
+                }
+                return null;
+            case 54:
+                if (bodyClass == FrameBodyTLAN.class)
+                {
+                    return new FrameBodyTLAN((FrameBodyTLAN) body);
+                }
+                return null;
+            case 55:
+                if (bodyClass == FrameBodyTLEN.class)
+                {
+                    return new FrameBodyTLEN((FrameBodyTLEN) body);
+                }
+                return null;
+            case 56:
+                if (bodyClass == FrameBodyTMCL.class)
+                {
+                    return new FrameBodyTMCL((FrameBodyTMCL) body);
+                }
+                return null;
+            case 57:
+                if (bodyClass == FrameBodyTMED.class)
+                {
+                    return new FrameBodyTMED((FrameBodyTMED) body);
+                }
+                return null;
+            case 58:
+                if (bodyClass == FrameBodyTXXX.class)
+                {
+                    return new FrameBodyTMOO((FrameBodyTXXX) body);
+                }
+                if (bodyClass == FrameBodyTMOO.class)
+                {
+                    return new FrameBodyTMOO((FrameBodyTMOO) body);
+                }
+                return null;
+            case 59:
+                if (bodyClass == FrameBodyTOAL.class)
+                {
+                    return new FrameBodyTOAL((FrameBodyTOAL) body);
+                }
+                return null;
+            case 60:
+                if (bodyClass == FrameBodyTOFN.class)
+                {
+                    return new FrameBodyTOFN((FrameBodyTOFN) body);
+                }
+                return null;
+            case 61:
+                if (bodyClass == FrameBodyTOLY.class)
+                {
+                    return new FrameBodyTOLY((FrameBodyTOLY) body);
+                }
+                return null;
+            case 62:
+                if (bodyClass == FrameBodyTOPE.class)
+                {
+                    return new FrameBodyTOPE((FrameBodyTOPE) body);
+                }
+                return null;
+            case 63:
+                if (bodyClass == FrameBodyTDOR.class)
+                {
+                    return new FrameBodyTORY((FrameBodyTDOR) body);
+                }
+                if (bodyClass == FrameBodyTORY.class)
+                {
+                    return new FrameBodyTORY((FrameBodyTORY) body);
+                }
+                return null;
+            case 64:
+                if (bodyClass == FrameBodyTOWN.class)
+                {
+                    return new FrameBodyTOWN((FrameBodyTOWN) body);
+                }
+                return null;
+            case 65:
+                if (bodyClass == FrameBodyTPE1.class)
+                {
+                    return new FrameBodyTPE1((FrameBodyTPE1) body);
+                }
+                return null;
+            case 66:
+                if (bodyClass == FrameBodyTPE2.class)
+                {
+                    return new FrameBodyTPE2((FrameBodyTPE2) body);
+                }
+                return null;
+            case 67:
+                if (bodyClass == FrameBodyTPE3.class)
+                {
+                    return new FrameBodyTPE3((FrameBodyTPE3) body);
+                }
+                return null;
+            case 68:
+                if (bodyClass == FrameBodyTPE4.class)
+                {
+                    return new FrameBodyTPE4((FrameBodyTPE4) body);
+                }
+                return null;
+            case 69:
+                if (bodyClass == FrameBodyTPOS.class)
+                {
+                    return new FrameBodyTPOS((FrameBodyTPOS) body);
+                }
+                return null;
+            case 70:
+                if (bodyClass == FrameBodyTPRO.class)
+                {
+                    return new FrameBodyTPRO((FrameBodyTPRO) body);
+                }
+                return null;
+            case 71:
+                if (bodyClass == FrameBodyTPUB.class)
+                {
+                    return new FrameBodyTPUB((FrameBodyTPUB) body);
+                }
+                return null;
+            case 72:
+                if (bodyClass == FrameBodyTRCK.class)
+                {
+                    return new FrameBodyTRCK((FrameBodyTRCK) body);
+                }
+                return null;
+            case 73:
+                if (bodyClass == FrameBodyTRDA.class)
+                {
+                    return new FrameBodyTRDA((FrameBodyTRDA) body);
+                }
+                return null;
+            case 74:
+                if (bodyClass == FrameBodyTRSN.class)
+                {
+                    return new FrameBodyTRSN((FrameBodyTRSN) body);
+                }
+                return null;
+            case 75:
+                if (bodyClass == FrameBodyTRSO.class)
+                {
+                    return new FrameBodyTRSO((FrameBodyTRSO) body);
+                }
+                return null;
+            case 76:
+                if (bodyClass == FrameBodyTSIZ.class)
+                {
+                    return new FrameBodyTSIZ((FrameBodyTSIZ) body);
+                }
+                return null;
+            case 77:
+                if (bodyClass == FrameBodyTSO2.class)
+                {
+                    return new FrameBodyTSO2((FrameBodyTSO2) body);
+                }
+                return null;
+            case 78:
+                if (bodyClass == FrameBodyTSOA.class)
+                {
+                    return new FrameBodyTSOA((FrameBodyTSOA) body);
+                }
+                return null;
+            case 79:
+                if (bodyClass == FrameBodyTSOC.class)
+                {
+                    return new FrameBodyTSOC((FrameBodyTSOC) body);
+                }
+                return null;
+            case 80:
+                if (bodyClass == FrameBodyTSOP.class)
+                {
+                    return new FrameBodyTSOP((FrameBodyTSOP) body);
+                }
+                return null;
+            case 81:
+                if (bodyClass == FrameBodyTSOT.class)
+                {
+                    return new FrameBodyTSOT((FrameBodyTSOT) body);
+                }
+                return null;
+            case 82:
+                if (bodyClass == FrameBodyTSRC.class)
+                {
+                    return new FrameBodyTSRC((FrameBodyTSRC) body);
+                }
+                return null;
+            case 83:
+                if (bodyClass == FrameBodyTSSE.class)
+                {
+                    return new FrameBodyTSSE((FrameBodyTSSE) body);
+                }
+                return null;
+            case 84:
+                if (bodyClass == FrameBodyTSST.class)
+                {
+                    return new FrameBodyTSST((FrameBodyTSST) body);
+                }
+                return null;
+            case 85:
+                if (bodyClass == FrameBodyTMOO.class)
+                {
+                    return new FrameBodyTXXX((FrameBodyTMOO) body);
+                }
+                if (bodyClass == FrameBodyTXXX.class)
+                {
+                    return new FrameBodyTXXX((FrameBodyTXXX) body);
+                }
+                return null;
+            case 86:
+                if (bodyClass == FrameBodyTDRC.class)
+                {
+                    return new FrameBodyTYER((FrameBodyTDRC) body);
+                }
+                if (bodyClass == FrameBodyTYER.class)
+                {
+                    return new FrameBodyTYER((FrameBodyTYER) body);
+                }
+                return null;
+            case 87:
+                if (bodyClass == FrameBodyUFID.class)
+                {
+                    return new FrameBodyUFID((FrameBodyUFID) body);
+                }
+                return null;
+            case 88:
+                if (bodyClass == FrameBodyUSER.class)
+                {
+                    return new FrameBodyUSER((FrameBodyUSER) body);
+                }
+                return null;
+            case 89:
+                if (bodyClass == FrameBodyUSLT.class)
+                {
+                    return new FrameBodyUSLT((FrameBodyUSLT) body);
+                }
+                return null;
+            case 90:
+                if (bodyClass == FrameBodyWCOM.class)
+                {
+                    return new FrameBodyWCOM((FrameBodyWCOM) body);
+                }
+                return null;
+            case 91:
+                if (bodyClass == FrameBodyWCOP.class)
+                {
+                    return new FrameBodyWCOP((FrameBodyWCOP) body);
+                }
+                return null;
+            case 92:
+                if (bodyClass == FrameBodyWOAF.class)
+                {
+                    return new FrameBodyWOAF((FrameBodyWOAF) body);
+                }
+                return null;
+            case 93:
+                if (bodyClass == FrameBodyWOAR.class)
+                {
+                    return new FrameBodyWOAR((FrameBodyWOAR) body);
+                }
+                return null;
+            case 94:
+                if (bodyClass == FrameBodyWOAS.class)
+                {
+                    return new FrameBodyWOAS((FrameBodyWOAS) body);
+                }
+                return null;
+            case 95:
+                if (bodyClass == FrameBodyWORS.class)
+                {
+                    return new FrameBodyWORS((FrameBodyWORS) body);
+                }
+                return null;
+            case 96:
+                if (bodyClass == FrameBodyWPAY.class)
+                {
+                    return new FrameBodyWPAY((FrameBodyWPAY) body);
+                }
+                return null;
+            case 97:
+                if (bodyClass == FrameBodyWPUB.class)
+                {
+                    return new FrameBodyWPUB((FrameBodyWPUB) body);
+                }
+                return null;
+            case 98:
+                if (bodyClass == FrameBodyWXXX.class)
+                {
+                    return new FrameBodyWXXX((FrameBodyWXXX) body);
+                }
+                return null;
+            case 99:
+                if (bodyClass == FrameBodyXSOA.class)
+                {
+                    return new FrameBodyXSOA((FrameBodyXSOA) body);
+                }
+                return null;
+            case 100:
+                if (bodyClass == FrameBodyXSOP.class)
+                {
+                    return new FrameBodyXSOP((FrameBodyXSOP) body);
+                }
+                return null;
+            case 101:
+                if (bodyClass == FrameBodyXSOT.class)
+                {
+                    return new FrameBodyXSOT((FrameBodyXSOT) body);
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+}
@@ -23,6 +23,7 @@
  */
 package org.jaudiotagger.tag.id3.framebody;
 
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.InvalidTagException;
 import org.jaudiotagger.tag.datatype.DataTypes;
 import org.jaudiotagger.tag.id3.ID3v23Frames;
@@ -30,12 +31,6 @@ import org.jaudiotagger.tag.id3.ID3v24Frames;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
 import java.nio.ByteBuffer;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
-import java.util.Locale;
 import java.util.logging.Level;
 
 
@@ -51,44 +46,12 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
     private boolean monthOnly = false;
     private boolean hoursOnly = false;
 
-    private static SimpleDateFormat formatYearIn, formatYearOut;
-    private static SimpleDateFormat formatDateIn, formatDateOut, formatMonthOut;
-    private static SimpleDateFormat formatTimeIn, formatTimeOut, formatHoursOut;
-
-    private static final List<SimpleDateFormat> formatters = new ArrayList<SimpleDateFormat>();
-
-    private static final int PRECISION_SECOND = 0;
-    private static final int PRECISION_MINUTE = 1;
-    private static final int PRECISION_HOUR = 2;
-    private static final int PRECISION_DAY = 3;
-    private static final int PRECISION_MONTH = 4;
-    private static final int PRECISION_YEAR = 5;
-
-    static
-    {
-        //This is allowable v24 format , we use UK Locale not because we are restricting to UK
-        //but because these formats are fixed in ID3 spec, and could possibly get unexpected results if library
-        //used with a default locale that has Date Format Symbols that interfere with the pattern
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd'T'HH", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM-dd", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy-MM", Locale.UK));
-        formatters.add(new SimpleDateFormat("yyyy", Locale.UK));
-
-        //These are formats used by v23 Frames
-        formatYearIn = new SimpleDateFormat("yyyy", Locale.UK);
-        formatDateIn = new SimpleDateFormat("ddMM", Locale.UK);
-        formatTimeIn = new SimpleDateFormat("HHmm", Locale.UK);
-
-        //These are the separate components of the v24 format that the v23 formats map to
-        formatYearOut = new SimpleDateFormat("yyyy", Locale.UK);
-        formatDateOut = new SimpleDateFormat("-MM-dd", Locale.UK);
-        formatMonthOut = new SimpleDateFormat("-MM", Locale.UK);
-        formatTimeOut = new SimpleDateFormat("'T'HH:mm", Locale.UK);
-        formatHoursOut = new SimpleDateFormat("'T'HH", Locale.UK);
-
-    }
+    private static final int PRECISION_SECOND = PartialTimestamp.PRECISION_SECOND;
+    private static final int PRECISION_MINUTE = PartialTimestamp.PRECISION_MINUTE;
+    private static final int PRECISION_HOUR = PartialTimestamp.PRECISION_HOUR;
+    private static final int PRECISION_DAY = PartialTimestamp.PRECISION_DAY;
+    private static final int PRECISION_MONTH = PartialTimestamp.PRECISION_MONTH;
+    private static final int PRECISION_YEAR = PartialTimestamp.PRECISION_YEAR;
 
     /**
      * Creates a new FrameBodyTDRC datatype.
@@ -121,26 +84,20 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
      */
 
     /**
-     * Synchronized because SimpleDatFormat aren't thread safe
+     * Append the v24 form of a v23 value, v23 values that are not valid are logged and left out
      *
-     * @param formatDate
-     * @param parseDate
+     * @param sb
+     * @param formatted v24 form of text, or null if it could not be converted
      * @param text
-     * @return
      */
-    private static synchronized String formatAndParse(SimpleDateFormat formatDate,SimpleDateFormat parseDate,String text)
+    private static void appendFormatted(StringBuffer sb, String formatted, String text)
     {
-        try
-        {
-            Date date = parseDate.parse(text);
-            String result = formatDate.format(date);
-            return result;
-        }
-        catch (ParseException e)
+        if (formatted == null)
         {
             logger.warning("Unable to parse:" + text);
+            return;
         }
-        return "";
+        sb.append(formatted);
     }
 
     public String getFormattedText()
@@ -154,30 +111,15 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
         {
             if (year != null && !(year.equals("")))
             {
-               sb.append(formatAndParse(formatYearOut,formatYearIn,year));
+               appendFormatted(sb, PartialTimestamp.formatV23Year(year), year);
             }
             if (!date.equals(""))
             {
-                if(isMonthOnly())
-                {
-                    sb.append(formatAndParse(formatMonthOut,formatDateIn,date));    
-                }
-                else
-                {
-                    sb.append(formatAndParse(formatDateOut,formatDateIn,date));
-                }
+                appendFormatted(sb, PartialTimestamp.formatV23Date(date, isMonthOnly()), date);
             }
             if (!time.equals(""))
             {
-                if(isHoursOnly())
-                {
-                    sb.append(formatAndParse(formatHoursOut,formatTimeIn,time));
-                }
-                else
-                {
-                    sb.append(formatAndParse(formatTimeOut,formatTimeIn,time));
-                }
-
+                appendFormatted(sb, PartialTimestamp.formatV23Time(time, isHoursOnly()), time);
             }
             return sb.toString();
         }
@@ -185,20 +127,20 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
 
     public void setYear(String year)
     {
-        logger.finest("Setting year to" + year);
+        Log.log(logger, Level.FINEST, "Setting year to{}", year);
         this.year = year;
     }
 
     public void setTime(String time)
     {
-        logger.finest("Setting time to:" + time);
+        Log.log(logger, Level.FINEST, "Setting time to:{}", time);
         this.time = time;
     }
 
 
     public void setDate(String date)
     {
-        logger.finest("Setting date to:" + date);
+        Log.log(logger, Level.FINEST, "Setting date to:{}", date);
         this.date = date;
     }
 
@@ -295,75 +237,14 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
 
     public void findMatchingMaskAndExtractV3Values()
     {
-        //Find the date format of the text
-        for (int i = 0; i < formatters.size(); i++)
+        //Find the precision of the date in the text
+        PartialTimestamp timestamp = PartialTimestamp.parse(getText());
+        if (timestamp != null)
         {
-            try
-            {
-                Date d;
-                synchronized(formatters.get(i))
-                {
-                    d = formatters.get(i).parse(getText());
-                }
-                //If able to parse a date from the text
-                if (d != null)
-                {
-                    extractID3v23Formats(d, i);
-                    break;
-                }
-            }
-            //Dont display will occur for each failed format
-            catch (ParseException e)
-            {
-                //Do nothing;
-            }
-            catch(NumberFormatException nfe)
-            {
-                //Do nothing except log warning because not really expecting this to happen
-                logger.log(Level.WARNING,"Date Formatter:"+formatters.get(i).toPattern() + "failed to parse:"+getText()+ "with "+nfe.getMessage(),nfe);
-            }
+            extractID3v23Formats(timestamp, timestamp.getPrecision());
         }
     }
 
-    /**
-     * Format Date
-     *
-     * Synchronized because SimpleDateFormat is invalid
-     *
-     * @param d
-     * @return
-     */
-    private static synchronized String formatDateAsYear(Date d)
-    {
-        return formatYearIn.format(d);
-    }
-
-      /**
-     * Format Date
-     *
-     * Synchronized because SimpleDateFormat is invalid
-     *
-     * @param d
-     * @return
-     */
-    private static synchronized String formatDateAsDate(Date d)
-    {
-        return formatDateIn.format(d);
-    }
-
-      /**
-     * Format Date
-     *
-     * Synchronized because SimpleDateFormat is invalid
-     *
-     * @param d
-     * @return
-     */
-    private static synchronized String formatDateAsTime(Date d)
-    {
-        return formatTimeIn.format(d);
-    }
-
     /**
      * Extract the components ans store the v23 version of the various values
      *
@@ -372,51 +253,50 @@ public class FrameBodyTDRC extends AbstractFrameBodyTextInfo implements ID3v24Fr
      */
     //TODO currently if user has entered Year and Month, we only store in v23, should we store month with 
     //first day
-    private void extractID3v23Formats(final Date dateRecord, final int precision)
+    private void extractID3v23Formats(final PartialTimestamp timestamp, final int precision)
     {
-        logger.fine("Precision is:"+precision+"for date:"+dateRecord.toString());
-        Date d = dateRecord;
+        Log.log(logger, Level.FINE, "Precision is:{}for date:{}", precision, timestamp);
 
         //Precision Year
         if (precision == PRECISION_YEAR)
         {
-            setYear(formatDateAsYear(d));
+            setYear(timestamp.getV23Year());
         }
         //Precision Month
         else if (precision == PRECISION_MONTH)
         {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
+            setYear(timestamp.getV23Year());
+            setDate(timestamp.getV23Date());
             monthOnly=true;
         }
         //Precision Day
         else if (precision == PRECISION_DAY)
         {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
+            setYear(timestamp.getV23Year());
+            setDate(timestamp.getV23Date());
         }
         //Precision Hour
         else if (precision == PRECISION_HOUR)
         {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
-            setTime(formatDateAsTime(d));
+            setYear(timestamp.getV23Year());
+            setDate(timestamp.getV23Date());
+            setTime(timestamp.getV23Time());
             hoursOnly =true;
 
         }
         //Precision Minute
         else if (precision == PRECISION_MINUTE)
         {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
-            setTime(formatDateAsTime(d));
+            setYear(timestamp.getV23Year());
+            setDate(timestamp.getV23Date());
+            setTime(timestamp.getV23Time());
         }
         //Precision Minute
         else if (precision == PRECISION_SECOND)
         {
-            setYear(formatDateAsYear(d));
-            setDate(formatDateAsDate(d));
-            setTime(formatDateAsTime(d));
+            setYear(timestamp.getV23Year());
+            setDate(timestamp.getV23Date());
+            setTime(timestamp.getV23Time());
         }
     }
 
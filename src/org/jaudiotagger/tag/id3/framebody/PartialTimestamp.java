@@ -0,0 +1,389 @@
+/**
+ *  This library is free software; you can redistribute it and/or modify it under the terms of the GNU Lesser
+ *  General Public  License as published by the Free Software Foundation; either version 2.1 of the License,
+ *  or (at your option) any later version.
+ *
+ *  This library is distributed in the hope that it will be useful, but WITHOUT ANY WARRANTY; without even
+ *  the implied warranty of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ *  See the GNU Lesser General Public License for more details.
+ *
+ *  You should have received a copy of the GNU Lesser General Public License along with this library; if not,
+ *  you can get a copy from http://www.opensource.org/licenses/lgpl-license.php or write to the Free Software
+ *  Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ *
+ * Description:
+ * Timestamp as held in ID3v24 frames such as TDRC, which may be given to any precision from year to second.
+ *
+ */
+package org.jaudiotagger.tag.id3.framebody;
+
+/**
+ * Immutable ID3v24 timestamp, a subset of ISO-8601 of the form yyyy[-MM[-dd[THH[:mm[:ss]]]]]
+ * <p/>
+ * Parsing and formatting are hand written rather than using SimpleDateFormat, they hold no shared state so can be
+ * used from any number of threads and work directly on the characters of the text. Unlike SimpleDateFormat the
+ * parser is not lenient, a component that is out of range (such as month 13) is not rolled into the next year,
+ * instead the timestamp ends at the previous component. As with SimpleDateFormat any text following the last
+ * component that could be parsed is ignored.
+ * <p/>
+ * Also converts the separate year (TYER), date (TDAT) and time (TIME) values of ID3v23 to and from this format.
+ */
+public final class PartialTimestamp
+{
+    public static final int PRECISION_SECOND = 0;
+    public static final int PRECISION_MINUTE = 1;
+    public static final int PRECISION_HOUR = 2;
+    public static final int PRECISION_DAY = 3;
+    public static final int PRECISION_MONTH = 4;
+    public static final int PRECISION_YEAR = 5;
+
+    //Enough digits for any year without risk of overflowing an int
+    private static final int MAX_YEAR_DIGITS = 9;
+
+    private static final int[] DAYS_IN_MONTH = {31, 29, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31};
+
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int hour;
+    private final int minute;
+    private final int second;
+    private final int precision;
+
+    private PartialTimestamp(int year, int month, int day, int hour, int minute, int second, int precision)
+    {
+        this.year = year;
+        this.month = month;
+        this.day = day;
+        this.hour = hour;
+        this.minute = minute;
+        this.second = second;
+        this.precision = precision;
+    }
+
+    /**
+     * Parse the timestamp at the start of text
+     *
+     * @param text
+     * @return the timestamp, or null if text does not start with a year
+     */
+    public static PartialTimestamp parse(String text)
+    {
+        int length = text.length();
+        int end = digitsEnd(text, 0, MAX_YEAR_DIGITS);
+        if (end == 0)
+        {
+            return null;
+        }
+        int year = toInt(text, 0, end);
+        int month = 1, day = 1, hour = 0, minute = 0, second = 0;
+        int precision = PRECISION_YEAR;
+
+        int start = end + 1;
+        if (start < length && text.charAt(end) == '-' && (end = digitsEnd(text, start, 2)) > start)
+        {
+            int value = toInt(text, start, end);
+            if (value >= 1 && value <= 12)
+            {
+                month = value;
+                precision = PRECISION_MONTH;
+
+                start = end + 1;
+                if (start < length && text.charAt(end) == '-' && (end = digitsEnd(text, start, 2)) > start)
+                {
+                    value = toInt(text, start, end);
+                    if (value >= 1 && value <= getDaysInMonth(year, month))
+                    {
+                        day = value;
+                        precision = PRECISION_DAY;
+
+                        start = end + 1;
+                        if (start < length && text.charAt(end) == 'T' && (end = digitsEnd(text, start, 2)) > start)
+                        {
+                            value = toInt(text, start, end);
+                            if (value <= 23)
+                            {
+                                hour = value;
+                                precision = PRECISION_HOUR;
+
+                                start = end + 1;
+                                if (start < length && text.charAt(end) == ':' && (end = digitsEnd(text, start, 2)) > start)
+                                {
+                                    value = toInt(text, start, end);
+                                    if (value <= 59)
+                                    {
+                                        minute = value;
+                                        precision = PRECISION_MINUTE;
+
+                                        start = end + 1;
+                                        if (start < length && text.charAt(end) == ':' && (end = digitsEnd(text, start, 2)) > start)
+                                        {
+                                            value = toInt(text, start, end);
+                                            if (value <= 59)
+                                            {
+                                                second = value;
+                                                precision = PRECISION_SECOND;
+                                            }
+                                        }
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return new PartialTimestamp(year, month, day, hour, minute, second, precision);
+    }
+
+    /**
+     * @return one of the PRECISION constants, the least significant component that is set
+     */
+    public int getPrecision()
+    {
+        return precision;
+    }
+
+    public int getYear()
+    {
+        return year;
+    }
+
+    /**
+     * @return month from 1 to 12, 1 if precision is year
+     */
+    public int getMonth()
+    {
+        return month;
+    }
+
+    /**
+     * @return day of month, 1 if precision is month or year
+     */
+    public int getDay()
+    {
+        return day;
+    }
+
+    public int getHour()
+    {
+        return hour;
+    }
+
+    public int getMinute()
+    {
+        return minute;
+    }
+
+    public int getSecond()
+    {
+        return second;
+    }
+
+    /**
+     * @return year in the yyyy format of ID3v23 TYER frame
+     */
+    public String getV23Year()
+    {
+        char[] chars = new char[Math.max(4, digitCount(year))];
+        appendDigits(chars, 0, year, chars.length);
+        return new String(chars);
+    }
+
+    /**
+     * @return date in the ddMM format of ID3v23 TDAT frame
+     */
+    public String getV23Date()
+    {
+        char[] chars = new char[4];
+        appendDigits(chars, 0, day, 2);
+        appendDigits(chars, 2, month, 2);
+        return new String(chars);
+    }
+
+    /**
+     * @return time in the HHmm format of ID3v23 TIME frame
+     */
+    public String getV23Time()
+    {
+        char[] chars = new char[4];
+        appendDigits(chars, 0, hour, 2);
+        appendDigits(chars, 2, minute, 2);
+        return new String(chars);
+    }
+
+    /**
+     * @return the timestamp formatted to its precision
+     */
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder(19);
+        sb.append(getV23Year());
+        if (precision <= PRECISION_MONTH)
+        {
+            sb.append('-');
+            appendTwoDigits(sb, month);
+        }
+        if (precision <= PRECISION_DAY)
+        {
+            sb.append('-');
+            appendTwoDigits(sb, day);
+        }
+        if (precision <= PRECISION_HOUR)
+        {
+            sb.append('T');
+            appendTwoDigits(sb, hour);
+        }
+        if (precision <= PRECISION_MINUTE)
+        {
+            sb.append(':');
+            appendTwoDigits(sb, minute);
+        }
+        if (precision <= PRECISION_SECOND)
+        {
+            sb.append(':');
+            appendTwoDigits(sb, second);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Convert ID3v23 year (yyyy) to its ID3v24 form
+     *
+     * @param v23Year
+     * @return the year padded to four digits, or null if v23Year does not start with a number
+     */
+    public static String formatV23Year(String v23Year)
+    {
+        int end = digitsEnd(v23Year, 0, MAX_YEAR_DIGITS);
+        if (end == 0)
+        {
+            return null;
+        }
+        return new PartialTimestamp(toInt(v23Year, 0, end), 1, 1, 0, 0, 0, PRECISION_YEAR).getV23Year();
+    }
+
+    /**
+     * Convert ID3v23 date (ddMM) to its ID3v24 form
+     *
+     * @param v23Date
+     * @param monthOnly only the month is to be used
+     * @return -MM-dd or -MM if monthOnly, or null if v23Date is not a valid date
+     */
+    public static String formatV23Date(String v23Date, boolean monthOnly)
+    {
+        if (digitsEnd(v23Date, 0, 4) != 4)
+        {
+            return null;
+        }
+        int day = toInt(v23Date, 0, 2);
+        int month = toInt(v23Date, 2, 4);
+        if (month < 1 || month > 12 || day < 1 || day > DAYS_IN_MONTH[month - 1])
+        {
+            return null;
+        }
+
+        char[] chars = new char[monthOnly ? 3 : 6];
+        chars[0] = '-';
+        appendDigits(chars, 1, month, 2);
+        if (!monthOnly)
+        {
+            chars[3] = '-';
+            appendDigits(chars, 4, day, 2);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Convert ID3v23 time (HHmm) to its ID3v24 form
+     *
+     * @param v23Time
+     * @param hoursOnly only the hour is to be used
+     * @return THH:mm or THH if hoursOnly, or null if v23Time is not a valid time
+     */
+    public static String formatV23Time(String v23Time, boolean hoursOnly)
+    {
+        if (digitsEnd(v23Time, 0, 4) != 4)
+        {
+            return null;
+        }
+        int hour = toInt(v23Time, 0, 2);
+        int minute = toInt(v23Time, 2, 4);
+        if (hour > 23 || minute > 59)
+        {
+            return null;
+        }
+
+        char[] chars = new char[hoursOnly ? 3 : 6];
+        chars[0] = 'T';
+        appendDigits(chars, 1, hour, 2);
+        if (!hoursOnly)
+        {
+            chars[3] = ':';
+            appendDigits(chars, 4, minute, 2);
+        }
+        return new String(chars);
+    }
+
+    private static int getDaysInMonth(int year, int month)
+    {
+        if (month == 2 && !(year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)))
+        {
+            return 28;
+        }
+        return DAYS_IN_MONTH[month - 1];
+    }
+
+    /**
+     * @return index after the run of at most maxDigits digits starting at start
+     */
+    private static int digitsEnd(String text, int start, int maxDigits)
+    {
+        int end = start;
+        int limit = Math.min(text.length(), start + maxDigits);
+        while (end < limit && text.charAt(end) >= '0' && text.charAt(end) <= '9')
+        {
+            end++;
+        }
+        return end;
+    }
+
+    private static int toInt(String text, int start, int end)
+    {
+        int value = 0;
+        for (int i = start; i < end; i++)
+        {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int digitCount(int value)
+    {
+        int count = 1;
+        while (value >= 10)
+        {
+            value /= 10;
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Write value into chars as width digits padded with leading zeroes
+     */
+    private static void appendDigits(char[] chars, int offset, int value, int width)
+    {
+        for (int i = offset + width - 1; i >= offset; i--)
+        {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static void appendTwoDigits(StringBuilder sb, int value)
+    {
+        sb.append((char) ('0' + value / 10));
+        sb.append((char) ('0' + value % 10));
+    }
+}
@@ -26,15 +26,17 @@ import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
 public class EventTimingTimestampTypes extends AbstractIntStringValuePair
 {
 
-    private static EventTimingTimestampTypes eventTimingTimestampTypes;
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final EventTimingTimestampTypes INSTANCE = new EventTimingTimestampTypes();
+    }
 
     public static EventTimingTimestampTypes getInstanceOf()
     {
-        if (eventTimingTimestampTypes == null)
-        {
-            eventTimingTimestampTypes = new EventTimingTimestampTypes();
-        }
-        return eventTimingTimestampTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     public static final int TIMESTAMP_KEY_FIELD_SIZE = 1;
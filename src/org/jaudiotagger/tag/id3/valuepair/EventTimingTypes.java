@@ -25,15 +25,18 @@ import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
 
 public class EventTimingTypes extends AbstractIntStringValuePair
 {
-    private static EventTimingTypes eventTimingTypes;
+
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final EventTimingTypes INSTANCE = new EventTimingTypes();
+    }
 
     public static EventTimingTypes getInstanceOf()
     {
-        if (eventTimingTypes == null)
-        {
-            eventTimingTypes = new EventTimingTypes();
-        }
-        return eventTimingTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     private EventTimingTypes()
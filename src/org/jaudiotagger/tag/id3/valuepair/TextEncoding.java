@@ -57,15 +57,17 @@ public class TextEncoding extends AbstractIntStringValuePair
     //The number of bytes used to hold the text encoding field size
     public static final int TEXT_ENCODING_FIELD_SIZE = 1;
 
-    private static TextEncoding textEncodings;
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final TextEncoding INSTANCE = new TextEncoding();
+    }
 
     public static TextEncoding getInstanceOf()
     {
-        if (textEncodings == null)
-        {
-            textEncodings = new TextEncoding();
-        }
-        return textEncodings;
+        return InstanceHolder.INSTANCE;
     }
 
     private TextEncoding()
@@ -23,7 +23,7 @@
 package org.jaudiotagger.tag.lyrics3;
 
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.AbstractDataType;
 import org.jaudiotagger.tag.id3.AbstractTagFrameBody;
 
@@ -60,7 +60,7 @@ public abstract class AbstractLyrics3v2FieldFrameBody extends AbstractTagFrameBo
         file.read(buffer, 0, 5);
         size = Integer.parseInt(new String(buffer, 0, 5));
 
-        if ((size == 0) && (!TagOptionSingleton.getInstance().isLyrics3KeepEmptyFieldIfRead()))
+        if ((size == 0) && (!TagOptions.current().isLyrics3KeepEmptyFieldIfRead()))
         {
             throw new InvalidTagException("Lyircs3v2 Field has size of zero.");
         }
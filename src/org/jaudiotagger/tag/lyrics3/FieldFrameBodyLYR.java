@@ -23,7 +23,7 @@
 package org.jaudiotagger.tag.lyrics3;
 
 import org.jaudiotagger.tag.InvalidTagException;
-import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
 import org.jaudiotagger.tag.datatype.ID3v2LyricLine;
 import org.jaudiotagger.tag.datatype.Lyrics3Line;
 import org.jaudiotagger.tag.datatype.Lyrics3TimeStamp;
@@ -280,7 +280,7 @@ public class FieldFrameBodyLYR extends AbstractLyrics3v2FieldFrameBody
 
         int size = Integer.parseInt(new String(buffer, 0, 5));
 
-        if ((size == 0) && (!TagOptionSingleton.getInstance().isLyrics3KeepEmptyFieldIfRead()))
+        if ((size == 0) && (!TagOptions.current().isLyrics3KeepEmptyFieldIfRead()))
         {
             throw new InvalidTagException("Lyircs3v2 Field has size of zero.");
         }
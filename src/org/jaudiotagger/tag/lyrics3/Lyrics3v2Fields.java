@@ -26,7 +26,6 @@ import org.jaudiotagger.tag.datatype.AbstractStringStringValuePair;
 public class Lyrics3v2Fields extends AbstractStringStringValuePair
 {
 
-    private static Lyrics3v2Fields lyrics3Fields;
 
     /**
      * CRLF int set
@@ -37,13 +36,17 @@ public class Lyrics3v2Fields extends AbstractStringStringValuePair
      */
     public static final String CRLF = new String(crlfByte);
 
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final Lyrics3v2Fields INSTANCE = new Lyrics3v2Fields();
+    }
+
     public static Lyrics3v2Fields getInstanceOf()
     {
-        if (lyrics3Fields == null)
-        {
-            lyrics3Fields = new Lyrics3v2Fields();
-        }
-        return lyrics3Fields;
+        return InstanceHolder.INSTANCE;
     }
 
     public static final String FIELD_V2_INDICATIONS = "IND";
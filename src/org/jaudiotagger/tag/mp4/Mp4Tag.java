@@ -28,7 +28,9 @@ import org.jaudiotagger.tag.mp4.field.*;
 
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.jaudiotagger.tag.mp4.Mp4FieldKey.*;
 
@@ -146,7 +148,7 @@ public class Mp4Tag extends AbstractTag
         }
 
         //Always write as text
-        if(TagOptionSingleton.getInstance().isWriteMp4GenresAsText())
+        if(TagOptions.current().isWriteMp4GenresAsText())
         {
             return new Mp4TagTextField(GENRE_CUSTOM.getFieldName(), content);
         }
@@ -178,7 +180,7 @@ public class Mp4Tag extends AbstractTag
      */
     public boolean hasField(FieldKey genericKey)
     {
-        return getFields(genericKey).size() != 0;
+        return getFields(genericKey).size() != 0 || skippedFields.contains(tagFieldToMp4Field.get(genericKey).getFieldName());
     }
 
     /**
@@ -188,7 +190,35 @@ public class Mp4Tag extends AbstractTag
      */
     public boolean hasField(Mp4FieldKey mp4FieldKey)
     {
-        return getFields(mp4FieldKey.getFieldName()).size() != 0;
+        return hasField(mp4FieldKey.getFieldName());
+    }
+
+    /**
+     * @param fieldKeys
+     * @return ids of the fields that hold the values of these keys
+     */
+    public static Set<String> getFieldIds(Set<FieldKey> fieldKeys)
+    {
+        Set<String> fieldIds = new HashSet<String>();
+        for (FieldKey fieldKey : fieldKeys)
+        {
+            Mp4FieldKey mp4FieldKey = tagFieldToMp4Field.get(fieldKey);
+            if (mp4FieldKey != null)
+            {
+                fieldIds.add(mp4FieldKey.getFieldName());
+            }
+        }
+
+        //Values also read from older fields when the field is not found
+        if (fieldKeys.contains(FieldKey.GENRE))
+        {
+            fieldIds.add(GENRE_CUSTOM.getFieldName());
+        }
+        if (fieldKeys.contains(FieldKey.KEY))
+        {
+            fieldIds.add(KEY_OLD.getFieldName());
+        }
+        return fieldIds;
     }
 
     /**
@@ -612,7 +642,7 @@ public class Mp4Tag extends AbstractTag
         else if (genericKey == FieldKey.GENRE)
         {
             //Always write as text
-            if(TagOptionSingleton.getInstance().isWriteMp4GenresAsText())
+            if(TagOptions.current().isWriteMp4GenresAsText())
             {
                 return new Mp4TagTextField(GENRE_CUSTOM.getFieldName(), value);
             }
@@ -20,6 +20,7 @@ package org.jaudiotagger.tag.mp4;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.mp4.atom.Mp4DataBox;
 import org.jaudiotagger.tag.mp4.field.Mp4FieldType;
@@ -28,6 +29,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -141,7 +143,7 @@ public abstract class Mp4TagField implements TagField
      */
     public byte[] getRawContent() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        Log.log(logger, Level.FINE, "Getting Raw data for:{}", getId());
         try
         {
             //Create Data Box
@@ -169,7 +171,7 @@ public abstract class Mp4TagField implements TagField
      */
     public byte[] getRawContentDataOnly() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        Log.log(logger, Level.FINE, "Getting Raw data for:{}", getId());
         try
         {
             //Create Data Box
@@ -2,6 +2,7 @@ package org.jaudiotagger.tag.mp4.field;
 
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.mp4.Mp4TagField;
 
@@ -9,6 +10,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 
 /**
  * Represents raw binary data
@@ -106,7 +108,7 @@ public class Mp4TagRawBinaryField extends Mp4TagField
 
     public byte[] getRawContent() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        Log.log(logger, Level.FINE, "Getting Raw data for:{}", getId());
         try
         {
             ByteArrayOutputStream outerbaos = new ByteArrayOutputStream();
@@ -3,6 +3,7 @@ package org.jaudiotagger.tag.mp4.field;
 import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.mp4.atom.Mp4BoxHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
 import org.jaudiotagger.tag.TagField;
 import org.jaudiotagger.tag.TagTextField;
 import org.jaudiotagger.tag.mp4.Mp4FieldKey;
@@ -15,6 +16,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
+import java.util.logging.Level;
 
 /**
  * Represents reverse dns field, used for custom information
@@ -207,7 +209,7 @@ public class Mp4TagReverseDnsField extends Mp4TagField implements TagTextField
 
     public byte[] getRawContentDataOnly() throws UnsupportedEncodingException
     {
-        logger.fine("Getting Raw data for:" + getId());
+        Log.log(logger, Level.FINE, "Getting Raw data for:{}", getId());
         try
         {
             //Create DataBox data
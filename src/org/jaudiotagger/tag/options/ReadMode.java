@@ -0,0 +1,16 @@
+package org.jaudiotagger.tag.options;
+
+/**
+ * Which parts of a file are read.
+ *
+ * ALL          - the audio header and the tag
+ * HEADER_ONLY  - only the audio header, the file is read without its tag so cannot be written
+ * TAG_ONLY     - only the tag, the audio header is read from the file when one of its getters is first called. Audio
+ *                not read from a file, such as a stream, has its header read straight away.
+ */
+public enum ReadMode
+{
+    ALL,
+    HEADER_ONLY,
+    TAG_ONLY,
+}
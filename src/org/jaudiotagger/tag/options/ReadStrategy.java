@@ -0,0 +1,17 @@
+package org.jaudiotagger.tag.options;
+
+/**
+ * How the regions of a file that hold the tag and header data are loaded into memory when read.
+ *
+ * BUFFERED  - copied into a heap buffer with a single positional read, works everywhere
+ * MAPPED    - memory mapped, avoids the copy but a file cannot be deleted or renamed on Windows whilst a mapping
+ *             of it is still reachable, and mapping is known to fail silently on some Android phones
+ * AUTO      - memory mapped when the region is large enough for mapping to be cheaper than copying and the platform
+ *             is not Windows or Android, otherwise buffered. If mapping fails the region is read buffered instead.
+ */
+public enum ReadStrategy
+{
+    BUFFERED,
+    MAPPED,
+    AUTO,
+}
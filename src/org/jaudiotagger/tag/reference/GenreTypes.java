@@ -51,15 +51,17 @@ public class GenreTypes extends AbstractIntStringValuePair
         return MAX_GENRE_ID;
     }
 
-    private static GenreTypes genreTypes;
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final GenreTypes INSTANCE = new GenreTypes();
+    }
 
     public static GenreTypes getInstanceOf()
     {
-        if (genreTypes == null)
-        {
-            genreTypes = new GenreTypes();
-        }
-        return genreTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     //This maps the lowercase version to the id, so applications can map from the lowercase value to the id
@@ -15,23 +15,28 @@ import java.util.Map;
  */
 public class ISOCountry
 {
-    private static Map<String, Country> codeMap;
-    private static Map<String, Country> descriptionMap;
-
-    static
+    /**
+     * Holds the lookup maps, which are only built when first used
+     */
+    private static class MapHolder
     {
-        codeMap = new HashMap<String, Country>();
-        for (Country country : Country.values())
-        {
-            codeMap.put(country.code, country);
-        }
+        private static final Map<String, Country> codeMap;
+        private static final Map<String, Country> descriptionMap;
 
-        descriptionMap = new HashMap<String, Country>();
-        for (Country country : Country.values())
+        static
         {
-            descriptionMap.put(country.description, country);
-        }
+            codeMap = new HashMap<String, Country>();
+            for (Country country : Country.values())
+            {
+                codeMap.put(country.code, country);
+            }
 
+            descriptionMap = new HashMap<String, Country>();
+            for (Country country : Country.values())
+            {
+                descriptionMap.put(country.description, country);
+            }
+        }
     }
 
     /**
@@ -40,7 +45,7 @@ public class ISOCountry
      */
     public static Country getCountryByCode(String code)
     {
-        return codeMap.get(code);
+        return MapHolder.codeMap.get(code);
     }
 
     /**
@@ -49,7 +54,7 @@ public class ISOCountry
      */
     public static Country getCountryByDescription(String description)
     {
-        return descriptionMap.get(description);
+        return MapHolder.descriptionMap.get(description);
     }
 
     /**
@@ -14,23 +14,28 @@ import java.util.Map;
  */
 public class ISOScript
 {
-    private static Map<String, Script> codeMap;
-    private static Map<String, Script> descriptionMap;
-
-    static
+    /**
+     * Holds the lookup maps, which are only built when first used
+     */
+    private static class MapHolder
     {
-        codeMap = new HashMap<String, Script>();
-        for (Script script : Script.values())
-        {
-            codeMap.put(script.code, script);
-        }
+        private static final Map<String, Script> codeMap;
+        private static final Map<String, Script> descriptionMap;
 
-        descriptionMap = new HashMap<String, Script>();
-        for (Script script : Script.values())
+        static
         {
-            descriptionMap.put(script.description, script);
-        }
+            codeMap = new HashMap<String, Script>();
+            for (Script script : Script.values())
+            {
+                codeMap.put(script.code, script);
+            }
 
+            descriptionMap = new HashMap<String, Script>();
+            for (Script script : Script.values())
+            {
+                descriptionMap.put(script.description, script);
+            }
+        }
     }
 
     /**
@@ -39,7 +44,7 @@ public class ISOScript
      */
     public static Script getScriptByCode(String code)
     {
-        return codeMap.get(code);
+        return MapHolder.codeMap.get(code);
     }
 
     /**
@@ -48,7 +53,7 @@ public class ISOScript
      */
     public static Script getScriptByDescription(String description)
     {
-        return descriptionMap.get(description);
+        return MapHolder.descriptionMap.get(description);
     }
 
     /**
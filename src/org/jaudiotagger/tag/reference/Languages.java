@@ -35,16 +35,17 @@ public class Languages extends AbstractStringStringValuePair
     //The number of bytes used to hold the language field size
     public static final int LANGUAGE_FIELD_SIZE = 3;
 
-    private static Languages languageTypes;
-
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final Languages INSTANCE = new Languages();
+    }
 
     public static Languages getInstanceOf()
     {
-        if (languageTypes == null)
-        {
-            languageTypes = new Languages();
-        }
-        return languageTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     private Languages()
@@ -32,15 +32,18 @@ import org.jaudiotagger.tag.datatype.AbstractIntStringValuePair;
  */
 public class PictureTypes extends AbstractIntStringValuePair
 {
-    private static PictureTypes pictureTypes;
+
+    /**
+     * Holds the instance, which is only created when first used, the class loader guarantees all threads see it fully populated
+     */
+    private static class InstanceHolder
+    {
+        private static final PictureTypes INSTANCE = new PictureTypes();
+    }
 
     public static PictureTypes getInstanceOf()
     {
-        if (pictureTypes == null)
-        {
-            pictureTypes = new PictureTypes();
-        }
-        return pictureTypes;
+        return InstanceHolder.INSTANCE;
     }
 
     public static final int PICTURE_TYPE_FIELD_SIZE = 1;
@@ -20,11 +20,18 @@
 package org.jaudiotagger.tag.vorbiscomment;
 
 import org.jaudiotagger.audio.exceptions.CannotReadException;
-import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.util.VorbisHeader;
 import org.jaudiotagger.logging.ErrorMessage;
+import org.jaudiotagger.logging.Log;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.SkippedFields;
+import org.jaudiotagger.tag.TagOptions;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Set;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 /**
@@ -66,6 +73,31 @@ public class VorbisCommentReader
      */
     private static final int JAUDIOTAGGER_MAX_COMMENT_LENGTH = 10000000;
 
+    /**
+     * Id given to a comment without a name
+     */
+    private static final String ERRONEOUS_FIELD_NAME = "ERRONEOUS";
+
+    /**
+     * Names of the known fields indexed by hash, so that a name read from file can be matched to its interned
+     * String without creating a new one
+     */
+    private static final String[] KNOWN_FIELD_NAMES = new String[512];
+
+    static
+    {
+        for (VorbisCommentFieldKey key : VorbisCommentFieldKey.values())
+        {
+            String name = key.getFieldName().toUpperCase().intern();
+            int slot = hashName(name) & (KNOWN_FIELD_NAMES.length - 1);
+            while (KNOWN_FIELD_NAMES[slot] != null && !KNOWN_FIELD_NAMES[slot].equals(name))
+            {
+                slot = (slot + 1) & (KNOWN_FIELD_NAMES.length - 1);
+            }
+            KNOWN_FIELD_NAMES[slot] = name;
+        }
+    }
+
     public VorbisCommentReader()
     {
 
@@ -80,67 +112,205 @@ public class VorbisCommentReader
      */
     public VorbisCommentTag read(byte[] rawdata, boolean isFramingBit) throws IOException, CannotReadException
     {
+        return read(ByteBuffer.wrap(rawdata), isFramingBit);
+    }
 
+    /**
+     * Read the tag from a view of the raw packet data starting at its position
+     * <p/>
+     * Nothing is copied out of the buffer, each field holds a view of its value which is only decoded when the
+     * value is required and field names are shared with the names of the known fields, so the buffer must not be
+     * modified afterwards. Fields that are not one of the {@link TagOptions#getReadFields() fields asked for} are
+     * only recorded in {@link VorbisCommentTag#getSkippedFields()}.
+     *
+     * @param rawdata
+     * @param isFramingBit
+     * @return logical representation of VorbisCommentTag
+     * @throws IOException
+     * @throws CannotReadException
+     */
+    public VorbisCommentTag read(ByteBuffer rawdata, boolean isFramingBit) throws IOException, CannotReadException
+    {
         VorbisCommentTag tag = new VorbisCommentTag();
+        Set<FieldKey> readFields = TagOptions.current().getReadFields();
+        Set<String> readFieldNames = readFields == null ? null : VorbisCommentTag.getFieldNames(readFields);
+        ByteBuffer data = rawdata.slice();
+        data.order(ByteOrder.LITTLE_ENDIAN);
+        int packetLength = data.remaining();
 
-        byte[] b = new byte[FIELD_VENDOR_LENGTH_LENGTH];
-        System.arraycopy(rawdata, FIELD_VENDOR_LENGTH_POS, b, FIELD_VENDOR_LENGTH_POS, FIELD_VENDOR_LENGTH_LENGTH);
-        int pos = FIELD_VENDOR_LENGTH_LENGTH;
-        int vendorStringLength = Utils.getIntLE(b);
-
-        b = new byte[vendorStringLength];
-        System.arraycopy(rawdata, pos, b, 0, vendorStringLength);
-        pos += vendorStringLength;
-        tag.setVendor(new String(b, VorbisHeader.CHARSET_UTF_8));
-        logger.config("Vendor is:"+tag.getVendor());
-        
-        b = new byte[FIELD_USER_COMMENT_LIST_LENGTH];
-        System.arraycopy(rawdata, pos, b, 0, FIELD_USER_COMMENT_LIST_LENGTH);
-        pos += FIELD_USER_COMMENT_LIST_LENGTH;
-
-        int userComments = Utils.getIntLE(b);
-        logger.config("Number of user comments:" + userComments);
-        
-        for (int i = 0; i < userComments; i++)
+        int vendorStringLength = data.getInt();
+        if (vendorStringLength < 0 || vendorStringLength > data.remaining())
         {
-            b = new byte[FIELD_COMMENT_LENGTH_LENGTH];
-            System.arraycopy(rawdata, pos, b, 0, FIELD_COMMENT_LENGTH_LENGTH);
-            pos += FIELD_COMMENT_LENGTH_LENGTH;
+            throw new CannotReadException(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(vendorStringLength, packetLength));
+        }
+        tag.setVendor(decode(data, data.position(), vendorStringLength));
+        data.position(data.position() + vendorStringLength);
+        Log.log(logger, Level.CONFIG, "Vendor is:{}", tag.getVendor());
 
-            int commentLength = Utils.getIntLE(b);
-            logger.config("Next Comment Length:" + commentLength);
+        int userComments = data.getInt();
+        Log.log(logger, Level.CONFIG, "Number of user comments:{}", userComments);
 
-            if(commentLength> JAUDIOTAGGER_MAX_COMMENT_LENGTH)
+        for (int i = 0; i < userComments; i++)
+        {
+            if (data.remaining() < FIELD_COMMENT_LENGTH_LENGTH)
+            {
+                logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(FIELD_COMMENT_LENGTH_LENGTH, data.remaining()));
+                break;
+            }
+            int commentLength = data.getInt();
+            Log.log(logger, Level.FINEST, "Next Comment Length:{}", commentLength);
+
+            if (commentLength > JAUDIOTAGGER_MAX_COMMENT_LENGTH || commentLength < 0)
             {
                 logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_TOO_LARGE.getMsg(commentLength));
                 break;
             }
-            else if(commentLength>rawdata.length)
+            else if (commentLength > data.remaining())
             {
-                logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength,rawdata.length));
+                logger.warning(ErrorMessage.VORBIS_COMMENT_LENGTH_LARGE_THAN_HEADER.getMsg(commentLength, packetLength));
                 break;
             }
             else
             {
-                b = new byte[commentLength];
-                System.arraycopy(rawdata, pos, b, 0, commentLength);
-                pos += commentLength;
-
-                VorbisCommentTagField fieldComment = new VorbisCommentTagField(b);
-                logger.config("Adding:" + fieldComment.getId());
+                VorbisCommentTagField fieldComment = readField(data, commentLength, readFieldNames, tag.getSkippedFields());
+                if (fieldComment == null)
+                {
+                    continue;
+                }
+                Log.log(logger, Level.FINEST, "Adding:{}", fieldComment.getId());
                 tag.addField(fieldComment);
             }
         }
 
-        //Check framing bit, only exists when vorbisComment used within OggVorbis       
+        //Check framing bit, only exists when vorbisComment used within OggVorbis
         if (isFramingBit)
         {
-            if ((rawdata[pos] & 0x01) != 1)
+            if (!data.hasRemaining())
             {
-                throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_FRAMING_BIT.getMsg((rawdata[pos] & 0x01)));
+                throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_FRAMING_BIT.getMsg(0));
+            }
+            byte framingBit = data.get();
+            if ((framingBit & 0x01) != 1)
+            {
+                throw new CannotReadException(ErrorMessage.OGG_VORBIS_NO_FRAMING_BIT.getMsg((framingBit & 0x01)));
             }
         }
         return tag;
     }
-}
 
+    /**
+     * Read the comment of commentLength bytes at the buffer position, moving the position past it
+     *
+     * @return the field, or null if it is not one of readFieldNames in which case it is added to skippedFields
+     */
+    private VorbisCommentTagField readField(ByteBuffer data, int commentLength, Set<String> readFieldNames, SkippedFields skippedFields) throws IOException
+    {
+        int start = data.position();
+        int end = start + commentLength;
+        int separator = -1;
+        for (int i = start; i < end; i++)
+        {
+            if (data.get(i) == '=')
+            {
+                separator = i;
+                break;
+            }
+        }
+        data.position(end);
+
+        //Beware that ogg ID, must be capitalized and contain no space..
+        String fieldName = separator == -1 ? ERRONEOUS_FIELD_NAME : getFieldName(data, start, separator - start);
+        if (readFieldNames != null && !readFieldNames.contains(fieldName))
+        {
+            skippedFields.add(fieldName);
+            return null;
+        }
+        if (separator == -1)
+        {
+            return new VorbisCommentTagField(fieldName, createView(data, start, end));
+        }
+        return new VorbisCommentTagField(fieldName, createView(data, separator + 1, end));
+    }
+
+    /**
+     * @return view of the bytes between start and end, independent of the position of data
+     */
+    private ByteBuffer createView(ByteBuffer data, int start, int end)
+    {
+        ByteBuffer view = data.duplicate();
+        view.limit(end);
+        view.position(start);
+        return view.slice();
+    }
+
+    /**
+     * @return upper case field name, the interned name of a known field is returned without creating a new String
+     */
+    private String getFieldName(ByteBuffer data, int start, int length) throws IOException
+    {
+        int hash = 0;
+        for (int i = start; i < start + length; i++)
+        {
+            hash = 31 * hash + toUpperCase(data.get(i));
+        }
+
+        int slot = hash & (KNOWN_FIELD_NAMES.length - 1);
+        while (KNOWN_FIELD_NAMES[slot] != null)
+        {
+            if (matches(KNOWN_FIELD_NAMES[slot], data, start, length))
+            {
+                return KNOWN_FIELD_NAMES[slot];
+            }
+            slot = (slot + 1) & (KNOWN_FIELD_NAMES.length - 1);
+        }
+        return decode(data, start, length).toUpperCase().intern();
+    }
+
+    private static boolean matches(String name, ByteBuffer data, int start, int length)
+    {
+        if (name.length() != length)
+        {
+            return false;
+        }
+        for (int i = 0; i < length; i++)
+        {
+            if (name.charAt(i) != toUpperCase(data.get(start + i)))
+            {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hashName(String name)
+    {
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++)
+        {
+            hash = 31 * hash + name.charAt(i);
+        }
+        return hash;
+    }
+
+    private static char toUpperCase(byte b)
+    {
+        if (b >= 'a' && b <= 'z')
+        {
+            return (char) (b - ('a' - 'A'));
+        }
+        return (char) (b & 0xFF);
+    }
+
+    private static String decode(ByteBuffer data, int start, int length) throws IOException
+    {
+        if (data.hasArray())
+        {
+            return new String(data.array(), data.arrayOffset() + start, length, VorbisHeader.CHARSET_UTF_8);
+        }
+        byte[] b = new byte[length];
+        ByteBuffer view = data.duplicate();
+        view.position(start);
+        view.get(b);
+        return new String(b, VorbisHeader.CHARSET_UTF_8);
+    }
+}
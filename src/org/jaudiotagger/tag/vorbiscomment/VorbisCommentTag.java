@@ -37,7 +37,9 @@ import java.io.UnsupportedEncodingException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * This is the logical representation of  Vorbis Comment Data
@@ -331,7 +333,7 @@ public class VorbisCommentTag extends AbstractTag
     public boolean hasField(FieldKey genericKey)
     {
         VorbisCommentFieldKey vorbisFieldKey = tagFieldToOggField.get(genericKey);
-        return getFields(vorbisFieldKey.getFieldName()).size() != 0;
+        return hasField(vorbisFieldKey.getFieldName());
     }
 
     /**
@@ -341,7 +343,32 @@ public class VorbisCommentTag extends AbstractTag
      */
     public boolean hasField(VorbisCommentFieldKey vorbisFieldKey)
     {
-        return getFields(vorbisFieldKey.getFieldName()).size() != 0;
+        return hasField(vorbisFieldKey.getFieldName());
+    }
+
+    /**
+     * @param fieldKeys
+     * @return upper case names of the fields that hold the values of these keys
+     */
+    public static Set<String> getFieldNames(Set<FieldKey> fieldKeys)
+    {
+        Set<String> fieldNames = new HashSet<String>();
+        for (FieldKey fieldKey : fieldKeys)
+        {
+            VorbisCommentFieldKey vorbisFieldKey = tagFieldToOggField.get(fieldKey);
+            if (vorbisFieldKey != null)
+            {
+                fieldNames.add(vorbisFieldKey.getFieldName().toUpperCase());
+            }
+        }
+
+        //Artwork can also be held in the older non-standard fields
+        if (fieldKeys.contains(FieldKey.COVER_ART))
+        {
+            fieldNames.add(VorbisCommentFieldKey.COVERART.getFieldName());
+            fieldNames.add(VorbisCommentFieldKey.COVERARTMIME.getFieldName());
+        }
+        return fieldNames;
     }
 
     /**
@@ -383,9 +410,35 @@ public class VorbisCommentTag extends AbstractTag
      */
     public byte[] getArtworkBinaryData()
     {
-        String base64data = this.getFirst(VorbisCommentFieldKey.COVERART);
-        byte[] rawdata = Base64Coder.decode(base64data.toCharArray());
-        return rawdata;
+        TagField field = this.getFirstField(VorbisCommentFieldKey.COVERART.getFieldName());
+        if (field == null)
+        {
+            return new byte[0];
+        }
+        return decodeBase64(field);
+    }
+
+    /**
+     * Decode base64 encoded field, if the field still holds the bytes read from file they are decoded directly
+     * without creating a String
+     *
+     * @param field
+     * @return decoded data
+     */
+    private byte[] decodeBase64(TagField field)
+    {
+        if (field instanceof VorbisCommentTagField)
+        {
+            try
+            {
+                return Base64Coder.decode(((VorbisCommentTagField) field).getRawValue());
+            }
+            catch (UnsupportedEncodingException uee)
+            {
+                throw new RuntimeException(uee);
+            }
+        }
+        return Base64Coder.decode(((TagTextField) field).getContent());
     }
 
     /**
@@ -408,7 +461,7 @@ public class VorbisCommentTag extends AbstractTag
      */
     public boolean isEmpty()
     {
-        return fields.size() <= 1;
+        return fields.size() <= 1 && skippedFields.isEmpty();
     }
 
     /**
@@ -448,11 +501,12 @@ public class VorbisCommentTag extends AbstractTag
         List<Artwork>  artworkList  = new ArrayList<Artwork>(1);
 
         //Read Old Format
-        if(getArtworkBinaryData()!=null & getArtworkBinaryData().length>0)
+        byte[] coverArtData = getArtworkBinaryData();
+        if(coverArtData.length>0)
         {
             Artwork artwork= ArtworkFactory.getNew();
             artwork.setMimeType(getArtworkMimeType());
-            artwork.setBinaryData(getArtworkBinaryData());
+            artwork.setBinaryData(coverArtData);
             artworkList.add(artwork);
         }
 
@@ -463,7 +517,7 @@ public class VorbisCommentTag extends AbstractTag
 
             try
             {
-                byte[] imageBinaryData = Base64Coder.decode(((TagTextField)tagField).getContent());
+                byte[] imageBinaryData = decodeBase64(tagField);
                 MetadataBlockDataPicture coverArt = new MetadataBlockDataPicture(ByteBuffer.wrap(imageBinaryData));
                 Artwork artwork=ArtworkFactory.createArtworkFromMetadataBlockDataPicture(coverArt);
                 artworkList.add(artwork);
@@ -520,6 +574,9 @@ public class VorbisCommentTag extends AbstractTag
 
     /**
      * Create Artwork field
+     * <p/>
+     * The base64 encoded picture is held as bytes, it is only converted to a String if the content of the field
+     * is requested
      *
      * @param artwork
      * @return
@@ -529,10 +586,8 @@ public class VorbisCommentTag extends AbstractTag
       {
         try
         {
-            char[] testdata = Base64Coder.encode(createMetadataBlockDataPicture(artwork).getRawContent());
-            String base64image = new String(testdata);
-            TagField imageTagField  = createField(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE, base64image);
-            return imageTagField;
+            byte[] base64image = Base64Coder.encodeToBytes(createMetadataBlockDataPicture(artwork).getRawContent());
+            return new VorbisCommentTagField(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName(), ByteBuffer.wrap(base64image));
         }
         catch(UnsupportedEncodingException uee)
         {
@@ -553,7 +608,7 @@ public class VorbisCommentTag extends AbstractTag
 
         //If worked okay above then that should be first artwork and if we still had old coverart format
         //that should be removed
-        if(this.getFirst(VorbisCommentFieldKey.COVERART).length()>0)
+        if(this.getFirstField(VorbisCommentFieldKey.COVERART.getFieldName())!=null)
         {
             this.deleteField(VorbisCommentFieldKey.COVERART);
             this.deleteField(VorbisCommentFieldKey.COVERARTMIME);
@@ -586,9 +641,7 @@ public class VorbisCommentTag extends AbstractTag
     @Deprecated
     public void setArtworkField(byte[] data, String mimeType)
     {
-        char[] testdata = Base64Coder.encode(data);
-        String base64image = new String(testdata);
-        VorbisCommentTagField dataField = new VorbisCommentTagField(VorbisCommentFieldKey.COVERART.getFieldName(), base64image);
+        VorbisCommentTagField dataField = new VorbisCommentTagField(VorbisCommentFieldKey.COVERART.getFieldName(), ByteBuffer.wrap(Base64Coder.encodeToBytes(data)));
         VorbisCommentTagField mimeField = new VorbisCommentTagField(VorbisCommentFieldKey.COVERARTMIME.getFieldName(), mimeType);
 
         setField(dataField);
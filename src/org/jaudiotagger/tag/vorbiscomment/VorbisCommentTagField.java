@@ -25,6 +25,7 @@ import org.jaudiotagger.tag.TagTextField;
 import static org.jaudiotagger.tag.vorbiscomment.VorbisCommentFieldKey.*;
 
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
 
 /**
  * This class represents the name and content of a tag entry in ogg-files.
@@ -50,6 +51,11 @@ public class VorbisCommentTagField implements TagTextField
      */
     private String content;
 
+    /**
+     * Stores the UTF-8 encoded content as read from file until it is decoded into {@link #content}. <br>
+     */
+    private ByteBuffer rawContent;
+
     /**
      * Stores the id (name) of the tag field. <br>
      */
@@ -92,6 +98,20 @@ public class VorbisCommentTagField implements TagTextField
         checkCommon();
     }
 
+    /**
+     * Creates an instance whose content is only decoded when first required.
+     *
+     * @param fieldId    ID (name) of the field, already in upper case.
+     * @param rawContent UTF-8 encoded content of the field, the buffer is not copied so it must not be modified
+     *                   afterwards.
+     */
+    public VorbisCommentTagField(String fieldId, ByteBuffer rawContent)
+    {
+        this.id = fieldId;
+        this.rawContent = rawContent;
+        checkCommon();
+    }
+
     /**
      * Creates an instance.
      *
@@ -146,6 +166,7 @@ public class VorbisCommentTagField implements TagTextField
         if (field instanceof TagTextField)
         {
             this.content = ((TagTextField) field).getContent();
+            this.rawContent = null;
         }
     }
 
@@ -169,9 +190,35 @@ public class VorbisCommentTagField implements TagTextField
      */
     public String getContent()
     {
+        if (content == null)
+        {
+            content = decode(rawContent);
+        }
         return content;
     }
 
+    /**
+     * Decode UTF-8 content read from file
+     */
+    private static String decode(ByteBuffer raw)
+    {
+        try
+        {
+            if (raw.hasArray())
+            {
+                return new String(raw.array(), raw.arrayOffset() + raw.position(), raw.remaining(), VorbisHeader.CHARSET_UTF_8);
+            }
+            byte[] b = new byte[raw.remaining()];
+            raw.duplicate().get(b);
+            return new String(b, VorbisHeader.CHARSET_UTF_8);
+        }
+        catch (UnsupportedEncodingException uee)
+        {
+            //UTF-8 is always supported
+            throw new RuntimeException(uee);
+        }
+    }
+
     /**
      * @see TagTextField#getEncoding()
      */
@@ -195,7 +242,9 @@ public class VorbisCommentTagField implements TagTextField
     {
         byte[] size = new byte[VorbisCommentReader.FIELD_COMMENT_LENGTH_LENGTH];
         byte[] idBytes = Utils.getDefaultBytes(this.id, "ISO-8859-1");
-        byte[] contentBytes = getBytes(this.content, "UTF-8");
+        ByteBuffer rawValue = getRawValue();
+        byte[] contentBytes = new byte[rawValue.remaining()];
+        rawValue.get(contentBytes);
         byte[] b = new byte[4 + idBytes.length + 1 + contentBytes.length];
 
         int length = idBytes.length + 1 + contentBytes.length;
@@ -216,6 +265,22 @@ public class VorbisCommentTagField implements TagTextField
         return b;
     }
 
+    /**
+     * Large values such as base64 encoded artwork can be read through this without decoding them into a String.
+     *
+     * @return the UTF-8 encoded content, if the content has not been decoded this is a view of the bytes read from
+     *         file
+     * @throws UnsupportedEncodingException
+     */
+    public ByteBuffer getRawValue() throws UnsupportedEncodingException
+    {
+        if (content == null)
+        {
+            return rawContent.duplicate();
+        }
+        return ByteBuffer.wrap(getBytes(this.content, "UTF-8"));
+    }
+
     /**
      * @see TagField#isBinary()
      */
@@ -249,6 +314,10 @@ public class VorbisCommentTagField implements TagTextField
      */
     public boolean isEmpty()
     {
+        if (content == null)
+        {
+            return !rawContent.hasRemaining();
+        }
         return this.content.equals("");
     }
 
@@ -258,6 +327,7 @@ public class VorbisCommentTagField implements TagTextField
     public void setContent(String s)
     {
         this.content = s;
+        this.rawContent = null;
     }
 
     /**
@@ -2,6 +2,8 @@ package org.jaudiotagger.tag.vorbiscomment.util;
 
 import org.jaudiotagger.audio.generic.Utils;
 
+import java.nio.ByteBuffer;
+
 /**
  * Base64Coder
  */
@@ -29,6 +31,17 @@ public class Base64Coder
         map1[i++] = '/';
     }
 
+    // Mapping table from 6-bit nibbles to Base64 characters as ASCII bytes.
+    private static final byte[] map1Bytes = new byte[64];
+
+    static
+    {
+        for (int i = 0; i < map1.length; i++)
+        {
+            map1Bytes[i] = (byte) map1[i];
+        }
+    }
+
     // Mapping table from Base64 characters to 6-bit nibbles.
     private static final byte[] map2 = new byte[128];
 
@@ -158,4 +171,120 @@ public class Base64Coder
         }
         return out;
     }
+
+    /**
+     * Encodes a byte array into Base64 format as ASCII bytes, without the char array and String of the
+     * {@link #encode(byte[])} method.
+     * No blanks or line breaks are inserted.
+     *
+     * @param in an array containing the data bytes to be encoded.
+     * @return An array with the Base64 encoded data.
+     */
+    public static byte[] encodeToBytes(final byte[] in)
+    {
+        final byte[] out = new byte[((in.length + 2) / 3) * 4];
+        encode(in, 0, in.length, out, 0);
+        return out;
+    }
+
+    /**
+     * Encodes len bytes of in starting at off into out as ASCII bytes
+     *
+     * @return the number of bytes written to out
+     */
+    private static int encode(final byte[] in, final int off, final int len, final byte[] out, final int outOff)
+    {
+        final int iEnd = off + len;
+        final int oDataEnd = outOff + (len * 4 + 2) / 3;  // output end without padding
+        int ip = off;
+        int op = outOff;
+        while (ip < iEnd)
+        {
+            final int i0 = in[ip++] & 0xff;
+            final int i1 = ip < iEnd ? in[ip++] & 0xff : 0;
+            final int i2 = ip < iEnd ? in[ip++] & 0xff : 0;
+            out[op++] = map1Bytes[i0 >>> 2];
+            out[op++] = map1Bytes[((i0 & 3) << 4) | (i1 >>> 4)];
+            out[op] = op < oDataEnd ? map1Bytes[((i1 & 0xf) << 2) | (i2 >>> 6)] : (byte) '=';
+            op++;
+            out[op] = op < oDataEnd ? map1Bytes[i2 & 0x3F] : (byte) '=';
+            op++;
+        }
+        return op - outOff;
+    }
+
+    /**
+     * Decodes Base64 data held as ASCII bytes between the position and limit of the buffer, without converting
+     * it to chars first. Line breaks within the data are ignored. The position of the buffer is not changed.
+     *
+     * @param in a buffer containing the Base64 encoded data.
+     * @return An array containing the decoded data bytes.
+     * @throws IllegalArgumentException if the input is not valid Base64 encoded data.
+     */
+    public static byte[] decode(final ByteBuffer in)
+    {
+        final int start = in.position();
+        final int end = in.limit();
+
+        //Count the encoded characters so the output can be allocated at its exact size
+        int iLen = 0;
+        int padding = 0;
+        for (int i = start; i < end; i++)
+        {
+            final byte b = in.get(i);
+            if (b == '=')
+            {
+                padding++;
+                iLen++;
+            }
+            else if (b != 13 && b != 10)
+            {
+                if (padding > 0)
+                {
+                    throw new IllegalArgumentException("Illegal character in Base64 encoded data.");
+                }
+                iLen++;
+            }
+        }
+        if (iLen % 4 != 0)
+        {
+            throw new IllegalArgumentException("Length of Base64 encoded input string is not a multiple of 4.");
+        }
+
+        final int oLen = ((iLen - padding) * 3) / 4;
+        final byte[] out = new byte[oLen];
+        int op = 0;
+        int quad = 0;
+        int n = 0;
+        //Padding is decoded as zero, the bytes it would produce are not part of the output
+        for (int i = start; i < end && op < oLen; i++)
+        {
+            final int c = in.get(i);
+            if (c == 13 || c == 10)
+            {
+                continue;
+            }
+            final int b = c == '=' ? 0 : (c >= 0 ? map2[c] : -1);
+            if (b < 0)
+            {
+                throw new IllegalArgumentException("Illegal character in Base64 encoded data.");
+            }
+            quad = (quad << 6) | b;
+            if (++n == 4)
+            {
+                out[op++] = (byte) (quad >>> 16);
+                if (op < oLen)
+                {
+                    out[op++] = (byte) (quad >>> 8);
+                }
+                if (op < oLen)
+                {
+                    out[op++] = (byte) quad;
+                }
+                quad = 0;
+                n = 0;
+            }
+        }
+        return out;
+    }
 }
@@ -0,0 +1,59 @@
+package org.jaudiotagger;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+/**
+ * Test data for the benchmarks, loaded into memory during setup so that file access is not measured
+ */
+public class BenchmarkData
+{
+    /**
+     * Seed used for generated data so every run measures the same input
+     */
+    private static final long SEED = 20050101L;
+
+    /**
+     * @param fileName name of a file in the testdata directory
+     * @return the whole file
+     * @throws IOException
+     */
+    public static byte[] readTestFile(String fileName) throws IOException
+    {
+        File file = new File("testdata", fileName);
+        byte[] data = new byte[(int) file.length()];
+        InputStream in = new FileInputStream(file);
+        try
+        {
+            int read = 0;
+            while (read < data.length)
+            {
+                int count = in.read(data, read, data.length - read);
+                if (count == -1)
+                {
+                    throw new IOException("Unexpected end of file:" + file);
+                }
+                read += count;
+            }
+        }
+        finally
+        {
+            in.close();
+        }
+        return data;
+    }
+
+    /**
+     * @param size
+     * @return the same random bytes of this size each time
+     */
+    public static byte[] randomBytes(int size)
+    {
+        byte[] data = new byte[size];
+        new Random(SEED).nextBytes(data);
+        return data;
+    }
+}
@@ -0,0 +1,51 @@
+package org.jaudiotagger.audio.mp3;
+
+import org.jaudiotagger.audio.exceptions.InvalidAudioFrameException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding of an MPEG frame header, done for every frame checked while looking for the start of the audio
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MPEGFrameHeaderBenchmark
+{
+    //MPEG-1 Layer III, 128kbps, 44100Hz, joint stereo
+    private static final byte[] FRAME_HEADER = {(byte) 0xFF, (byte) 0xFB, (byte) 0x90, (byte) 0x64};
+
+    private ByteBuffer header;
+
+    @Setup
+    public void setUp()
+    {
+        header = ByteBuffer.wrap(FRAME_HEADER);
+    }
+
+    @Benchmark
+    public boolean isMPEGFrame()
+    {
+        return MPEGFrameHeader.isMPEGFrame(header);
+    }
+
+    @Benchmark
+    public MPEGFrameHeader parseMPEGHeader() throws InvalidAudioFrameException
+    {
+        return MPEGFrameHeader.parseMPEGHeader(header);
+    }
+}
@@ -0,0 +1,55 @@
+package org.jaudiotagger.audio.mp4.atom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the header of an Mp4 box, done for every box walked while reading the file
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Mp4BoxHeaderBenchmark
+{
+    //moov box of 4096 bytes
+    private static final byte[] BOX_HEADER = {0x00, 0x00, 0x10, 0x00, 'm', 'o', 'o', 'v'};
+
+    private ByteBuffer headerData;
+    private Mp4BoxHeader header;
+
+    @Setup
+    public void setUp()
+    {
+        headerData = ByteBuffer.wrap(BOX_HEADER);
+        header = new Mp4BoxHeader();
+    }
+
+    @Benchmark
+    public Mp4BoxHeader createHeader()
+    {
+        headerData.rewind();
+        return new Mp4BoxHeader(headerData);
+    }
+
+    @Benchmark
+    public int updateHeader()
+    {
+        headerData.rewind();
+        header.update(headerData);
+        return header.getLength();
+    }
+}
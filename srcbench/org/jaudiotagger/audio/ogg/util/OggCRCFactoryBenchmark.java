@@ -0,0 +1,45 @@
+package org.jaudiotagger.audio.ogg.util;
+
+import org.jaudiotagger.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Checksum of an Ogg page, from a small header page up to the largest page allowed
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OggCRCFactoryBenchmark
+{
+    @Param({"64", "4096", "65307"})
+    public int pageSize;
+
+    private byte[] page;
+
+    @Setup
+    public void setUp()
+    {
+        page = BenchmarkData.randomBytes(pageSize);
+    }
+
+    @Benchmark
+    public byte[] computeCRC()
+    {
+        return OggCRCFactory.computeCRC(page);
+    }
+}
@@ -0,0 +1,605 @@
+package org.jaudiotagger.benchmark;
+
+import org.jaudiotagger.BenchmarkData;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.audio.mp3.MPEGFrameHeader;
+import org.jaudiotagger.audio.mp3.XingFrame;
+import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
+import org.jaudiotagger.audio.ogg.util.OggPageHeader;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.flac.FlacTag;
+import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.images.Artwork;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.reference.PictureTypes;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a corpus of large audio files from the small files in testdata, for measuring how reading and writing
+ * scale with file size
+ * <p/>
+ * The same seeds and sizes always give the same files. The audio is made by repeating the audio of the seed, so
+ * the files are valid as far as tagging is concerned but the audio itself does not decode cleanly:
+ * <ul>
+ * <li>mp3 - large ID3v24 tag with several images, CBR audio frames with no Xing/Info frame</li>
+ * <li>flac - several large PICTURE metadata blocks</li>
+ * <li>ogg - the audio pages of the seed repeated as a long run of pages with correct sequence numbers, granule
+ * positions and checksums</li>
+ * <li>m4b - a stco table with one entry for every 4KB of mdat, so large files have a large stco</li>
+ * <li>wav - a large data chunk</li>
+ * </ul>
+ * Usage: CorpusGenerator corpusDir [sizes], sizes is a comma separated list such as 1M,100M,2G and defaults to
+ * {@link #DEFAULT_SIZES}. Existing files in the corpus are reused, delete them to regenerate.
+ */
+public class CorpusGenerator
+{
+    public static final long KB = 1024;
+    public static final long MB = 1024 * KB;
+    public static final long GB = 1024 * MB;
+
+    public static final String DEFAULT_SIZES = "1M,100M,2G";
+
+    public static final String[] FORMATS = {"mp3", "flac", "ogg", "m4b", "wav"};
+
+    private static final String MP3_SEED = "testV1Cbr128.mp3";
+    private static final String FLAC_SEED = "test.flac";
+    private static final String OGG_SEED = "test.ogg";
+    private static final String MP4_SEED = "test.m4a";
+    private static final String WAV_SEED = "test.wav";
+    private static final String ARTWORK_SEED = "coverart_large.jpg";
+
+    //Number of copies of the artwork added to mp3 and flac files
+    private static final int NO_OF_IMAGES = 4;
+
+    //Distance between the chunk offsets written to the stco of m4b files
+    private static final int MP4_CHUNK_SPACING = (int) (4 * KB);
+
+    private static final int COPY_BUFFER_SIZE = (int) (1 * MB);
+
+    private final File corpusDir;
+
+    public CorpusGenerator(File corpusDir)
+    {
+        this.corpusDir = corpusDir;
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        if (args.length < 1)
+        {
+            System.err.println("Usage: CorpusGenerator corpusDir [sizes]");
+            System.exit(1);
+        }
+        CorpusGenerator generator = new CorpusGenerator(new File(args[0]));
+        for (File file : generator.generateAll(parseSizes(args.length > 1 ? args[1] : DEFAULT_SIZES)))
+        {
+            System.out.println(file.getPath() + ":" + file.length());
+        }
+    }
+
+    /**
+     * @param sizes comma separated sizes with an optional K, M or G suffix
+     * @return the sizes in bytes
+     */
+    public static long[] parseSizes(String sizes)
+    {
+        String[] values = sizes.split(",");
+        long[] result = new long[values.length];
+        for (int i = 0; i < values.length; i++)
+        {
+            String value = values[i].trim().toUpperCase();
+            long multiplier = 1;
+            char suffix = value.charAt(value.length() - 1);
+            if (suffix == 'K')
+            {
+                multiplier = KB;
+            }
+            else if (suffix == 'M')
+            {
+                multiplier = MB;
+            }
+            else if (suffix == 'G')
+            {
+                multiplier = GB;
+            }
+            if (multiplier != 1)
+            {
+                value = value.substring(0, value.length() - 1);
+            }
+            result[i] = Long.parseLong(value) * multiplier;
+        }
+        return result;
+    }
+
+    /**
+     * @param size
+     * @return size in the form used in file names, such as 100M
+     */
+    public static String formatSize(long size)
+    {
+        if (size % GB == 0)
+        {
+            return size / GB + "G";
+        }
+        else if (size % MB == 0)
+        {
+            return size / MB + "M";
+        }
+        else if (size % KB == 0)
+        {
+            return size / KB + "K";
+        }
+        return String.valueOf(size);
+    }
+
+    /**
+     * Generate a file of each format at each size, reusing any already in the corpus
+     *
+     * @param sizes
+     * @return the files
+     * @throws Exception
+     */
+    public List<File> generateAll(long[] sizes) throws Exception
+    {
+        List<File> files = new ArrayList<File>();
+        for (long size : sizes)
+        {
+            for (String format : FORMATS)
+            {
+                files.add(generate(format, size));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Generate a file, the file is reused if it already exists
+     *
+     * @param format one of {@link #FORMATS}
+     * @param size   the size of the file, ogg files stop at the last whole page that fits
+     * @return the file
+     * @throws Exception
+     */
+    public File generate(String format, long size) throws Exception
+    {
+        if (!corpusDir.isDirectory() && !corpusDir.mkdirs())
+        {
+            throw new IOException("Unable to create corpus directory:" + corpusDir);
+        }
+        File file = new File(corpusDir, "corpus-" + formatSize(size) + "." + format);
+        if (file.exists())
+        {
+            return file;
+        }
+
+        //Build under a temporary name so an interrupted run does not leave a partial file to be reused
+        File tmpFile = new File(corpusDir, "tmp-" + file.getName());
+        if (format.equals("mp3"))
+        {
+            generateMp3(tmpFile, size);
+        }
+        else if (format.equals("flac"))
+        {
+            generateFlac(tmpFile, size);
+        }
+        else if (format.equals("ogg"))
+        {
+            generateOgg(tmpFile, size);
+        }
+        else if (format.equals("m4b"))
+        {
+            generateMp4(tmpFile, size);
+        }
+        else if (format.equals("wav"))
+        {
+            generateWav(tmpFile, size);
+        }
+        else
+        {
+            throw new IllegalArgumentException("Unknown format:" + format);
+        }
+
+        //Tagging code keys on the file suffix
+        if (!tmpFile.renameTo(file))
+        {
+            throw new IOException("Unable to rename " + tmpFile + " to " + file);
+        }
+        return file;
+    }
+
+    private void generateMp3(File file, long size) throws Exception
+    {
+        byte[] seed = BenchmarkData.readTestFile(MP3_SEED);
+        int start = 0;
+        int end = seed.length;
+        if (end > 128 && seed[end - 128] == 'T' && seed[end - 127] == 'A' && seed[end - 126] == 'G')
+        {
+            end -= 128;
+        }
+
+        //Drop the Xing/Info frame so readers have to work out the length from the audio frames
+        ByteBuffer bb = ByteBuffer.wrap(seed);
+        MPEGFrameHeader header = MPEGFrameHeader.parseMPEGHeader(bb);
+        if (XingFrame.isXingFrame(bb, header) != null)
+        {
+            start += header.getFrameLength();
+        }
+
+        //Tag a file holding one copy of the audio, then add the rest of the audio after the tag
+        File tmpFile = new File(file.getPath() + ".mp3");
+        writeRepeated(tmpFile, seed, start, end - start, end - start, false);
+        MP3File mp3File = new MP3File(tmpFile);
+        ID3v24Tag tag = new ID3v24Tag();
+        setTextFields(tag);
+        addArtwork(tag);
+        mp3File.setID3v2Tag(tag);
+        mp3File.save();
+        renameOrFail(tmpFile, file);
+
+        writeRepeated(file, seed, start, end - start, size - file.length(), true);
+    }
+
+    private void generateFlac(File file, long size) throws Exception
+    {
+        byte[] seed = BenchmarkData.readTestFile(FLAC_SEED);
+
+        //Audio starts after the last metadata block
+        int audioStart = 4;
+        boolean lastBlock = false;
+        while (!lastBlock)
+        {
+            lastBlock = (seed[audioStart] & 0x80) != 0;
+            audioStart += 4 + (((seed[audioStart + 1] & 0xff) << 16) | ((seed[audioStart + 2] & 0xff) << 8) | (seed[audioStart + 3] & 0xff));
+        }
+
+        File tmpFile = new File(file.getPath() + ".flac");
+        writeRepeated(tmpFile, seed, 0, seed.length, seed.length, false);
+        AudioFile audioFile = AudioFileIO.read(tmpFile);
+        FlacTag tag = (FlacTag) audioFile.getTag();
+        setTextFields(tag);
+        //Added as picture blocks directly because creating them from Artwork needs to decode the image
+        byte[] image = BenchmarkData.readTestFile(ARTWORK_SEED);
+        for (int i = 0; i < NO_OF_IMAGES; i++)
+        {
+            tag.addField(new MetadataBlockDataPicture(image, PictureTypes.DEFAULT_ID, "image/jpeg", "Image " + i, 0, 0, 0, 0));
+        }
+        audioFile.commit();
+        renameOrFail(tmpFile, file);
+
+        writeRepeated(file, seed, audioStart, seed.length - audioStart, size - file.length(), true);
+    }
+
+    private void generateOgg(File file, long size) throws IOException
+    {
+        byte[] seed = BenchmarkData.readTestFile(OGG_SEED);
+        ByteBuffer bb = ByteBuffer.wrap(seed).order(ByteOrder.LITTLE_ENDIAN);
+
+        //Header pages have a granule position of zero, the rest are audio
+        List<int[]> audioPages = new ArrayList<int[]>();
+        int headerLength = 0;
+        int position = 0;
+        while (position < seed.length)
+        {
+            int pageLength = getOggPageLength(seed, position);
+            if (audioPages.isEmpty() && bb.getLong(position + OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS) == 0)
+            {
+                headerLength = position + pageLength;
+            }
+            else
+            {
+                audioPages.add(new int[]{position, pageLength});
+            }
+            position += pageLength;
+        }
+        long granulePerRepeat = bb.getLong(audioPages.get(audioPages.size() - 1)[0] + OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS);
+        int sequenceNo = bb.getInt(audioPages.get(0)[0] + OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS);
+
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(file), COPY_BUFFER_SIZE);
+        try
+        {
+            out.write(seed, 0, headerLength);
+            long written = headerLength;
+            int index = 0;
+            long repeat = 0;
+            while (true)
+            {
+                int[] page = audioPages.get(index);
+                int[] nextPage = audioPages.get((index + 1) % audioPages.size());
+                boolean last = written + page[1] + nextPage[1] > size;
+
+                ByteBuffer copy = ByteBuffer.allocate(page[1]).order(ByteOrder.LITTLE_ENDIAN);
+                copy.put(seed, page[0], page[1]);
+                byte headerType = copy.get(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS);
+                //Only the final page is the end of the stream
+                headerType = (byte) (last ? headerType | 0x04 : headerType & ~0x04);
+                copy.put(OggPageHeader.FIELD_HEADER_TYPE_FLAG_POS, headerType);
+                copy.putLong(OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS, copy.getLong(OggPageHeader.FIELD_ABSOLUTE_GRANULE_POS) + repeat * granulePerRepeat);
+                copy.putInt(OggPageHeader.FIELD_PAGE_SEQUENCE_NO_POS, sequenceNo++);
+                copy.putInt(OggPageHeader.FIELD_PAGE_CHECKSUM_POS, 0);
+                byte[] crc = OggCRCFactory.computeCRC(copy.array());
+                for (int i = 0; i < crc.length; i++)
+                {
+                    copy.put(OggPageHeader.FIELD_PAGE_CHECKSUM_POS + i, crc[i]);
+                }
+                out.write(copy.array());
+                written += page[1];
+
+                if (last)
+                {
+                    break;
+                }
+                index++;
+                if (index == audioPages.size())
+                {
+                    index = 0;
+                    repeat++;
+                }
+            }
+        }
+        finally
+        {
+            out.close();
+        }
+    }
+
+    private static int getOggPageLength(byte[] data, int position)
+    {
+        int noOfSegments = data[position + OggPageHeader.FIELD_PAGE_SEGMENTS_POS] & 0xff;
+        int length = OggPageHeader.OGG_PAGE_HEADER_FIXED_LENGTH + noOfSegments;
+        for (int i = 0; i < noOfSegments; i++)
+        {
+            length += data[position + OggPageHeader.FIELD_SEGMENT_TABLE_POS + i] & 0xff;
+        }
+        return length;
+    }
+
+    private void generateMp4(File file, long size) throws IOException
+    {
+        byte[] seed = BenchmarkData.readTestFile(MP4_SEED);
+        ByteBuffer bb = ByteBuffer.wrap(seed);
+
+        //Top level boxes, the seed has the moov before the mdat
+        ByteArrayOutputStream beforeMdat = new ByteArrayOutputStream();
+        int moovPosition = -1;
+        int mdatPosition = -1;
+        int position = 0;
+        while (position < seed.length)
+        {
+            int boxLength = bb.getInt(position);
+            String id = new String(seed, position + 4, 4, "ISO-8859-1");
+            if (id.equals("moov"))
+            {
+                moovPosition = position;
+            }
+            else if (id.equals("mdat"))
+            {
+                mdatPosition = position;
+                break;
+            }
+            position += boxLength;
+        }
+        if (moovPosition == -1 || mdatPosition == -1)
+        {
+            throw new IOException(MP4_SEED + " does not have a moov before the mdat");
+        }
+
+        //Work out how many chunk offsets are needed so the file comes out at the requested size
+        byte[] moovWithoutOffsets = rewriteMp4Container(seed, moovPosition, new int[0]);
+        long fixedLength = mdatPosition - (bb.getInt(moovPosition) - moovWithoutOffsets.length) + 8;
+        long remaining = Math.max(size - fixedLength, MP4_CHUNK_SPACING + 4);
+        int noOfChunks = (int) Math.max(1, remaining / (MP4_CHUNK_SPACING + 4));
+        long mdatDataLength = remaining - 4L * noOfChunks;
+        long mdatDataStart = fixedLength + 4L * noOfChunks;
+
+        int[] offsets = new int[noOfChunks];
+        for (int i = 0; i < noOfChunks; i++)
+        {
+            offsets[i] = (int) (mdatDataStart + (long) i * MP4_CHUNK_SPACING);
+        }
+        byte[] moov = rewriteMp4Container(seed, moovPosition, offsets);
+
+        beforeMdat.write(seed, 0, moovPosition);
+        beforeMdat.write(moov);
+        int afterMoov = moovPosition + bb.getInt(moovPosition);
+        beforeMdat.write(seed, afterMoov, mdatPosition - afterMoov);
+        byte[] header = beforeMdat.toByteArray();
+        //Audiobook brand
+        System.arraycopy("M4B ".getBytes("ISO-8859-1"), 0, header, 8, 4);
+
+        ByteBuffer mdatHeader = ByteBuffer.allocate(8);
+        mdatHeader.putInt((int) (mdatDataLength + 8));
+        mdatHeader.put("mdat".getBytes("ISO-8859-1"));
+
+        OutputStream out = new FileOutputStream(file);
+        try
+        {
+            out.write(header);
+            out.write(mdatHeader.array());
+        }
+        finally
+        {
+            out.close();
+        }
+        int mdatSeedStart = mdatPosition + 8;
+        writeRepeated(file, seed, mdatSeedStart, seed.length - mdatSeedStart, mdatDataLength, true);
+    }
+
+    /**
+     * Copy the box at position, replacing the contents of any stco within the moov/trak/mdia/minf/stbl path
+     * with offsets and recalculating the sizes of the containers
+     */
+    private static byte[] rewriteMp4Container(byte[] data, int position, int[] offsets) throws IOException
+    {
+        ByteBuffer bb = ByteBuffer.wrap(data);
+        int boxLength = bb.getInt(position);
+        String id = new String(data, position + 4, 4, "ISO-8859-1");
+
+        ByteArrayOutputStream contents = new ByteArrayOutputStream();
+        if (id.equals("stco"))
+        {
+            ByteBuffer stco = ByteBuffer.allocate(8 + 4 * offsets.length);
+            //Version and flags
+            stco.putInt(0);
+            stco.putInt(offsets.length);
+            for (int offset : offsets)
+            {
+                stco.putInt(offset);
+            }
+            contents.write(stco.array());
+        }
+        else if (id.equals("moov") || id.equals("trak") || id.equals("mdia") || id.equals("minf") || id.equals("stbl"))
+        {
+            int child = position + 8;
+            while (child < position + boxLength)
+            {
+                contents.write(rewriteMp4Container(data, child, offsets));
+                child += bb.getInt(child);
+            }
+        }
+        else
+        {
+            contents.write(data, position + 8, boxLength - 8);
+        }
+
+        ByteBuffer box = ByteBuffer.allocate(8 + contents.size());
+        box.putInt(8 + contents.size());
+        box.put(data, position + 4, 4);
+        box.put(contents.toByteArray());
+        return box.array();
+    }
+
+    private void generateWav(File file, long size) throws IOException
+    {
+        byte[] seed = BenchmarkData.readTestFile(WAV_SEED);
+        ByteBuffer bb = ByteBuffer.wrap(seed).order(ByteOrder.LITTLE_ENDIAN);
+
+        //Keep every chunk apart from the data chunk
+        ByteArrayOutputStream otherChunks = new ByteArrayOutputStream();
+        int dataStart = -1;
+        int dataLength = 0;
+        int position = 12;
+        while (position + 8 <= seed.length)
+        {
+            int chunkLength = bb.getInt(position + 4);
+            int paddedLength = 8 + chunkLength + (chunkLength & 1);
+            if (new String(seed, position, 4, "ISO-8859-1").equals("data"))
+            {
+                dataStart = position + 8;
+                dataLength = chunkLength;
+            }
+            else
+            {
+                otherChunks.write(seed, position, Math.min(paddedLength, seed.length - position));
+            }
+            position += paddedLength;
+        }
+
+        //Data length kept even so no padding byte is needed
+        long dataChunkLength = (size - 12 - otherChunks.size() - 8) & ~1L;
+        ByteBuffer header = ByteBuffer.allocate(12 + otherChunks.size() + 8).order(ByteOrder.LITTLE_ENDIAN);
+        header.put("RIFF".getBytes("ISO-8859-1"));
+        header.putInt((int) (4 + otherChunks.size() + 8 + dataChunkLength));
+        header.put("WAVE".getBytes("ISO-8859-1"));
+        header.put(otherChunks.toByteArray());
+        header.put("data".getBytes("ISO-8859-1"));
+        header.putInt((int) dataChunkLength);
+
+        OutputStream out = new FileOutputStream(file);
+        try
+        {
+            out.write(header.array());
+        }
+        finally
+        {
+            out.close();
+        }
+        writeRepeated(file, seed, dataStart, dataLength, dataChunkLength, true);
+    }
+
+    private static void setTextFields(Tag tag) throws Exception
+    {
+        tag.setField(FieldKey.ARTIST, "Corpus Artist");
+        tag.setField(FieldKey.ALBUM, "Corpus Album");
+        tag.setField(FieldKey.TITLE, "Corpus Title");
+        tag.setField(FieldKey.TRACK, "1");
+        tag.setField(FieldKey.YEAR, "2005");
+        tag.setField(FieldKey.COMMENT, "Generated by CorpusGenerator");
+    }
+
+    private static void addArtwork(Tag tag) throws Exception
+    {
+        for (int i = 0; i < NO_OF_IMAGES; i++)
+        {
+            Artwork artwork = ArtworkFactory.createArtworkFromFile(new File("testdata", ARTWORK_SEED));
+            artwork.setDescription("Image " + i);
+            tag.addField(artwork);
+        }
+    }
+
+    private static void renameOrFail(File from, File to) throws IOException
+    {
+        if (!from.renameTo(to))
+        {
+            throw new IOException("Unable to rename " + from + " to " + to);
+        }
+    }
+
+    /**
+     * Write length bytes to file made up of repeated copies of data from offset for count bytes
+     *
+     * @param append add to the end of the file rather than replace it
+     */
+    private static void writeRepeated(File file, byte[] data, int offset, int count, long length, boolean append) throws IOException
+    {
+        if (length <= 0)
+        {
+            return;
+        }
+
+        //Fill a large buffer with copies so writes are not limited by the size of the seed
+        byte[] buffer = new byte[(int) Math.min(length, Math.max(COPY_BUFFER_SIZE / count, 1) * (long) count)];
+        for (int i = 0; i < buffer.length; i += count)
+        {
+            System.arraycopy(data, offset, buffer, i, Math.min(count, buffer.length - i));
+        }
+
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try
+        {
+            if (append)
+            {
+                raf.seek(raf.length());
+            }
+            else
+            {
+                raf.setLength(0);
+            }
+            long remaining = length;
+            while (remaining > 0)
+            {
+                int toWrite = (int) Math.min(remaining, buffer.length);
+                raf.write(buffer, 0, toWrite);
+                remaining -= toWrite;
+            }
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package org.jaudiotagger.benchmark;
+
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Measures files per second and MB per second of AudioFileIO.read and AudioFile.commit for each format and size of
+ * the corpus built by {@link CorpusGenerator}
+ * <p/>
+ * Each combination is measured
+ * <ul>
+ * <li>cold - a single operation in a new JVM, so includes class loading and interpreted code</li>
+ * <li>warm - after warmup iterations in this JVM, with each of the requested thread counts</li>
+ * </ul>
+ * A commit is measured as reading the file, changing the title and committing it. Commits are made to copies of
+ * the corpus files, one per thread, so there must be room on disk for them.
+ * <p/>
+ * Results are written as CSV to standard output and the -out file, an operation that fails is recorded with its
+ * error rather than stopping the run so the size at which a format stops working shows up in the results.
+ * <p/>
+ * Usage: ThroughputBenchmark corpusDir [-sizes 1M,100M,2G] [-formats mp3,flac,ogg,m4b,wav] [-threads 1,4]
+ * [-iterations 5] [-warmup 2] [-out results.csv]
+ */
+public class ThroughputBenchmark
+{
+    public static final String CSV_HEADER = "format,size,operation,mode,threads,operations,seconds,filesPerSecond,mbPerSecond,error";
+
+    private static final String COLD_ARG = "-cold";
+    private static final String COLD_RESULT_PREFIX = "ColdResult:";
+
+    private static final String OPERATION_READ = "read";
+    private static final String OPERATION_COMMIT = "commit";
+
+    private final File corpusDir;
+    private long[] sizes = CorpusGenerator.parseSizes(CorpusGenerator.DEFAULT_SIZES);
+    private String[] formats = CorpusGenerator.FORMATS;
+    private int[] threadCounts = {1, Runtime.getRuntime().availableProcessors()};
+    private int iterations = 5;
+    private int warmupIterations = 2;
+    private PrintWriter results;
+
+    public ThroughputBenchmark(File corpusDir)
+    {
+        this.corpusDir = corpusDir;
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        if (args.length == 3 && args[0].equals(COLD_ARG))
+        {
+            runCold(args[1], new File(args[2]));
+            return;
+        }
+        if (args.length < 1)
+        {
+            System.err.println("Usage: ThroughputBenchmark corpusDir [-sizes 1M,100M,2G] [-formats mp3,flac,ogg,m4b,wav] [-threads 1,4] [-iterations 5] [-warmup 2] [-out results.csv]");
+            System.exit(1);
+        }
+
+        ThroughputBenchmark benchmark = new ThroughputBenchmark(new File(args[0]));
+        File outFile = null;
+        for (int i = 1; i + 1 < args.length; i += 2)
+        {
+            String value = args[i + 1];
+            if (args[i].equals("-sizes"))
+            {
+                benchmark.sizes = CorpusGenerator.parseSizes(value);
+            }
+            else if (args[i].equals("-formats"))
+            {
+                benchmark.formats = value.split(",");
+            }
+            else if (args[i].equals("-threads"))
+            {
+                String[] values = value.split(",");
+                benchmark.threadCounts = new int[values.length];
+                for (int j = 0; j < values.length; j++)
+                {
+                    benchmark.threadCounts[j] = Integer.parseInt(values[j].trim());
+                }
+            }
+            else if (args[i].equals("-iterations"))
+            {
+                benchmark.iterations = Integer.parseInt(value);
+            }
+            else if (args[i].equals("-warmup"))
+            {
+                benchmark.warmupIterations = Integer.parseInt(value);
+            }
+            else if (args[i].equals("-out"))
+            {
+                outFile = new File(value);
+            }
+            else
+            {
+                throw new IllegalArgumentException("Unknown option:" + args[i]);
+            }
+        }
+
+        if (outFile != null)
+        {
+            benchmark.results = new PrintWriter(new FileWriter(outFile));
+        }
+        try
+        {
+            benchmark.run();
+        }
+        finally
+        {
+            if (benchmark.results != null)
+            {
+                benchmark.results.close();
+            }
+        }
+    }
+
+    public void run() throws Exception
+    {
+        CorpusGenerator generator = new CorpusGenerator(corpusDir);
+        report(CSV_HEADER);
+        for (long size : sizes)
+        {
+            for (String format : formats)
+            {
+                File file = generator.generate(format, size);
+                measure(format, file);
+            }
+        }
+    }
+
+    private void measure(String format, File file) throws Exception
+    {
+        String prefix = format + "," + file.length() + ",";
+        report(prefix + measureCold(OPERATION_READ, file));
+
+        int maxThreads = 1;
+        for (int threads : threadCounts)
+        {
+            maxThreads = Math.max(maxThreads, threads);
+        }
+        List<File> copies = new ArrayList<File>();
+        try
+        {
+            for (int i = 0; i < maxThreads; i++)
+            {
+                copies.add(copyFile(file, new File(corpusDir, "work" + i + "-" + file.getName())));
+            }
+            report(prefix + measureCold(OPERATION_COMMIT, copies.get(0)));
+
+            for (int threads : threadCounts)
+            {
+                report(prefix + measureWarm(OPERATION_READ, threads, Arrays.asList(file)));
+                report(prefix + measureWarm(OPERATION_COMMIT, threads, copies));
+            }
+        }
+        finally
+        {
+            for (File copy : copies)
+            {
+                copy.delete();
+            }
+        }
+    }
+
+    /**
+     * Run a single operation in a new JVM
+     */
+    private String measureCold(String operation, File file) throws IOException, InterruptedException
+    {
+        List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ThroughputBenchmark.class.getName());
+        command.add(COLD_ARG);
+        command.add(operation);
+        command.add(file.getPath());
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        String result = null;
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        try
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                if (line.startsWith(COLD_RESULT_PREFIX))
+                {
+                    result = line.substring(COLD_RESULT_PREFIX.length());
+                }
+            }
+        }
+        finally
+        {
+            reader.close();
+        }
+        int exitValue = process.waitFor();
+        if (result == null)
+        {
+            return formatResult(operation, "cold", 1, 0, 0, 0, "exit value " + exitValue);
+        }
+        return result;
+    }
+
+    private static void runCold(String operation, File file)
+    {
+        long start = System.nanoTime();
+        String error = "";
+        try
+        {
+            doOperation(operation, file, 0);
+        }
+        catch (Exception e)
+        {
+            error = e.toString();
+        }
+        long elapsed = System.nanoTime() - start;
+        System.out.println(COLD_RESULT_PREFIX + formatResult(operation, "cold", 1, 1, elapsed, file.length(), error));
+    }
+
+    /**
+     * Run iterations of the operation on each of threads threads at once, after first running the warmup
+     * iterations, each thread works on its own file from files or all on the same file if there is only one
+     */
+    private String measureWarm(final String operation, int threads, final List<File> files) throws InterruptedException
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            for (int i = 0; i < warmupIterations; i++)
+            {
+                String error = runThreads(executor, operation, threads, files, 1);
+                if (error.length() > 0)
+                {
+                    return formatResult(operation, "warm", threads, 0, 0, 0, error);
+                }
+            }
+
+            long start = System.nanoTime();
+            String error = runThreads(executor, operation, threads, files, iterations);
+            long elapsed = System.nanoTime() - start;
+            return formatResult(operation, "warm", threads, threads * iterations, elapsed, files.get(0).length(), error);
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return the first error, or an empty string if every operation succeeded
+     */
+    private static String runThreads(ExecutorService executor, final String operation, int threads, final List<File> files, final int count) throws InterruptedException
+    {
+        final CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<Future<String>>();
+        for (int i = 0; i < threads; i++)
+        {
+            final File file = files.get(i % files.size());
+            results.add(executor.submit(new Callable<String>()
+            {
+                public String call() throws Exception
+                {
+                    startSignal.await();
+                    try
+                    {
+                        for (int j = 0; j < count; j++)
+                        {
+                            doOperation(operation, file, j);
+                        }
+                        return "";
+                    }
+                    catch (Exception e)
+                    {
+                        return e.toString();
+                    }
+                }
+            }));
+        }
+        startSignal.countDown();
+
+        String error = "";
+        for (Future<String> result : results)
+        {
+            try
+            {
+                String threadError = result.get();
+                if (error.length() == 0)
+                {
+                    error = threadError;
+                }
+            }
+            catch (Exception e)
+            {
+                error = e.toString();
+            }
+        }
+        return error;
+    }
+
+    private static void doOperation(String operation, File file, int iteration) throws Exception
+    {
+        AudioFile audioFile = AudioFileIO.read(file);
+        if (operation.equals(OPERATION_COMMIT))
+        {
+            //Alternate the title so every commit changes the file
+            audioFile.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "Iteration " + (iteration % 2));
+            audioFile.commit();
+        }
+    }
+
+    private static String formatResult(String operation, String mode, int threads, long operations, long elapsedNanos, long fileLength, String error)
+    {
+        double seconds = elapsedNanos / 1e9;
+        double filesPerSecond = seconds > 0 ? operations / seconds : 0;
+        double mbPerSecond = filesPerSecond * fileLength / CorpusGenerator.MB;
+        //Errors may contain commas
+        String quotedError = error.length() == 0 ? "" : "\"" + error.replace("\"", "'") + "\"";
+        return operation + "," + mode + "," + threads + "," + operations + ","
+                + String.format(Locale.US, "%.3f,%.3f,%.3f", seconds, filesPerSecond, mbPerSecond) + "," + quotedError;
+    }
+
+    private void report(String line)
+    {
+        System.out.println(line);
+        if (results != null)
+        {
+            results.println(line);
+            results.flush();
+        }
+    }
+
+    private static File copyFile(File from, File to) throws IOException
+    {
+        FileChannel in = new FileInputStream(from).getChannel();
+        try
+        {
+            FileChannel out = new FileOutputStream(to).getChannel();
+            try
+            {
+                long position = 0;
+                long size = in.size();
+                while (position < size)
+                {
+                    position += in.transferTo(position, size - position, out);
+                }
+            }
+            finally
+            {
+                out.close();
+            }
+        }
+        finally
+        {
+            in.close();
+        }
+        return to;
+    }
+}
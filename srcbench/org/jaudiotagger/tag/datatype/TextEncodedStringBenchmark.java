@@ -0,0 +1,81 @@
+package org.jaudiotagger.tag.datatype;
+
+import org.jaudiotagger.tag.InvalidDataTypeException;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTPE1;
+import org.jaudiotagger.tag.id3.framebody.FrameBodyTXXX;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decoding and encoding of the text held in ID3v2 frames, in each of the text encodings
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextEncodedStringBenchmark
+{
+    private static final String TEXT = "The Jimi Hendrix Experience - Voodoo Child (Slight Return)";
+
+    /**
+     * Text encoding as held in the frame, ISO-8859-1, UTF-16 with BOM and UTF-8
+     */
+    @Param({"0", "1", "3"})
+    public byte textEncoding;
+
+    private TextEncodedStringSizeTerminated sizeTerminated;
+    private TextEncodedStringNullTerminated nullTerminated;
+    private byte[] sizeTerminatedBytes;
+    private byte[] nullTerminatedBytes;
+
+    @Setup
+    public void setUp()
+    {
+        FrameBodyTPE1 artist = new FrameBodyTPE1(textEncoding, TEXT);
+        sizeTerminated = (TextEncodedStringSizeTerminated) artist.getObject(DataTypes.OBJ_TEXT);
+        sizeTerminatedBytes = sizeTerminated.writeByteArray();
+
+        FrameBodyTXXX userDefined = new FrameBodyTXXX(textEncoding, TEXT, TEXT);
+        nullTerminated = (TextEncodedStringNullTerminated) userDefined.getObject(DataTypes.OBJ_DESCRIPTION);
+        nullTerminatedBytes = nullTerminated.writeByteArray();
+    }
+
+    @Benchmark
+    public Object readSizeTerminated() throws InvalidDataTypeException
+    {
+        sizeTerminated.readByteArray(sizeTerminatedBytes, 0);
+        return sizeTerminated.getValue();
+    }
+
+    @Benchmark
+    public byte[] writeSizeTerminated()
+    {
+        return sizeTerminated.writeByteArray();
+    }
+
+    @Benchmark
+    public Object readNullTerminated() throws InvalidDataTypeException
+    {
+        nullTerminated.readByteArray(nullTerminatedBytes, 0);
+        return nullTerminated.getValue();
+    }
+
+    @Benchmark
+    public byte[] writeNullTerminated()
+    {
+        return nullTerminated.writeByteArray();
+    }
+}
@@ -0,0 +1,56 @@
+package org.jaudiotagger.tag.id3;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading and writing the syncsafe integers used for ID3v24 tag and frame sizes
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ID3SyncSafeIntegerBenchmark
+{
+    private static final int SIZE = 1234567;
+
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setUp()
+    {
+        encoded = ByteBuffer.wrap(ID3SyncSafeInteger.valueToBuffer(SIZE));
+    }
+
+    @Benchmark
+    public int bufferToValue()
+    {
+        encoded.rewind();
+        return ID3SyncSafeInteger.bufferToValue(encoded);
+    }
+
+    @Benchmark
+    public boolean isBufferNotSyncSafe()
+    {
+        return ID3SyncSafeInteger.isBufferNotSyncSafe(encoded);
+    }
+
+    @Benchmark
+    public byte[] valueToBuffer()
+    {
+        return ID3SyncSafeInteger.valueToBuffer(SIZE);
+    }
+}
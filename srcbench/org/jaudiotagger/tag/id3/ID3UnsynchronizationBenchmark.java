@@ -0,0 +1,59 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unsynchronization of a frame before writing and synchronization after reading, using random data because
+ * artwork is the frame most likely to contain false syncs
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ID3UnsynchronizationBenchmark
+{
+    private static final int FRAME_SIZE = 64 * 1024;
+
+    private byte[] frame;
+    private byte[] unsynchronizedFrame;
+
+    @Setup
+    public void setUp()
+    {
+        frame = BenchmarkData.randomBytes(FRAME_SIZE);
+        unsynchronizedFrame = ID3Unsynchronization.unsynchronize(frame);
+    }
+
+    @Benchmark
+    public boolean requiresUnsynchronization()
+    {
+        return ID3Unsynchronization.requiresUnsynchronization(frame);
+    }
+
+    @Benchmark
+    public byte[] unsynchronize()
+    {
+        return ID3Unsynchronization.unsynchronize(frame);
+    }
+
+    @Benchmark
+    public ByteBuffer synchronize()
+    {
+        return ID3Unsynchronization.synchronize(ByteBuffer.wrap(unsynchronizedFrame));
+    }
+}
@@ -0,0 +1,53 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.BenchmarkData;
+import org.jaudiotagger.tag.TagException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Construction of a complete ID3v2 tag from the start of an mp3 held in memory, so only the tag parsing is measured
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ID3v2TagBenchmark
+{
+    //Despite their names test23.mp3 has an ID3v24 tag and testV24-comments-utf8.mp3 an ID3v23 tag
+    private byte[] v24File;
+    private byte[] v23File;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        v24File = BenchmarkData.readTestFile("test23.mp3");
+        v23File = BenchmarkData.readTestFile("testV24-comments-utf8.mp3");
+    }
+
+    @Benchmark
+    public ID3v24Tag readID3v24Tag() throws TagException
+    {
+        return new ID3v24Tag(ByteBuffer.wrap(v24File), "test23.mp3");
+    }
+
+    @Benchmark
+    public ID3v23Tag readID3v23Tag() throws TagException
+    {
+        return new ID3v23Tag(ByteBuffer.wrap(v23File), "testV24-comments-utf8.mp3");
+    }
+}
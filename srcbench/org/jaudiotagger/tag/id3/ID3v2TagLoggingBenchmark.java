@@ -0,0 +1,57 @@
+package org.jaudiotagger.tag.id3;
+
+import org.jaudiotagger.BenchmarkData;
+import org.jaudiotagger.tag.TagException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Allocation of a warm ID3v2 tag parse with the diagnostic logging disabled and enabled, run with -prof gc and
+ * compare gc.alloc.rate.norm, the difference is the cost of building the log messages.
+ * <p/>
+ * INFO is the default level so none of the per frame messages are logged, with FINEST they are built but not
+ * written anywhere so only the cost of the messages is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ID3v2TagLoggingBenchmark
+{
+    @Param({"INFO", "FINEST"})
+    public String level;
+
+    private byte[] v24File;
+
+    @Setup
+    public void setUp() throws IOException
+    {
+        Logger logger = Logger.getLogger("org.jaudiotagger");
+        logger.setLevel(Level.parse(level));
+        logger.setUseParentHandlers(false);
+        v24File = BenchmarkData.readTestFile("test23.mp3");
+    }
+
+    @Benchmark
+    public ID3v24Tag readID3v24Tag() throws TagException
+    {
+        return new ID3v24Tag(ByteBuffer.wrap(v24File), "test23.mp3");
+    }
+}
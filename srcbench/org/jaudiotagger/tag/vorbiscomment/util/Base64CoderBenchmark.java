@@ -0,0 +1,67 @@
+package org.jaudiotagger.tag.vorbiscomment.util;
+
+import org.jaudiotagger.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base64 encoding and decoding of artwork as held in a Vorbis comment
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Base64CoderBenchmark
+{
+    //Typical size of embedded cover art
+    private static final int ARTWORK_SIZE = 64 * 1024;
+
+    private byte[] artwork;
+    private char[] encoded;
+    private byte[] encodedBytes;
+
+    @Setup
+    public void setUp()
+    {
+        artwork = BenchmarkData.randomBytes(ARTWORK_SIZE);
+        encoded = Base64Coder.encode(artwork);
+        encodedBytes = Base64Coder.encodeToBytes(artwork);
+    }
+
+    @Benchmark
+    public char[] encode()
+    {
+        return Base64Coder.encode(artwork);
+    }
+
+    @Benchmark
+    public byte[] encodeToBytes()
+    {
+        return Base64Coder.encodeToBytes(artwork);
+    }
+
+    @Benchmark
+    public byte[] decodeChars()
+    {
+        return Base64Coder.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] decodeBuffer()
+    {
+        return Base64Coder.decode(ByteBuffer.wrap(encodedBytes));
+    }
+}
@@ -0,0 +1,471 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.flac.FlacFileWriter;
+import org.jaudiotagger.audio.flac.FlacTagWriter;
+import org.jaudiotagger.audio.generic.Cancellation;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.audio.wav.WavTag;
+import org.jaudiotagger.audio.wav.WavTagWriter;
+import org.jaudiotagger.audio.wav.util.WavChunkHeader;
+import org.jaudiotagger.audio.wav.util.WavChunkIndex;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes run on an Executor, and stopping writes part way through
+ */
+public class AsyncAudioFileIOTest extends AbstractTestCase
+{
+    /**
+     * Runs each command on the calling thread
+     */
+    private static final Executor DIRECT = new Executor()
+    {
+        public void execute(Runnable command)
+        {
+            command.run();
+        }
+    };
+
+    public void testReadAsync() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testReadAsync.flac"));
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try
+        {
+            final CountDownLatch completed = new CountDownLatch(1);
+            AudioFileFuture<AudioFile> future = AudioFileIO.readAsync(testFile, executor);
+            future.addListener(new Runnable()
+            {
+                public void run()
+                {
+                    completed.countDown();
+                }
+            }, DIRECT);
+            assertTrue(completed.await(10, TimeUnit.SECONDS));
+            assertTrue(future.isDone());
+            assertEquals(testFile, future.get().getFile());
+
+            //Listener added after completion runs straight away
+            final CountDownLatch late = new CountDownLatch(1);
+            future.addListener(new Runnable()
+            {
+                public void run()
+                {
+                    late.countDown();
+                }
+            }, DIRECT);
+            assertEquals(0, late.getCount());
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    public void testManyAtOnce() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try
+        {
+            Future<AudioFile>[] futures = new Future[16];
+            for (int i = 0; i < futures.length; i++)
+            {
+                File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testManyAtOnce" + i + ".mp3"));
+                AudioFile af = AudioFileIO.read(testFile);
+                af.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "title" + i);
+                futures[i] = AudioFileIO.writeAsync(af, executor);
+            }
+            for (int i = 0; i < futures.length; i++)
+            {
+                File written = futures[i].get(30, TimeUnit.SECONDS).getFile();
+                assertEquals("title" + i, AudioFileIO.read(written).getTag().getFirst(FieldKey.TITLE));
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Timeout passes whilst waiting for the executor so the write never starts
+     */
+    public void testWriteAsyncTimeout() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testWriteAsyncTimeout.flac"));
+        long originalLength = testFile.length();
+        AudioFile af = AudioFileIO.read(testFile);
+        String originalTitle = af.getTag().getFirst(FieldKey.TITLE);
+        af.getTag().setField(FieldKey.TITLE, "title");
+
+        Executor delayed = new Executor()
+        {
+            public void execute(Runnable command)
+            {
+                try
+                {
+                    Thread.sleep(20);
+                }
+                catch (InterruptedException ie)
+                {
+                    Thread.currentThread().interrupt();
+                }
+                command.run();
+            }
+        };
+        AudioFileFuture<AudioFile> future = AudioFileIO.writeAsync(af, delayed, 1, TimeUnit.MILLISECONDS);
+        try
+        {
+            future.get();
+            fail("Expected write to time out");
+        }
+        catch (ExecutionException ee)
+        {
+            assertTrue(ee.getCause() instanceof CannotWriteException);
+            assertTrue(ee.getCause().getCause() instanceof InterruptedIOException);
+        }
+        assertEquals(originalLength, testFile.length());
+        assertEquals(originalTitle, AudioFileIO.read(testFile).getTag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testCancelledBeforeStart() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testCancelledBeforeStart.flac"));
+        final Runnable[] queued = new Runnable[1];
+        AudioFileFuture<AudioFile> future = AudioFileIO.readAsync(testFile, new Executor()
+        {
+            public void execute(Runnable command)
+            {
+                queued[0] = command;
+            }
+        });
+        assertTrue(future.cancel(true));
+        queued[0].run();
+        assertTrue(future.isCancelled());
+    }
+
+    /**
+     * A padding adjustment stopped before it replaces the original deletes its temporary file
+     */
+    public void testAdjustPaddingStopped() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testAdjustPaddingStopped.mp3"));
+        long originalLength = testFile.length();
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        mp3File.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "title");
+        mp3File.getTag().setField(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+
+        int tempFilesBefore = countTempFiles(testFile.getParentFile());
+        Long previous = Cancellation.setDeadline(System.nanoTime() - 1);
+        try
+        {
+            mp3File.commit();
+            fail("Expected write to be stopped");
+        }
+        catch (CannotWriteException cwe)
+        {
+            assertTrue(cwe.getCause() instanceof InterruptedIOException);
+        }
+        finally
+        {
+            Cancellation.setDeadline(previous);
+        }
+        assertEquals(originalLength, testFile.length());
+        assertEquals(tempFilesBefore, countTempFiles(testFile.getParentFile()));
+    }
+
+    /**
+     * A rewrite stopped before it replaces the original deletes its temporary file
+     */
+    public void testRewriteStopped() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testRewriteStopped.flac"));
+        long originalLength = testFile.length();
+        AudioFile af = AudioFileIO.read(testFile);
+        //Too large to fit in the existing padding so the file is rewritten
+        StringBuilder comment = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+        {
+            comment.append("comment ");
+        }
+        af.getTag().setField(FieldKey.COMMENT, comment.toString());
+
+        int tempFilesBefore = countTempFiles(testFile.getParentFile());
+        Thread.currentThread().interrupt();
+        try
+        {
+            new FlacFileWriter().write(af);
+            fail("Expected write to be stopped");
+        }
+        catch (CannotWriteException cwe)
+        {
+            //Expected
+        }
+        finally
+        {
+            Thread.interrupted();
+        }
+        assertEquals(originalLength, testFile.length());
+        assertEquals(tempFilesBefore, countTempFiles(testFile.getParentFile()));
+    }
+
+    /**
+     * An in place Wav write cancelled before it starts changing the file leaves it unchanged
+     */
+    public void testInPlaceWriteCancelledBeforeChange() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testInPlaceWriteCancelledBeforeChange.wav"));
+        byte[] original = readFile(testFile);
+        WavTag tag = (WavTag) AudioFileIO.read(testFile).getTag();
+        tag.setField(FieldKey.TITLE, "title");
+
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        Thread.currentThread().interrupt();
+        try
+        {
+            new WavTagWriter().write(tag, raf);
+            fail("Expected write to be stopped");
+        }
+        catch (IOException ioe)
+        {
+            //Expected
+        }
+        finally
+        {
+            Thread.interrupted();
+            raf.close();
+        }
+        assertTrue(Arrays.equals(original, readFile(testFile)));
+    }
+
+    /**
+     * An in place Wav write cancelled once it has started changing the file completes its changes, so the file is
+     * still valid
+     */
+    public void testInPlaceWriteCancelledDuringChange() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testInPlaceWriteCancelledDuringChange.wav"));
+        WavTag tag = (WavTag) AudioFileIO.read(testFile).getTag();
+        tag.setField(FieldKey.TITLE, "title");
+        tag.setField(FieldKey.ARTIST, "artist");
+
+        //Cancelled as soon as the first change is written
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw")
+        {
+            public void write(byte[] b, int off, int len) throws IOException
+            {
+                Thread.currentThread().interrupt();
+                super.write(b, off, len);
+            }
+        };
+        try
+        {
+            new WavTagWriter().write(tag, raf);
+            assertTrue(Thread.currentThread().isInterrupted());
+        }
+        finally
+        {
+            Thread.interrupted();
+            raf.close();
+        }
+
+        AudioFile af = AudioFileIO.read(testFile);
+        assertEquals("title", af.getTag().getFirst(FieldKey.TITLE));
+        assertEquals("artist", af.getTag().getFirst(FieldKey.ARTIST));
+        raf = new RandomAccessFile(testFile, "r");
+        try
+        {
+            assertEquals(testFile.length() - WavChunkHeader.CHUNK_HEADER_LENGTH, WavChunkIndex.read(raf).getRiffSize());
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    /**
+     * An in place MP3 write cancelled before it changes the file leaves the file unchanged
+     */
+    public void testInPlaceMp3WriteCancelledBeforeChange() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3", new File("testInPlaceMp3WriteCancelledBeforeChange.mp3"));
+        byte[] original = readFile(testFile);
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        mp3File.getID3v2Tag().setField(FieldKey.TITLE, "title");
+
+        Thread.currentThread().interrupt();
+        try
+        {
+            mp3File.getID3v2Tag().write(testFile, mp3File.getMP3AudioHeader().getMp3StartByte());
+            fail("Expected write to be stopped");
+        }
+        catch (InterruptedIOException iioe)
+        {
+            //Expected
+        }
+        finally
+        {
+            Thread.interrupted();
+        }
+        assertTrue(Arrays.equals(original, readFile(testFile)));
+    }
+
+    /**
+     * An in place MP3 write cancelled once it has started changing the file completes its changes
+     */
+    public void testInPlaceMp3WriteCancelledDuringChange() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3", new File("testInPlaceMp3WriteCancelledDuringChange.mp3"));
+        long length = testFile.length();
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+
+        //Cancelled once the file has been opened for the change
+        ID3v24Tag tag = new ID3v24Tag()
+        {
+            protected FileLock getFileLockForWriting(FileChannel fileChannel, String filePath) throws IOException
+            {
+                Thread.currentThread().interrupt();
+                return super.getFileLockForWriting(fileChannel, filePath);
+            }
+        };
+        tag.setField(FieldKey.TITLE, "title");
+        tag.setField(FieldKey.ARTIST, "artist");
+        try
+        {
+            tag.write(testFile, mp3File.getMP3AudioHeader().getMp3StartByte());
+            assertTrue(Thread.currentThread().isInterrupted());
+        }
+        finally
+        {
+            Thread.interrupted();
+        }
+
+        assertEquals(length, testFile.length());
+        mp3File = (MP3File) AudioFileIO.read(testFile);
+        assertEquals("title", mp3File.getID3v2Tag().getFirst(FieldKey.TITLE));
+        assertEquals("artist", mp3File.getID3v2Tag().getFirst(FieldKey.ARTIST));
+    }
+
+    /**
+     * An in place Flac write cancelled before it changes the file leaves the file unchanged
+     */
+    public void testInPlaceFlacWriteCancelledBeforeChange() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testInPlaceFlacWriteCancelledBeforeChange.flac"));
+        File tempFile = new File(testFile.getParentFile(), "testInPlaceFlacWriteCancelledBeforeChange.tmp");
+        byte[] original = readFile(testFile);
+        Tag tag = AudioFileIO.read(testFile).getTag();
+        tag.setField(FieldKey.TITLE, "title");
+
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        RandomAccessFile rafTemp = new RandomAccessFile(tempFile, "rw");
+        Thread.currentThread().interrupt();
+        try
+        {
+            new FlacTagWriter().write(tag, raf, rafTemp);
+            fail("Expected write to be stopped");
+        }
+        catch (IOException ioe)
+        {
+            //Expected
+        }
+        finally
+        {
+            Thread.interrupted();
+            raf.close();
+            rafTemp.close();
+            tempFile.delete();
+        }
+        assertTrue(Arrays.equals(original, readFile(testFile)));
+    }
+
+    /**
+     * An in place Flac write cancelled once it has started changing the file completes its changes
+     */
+    public void testInPlaceFlacWriteCancelledDuringChange() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testInPlaceFlacWriteCancelledDuringChange.flac"));
+        File tempFile = new File(testFile.getParentFile(), "testInPlaceFlacWriteCancelledDuringChange.tmp");
+        long length = testFile.length();
+        Tag tag = AudioFileIO.read(testFile).getTag();
+        tag.setField(FieldKey.TITLE, "title");
+        tag.setField(FieldKey.ARTIST, "artist");
+
+        //Cancelled as soon as the first change is written
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw")
+        {
+            public void write(byte[] b, int off, int len) throws IOException
+            {
+                Thread.currentThread().interrupt();
+                super.write(b, off, len);
+            }
+        };
+        RandomAccessFile rafTemp = new RandomAccessFile(tempFile, "rw");
+        try
+        {
+            new FlacTagWriter().write(tag, raf, rafTemp);
+            assertTrue(Thread.currentThread().isInterrupted());
+            assertEquals(0, rafTemp.length());
+        }
+        finally
+        {
+            Thread.interrupted();
+            raf.close();
+            rafTemp.close();
+            tempFile.delete();
+        }
+
+        assertEquals(length, testFile.length());
+        AudioFile af = AudioFileIO.read(testFile);
+        assertEquals("title", af.getTag().getFirst(FieldKey.TITLE));
+        assertEquals("artist", af.getTag().getFirst(FieldKey.ARTIST));
+    }
+
+    private static byte[] readFile(File file) throws IOException
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+            return bytes;
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    private static int countTempFiles(File dir)
+    {
+        int count = 0;
+        for (File file : dir.listFiles())
+        {
+            if (file.getName().endsWith(".tmp") || file.getName().endsWith(".new"))
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+}
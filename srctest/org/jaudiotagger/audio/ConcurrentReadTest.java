@@ -0,0 +1,184 @@
+package org.jaudiotagger.audio;
+
+import junit.framework.TestCase;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagTextField;
+
+import java.io.File;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reads every supported file in testdata from many threads at once using the default AudioFileIO and checks that
+ * each read gives the same result as reading the file on its own.
+ */
+public class ConcurrentReadTest extends TestCase
+{
+    private static final int THREADS = 8;
+    private static final int ROUNDS = 4;
+
+    private final Map<File, String> expected = new LinkedHashMap<File, String>();
+
+    @Override
+    public void setUp()
+    {
+        AudioFileFilter filter = new AudioFileFilter();
+        File[] files = new File("testdata").listFiles();
+        for (File file : files)
+        {
+            if (file.isFile() && filter.accept(file))
+            {
+                expected.put(file, describe(file));
+            }
+        }
+    }
+
+    public void testCorpusCoversAllFormats()
+    {
+        List<String> extensions = new ArrayList<String>();
+        for (File file : expected.keySet())
+        {
+            String name = file.getName();
+            extensions.add(name.substring(name.lastIndexOf('.') + 1).toLowerCase());
+        }
+        for (String extension : new String[]{"mp3", "m4a", "ogg", "flac", "wav", "aif", "ra", "rm"})
+        {
+            assertTrue("No test file for " + extension, extensions.contains(extension));
+        }
+    }
+
+    public void testConcurrentReads() throws Exception
+    {
+        List<File> files = new ArrayList<File>();
+        for (int round = 0; round < ROUNDS; round++)
+        {
+            files.addAll(expected.keySet());
+        }
+        Collections.shuffle(files);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<String>> results = new ArrayList<Future<String>>(files.size());
+            for (File file : files)
+            {
+                results.add(executor.submit(new ReadFileCallable(file)));
+            }
+
+            for (int i = 0; i < files.size(); i++)
+            {
+                assertEquals(files.get(i).getName(), expected.get(files.get(i)), results.get(i).get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    public void testDefaultInstanceSharedBetweenThreads() throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<AudioFileIO>> results = new ArrayList<Future<AudioFileIO>>();
+            for (int i = 0; i < THREADS; i++)
+            {
+                results.add(executor.submit(new Callable<AudioFileIO>()
+                {
+                    public AudioFileIO call()
+                    {
+                        return AudioFileIO.getDefaultAudioFileIO();
+                    }
+                }));
+            }
+
+            for (Future<AudioFileIO> result : results)
+            {
+                assertSame(AudioFileIO.getDefaultAudioFileIO(), result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @return the header values and tag fields of the file, or the exception if it could not be read
+     */
+    private static String describe(File file)
+    {
+        try
+        {
+            AudioFile audioFile = AudioFileIO.read(file);
+            AudioHeader header = audioFile.getAudioHeader();
+            StringBuilder sb = new StringBuilder();
+            sb.append(header.getEncodingType()).append('|');
+            sb.append(header.getBitRate()).append('|');
+            sb.append(header.isVariableBitRate()).append('|');
+            sb.append(header.getSampleRate()).append('|');
+            sb.append(header.getChannels()).append('|');
+            sb.append(header.getFormat()).append('|');
+            sb.append(header.getTrackLength()).append('\n');
+
+            Tag tag = audioFile.getTag();
+            if (tag != null)
+            {
+                Iterator<TagField> fields = tag.getFields();
+                while (fields.hasNext())
+                {
+                    TagField field = fields.next();
+                    sb.append(field.getId()).append('=').append(describe(field)).append('\n');
+                }
+            }
+            return sb.toString();
+        }
+        catch (Exception e)
+        {
+            return e.getClass().getName() + ":" + e.getMessage();
+        }
+    }
+
+    private static String describe(TagField field)
+    {
+        if (field instanceof TagTextField)
+        {
+            return ((TagTextField) field).getContent();
+        }
+        try
+        {
+            return field.getClass().getName() + ":" + Arrays.hashCode(field.getRawContent());
+        }
+        catch (UnsupportedEncodingException uee)
+        {
+            return field.getClass().getName() + ":" + uee.getMessage();
+        }
+    }
+
+    private static class ReadFileCallable implements Callable<String>
+    {
+        private final File file;
+
+        public ReadFileCallable(File file)
+        {
+            this.file = file;
+        }
+
+        public String call()
+        {
+            return describe(file);
+        }
+    }
+}
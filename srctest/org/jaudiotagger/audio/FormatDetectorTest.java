@@ -0,0 +1,99 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.flac.FlacTag;
+import org.jaudiotagger.tag.mp4.Mp4Tag;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+/**
+ * The format is detected from the content, the extension is only a hint
+ */
+public class FormatDetectorTest extends AbstractTestCase
+{
+    private SupportedFileFormat detect(String filename, String ext) throws Exception
+    {
+        RandomAccessFile raf = new RandomAccessFile(new File("testdata", filename), "r");
+        try
+        {
+            return FormatDetector.detect(FormatDetector.readPrefix(raf.getChannel()), ext);
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    public void testDetectTestFiles() throws Exception
+    {
+        assertEquals(SupportedFileFormat.MP3, detect("testV1Cbr128ID3v1v2.mp3", null));
+        assertEquals(SupportedFileFormat.MP3, detect("testV1Cbr128ID3v1.mp3", null));
+        assertEquals(SupportedFileFormat.FLAC, detect("test.flac", "mp3"));
+        assertEquals(SupportedFileFormat.OGG, detect("test.ogg", ""));
+        assertEquals(SupportedFileFormat.M4A, detect("test.m4a", "mp3"));
+        assertEquals(SupportedFileFormat.MP4, detect("test.m4a", "mp4"));
+        assertEquals(SupportedFileFormat.WAV, detect("test.wav", null));
+        assertEquals(SupportedFileFormat.AIF, detect("M1F1-int8C-AFsp.aif", null));
+        assertEquals(SupportedFileFormat.RA, detect("test01.ra", "ra"));
+    }
+
+    public void testDetectSignatures()
+    {
+        //FLAC with an ID3v2 tag in front
+        ByteBuffer prefix = ByteBuffer.allocate(64);
+        prefix.put(new byte[]{'I', 'D', '3', 3, 0, 0, 0, 0, 0, 20});
+        prefix.position(30);
+        prefix.put(new byte[]{'f', 'L', 'a', 'C'});
+        prefix.clear();
+        assertEquals(SupportedFileFormat.FLAC, FormatDetector.detect(prefix, "mp3"));
+        assertEquals(0, prefix.position());
+
+        //ADTS AAC has a frame sync but is not MP3
+        assertNull(FormatDetector.detect(ByteBuffer.wrap(new byte[]{(byte) 0xff, (byte) 0xf1, 0x50, (byte) 0x80}), "mp3"));
+        assertEquals(SupportedFileFormat.MP3, FormatDetector.detect(ByteBuffer.wrap(new byte[]{(byte) 0xff, (byte) 0xfb, (byte) 0x90, 0x64}), null));
+
+        assertNull(FormatDetector.detect(ByteBuffer.wrap(new byte[]{'R', 'I'}), "wav"));
+        assertNull(FormatDetector.detect(ByteBuffer.allocate(0), null));
+    }
+
+    /**
+     * A file with the wrong extension is read by the reader for its content
+     */
+    public void testReadMislabelled() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.m4a", new File("testFormatDetectorMislabelled.mp3"));
+        AudioFile af = AudioFileIO.read(testFile);
+        assertTrue(af.getTag() instanceof Mp4Tag);
+        assertEquals(AudioFileIO.read(new File("testdata", "test.m4a")).getTag().getFirst(FieldKey.ARTIST), af.getTag().getFirst(FieldKey.ARTIST));
+    }
+
+    /**
+     * A file with the wrong extension is written by the writer for its content
+     */
+    public void testWriteMislabelled() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testFormatDetectorWriteMislabelled.mp3"));
+        AudioFile af = AudioFileIO.read(testFile);
+        assertEquals(SupportedFileFormat.FLAC, af.getFormat());
+        af.getTag().setField(FieldKey.TITLE, "flac");
+        af.commit();
+        assertEquals("flac", AudioFileIO.read(testFile).getTag().getFirst(FieldKey.TITLE));
+
+        testFile = AbstractTestCase.copyAudioToTmp("test.m4a", new File("testFormatDetectorWriteMislabelled.wav"));
+        af = AudioFileIO.read(testFile);
+        af.getTag().setField(FieldKey.TITLE, "m4a");
+        AudioFileIO.delete(af);
+        assertTrue(AudioFileIO.read(testFile).getTag() instanceof Mp4Tag);
+        assertEquals("", AudioFileIO.read(testFile).getTag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testReadWithoutExtension() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testFormatDetectorNoExtension"));
+        AudioFile af = AudioFileIO.read(testFile);
+        assertTrue(af.getTag() instanceof FlacTag);
+    }
+}
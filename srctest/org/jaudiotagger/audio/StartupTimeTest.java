@@ -0,0 +1,87 @@
+package org.jaudiotagger.audio;
+
+import org.jaudiotagger.AbstractTestCase;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Time taken for the first read in a new JVM, when none of the jaudiotagger classes or reference tables have been
+ * loaded yet.
+ * <p/>
+ * Each file is read by running main() in a separate process so that the classes loaded by earlier tests do not
+ * affect the timing.
+ */
+public class StartupTimeTest extends AbstractTestCase
+{
+    private static final String RESULT_PREFIX = "FirstRead:";
+
+    /**
+     * Read the file given as the only argument and print the time taken
+     */
+    public static void main(String[] args) throws Exception
+    {
+        long start = System.nanoTime();
+        AudioFile audioFile = AudioFileIO.read(new File(args[0]));
+        long readMs = (System.nanoTime() - start) / 1000000;
+        long sinceJvmStartMs = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.println(RESULT_PREFIX + readMs + ":" + sinceJvmStartMs + ":" + audioFile.getAudioHeader().getEncodingType());
+    }
+
+    private static String runFirstRead(File file) throws Exception
+    {
+        List<String> command = new ArrayList<String>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        if (System.getProperty("java.util.logging.config.file") != null)
+        {
+            command.add("-Djava.util.logging.config.file=" + System.getProperty("java.util.logging.config.file"));
+        }
+        command.add(StartupTimeTest.class.getName());
+        command.add(file.getPath());
+
+        ProcessBuilder builder = new ProcessBuilder(command);
+        builder.redirectErrorStream(true);
+        Process process = builder.start();
+
+        String result = null;
+        StringBuilder output = new StringBuilder();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream()));
+        try
+        {
+            String line;
+            while ((line = reader.readLine()) != null)
+            {
+                output.append(line).append('\n');
+                if (line.startsWith(RESULT_PREFIX))
+                {
+                    result = line.substring(RESULT_PREFIX.length());
+                }
+            }
+        }
+        finally
+        {
+            reader.close();
+        }
+        assertEquals(output.toString(), 0, process.waitFor());
+        assertNotNull(output.toString(), result);
+        return result;
+    }
+
+    public void testFirstReadInNewJvm() throws Exception
+    {
+        String[] names = {"testV1.mp3", "test.m4a", "test.flac", "test.ogg"};
+        for (String name : names)
+        {
+            File testFile = AbstractTestCase.copyAudioToTmp(name, new File("testFirstReadInNewJvm" + name));
+            String[] result = runFirstRead(testFile).split(":");
+            System.out.println(name + ":first read took " + result[0] + "ms, " + result[1]
+                    + "ms after JVM start, encoding " + result[2]);
+        }
+    }
+}
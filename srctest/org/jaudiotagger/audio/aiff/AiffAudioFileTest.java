@@ -3,7 +3,12 @@ package org.jaudiotagger.audio.aiff;
 
 import java.io.File;
 import java.io.RandomAccessFile;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import junit.framework.TestCase;
 import org.jaudiotagger.AbstractTestCase;
@@ -12,6 +17,7 @@ import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.AudioHeader;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.aiff.AiffTag;
 
 public class AiffAudioFileTest extends TestCase {
 
@@ -77,4 +83,70 @@ public class AiffAudioFileTest extends TestCase {
   */
     }
 
+    public void testReadAiffHeader() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("M1F1-int8C-AFsp.aif");
+        AudioFile f = AudioFileIO.read(testFile);
+        AiffAudioHeader ah = (AiffAudioHeader) f.getAudioHeader();
+        assertEquals(AiffAudioHeader.FileType.AIFCTYPE, ah.getFileType());
+        assertEquals(8000, ah.getSampleRateAsNumber());
+        assertEquals(8, ah.getBitsPerSample());
+        assertEquals(2, ah.getChannelNumber());
+        assertEquals(2.936625f, ah.getPreciseLength(), 0.0001f);
+        assertEquals("not compressed", ah.getAudioEncoding());
+        assertNotNull(ah.getTimestamp());
+        assertEquals(1, ah.getAnnotations().size());
+        assertTrue(ah.getAnnotations().get(0).indexOf("CAPELLA") > 0);
+        assertTrue(f.getTag().getFirst(FieldKey.COMMENT).indexOf("CAPELLA") > 0);
+    }
+
+    public void testReadAiffTag() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("ExportedFromItunes.aif");
+        AudioFile f = AudioFileIO.read(testFile);
+        assertEquals(AiffAudioHeader.FileType.AIFFTYPE, ((AiffAudioHeader) f.getAudioHeader()).getFileType());
+        assertEquals(44100, f.getAudioHeader().getSampleRateAsNumber());
+        Tag tag = f.getTag();
+        assertTrue(tag instanceof AiffTag);
+        assertEquals(10, tag.getFieldCount());
+        assertEquals("Gary McGath", tag.getFirst(FieldKey.ARTIST));
+        assertEquals("None", tag.getFirst(FieldKey.ALBUM));
+        assertTrue(tag.getFirst(FieldKey.TITLE).indexOf("Short sample") == 0);
+        assertEquals("This is actually a comment.", tag.getFirst(FieldKey.COMMENT));
+        assertEquals("2012", tag.getFirst(FieldKey.YEAR));
+        assertEquals("1", tag.getFirst(FieldKey.TRACK));
+    }
+
+    /**
+     * The reader registered with AudioFileIO is shared, so reads from many threads must not see each others state
+     */
+    public void testConcurrentReads() throws Exception {
+        final File withTag = AbstractTestCase.copyAudioToTmp("ExportedFromItunes.aif", new File("testConcurrentReadsTag.aif"));
+        final File withoutTag = AbstractTestCase.copyAudioToTmp("M1F1-int8C-AFsp.aif", new File("testConcurrentReadsNoTag.aif"));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < 200; i++) {
+                final boolean tagged = (i & 1) == 0;
+                results.add(executor.submit(new Callable<Boolean>() {
+                    public Boolean call() throws Exception {
+                        AudioFile f = AudioFileIO.read(tagged ? withTag : withoutTag);
+                        AiffAudioHeader ah = (AiffAudioHeader) f.getAudioHeader();
+                        if (tagged) {
+                            return ah.getSampleRateAsNumber() == 44100 && ah.getAnnotations().isEmpty()
+                                    && "Gary McGath".equals(f.getTag().getFirst(FieldKey.ARTIST));
+                        }
+                        return ah.getSampleRateAsNumber() == 8000 && ah.getAnnotations().size() == 1
+                                && f.getTag().getFirst(FieldKey.ARTIST).length() == 0;
+                    }
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+        }
+        finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,143 @@
+package org.jaudiotagger.audio.aiff;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.aiff.AiffTag;
+
+/**
+ * Writing ID3 and text chunks to AIFF files
+ */
+public class AiffFileWriterTest extends AbstractTestCase {
+
+    /* Location and end of the SSND chunk in ExportedFromItunes.aif */
+    private static final int ITUNES_SSND_START = 38;
+    private static final int ITUNES_SSND_END = 148230;
+
+    /* Location and end of the SSND chunk in M1F1-int8C-AFsp.aif */
+    private static final int AFSP_SSND_END = 47154;
+
+    private static byte[] readBytes(File file, long start, int length) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            byte[] bytes = new byte[length];
+            raf.seek(start);
+            raf.readFully(bytes);
+            return bytes;
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    private static long readFormSize(File file) throws Exception {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try {
+            raf.seek(4);
+            return raf.readInt() & 0xFFFFFFFFL;
+        }
+        finally {
+            raf.close();
+        }
+    }
+
+    /**
+     * ID3 chunk after the sound data is replaced at the end of the file
+     */
+    public void testWriteAfterSoundData() throws Exception {
+        File orig = AbstractTestCase.copyAudioToTmp("ExportedFromItunes.aif", new File("testWriteAfterSoundDataOrig.aif"));
+        File testFile = AbstractTestCase.copyAudioToTmp("ExportedFromItunes.aif", new File("testWriteAfterSoundData.aif"));
+
+        AudioFile f = AudioFileIO.read(testFile);
+        f.getTag().setField(FieldKey.TITLE, "New title");
+        f.getTag().setField(FieldKey.COMMENT, "New comment");
+        f.commit();
+
+        assertTrue(Arrays.equals(readBytes(orig, 12, ITUNES_SSND_END - 12), readBytes(testFile, 12, ITUNES_SSND_END - 12)));
+        assertEquals(testFile.length() - 8, readFormSize(testFile));
+
+        f = AudioFileIO.read(testFile);
+        AiffTag tag = (AiffTag) f.getTag();
+        assertEquals("New title", tag.getFirst(FieldKey.TITLE));
+        assertEquals("New comment", tag.getFirst(FieldKey.COMMENT));
+        assertEquals("Gary McGath", tag.getFirst(FieldKey.ARTIST));
+        assertEquals("2012", tag.getFirst(FieldKey.YEAR));
+
+        AiffAudioHeader ah = (AiffAudioHeader) f.getAudioHeader();
+        assertEquals("New title", ah.getName());
+        assertEquals("Gary McGath", ah.getAuthor());
+        assertEquals("New comment", ah.getAnnotations().get(0));
+        assertEquals(0.84f, ah.getPreciseLength(), 0.01f);
+    }
+
+    public void testDelete() throws Exception {
+        File testFile = AbstractTestCase.copyAudioToTmp("ExportedFromItunes.aif", new File("testDeleteAiff.aif"));
+
+        AudioFile f = AudioFileIO.read(testFile);
+        AudioFileIO.delete(f);
+        assertEquals(ITUNES_SSND_END, testFile.length());
+        assertEquals(ITUNES_SSND_END - 8, readFormSize(testFile));
+
+        f = AudioFileIO.read(testFile);
+        assertTrue(f.getTag().isEmpty());
+        assertEquals(0.84f, ((AiffAudioHeader) f.getAudioHeader()).getPreciseLength(), 0.01f);
+    }
+
+    /**
+     * ANNO chunk in front of the sound data is too small for the new metadata so the file is copied, a later smaller
+     * write then fits in place
+     */
+    public void testWriteBeforeSoundData() throws Exception {
+        File orig = AbstractTestCase.copyAudioToTmp("M1F1-int8C-AFsp.aif", new File("testWriteBeforeSoundDataOrig.aif"));
+        File testFile = AbstractTestCase.copyAudioToTmp("M1F1-int8C-AFsp.aif", new File("testWriteBeforeSoundData.aif"));
+        int ssndLength = AFSP_SSND_END - 152;
+        byte[] soundData = readBytes(orig, 152, ssndLength);
+
+        AudioFile f = AudioFileIO.read(testFile);
+        assertTrue(f.getTag().getFirst(FieldKey.COMMENT).indexOf("CAPELLA") > 0);
+        f.getTag().setField(FieldKey.TITLE, "title");
+        f.getTag().setField(FieldKey.ARTIST, "artist");
+        f.getTag().setField(FieldKey.ALBUM, "album");
+        ((AiffTag) f.getTag()).setCopyright("copyright");
+        f.commit();
+
+        long length = testFile.length();
+        assertTrue(length > orig.length());
+        assertEquals(length - 8, readFormSize(testFile));
+        assertTrue(Arrays.equals(soundData, readBytes(testFile, length - ssndLength, ssndLength)));
+
+        f = AudioFileIO.read(testFile);
+        AiffAudioHeader ah = (AiffAudioHeader) f.getAudioHeader();
+        assertEquals(AiffAudioHeader.FileType.AIFCTYPE, ah.getFileType());
+        assertEquals(2.936625f, ah.getPreciseLength(), 0.0001f);
+        assertEquals("title", ah.getName());
+        assertEquals("artist", ah.getAuthor());
+        assertEquals("copyright", ah.getCopyright());
+        AiffTag tag = (AiffTag) f.getTag();
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+        assertEquals("album", tag.getFirst(FieldKey.ALBUM));
+        assertEquals("copyright", tag.getCopyright());
+
+        //Smaller metadata is written in place, leaving the length unchanged
+        tag.deleteField(FieldKey.ALBUM);
+        f.commit();
+        assertEquals(length, testFile.length());
+        assertTrue(Arrays.equals(soundData, readBytes(testFile, length - ssndLength, ssndLength)));
+        f = AudioFileIO.read(testFile);
+        assertEquals("title", f.getTag().getFirst(FieldKey.TITLE));
+        assertEquals("", f.getTag().getFirst(FieldKey.ALBUM));
+
+        //Deleting replaces the metadata in front of the sound data with filler
+        AudioFileIO.delete(f);
+        assertEquals(length, testFile.length());
+        f = AudioFileIO.read(testFile);
+        assertTrue(f.getTag().isEmpty());
+        assertNull(((AiffAudioHeader) f.getAudioHeader()).getName());
+        assertEquals(2.936625f, ((AiffAudioHeader) f.getAudioHeader()).getPreciseLength(), 0.0001f);
+    }
+}
@@ -0,0 +1,108 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Check the Flight Recorder events, JFR is used by reflection because it is not available when compiling for older
+ * Java versions
+ */
+public class FlightRecorderEventTest extends AbstractTestCase
+{
+    private static boolean isFlightRecorderAvailable()
+    {
+        try
+        {
+            Class.forName("jdk.jfr.Recording");
+            return true;
+        }
+        catch (ClassNotFoundException cnfe)
+        {
+            return false;
+        }
+    }
+
+    public void testEventsRecorded() throws Exception
+    {
+        if (!isFlightRecorderAvailable())
+        {
+            System.err.println("Unable to test Flight Recorder events - not available");
+            return;
+        }
+
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testFlightRecorderEvents.flac"));
+
+        Class<?> recordingClass = Class.forName("jdk.jfr.Recording");
+        Object recording = recordingClass.newInstance();
+        for (FlightRecorderEventType type : FlightRecorderEventType.values())
+        {
+            recordingClass.getMethod("enable", String.class).invoke(recording, type.getName());
+        }
+        recordingClass.getMethod("start").invoke(recording);
+
+        AudioFile af = AudioFileIO.read(testFile);
+        long originalSize = testFile.length();
+        //Too large to fit in the existing padding so the file is rewritten
+        StringBuilder comment = new StringBuilder();
+        for (int i = 0; i < 2000; i++)
+        {
+            comment.append("comment ");
+        }
+        af.getTag().setField(FieldKey.COMMENT, comment.toString());
+        af.commit();
+
+        recordingClass.getMethod("stop").invoke(recording);
+        assertFalse(FlightRecorderEvent.begin(FlightRecorderEventType.READ).isEnabled());
+
+        File dump = new File("testdatatmp", "testFlightRecorderEvents.jfr");
+        Object dumpPath = File.class.getMethod("toPath").invoke(dump);
+        recordingClass.getMethod("dump", Class.forName("java.nio.file.Path")).invoke(recording, dumpPath);
+        recordingClass.getMethod("close").invoke(recording);
+
+        Class<?> recordingFileClass = Class.forName("jdk.jfr.consumer.RecordingFile");
+        List<?> events = (List<?>) recordingFileClass.getMethod("readAllEvents", Class.forName("java.nio.file.Path")).invoke(null, dumpPath);
+        List<String> names = new ArrayList<String>();
+        for (Object event : events)
+        {
+            Object eventType = event.getClass().getMethod("getEventType").invoke(event);
+            String name = (String) eventType.getClass().getMethod("getName").invoke(eventType);
+            names.add(name);
+            long fileSize = (Long) event.getClass().getMethod("getLong", String.class).invoke(event, FlightRecorderEvent.FIELD_FILE_SIZE);
+            String format = (String) event.getClass().getMethod("getString", String.class).invoke(event, FlightRecorderEvent.FIELD_FORMAT);
+            String outcome = (String) event.getClass().getMethod("getString", String.class).invoke(event, FlightRecorderEvent.FIELD_OUTCOME);
+            assertEquals(name, "flac", format);
+            assertEquals(name, FlightRecorderEvent.SUCCEEDED, outcome);
+            if (name.equals(FlightRecorderEventType.READ.getName()))
+            {
+                assertEquals(originalSize, fileSize);
+            }
+            if (name.equals(FlightRecorderEventType.COPY.getName()))
+            {
+                long bytesMoved = (Long) event.getClass().getMethod("getLong", String.class).invoke(event, FlightRecorderEvent.FIELD_BYTES_MOVED);
+                assertTrue(bytesMoved > 0);
+            }
+        }
+        assertTrue(names.toString(), names.contains(FlightRecorderEventType.READ.getName()));
+        assertTrue(names.toString(), names.contains(FlightRecorderEventType.TAG_PARSE.getName()));
+        assertTrue(names.toString(), names.contains(FlightRecorderEventType.WRITE.getName()));
+        assertTrue(names.toString(), names.contains(FlightRecorderEventType.COPY.getName()));
+        assertTrue(names.toString(), names.contains(FlightRecorderEventType.RENAME.getName()));
+        dump.delete();
+    }
+
+    /**
+     * Without a recording the events are disabled and ending them does nothing
+     */
+    public void testDisabledEvent() throws Exception
+    {
+        FlightRecorderEvent event = FlightRecorderEvent.begin(FlightRecorderEventType.COPY);
+        assertFalse(event.isEnabled());
+        event.end(new File("testdata", "test.flac"), "flac", 0, FlightRecorderEvent.SUCCEEDED);
+    }
+}
@@ -0,0 +1,131 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+
+import java.io.File;
+
+/**
+ * Check the measurements reported to an Instrumentation while reading and writing
+ */
+public class InstrumentationTest extends AbstractTestCase
+{
+    private CountingInstrumentation counts;
+
+    public void setUp()
+    {
+        super.setUp();
+        counts = new CountingInstrumentation();
+        AudioFileIO.setInstrumentation(counts);
+    }
+
+    public void tearDown() throws Exception
+    {
+        AudioFileIO.setInstrumentation(null);
+        super.tearDown();
+    }
+
+    public void testDefaultIsNoOp()
+    {
+        AudioFileIO.setInstrumentation(null);
+        assertSame(NoOpInstrumentation.INSTANCE, AudioFileIO.getInstrumentation());
+        assertFalse(AudioFileIO.getInstrumentation().isEnabled());
+    }
+
+    public void testReadMp3() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test23.mp3", new File("testInstrumentationReadMp3.mp3"));
+        AudioFileIO.read(testFile);
+
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_CHECK));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_HEADER));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_TAG));
+        assertTrue(counts.getBytesRead() > 0);
+        assertTrue(counts.getPositionedReads() > 0);
+        assertTrue(counts.getBuffersAllocated() > 0);
+        assertTrue(counts.getFramesParsed() > 0);
+        assertEquals(0, counts.getBytesWritten());
+    }
+
+    public void testReadFlac() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testInstrumentationReadFlac.flac"));
+        AudioFileIO.read(testFile);
+
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_CHECK));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_HEADER));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_TAG));
+        assertTrue(counts.getBytesRead() > 0);
+        assertTrue(counts.getPositionedReads() > 0);
+    }
+
+    public void testReadReal() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test01.ra", new File("testInstrumentationReadReal.ra"));
+        AudioFileIO.read(testFile);
+
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_CHECK));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_HEADER));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_TAG));
+        assertTrue(counts.getBytesRead() > 0);
+    }
+
+    public void testWriteMp3() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testInstrumentationWriteMp3.mp3"));
+        AudioFile af = AudioFileIO.read(testFile);
+        af.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "title");
+        af.getTag().setField(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+        counts.reset();
+        AudioFileIO.write(af);
+
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.WRITE_CHECK));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.WRITE_TAG));
+        assertEquals(1, counts.getInPlaceWrites() + counts.getRewrites());
+        assertTrue(counts.getBytesWritten() > 0);
+
+        counts.reset();
+        AudioFileIO.read(testFile);
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_ARTWORK));
+    }
+
+    public void testWriteFlac() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testInstrumentationWriteFlac.flac"));
+        AudioFile af = AudioFileIO.read(testFile);
+        af.getTag().setField(FieldKey.TITLE, "title");
+        counts.reset();
+        AudioFileIO.write(af);
+
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.WRITE_CHECK));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.WRITE_TEMP_FILE));
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.WRITE_TAG));
+        assertEquals(1, counts.getInPlaceWrites() + counts.getRewrites());
+        assertEquals(counts.getRewrites(), counts.getPhaseCount(InstrumentationPhase.WRITE_RENAME));
+        assertTrue(counts.getBytesWritten() > 0);
+    }
+
+    public void testHistogram()
+    {
+        assertEquals(0, CountingInstrumentation.bucketFor(0));
+        assertEquals(1, CountingInstrumentation.bucketFor(1));
+        assertEquals(2, CountingInstrumentation.bucketFor(2));
+        assertEquals(2, CountingInstrumentation.bucketFor(3));
+        assertEquals(11, CountingInstrumentation.bucketFor(1024));
+
+        counts.phaseEnded(InstrumentationPhase.READ_TAG, counts.phaseStarted(InstrumentationPhase.READ_TAG));
+        long total = 0;
+        for (long count : counts.getPhaseHistogram(InstrumentationPhase.READ_TAG))
+        {
+            total += count;
+        }
+        assertEquals(1, total);
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_TAG));
+
+        counts.reset();
+        assertEquals(0, counts.getPhaseCount(InstrumentationPhase.READ_TAG));
+    }
+}
@@ -0,0 +1,170 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.id3.AbstractID3v2Tag;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Probing a file records the ranges read and keeps within the budget
+ */
+public class ProbeTest extends AbstractTestCase
+{
+    private void checkSame(AudioFile expected, AudioFile actual)
+    {
+        assertEquals(expected.getAudioHeader().getTrackLength(), actual.getAudioHeader().getTrackLength());
+        assertEquals(expected.getAudioHeader().getSampleRate(), actual.getAudioHeader().getSampleRate());
+        assertEquals(expected.getTag().getFieldCount(), actual.getTag().getFieldCount());
+        assertEquals(expected.getTag().getFirst(FieldKey.TITLE), actual.getTag().getFirst(FieldKey.TITLE));
+        assertEquals(expected.getTag().getFirst(FieldKey.ARTIST), actual.getTag().getFirst(FieldKey.ARTIST));
+    }
+
+    /**
+     * With the budget the example asks for each test file is read completely, without reading the whole file
+     */
+    private ProbeResult checkProbe(String filename, String ext) throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp(filename, new File("testProbe." + ext));
+        AudioFile expected = AudioFileIO.read(testFile);
+
+        ProbeResult result = AudioFileIO.probe(testFile, new ProbeBudget(256 * 1024, 128 * 1024));
+        assertTrue(result.isComplete());
+        checkSame(expected, result.getAudioFile());
+
+        List<ByteRange> ranges = result.getRanges();
+        assertFalse(ranges.isEmpty());
+        for (int i = 1; i < ranges.size(); i++)
+        {
+            assertTrue(ranges.get(i - 1).getEnd() < ranges.get(i).getStart());
+        }
+        assertTrue(ranges.get(ranges.size() - 1).getEnd() <= testFile.length());
+
+        //Probing again with the same budget reads the same ranges
+        assertEquals(ranges, AudioFileIO.probe(testFile, new ProbeBudget(256 * 1024, 128 * 1024)).getRanges());
+        return result;
+    }
+
+    public void testMp3() throws Exception
+    {
+        File testFile = new File("testdata", "testV1Cbr128ID3v1v2.mp3");
+        ProbeResult result = checkProbe("testV1Cbr128ID3v1v2.mp3", "mp3");
+
+        //ID3v2 tag at the start and ID3v1 tag at the end
+        List<ByteRange> ranges = result.getRanges();
+        assertEquals(0, ranges.get(0).getStart());
+        assertEquals(testFile.length(), ranges.get(ranges.size() - 1).getEnd());
+        assertTrue(result.getBytesRead() < testFile.length());
+    }
+
+    public void testFlac() throws Exception
+    {
+        ProbeResult result = checkProbe("test.flac", "flac");
+        assertEquals(0, result.getRanges().get(0).getStart());
+    }
+
+    public void testMp4() throws Exception
+    {
+        checkProbe("test.m4a", "m4a");
+    }
+
+    public void testOgg() throws Exception
+    {
+        ProbeResult result = checkProbe("test.ogg", "ogg");
+
+        //Last page gives the length
+        List<ByteRange> ranges = result.getRanges();
+        assertTrue(ranges.get(ranges.size() - 1).getEnd() > new File("testdata", "test.ogg").length() - 1024);
+    }
+
+    /**
+     * A budget too small for the tag gives a partial result, the audio header is still read
+     */
+    public void testPartialTag() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3", new File("testProbePartial.mp3"));
+        AudioFile af = AudioFileIO.read(testFile);
+        af.getTag().setField(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+        af.commit();
+        AudioFile expected = AudioFileIO.read(testFile);
+
+        long tagSize = AbstractID3v2Tag.getV2TagSizeIfExists(testFile);
+        ProbeResult result = AudioFileIO.probe(testFile, new ProbeBudget(tagSize + 16 * 1024, 128));
+        assertTrue(result.isComplete());
+        assertEquals(2, result.getRanges().size());
+
+        result = AudioFileIO.probe(testFile, new ProbeBudget(tagSize / 2, 0));
+        assertFalse(result.isComplete());
+        for (ByteRange range : result.getRanges())
+        {
+            assertTrue(range.getEnd() <= tagSize / 2);
+        }
+        assertNull(result.getAudioFile());
+
+        //Enough for the ID3v2 tag and the audio header but not the ID3v1 tag at the end
+        result = AudioFileIO.probe(testFile, new ProbeBudget(tagSize + 16 * 1024, 0));
+        assertFalse(result.isComplete());
+        assertEquals(expected.getAudioHeader().getTrackLength(), result.getAudioFile().getAudioHeader().getTrackLength());
+        assertEquals(expected.getTag().getFirst(FieldKey.TITLE), result.getAudioFile().getTag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testPartialHeader() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testProbePartial.flac"));
+        ProbeResult result = AudioFileIO.probe(testFile, new ProbeBudget(16, 0));
+        assertFalse(result.isComplete());
+        assertNull(result.getAudioFile());
+        assertEquals(1, result.getRanges().size());
+        assertEquals(new ByteRange(0, 16), result.getRanges().get(0));
+    }
+
+    public void testUnlimited() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.m4a", new File("testProbeUnlimited.m4a"));
+        ProbeResult result = AudioFileIO.probe(testFile, ProbeBudget.UNLIMITED);
+        assertTrue(result.isComplete());
+        assertTrue(result.getBytesRead() < testFile.length());
+    }
+
+    /**
+     * Reads are cut short at the edge of the budget, and ranges that touch are merged
+     */
+    public void testChannel() throws Exception
+    {
+        byte[] data = new byte[1000];
+        ProbeChannel channel = new ProbeChannel(new ByteBufferChannel(ByteBuffer.wrap(data)), new ProbeBudget(100, 50));
+
+        ByteBuffer bb = ByteBuffer.allocate(60);
+        assertEquals(60, channel.read(bb, 0));
+        assertFalse(channel.isExceeded());
+        bb.clear();
+        assertEquals(40, channel.read(bb, 60));
+        assertTrue(channel.isExceeded());
+        bb.clear();
+        assertEquals(10, channel.read(bb, 990));
+        bb.clear();
+        assertEquals(-1, channel.read(bb, 1000));
+        try
+        {
+            bb.clear();
+            channel.read(bb, 500);
+            fail("Expected IOException");
+        }
+        catch (IOException ioe)
+        {
+            //expected
+        }
+
+        List<ByteRange> ranges = channel.getRanges();
+        assertEquals(2, ranges.size());
+        assertEquals(new ByteRange(0, 100), ranges.get(0));
+        assertEquals(new ByteRange(990, 1000), ranges.get(1));
+        assertEquals("0-99", ranges.get(0).toString());
+    }
+}
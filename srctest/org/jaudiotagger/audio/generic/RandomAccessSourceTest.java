@@ -0,0 +1,140 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+
+/**
+ * Reading audio from memory or a stream gives the same result as reading the file
+ */
+public class RandomAccessSourceTest extends AbstractTestCase
+{
+    private byte[] load(File file) throws IOException
+    {
+        byte[] data = new byte[(int) file.length()];
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            raf.readFully(data);
+        }
+        finally
+        {
+            raf.close();
+        }
+        return data;
+    }
+
+    private void checkSame(AudioFile expected, AudioFile actual)
+    {
+        assertNull(actual.getFile());
+        assertEquals(expected.getAudioHeader().getTrackLength(), actual.getAudioHeader().getTrackLength());
+        assertEquals(expected.getAudioHeader().getSampleRate(), actual.getAudioHeader().getSampleRate());
+        assertEquals(expected.getAudioHeader().getBitRate(), actual.getAudioHeader().getBitRate());
+        assertEquals(expected.getTag().getFieldCount(), actual.getTag().getFieldCount());
+        for (FieldKey key : new FieldKey[]{FieldKey.TITLE, FieldKey.ARTIST, FieldKey.ALBUM, FieldKey.TRACK})
+        {
+            assertEquals(expected.getTag().getFirst(key), actual.getTag().getFirst(key));
+        }
+    }
+
+    private void checkSameForEachSource(String filename, String ext) throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp(filename, new File("testRandomAccessSource." + ext));
+        AudioFile expected = AudioFileIO.read(testFile);
+        byte[] data = load(testFile);
+
+        checkSame(expected, AudioFileIO.read(ByteBuffer.wrap(data), ext));
+        checkSame(expected, AudioFileIO.read(new ByteArrayInputStream(data), data.length, ext));
+        checkSame(expected, AudioFileIO.read(new ByteArrayInputStream(data), -1, ext));
+    }
+
+    public void testMp3() throws Exception
+    {
+        checkSameForEachSource("testV1Cbr128ID3v1v2.mp3", "mp3");
+    }
+
+    public void testFlac() throws Exception
+    {
+        checkSameForEachSource("test.flac", "flac");
+    }
+
+    public void testMp4() throws Exception
+    {
+        checkSameForEachSource("test.m4a", "m4a");
+    }
+
+    public void testOgg() throws Exception
+    {
+        checkSameForEachSource("test.ogg", "ogg");
+    }
+
+    public void testWav() throws Exception
+    {
+        checkSameForEachSource("test.wav", "wav");
+    }
+
+    /**
+     * Audio that is not in a file cannot be written
+     */
+    public void testCannotWrite() throws Exception
+    {
+        byte[] data = load(new File("testdata", "test.m4a"));
+        AudioFile af = AudioFileIO.read(ByteBuffer.wrap(data), "m4a");
+        af.getTag().setField(FieldKey.TITLE, "title");
+        try
+        {
+            af.commit();
+            fail("Expected CannotWriteException");
+        }
+        catch (CannotWriteException cwe)
+        {
+            //expected
+        }
+    }
+
+    /**
+     * A large gap is skipped rather than cached, so cannot be read later
+     */
+    public void testStreamSkipsLargeGap() throws Exception
+    {
+        byte[] data = new byte[InputStreamChannel.SKIP_THRESHOLD * 4];
+        for (int i = 0; i < data.length; i++)
+        {
+            data[i] = (byte) i;
+        }
+        InputStreamChannel channel = new InputStreamChannel(new ByteArrayInputStream(data), data.length);
+
+        ByteBuffer bb = ByteBuffer.allocate(16);
+        assertEquals(16, channel.read(bb, 0));
+        bb.clear();
+        assertEquals(16, channel.read(bb, InputStreamChannel.SKIP_THRESHOLD * 3));
+        assertEquals((byte) (InputStreamChannel.SKIP_THRESHOLD * 3), bb.get(0));
+
+        //Start is still cached
+        bb.clear();
+        assertEquals(16, channel.read(bb, 4));
+        assertEquals((byte) 4, bb.get(0));
+
+        bb.clear();
+        try
+        {
+            channel.read(bb, InputStreamChannel.SKIP_THRESHOLD * 2);
+            fail("Expected IOException");
+        }
+        catch (IOException ioe)
+        {
+            //expected
+        }
+
+        bb.clear();
+        assertEquals(-1, channel.read(bb, data.length));
+    }
+}
@@ -0,0 +1,172 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.flac.metadatablock.MetadataBlockDataPicture;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.Tag;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.flac.FlacTag;
+import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.reference.PictureTypes;
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentFieldKey;
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTag;
+import org.jaudiotagger.tag.vorbiscomment.VorbisCommentTagField;
+import org.jaudiotagger.tag.vorbiscomment.util.Base64Coder;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Reading only some of the fields of a tag
+ */
+public class ReadFieldsTest extends AbstractTestCase
+{
+    private static final FieldKey[] LISTED_FIELDS = new FieldKey[]{FieldKey.TITLE, FieldKey.ARTIST, FieldKey.ALBUM, FieldKey.TRACK};
+
+    public void tearDown() throws Exception
+    {
+        TagOptionSingleton.getInstance().setToDefault();
+        super.tearDown();
+    }
+
+    private AudioFile read(File file, Set<FieldKey> readFields) throws Exception
+    {
+        TagOptionSingleton.getInstance().setReadFields(readFields);
+        TagOptions options = TagOptionSingleton.getInstance().getTagOptions();
+        TagOptionSingleton.getInstance().setToDefault();
+        return AudioFileIO.read(file, options);
+    }
+
+    /**
+     * Add the fields a listing does not want to the test file
+     */
+    private File createTestFile(String filename, String ext) throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp(filename, new File("testReadFields." + ext));
+        AudioFile af = AudioFileIO.read(testFile);
+        Tag tag = af.getTagOrCreateAndSetDefault();
+        tag.setField(FieldKey.TITLE, "title");
+        tag.setField(FieldKey.ARTIST, "artist");
+        tag.setField(FieldKey.ALBUM, "album");
+        tag.setField(FieldKey.TRACK, "3");
+        tag.setField(FieldKey.LYRICS, "lyrics");
+        tag.setField(FieldKey.COMMENT, "comment");
+        File artworkFile = new File("testdata", "coverart.png");
+        byte[] imageData = new byte[(int) artworkFile.length()];
+        RandomAccessFile raf = new RandomAccessFile(artworkFile, "r");
+        raf.readFully(imageData);
+        raf.close();
+        if (tag instanceof FlacTag)
+        {
+            tag.setField(((FlacTag) tag).createArtworkField(imageData, PictureTypes.DEFAULT_ID, ImageFormats.MIME_TYPE_PNG, "", 200, 200, 24, 0));
+        }
+        else if (tag instanceof VorbisCommentTag)
+        {
+            MetadataBlockDataPicture picture = new MetadataBlockDataPicture(imageData, PictureTypes.DEFAULT_ID, ImageFormats.MIME_TYPE_PNG, "", 200, 200, 24, 0);
+            tag.setField(new VorbisCommentTagField(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName(), ByteBuffer.wrap(Base64Coder.encodeToBytes(picture.getRawContent()))));
+        }
+        else
+        {
+            tag.setField(ArtworkFactory.createArtworkFromFile(artworkFile));
+        }
+        af.commit();
+        return testFile;
+    }
+
+    private void checkReadFields(String filename, String ext) throws Exception
+    {
+        File testFile = createTestFile(filename, ext);
+        Tag all = AudioFileIO.read(testFile).getTag();
+
+        AudioFile af = read(testFile, EnumSet.of(FieldKey.TITLE, FieldKey.ARTIST, FieldKey.ALBUM, FieldKey.TRACK));
+        Tag listed = af.getTag();
+        assertFalse(af.isTagComplete());
+        for (FieldKey key : LISTED_FIELDS)
+        {
+            assertEquals(all.getFirst(key), listed.getFirst(key));
+        }
+
+        //Other fields are present and counted but not read
+        assertEquals(all.getFieldCount(), listed.getFieldCount());
+        for (FieldKey key : new FieldKey[]{FieldKey.LYRICS, FieldKey.COMMENT, FieldKey.COVER_ART, FieldKey.COMPOSER, FieldKey.CONDUCTOR})
+        {
+            assertEquals(key.name(), all.hasField(key), listed.hasField(key));
+        }
+        assertTrue(listed.hasField(FieldKey.LYRICS));
+        assertEquals("", listed.getFirst(FieldKey.LYRICS));
+        assertTrue(listed.hasField(FieldKey.COVER_ART));
+        assertEquals(0, listed.getArtworkList().size());
+
+        //Artwork is read when asked for
+        listed = read(testFile, EnumSet.of(FieldKey.TITLE, FieldKey.COVER_ART)).getTag();
+        assertEquals(all.getArtworkList().size(), listed.getArtworkList().size());
+        assertEquals(all.getFirstArtwork().getBinaryData().length, listed.getFirstArtwork().getBinaryData().length);
+        assertEquals(all.getFieldCount(), listed.getFieldCount());
+
+        try
+        {
+            af.commit();
+            fail("Expected CannotWriteException");
+        }
+        catch (CannotWriteException cwe)
+        {
+            //expected
+        }
+    }
+
+    public void testMp3() throws Exception
+    {
+        checkReadFields("testV1Cbr128ID3v1v2.mp3", "mp3");
+    }
+
+    public void testFlac() throws Exception
+    {
+        checkReadFields("test.flac", "flac");
+        File testFile = new File("testdatatmp", "testReadFields.flac");
+        FlacTag tag = (FlacTag) read(testFile, EnumSet.of(FieldKey.TITLE)).getTag();
+        assertEquals(((FlacTag) AudioFileIO.read(testFile).getTag()).getImages().size(), tag.getSkippedImageCount());
+        assertTrue(tag.getVorbisCommentTag().getSkippedFields().contains("LYRICS"));
+    }
+
+    public void testMp4() throws Exception
+    {
+        checkReadFields("test.m4a", "m4a");
+    }
+
+    public void testOgg() throws Exception
+    {
+        checkReadFields("test.ogg", "ogg");
+    }
+
+    /**
+     * Only the ID3v2 frames asked for are read
+     */
+    public void testMp3SkippedFrames() throws Exception
+    {
+        File testFile = createTestFile("testV1Cbr128ID3v1v2.mp3", "mp3");
+        MP3File mp3File = (MP3File) read(testFile, EnumSet.of(FieldKey.TITLE));
+        assertEquals("title", mp3File.getID3v2Tag().getFirst(FieldKey.TITLE));
+        assertTrue(mp3File.getID3v2Tag().getSkippedFields().contains("APIC"));
+        assertEquals(1, mp3File.getID3v2Tag().getSkippedFields().getCount("USLT"));
+        assertFalse(mp3File.getID3v2Tag().getSkippedFields().contains("TIT2"));
+        try
+        {
+            mp3File.save();
+            fail("Expected IOException");
+        }
+        catch (IOException ioe)
+        {
+            //expected
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.AudioHeader;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.options.ReadMode;
+
+import java.io.File;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Reading only the audio header or only the tag
+ */
+public class ReadModeTest extends AbstractTestCase
+{
+    private CountingInstrumentation counts;
+
+    public void setUp()
+    {
+        super.setUp();
+        counts = new CountingInstrumentation();
+        AudioFileIO.setInstrumentation(counts);
+    }
+
+    public void tearDown() throws Exception
+    {
+        AudioFileIO.setInstrumentation(null);
+        TagOptionSingleton.getInstance().setToDefault();
+        super.tearDown();
+    }
+
+    private AudioFile read(File file, ReadMode readMode) throws Exception
+    {
+        TagOptionSingleton.getInstance().setReadMode(readMode);
+        TagOptions options = TagOptionSingleton.getInstance().getTagOptions();
+        TagOptionSingleton.getInstance().setToDefault();
+        counts.reset();
+        return AudioFileIO.read(file, options);
+    }
+
+    private void checkReadModes(String filename, String ext) throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp(filename, new File("testReadMode." + ext));
+        AudioFile all = read(testFile, ReadMode.ALL);
+        assertTrue(all.isTagLoaded());
+        assertTrue(all.isAudioHeaderLoaded());
+
+        AudioFile headerOnly = read(testFile, ReadMode.HEADER_ONLY);
+        assertEquals(0, counts.getPhaseCount(InstrumentationPhase.READ_TAG));
+        assertFalse(headerOnly.isTagLoaded());
+        assertNull(headerOnly.getTag());
+        assertEquals(all.getAudioHeader().getTrackLength(), headerOnly.getAudioHeader().getTrackLength());
+        assertEquals(all.getAudioHeader().getBitRate(), headerOnly.getAudioHeader().getBitRate());
+        try
+        {
+            headerOnly.commit();
+            fail("Expected CannotWriteException");
+        }
+        catch (CannotWriteException cwe)
+        {
+            //expected
+        }
+
+        AudioFile tagOnly = read(testFile, ReadMode.TAG_ONLY);
+        assertEquals(0, counts.getPhaseCount(InstrumentationPhase.READ_HEADER));
+        assertTrue(tagOnly.isTagLoaded());
+        assertFalse(tagOnly.isAudioHeaderLoaded());
+        assertEquals(all.getTag().getFieldCount(), tagOnly.getTag().getFieldCount());
+        assertEquals(all.getTag().getFirst(FieldKey.TITLE), tagOnly.getTag().getFirst(FieldKey.TITLE));
+        assertEquals(all.getTag().getFirst(FieldKey.ARTIST), tagOnly.getTag().getFirst(FieldKey.ARTIST));
+
+        //Header is read when first used
+        assertEquals(all.getAudioHeader().getTrackLength(), tagOnly.getAudioHeader().getTrackLength());
+        assertTrue(tagOnly.isAudioHeaderLoaded());
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_HEADER));
+        assertEquals(all.getAudioHeader().getSampleRate(), tagOnly.getAudioHeader().getSampleRate());
+        assertEquals(1, counts.getPhaseCount(InstrumentationPhase.READ_HEADER));
+    }
+
+    public void testMp3() throws Exception
+    {
+        checkReadModes("testV1Cbr128ID3v1v2.mp3", "mp3");
+    }
+
+    public void testFlac() throws Exception
+    {
+        checkReadModes("test.flac", "flac");
+    }
+
+    public void testMp4() throws Exception
+    {
+        checkReadModes("test.m4a", "m4a");
+    }
+
+    public void testOgg() throws Exception
+    {
+        checkReadModes("test.ogg", "ogg");
+    }
+
+    public void testWav() throws Exception
+    {
+        checkReadModes("test.wav", "wav");
+    }
+
+    /**
+     * Threads that ask for a deferred header at the same time are all given the same header
+     */
+    public void testConcurrentDeferredHeader() throws Exception
+    {
+        final CountDownLatch started = new CountDownLatch(2);
+        final LazyAudioHeader lazy = new LazyAudioHeader(new Callable<AudioHeader>()
+        {
+            public AudioHeader call() throws Exception
+            {
+                started.countDown();
+                started.await();
+                return new GenericAudioHeader();
+            }
+        });
+        final AudioHeader[] results = new AudioHeader[2];
+        Thread[] threads = new Thread[2];
+        for (int i = 0; i < threads.length; i++)
+        {
+            final int index = i;
+            threads[i] = new Thread()
+            {
+                public void run()
+                {
+                    results[index] = lazy.getAudioHeader();
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads)
+        {
+            thread.join(10000);
+        }
+        assertNotNull(results[0]);
+        assertSame(results[0], results[1]);
+        assertSame(results[0], lazy.getAudioHeader());
+        assertTrue(lazy.isLoaded());
+    }
+
+    /**
+     * A file read without its audio header can still be written
+     */
+    public void testWriteMp3AfterTagOnlyRead() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1Cbr128ID3v1v2.mp3", new File("testReadModeWrite.mp3"));
+        AudioFile af = read(testFile, ReadMode.TAG_ONLY);
+        af.getTag().setField(FieldKey.TITLE, "tag only");
+        af.commit();
+
+        MP3File mp3 = (MP3File) AudioFileIO.read(testFile);
+        assertEquals("tag only", mp3.getTag().getFirst(FieldKey.TITLE));
+        assertEquals(((MP3File) af).getMP3AudioHeader().getMp3StartByte(), mp3.getMP3AudioHeader().getMp3StartByte());
+    }
+}
@@ -0,0 +1,159 @@
+package org.jaudiotagger.audio.generic;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagOptionSingleton;
+import org.jaudiotagger.tag.TagOptions;
+import org.jaudiotagger.tag.flac.FlacTag;
+import org.jaudiotagger.tag.id3.valuepair.ImageFormats;
+import org.jaudiotagger.tag.images.ArtworkFactory;
+import org.jaudiotagger.tag.options.ReadStrategy;
+import org.jaudiotagger.tag.reference.PictureTypes;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Reading the same files with each ReadStrategy gives the same result
+ */
+public class ReadStrategyTest extends AbstractTestCase
+{
+    private CountingInstrumentation counts;
+
+    public void setUp()
+    {
+        super.setUp();
+        counts = new CountingInstrumentation();
+        AudioFileIO.setInstrumentation(counts);
+    }
+
+    public void tearDown() throws Exception
+    {
+        AudioFileIO.setInstrumentation(null);
+        TagOptionSingleton.getInstance().setToDefault();
+        super.tearDown();
+    }
+
+    private AudioFile read(File file, ReadStrategy strategy) throws Exception
+    {
+        TagOptionSingleton.getInstance().setReadStrategy(strategy);
+        TagOptions options = TagOptionSingleton.getInstance().getTagOptions();
+        counts.reset();
+        return AudioFileIO.read(file, options);
+    }
+
+    private void checkSameForEachStrategy(File file) throws Exception
+    {
+        AudioFile buffered = read(file, ReadStrategy.BUFFERED);
+        assertEquals(0, counts.getRegionsMapped());
+
+        AudioFile mapped = read(file, ReadStrategy.MAPPED);
+        assertTrue(counts.getRegionsMapped() > 0);
+        checkSame(buffered, mapped);
+        assertEquals(buffered.getAudioHeader().toString(), mapped.getAudioHeader().toString());
+
+        checkSame(buffered, read(file, ReadStrategy.AUTO));
+    }
+
+    private void checkSame(AudioFile expected, AudioFile actual)
+    {
+        assertEquals(expected.getTag().getFieldCount(), actual.getTag().getFieldCount());
+        for (FieldKey key : new FieldKey[]{FieldKey.TITLE, FieldKey.ARTIST, FieldKey.ALBUM, FieldKey.TRACK})
+        {
+            assertEquals(expected.getTag().getFirst(key), actual.getTag().getFirst(key));
+        }
+        assertEquals(expected.getTag().getArtworkList().size(), actual.getTag().getArtworkList().size());
+    }
+
+    public void testMp3() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testReadStrategy.mp3"));
+        AudioFile af = AudioFileIO.read(testFile);
+        af.getTagOrCreateAndSetDefault().setField(FieldKey.TITLE, "title");
+        af.getTag().setField(ArtworkFactory.createArtworkFromFile(new File("testdata", "coverart.png")));
+        af.commit();
+
+        checkSameForEachStrategy(testFile);
+        AudioFile mapped = read(testFile, ReadStrategy.MAPPED);
+        assertEquals("title", mapped.getTag().getFirst(FieldKey.TITLE));
+        assertTrue(mapped.getTag().getFirstArtwork().getBinaryData().length > 0);
+    }
+
+    public void testFlacPicture() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.flac", new File("testReadStrategy.flac"));
+        AudioFile af = AudioFileIO.read(testFile);
+        FlacTag tag = (FlacTag) af.getTag();
+        byte[] imagedata = new byte[(int) new File("testdata", "coverart.png").length()];
+        RandomAccessFile raf = new RandomAccessFile(new File("testdata", "coverart.png"), "r");
+        try
+        {
+            raf.readFully(imagedata);
+        }
+        finally
+        {
+            raf.close();
+        }
+        tag.setField(tag.createArtworkField(imagedata, PictureTypes.DEFAULT_ID, ImageFormats.MIME_TYPE_PNG, "test", 200, 200, 24, 0));
+        af.commit();
+
+        checkSameForEachStrategy(testFile);
+        FlacTag mapped = (FlacTag) read(testFile, ReadStrategy.MAPPED).getTag();
+        assertTrue(Arrays.equals(imagedata, mapped.getImages().get(0).getImageData()));
+    }
+
+    public void testMp4() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.m4a", new File("testReadStrategy.m4a"));
+        checkSameForEachStrategy(testFile);
+    }
+
+    public void testWriteAfterMappedRead() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.m4a", new File("testWriteAfterMappedRead.m4a"));
+        AudioFile af = read(testFile, ReadStrategy.MAPPED);
+        af.getTag().setField(FieldKey.TITLE, "mapped");
+        af.commit();
+        assertEquals("mapped", AudioFileIO.read(testFile).getTag().getFirst(FieldKey.TITLE));
+    }
+
+    /**
+     * AUTO copies small regions and maps large ones
+     */
+    public void testAutoThreshold() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.m4a", new File("testReadStrategyAuto.m4a"));
+        TagOptionSingleton.getInstance().setReadStrategy(ReadStrategy.AUTO);
+        TagOptions previous = TagOptions.setCurrent(TagOptionSingleton.getInstance().getTagOptions());
+        RandomAccessFile raf = new RandomAccessFile(testFile, "r");
+        try
+        {
+            counts.reset();
+            ByteBuffer small = RegionReader.read(raf.getChannel(), 0, 1024);
+            assertEquals(1024, small.remaining());
+            assertEquals(0, counts.getRegionsMapped());
+
+            ByteBuffer large = RegionReader.read(raf.getChannel(), 0, RegionReader.AUTO_MAP_THRESHOLD);
+            assertEquals(RegionReader.AUTO_MAP_THRESHOLD, large.remaining());
+            assertEquals(small.get(100), large.get(100));
+            if (!System.getProperty("os.name", "").startsWith("Windows"))
+            {
+                assertEquals(1, counts.getRegionsMapped());
+            }
+
+            //Region beyond the end of the file is truncated
+            ByteBuffer end = RegionReader.read(raf.getChannel(), raf.length() - 10, RegionReader.AUTO_MAP_THRESHOLD);
+            assertEquals(10, end.remaining());
+            assertEquals(0, raf.getChannel().position());
+        }
+        finally
+        {
+            raf.close();
+            TagOptions.setCurrent(previous);
+        }
+    }
+}
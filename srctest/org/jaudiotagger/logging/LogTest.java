@@ -0,0 +1,134 @@
+package org.jaudiotagger.logging;
+
+import junit.framework.TestCase;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * Check the messages built by Log and that nothing is allocated when the level is disabled
+ */
+public class LogTest extends TestCase
+{
+    private static final Logger logger = Logger.getLogger("org.jaudiotagger.logging.LogTest");
+
+    private final List<LogRecord> records = new ArrayList<LogRecord>();
+
+    private final Handler handler = new Handler()
+    {
+        public void publish(LogRecord record)
+        {
+            records.add(record);
+        }
+
+        public void flush()
+        {
+        }
+
+        public void close()
+        {
+        }
+    };
+
+    public void setUp()
+    {
+        logger.addHandler(handler);
+        logger.setUseParentHandlers(false);
+    }
+
+    public void tearDown()
+    {
+        logger.removeHandler(handler);
+        logger.setUseParentHandlers(true);
+        logger.setLevel(null);
+    }
+
+    public void testFormat()
+    {
+        logger.setLevel(Level.FINEST);
+        Log.log(logger, Level.FINEST, "{}:Start of frame body at:{}", "test.mp3", 10L);
+        Log.log(logger, Level.FINE, "size:{}", 20);
+        Log.log(logger, Level.FINER, "{}{}{}", "a", 1, null);
+        Log.log(logger, Level.CONFIG, "no placeholder:", "extra");
+        Log.log(logger, Level.FINEST, "{}", "last");
+
+        assertEquals(5, records.size());
+        assertEquals("test.mp3:Start of frame body at:10", records.get(0).getMessage());
+        assertEquals(Level.FINEST, records.get(0).getLevel());
+        assertEquals("size:20", records.get(1).getMessage());
+        assertEquals(Level.FINE, records.get(1).getLevel());
+        assertEquals("a1null", records.get(2).getMessage());
+        assertEquals("no placeholder:extra", records.get(3).getMessage());
+        assertEquals("last", records.get(4).getMessage());
+
+        assertEquals(LogTest.class.getName(), records.get(0).getSourceClassName());
+        assertEquals("testFormat", records.get(0).getSourceMethodName());
+        assertEquals(logger.getName(), records.get(0).getLoggerName());
+    }
+
+    public void testDisabled()
+    {
+        logger.setLevel(Level.INFO);
+        Log.log(logger, Level.FINEST, "{}:Start of frame body at:{}", "test.mp3", 10L);
+        Log.log(logger, Level.CONFIG, "size:{}", 20);
+        assertEquals(0, records.size());
+    }
+
+    /**
+     * With the level disabled a warm call allocates nothing, uses the HotSpot extension to ThreadMXBean
+     */
+    public void testDisabledDoesNotAllocate() throws Exception
+    {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        Method allocatedBytes;
+        try
+        {
+            allocatedBytes = Class.forName("com.sun.management.ThreadMXBean").getMethod("getThreadAllocatedBytes", long.class);
+        }
+        catch (ClassNotFoundException cnfe)
+        {
+            System.err.println("Unable to test allocation - thread allocated bytes not available");
+            return;
+        }
+        if (!allocatedBytes.getDeclaringClass().isInstance(threadBean))
+        {
+            System.err.println("Unable to test allocation - thread allocated bytes not available");
+            return;
+        }
+
+        logger.setLevel(Level.INFO);
+        String filename = "test.mp3";
+        long threadId = Thread.currentThread().getId();
+        //Warm up so the calls are compiled and getThreadAllocatedBytes has allocated its own result
+        for (int i = 0; i < 100000; i++)
+        {
+            logDisabled(filename, i);
+        }
+        allocatedBytes.invoke(threadBean, threadId);
+
+        //The reflective calls box their result so compare against the cost of making them with no logging between
+        long before = (Long) allocatedBytes.invoke(threadBean, threadId);
+        long baseline = (Long) allocatedBytes.invoke(threadBean, threadId) - before;
+        before = (Long) allocatedBytes.invoke(threadBean, threadId);
+        for (int i = 0; i < 100000; i++)
+        {
+            logDisabled(filename, i);
+        }
+        long allocated = (Long) allocatedBytes.invoke(threadBean, threadId) - before;
+        assertTrue("allocated:" + allocated + " baseline:" + baseline, allocated <= baseline);
+    }
+
+    private static void logDisabled(String filename, int position)
+    {
+        Log.log(logger, Level.FINEST, "{}:Start of frame body at:{}", filename, position);
+        Log.log(logger, Level.FINER, "{}:frame size:{}:offset:{}", filename, position, (long) position);
+        Log.log(logger, Level.CONFIG, "size:{}", position);
+    }
+}
@@ -0,0 +1,137 @@
+package org.jaudiotagger.tag;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.mp3.MP3File;
+import org.jaudiotagger.tag.id3.ID3v23Tag;
+import org.jaudiotagger.tag.id3.ID3v24Tag;
+import org.jaudiotagger.tag.reference.ID3V2Version;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Reading and writing with immutable TagOptions rather than the default TagOptionSingleton
+ */
+public class TagOptionsTest extends AbstractTestCase
+{
+    private static final int THREADS = 16;
+
+    private static TagOptions createOptions(ID3V2Version version)
+    {
+        TagOptionSingleton options = TagOptionSingleton.getInstance("TagOptionsTest" + version);
+        options.setID3V2Version(version);
+        return options.getTagOptions();
+    }
+
+    public void tearDown()
+    {
+        TagOptionSingleton.getInstance().setToDefault();
+    }
+
+    public void testSnapshotUnaffectedByLaterChanges()
+    {
+        TagOptionSingleton.getInstance().setID3V2Version(ID3V2Version.ID3_V24);
+        TagOptionSingleton.getInstance().setUnsyncTags(true);
+        TagOptions options = TagOptionSingleton.getInstance().getTagOptions();
+
+        TagOptionSingleton.getInstance().setID3V2Version(ID3V2Version.ID3_V23);
+        TagOptionSingleton.getInstance().setUnsyncTags(false);
+        assertEquals(ID3V2Version.ID3_V24, options.getID3V2Version());
+        assertTrue(options.isUnsyncTags());
+        assertEquals(ID3V2Version.ID3_V23, TagOptions.current().getID3V2Version());
+    }
+
+    /**
+     * The snapshot of the singleton is only taken again once an option changes
+     */
+    public void testSnapshotReusedUntilChanged()
+    {
+        TagOptions options = TagOptions.current();
+        assertSame(options, TagOptionSingleton.getInstance().getTagOptions());
+
+        TagOptionSingleton.getInstance().setPadNumbers(true);
+        TagOptions changed = TagOptions.current();
+        assertNotSame(options, changed);
+        assertTrue(changed.isPadNumbers());
+        assertSame(changed, TagOptions.current());
+
+        TagOptionSingleton.getInstance().setToDefault();
+        assertFalse(TagOptions.current().isPadNumbers());
+    }
+
+    public void testCurrentOnlyDuringCall() throws Exception
+    {
+        TagOptions v24 = createOptions(ID3V2Version.ID3_V24);
+        assertNull(TagOptions.setCurrent(v24));
+        assertSame(v24, TagOptions.current());
+        assertSame(v24, TagOptions.setCurrent(null));
+
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testCurrentOnlyDuringCall.mp3"));
+        AudioFileIO.read(testFile, v24);
+        assertNull(TagOptions.setCurrent(null));
+    }
+
+    public void testReadWithOptionsUsedForDefaultTag() throws Exception
+    {
+        TagOptionSingleton.getInstance().setID3V2Version(ID3V2Version.ID3_V24);
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testReadWithOptionsUsedForDefaultTag.mp3"));
+
+        AudioFile f = AudioFileIO.read(testFile, createOptions(ID3V2Version.ID3_V23));
+        f.getTagAndConvertOrCreateAndSetDefault().setField(FieldKey.TITLE, "v23");
+        f.commit();
+
+        MP3File mp3File = (MP3File) AudioFileIO.read(testFile);
+        assertTrue(mp3File.getID3v2Tag() instanceof ID3v23Tag);
+        assertEquals("v23", mp3File.getID3v2Tag().getFirst(FieldKey.TITLE));
+    }
+
+    /**
+     * Threads writing with different ID3 versions at the same time each get the version they asked for
+     */
+    public void testConcurrentWritesWithDifferentVersions() throws Exception
+    {
+        final TagOptions v23 = createOptions(ID3V2Version.ID3_V23);
+        final TagOptions v24 = createOptions(ID3V2Version.ID3_V24);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int i = 0; i < THREADS; i++)
+            {
+                final File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testConcurrentWritesWithDifferentVersions" + i + ".mp3"));
+                final TagOptions options = i % 2 == 0 ? v23 : v24;
+                results.add(executor.submit(new Callable<Boolean>()
+                {
+                    public Boolean call() throws Exception
+                    {
+                        AudioFile f = AudioFileIO.read(testFile, options);
+                        f.getTagAndConvertOrCreateAndSetDefault().setField(FieldKey.TITLE, testFile.getName());
+                        AudioFileIO.write(f, options);
+
+                        MP3File mp3File = (MP3File) AudioFileIO.read(testFile, options);
+                        Class expected = options == v23 ? ID3v23Tag.class : ID3v24Tag.class;
+                        return expected == mp3File.getID3v2Tag().getClass()
+                                && testFile.getName().equals(mp3File.getID3v2Tag().getFirst(FieldKey.TITLE));
+                    }
+                }));
+            }
+
+            for (Future<Boolean> result : results)
+            {
+                assertTrue(result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+}
@@ -5,7 +5,9 @@ import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.flac.FlacFileReader;
 import org.jaudiotagger.audio.flac.FlacInfoReader;
+import org.jaudiotagger.audio.mp3.MP3File;
 
 import java.io.File;
 
@@ -66,15 +68,15 @@ public class FlacReadTest extends TestCase
 
 
     /**
-     * Test can identify file that isnt flac
+     * Test can identify file that isnt flac, it is read as the mp3 it is
      */
     public void testNotFlac()
     {
         Exception exceptionCaught = null;
+        File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testV1noFlac.flac"));
         try
         {
-            File testFile = AbstractTestCase.copyAudioToTmp("testV1.mp3", new File("testV1noFlac.flac"));
-            AudioFile f = AudioFileIO.read(testFile);
+            AudioFile f = new FlacFileReader().read(testFile);
         }
         catch (Exception e)
         {
@@ -82,6 +84,19 @@ public class FlacReadTest extends TestCase
             exceptionCaught = e;
         }
         assertTrue(exceptionCaught instanceof CannotReadException);
+
+        exceptionCaught = null;
+        try
+        {
+            AudioFile f = AudioFileIO.read(testFile);
+            assertTrue(f instanceof MP3File);
+        }
+        catch (Exception e)
+        {
+            e.printStackTrace();
+            exceptionCaught = e;
+        }
+        assertNull(exceptionCaught);
     }
 
     /**
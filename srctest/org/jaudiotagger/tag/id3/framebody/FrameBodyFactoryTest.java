@@ -0,0 +1,171 @@
+package org.jaudiotagger.tag.id3.framebody;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.tag.id3.ID3v22Frames;
+import org.jaudiotagger.tag.id3.ID3v23Frames;
+import org.jaudiotagger.tag.id3.ID3v24Frames;
+
+import java.lang.reflect.Constructor;
+import java.nio.ByteBuffer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Check FrameBodyFactory creates the same frame bodies that were previously found by class name
+ */
+public class FrameBodyFactoryTest extends AbstractTestCase
+{
+    private static Set<String> getAllIdentifiers()
+    {
+        Set<String> identifiers = new TreeSet<String>();
+        identifiers.addAll(ID3v22Frames.getInstanceOf().getIdToValueMap().keySet());
+        identifiers.addAll(ID3v23Frames.getInstanceOf().getIdToValueMap().keySet());
+        identifiers.addAll(ID3v24Frames.getInstanceOf().getIdToValueMap().keySet());
+        return identifiers;
+    }
+
+    private static Class findBodyClass(String identifier)
+    {
+        try
+        {
+            return Class.forName("org.jaudiotagger.tag.id3.framebody.FrameBody" + identifier);
+        }
+        catch (ClassNotFoundException cnfe)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Every frame with a FrameBody class must be known to the factory, so new bodies are not forgotten
+     */
+    public void testEveryFrameBodyClassCreated()
+    {
+        for (String identifier : getAllIdentifiers())
+        {
+            Class bodyClass = findBodyClass(identifier);
+            assertEquals(identifier, bodyClass != null, FrameBodyFactory.isSupported(identifier));
+            if (bodyClass != null)
+            {
+                AbstractID3v2FrameBody body = FrameBodyFactory.createBody(identifier);
+                assertSame(identifier, bodyClass, body.getClass());
+            }
+            else
+            {
+                assertNull(identifier, FrameBodyFactory.createBody(identifier));
+            }
+        }
+    }
+
+    /**
+     * @return the class whose constructor the factory called when creating a body failed with t
+     */
+    private static Class getConstructedClass(Throwable t) throws ClassNotFoundException
+    {
+        StackTraceElement[] trace = t.getStackTrace();
+        for (int i = 1; i < trace.length; i++)
+        {
+            if (trace[i].getClassName().equals(FrameBodyFactory.class.getName()))
+            {
+                assertEquals(t.toString(), "<init>", trace[i - 1].getMethodName());
+                return Class.forName(trace[i - 1].getClassName());
+            }
+        }
+        fail("Factory not in stack trace of " + t);
+        return null;
+    }
+
+    private static Constructor findConstructor(Class bodyClass, Class... parameterTypes)
+    {
+        try
+        {
+            return bodyClass.getConstructor(parameterTypes);
+        }
+        catch (NoSuchMethodException nsme)
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Reading a body from a buffer creates the class that has a constructor taking a buffer. The buffer is empty so
+     * many bodies cannot be read, in which case the class is found from the constructor that failed.
+     */
+    public void testEveryFrameBodyClassReadFromBuffer() throws Exception
+    {
+        for (String identifier : getAllIdentifiers())
+        {
+            Class bodyClass = findBodyClass(identifier);
+            Class expected = bodyClass == null ? null : findConstructor(bodyClass, ByteBuffer.class, int.class) == null ? null : bodyClass;
+            Class created;
+            try
+            {
+                AbstractID3v2FrameBody body = FrameBodyFactory.createBody(identifier, ByteBuffer.allocate(0), 0);
+                created = body == null ? null : body.getClass();
+            }
+            catch (Throwable t)
+            {
+                created = getConstructedClass(t);
+            }
+            assertSame(identifier, expected, created);
+        }
+    }
+
+    /**
+     * Converting a body creates the class for the identifier only when it has a constructor taking exactly the
+     * class of the body converted, as was found by reflection before
+     */
+    public void testEveryFrameBodyClassConverted() throws Exception
+    {
+        Set<String> identifiers = getAllIdentifiers();
+        for (String identifier : identifiers)
+        {
+            Class bodyClass = findBodyClass(identifier);
+            for (String fromIdentifier : identifiers)
+            {
+                AbstractID3v2FrameBody from = FrameBodyFactory.createBody(fromIdentifier);
+                if (from == null)
+                {
+                    continue;
+                }
+                Class expected = bodyClass == null ? null : findConstructor(bodyClass, from.getClass()) == null ? null : bodyClass;
+                Class created;
+                try
+                {
+                    AbstractID3v2FrameBody body = FrameBodyFactory.createBody(identifier, from);
+                    created = body == null ? null : body.getClass();
+                }
+                catch (Throwable t)
+                {
+                    created = getConstructedClass(t);
+                }
+                assertSame(identifier + " from " + fromIdentifier, expected, created);
+            }
+        }
+    }
+
+    public void testUnknownIdentifier()
+    {
+        assertFalse(FrameBodyFactory.isSupported("ZZZZ"));
+        assertFalse(FrameBodyFactory.isSupported("Unsupported"));
+        assertNull(FrameBodyFactory.createBody("ZZZZ"));
+        assertNull(FrameBodyFactory.createBody("ZZZZ", new FrameBodyTYER()));
+    }
+
+    public void testConvertBody()
+    {
+        FrameBodyTYER tyer = new FrameBodyTYER();
+        tyer.setText("2004");
+
+        AbstractID3v2FrameBody body = FrameBodyFactory.createBody(ID3v24Frames.FRAME_ID_YEAR, tyer);
+        assertTrue(body instanceof FrameBodyTDRC);
+        assertEquals("2004", ((FrameBodyTDRC) body).getText());
+
+        body = FrameBodyFactory.createBody(ID3v23Frames.FRAME_ID_V3_TYER, tyer);
+        assertTrue(body instanceof FrameBodyTYER);
+        assertNotSame(tyer, body);
+
+        //No constructor taking this class
+        assertNull(FrameBodyFactory.createBody(ID3v24Frames.FRAME_ID_ARTIST, tyer));
+    }
+}
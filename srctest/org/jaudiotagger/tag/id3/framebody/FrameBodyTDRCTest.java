@@ -4,6 +4,15 @@ import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.tag.id3.ID3v24Frames;
 import org.jaudiotagger.tag.id3.valuepair.TextEncoding;
 
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * Test Unique File Identifier FrameBody
  */
@@ -31,4 +40,127 @@ public class FrameBodyTDRCTest extends AbstractTestCase
         assertEquals(TextEncoding.ISO_8859_1, fb.getTextEncoding());
         assertEquals(FrameBodyTDRCTest.TEST_YEAR, fb.getDate());
     }
+
+    /**
+     * Create the v23 values for a different date each time, the v24 value they convert to is
+     * yyyy-MM-ddTHH:mm
+     */
+    private static String[] createV23Values(int i)
+    {
+        String year = String.valueOf(1950 + i % 60);
+        String month = pad(1 + i % 12);
+        String day = pad(1 + i % 28);
+        String hour = pad(i % 24);
+        String minute = pad(i % 60);
+        return new String[]{year, day + month, hour + minute, year + "-" + month + "-" + day + "T" + hour + ":" + minute};
+    }
+
+    private static String pad(int value)
+    {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    /**
+     * Convert TYER, TDAT and TIME to TDRC and back as done when converting between v23 and v24 tags
+     */
+    private static boolean convert(String[] values)
+    {
+        FrameBodyTDRC body = new FrameBodyTDRC(new FrameBodyTYER(TextEncoding.ISO_8859_1, values[0]));
+        body.setDate(new FrameBodyTDRC(new FrameBodyTDAT(TextEncoding.ISO_8859_1, values[1])).getDate());
+        body.setTime(new FrameBodyTDRC(new FrameBodyTIME(TextEncoding.ISO_8859_1, values[2])).getTime());
+        if (!values[3].equals(body.getFormattedText()))
+        {
+            return false;
+        }
+
+        FrameBodyTDRC v24Body = new FrameBodyTDRC(TextEncoding.ISO_8859_1, values[3]);
+        return values[0].equals(v24Body.getYear()) && values[1].equals(v24Body.getDate()) && values[2].equals(v24Body.getTime());
+    }
+
+    public void testConvertConcurrently() throws Exception
+    {
+        final int threads = 8;
+        final int conversions = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < threads; t++)
+            {
+                final int offset = t;
+                results.add(executor.submit(new Callable<Boolean>()
+                {
+                    public Boolean call()
+                    {
+                        for (int i = 0; i < conversions; i++)
+                        {
+                            if (!convert(createV23Values(i * threads + offset)))
+                            {
+                                return false;
+                            }
+                        }
+                        return true;
+                    }
+                }));
+            }
+
+            for (Future<Boolean> result : results)
+            {
+                assertTrue(result.get());
+            }
+        }
+        finally
+        {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Compare time to find the precision of a timestamp with the SimpleDateFormat approach previously used
+     */
+    public void testTimingOfParse() throws Exception
+    {
+        final int iterations = 50000;
+        String[] texts = {"2004", "2004-06", "2004-06-30", "2004-06-30T07", "2004-06-30T07:15", "2004-06-30T07:15:59"};
+
+        SimpleDateFormat[] formatters = {
+                new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss", Locale.UK),
+                new SimpleDateFormat("yyyy-MM-dd'T'HH:mm", Locale.UK),
+                new SimpleDateFormat("yyyy-MM-dd'T'HH", Locale.UK),
+                new SimpleDateFormat("yyyy-MM-dd", Locale.UK),
+                new SimpleDateFormat("yyyy-MM", Locale.UK),
+                new SimpleDateFormat("yyyy", Locale.UK)};
+        int precisionTotal = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+        {
+            String text = texts[i % texts.length];
+            for (int j = 0; j < formatters.length; j++)
+            {
+                try
+                {
+                    formatters[j].parse(text);
+                    precisionTotal += j;
+                    break;
+                }
+                catch (java.text.ParseException pe)
+                {
+                    //Try next format
+                }
+            }
+        }
+        long simpleDateFormatTime = System.nanoTime() - start;
+
+        int partialTimestampTotal = 0;
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++)
+        {
+            partialTimestampTotal += PartialTimestamp.parse(texts[i % texts.length]).getPrecision();
+        }
+        long partialTimestampTime = System.nanoTime() - start;
+
+        System.out.println("Found precision of " + iterations + " timestamps with SimpleDateFormat in:"
+                + simpleDateFormatTime / 1000000 + "ms, with PartialTimestamp in:" + partialTimestampTime / 1000000 + "ms");
+        assertEquals(precisionTotal, partialTimestampTotal);
+    }
 }
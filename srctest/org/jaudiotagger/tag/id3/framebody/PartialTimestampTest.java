@@ -0,0 +1,74 @@
+package org.jaudiotagger.tag.id3.framebody;
+
+import org.jaudiotagger.AbstractTestCase;
+
+/**
+ * Test parsing and formatting of ID3v24 timestamps
+ */
+public class PartialTimestampTest extends AbstractTestCase
+{
+    public void testParseEachPrecision()
+    {
+        assertEquals(PartialTimestamp.PRECISION_YEAR, PartialTimestamp.parse("2004").getPrecision());
+        assertEquals(PartialTimestamp.PRECISION_MONTH, PartialTimestamp.parse("2004-06").getPrecision());
+        assertEquals(PartialTimestamp.PRECISION_DAY, PartialTimestamp.parse("2004-06-30").getPrecision());
+        assertEquals(PartialTimestamp.PRECISION_HOUR, PartialTimestamp.parse("2004-06-30T07").getPrecision());
+        assertEquals(PartialTimestamp.PRECISION_MINUTE, PartialTimestamp.parse("2004-06-30T07:15").getPrecision());
+
+        PartialTimestamp timestamp = PartialTimestamp.parse("2004-06-30T07:15:59");
+        assertEquals(PartialTimestamp.PRECISION_SECOND, timestamp.getPrecision());
+        assertEquals(2004, timestamp.getYear());
+        assertEquals(6, timestamp.getMonth());
+        assertEquals(30, timestamp.getDay());
+        assertEquals(7, timestamp.getHour());
+        assertEquals(15, timestamp.getMinute());
+        assertEquals(59, timestamp.getSecond());
+        assertEquals("2004-06-30T07:15:59", timestamp.toString());
+    }
+
+    public void testV23Values()
+    {
+        PartialTimestamp timestamp = PartialTimestamp.parse("2006-06");
+        assertEquals("2006", timestamp.getV23Year());
+        assertEquals("0106", timestamp.getV23Date());
+
+        timestamp = PartialTimestamp.parse("2006-06-30T07");
+        assertEquals("3006", timestamp.getV23Date());
+        assertEquals("0700", timestamp.getV23Time());
+
+        assertEquals("0008", PartialTimestamp.parse("8").getV23Year());
+        assertEquals("195666", PartialTimestamp.parse("195666..4.1").getV23Year());
+    }
+
+    /**
+     * Components out of range are not rolled over, the timestamp ends at the previous component
+     */
+    public void testInvalidComponentsIgnored()
+    {
+        assertNull(PartialTimestamp.parse(""));
+        assertNull(PartialTimestamp.parse("June 2004"));
+        assertEquals("2004", PartialTimestamp.parse("2004-13-01").toString());
+        assertEquals("2003-02", PartialTimestamp.parse("2003-02-29").toString());
+        assertEquals("2004-02-29", PartialTimestamp.parse("2004-02-29").toString());
+        assertEquals("2004-06-30", PartialTimestamp.parse("2004-06-30T24:00").toString());
+        assertEquals("2004-06-30T07", PartialTimestamp.parse("2004-06-30T07:60").toString());
+        assertEquals("2004-06-30T07:15:59", PartialTimestamp.parse("2004-06-30T07:15:59Z").toString());
+        assertEquals("2004-06", PartialTimestamp.parse("2004-06-").toString());
+    }
+
+    public void testFormatV23()
+    {
+        assertEquals("2004", PartialTimestamp.formatV23Year("2004"));
+        assertEquals("0004", PartialTimestamp.formatV23Year("04"));
+        assertNull(PartialTimestamp.formatV23Year("unknown"));
+
+        assertEquals("-06-30", PartialTimestamp.formatV23Date("3006", false));
+        assertEquals("-06", PartialTimestamp.formatV23Date("0106", true));
+        assertNull(PartialTimestamp.formatV23Date("3013", false));
+        assertNull(PartialTimestamp.formatV23Date("306", false));
+
+        assertEquals("T11:10", PartialTimestamp.formatV23Time("1110", false));
+        assertEquals("T07", PartialTimestamp.formatV23Time("0700", true));
+        assertNull(PartialTimestamp.formatV23Time("2500", false));
+    }
+}
@@ -5,6 +5,7 @@ import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.exceptions.CannotReadVideoException;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
 import org.jaudiotagger.audio.mp4.EncoderType;
 import org.jaudiotagger.audio.mp4.Mp4AtomTree;
 import org.jaudiotagger.audio.mp4.Mp4AudioHeader;
@@ -1283,7 +1284,7 @@ public class M4aReadTagTest extends TestCase
             //Read Image
             File testFile = AbstractTestCase.copyAudioToTmp("test75.m4a");
             RandomAccessFile raf = new RandomAccessFile(testFile,"r");
-            Mp4Tag tagReader = new Mp4TagReader().read(raf);
+            Mp4Tag tagReader = new Mp4TagReader().read(new RandomAccessSource(raf));
             assertEquals("Rock",tagReader.getFirst(FieldKey.GENRE));
         }
         catch (IOException e)
@@ -0,0 +1,151 @@
+package org.jaudiotagger.tag.real;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.generic.ProbeBudget;
+import org.jaudiotagger.audio.generic.ProbeResult;
+import org.jaudiotagger.audio.generic.RandomAccessSource;
+import org.jaudiotagger.audio.real.RealChunkIndex;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+/**
+ * Locating the PROP and CONT chunks of RealMedia files without reading the media data
+ */
+public class RealChunkIndexTest extends AbstractTestCase
+{
+    public void testIndexLoadsOnlyPropAndCont() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test05.rm");
+        RandomAccessFile raf = new RandomAccessFile(testFile, "r");
+        RealChunkIndex index;
+        try
+        {
+            index = RealChunkIndex.read(new RandomAccessSource(raf));
+        }
+        finally
+        {
+            raf.close();
+        }
+        assertTrue(index.getPropChunk().isPROP());
+        assertTrue(index.getContChunk().isCONT());
+    }
+
+    /**
+     * CONT chunk after a large DATA chunk is found by seeking over the data rather than reading it
+     */
+    public void testReadContAfterLargeDataChunk() throws Exception
+    {
+        File orig = AbstractTestCase.copyAudioToTmp("test01.ra");
+        File testFile = new File("testdatatmp", "testReadContAfterLargeDataChunk.ra");
+        testFile.delete();
+
+        long dataSize = 200L * 1024 * 1024;
+        RandomAccessFile in = new RandomAccessFile(orig, "r");
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            //.RMF, PROP and MDPR
+            byte[] header = new byte[223];
+            in.readFully(header);
+            byte[] cont = new byte[212];
+            in.readFully(cont);
+
+            raf.write(header);
+            raf.write("DATA".getBytes("ISO-8859-1"));
+            raf.writeInt((int) (dataSize + 8));
+            raf.setLength(raf.length() + dataSize);
+            raf.seek(raf.length());
+            raf.write(cont);
+        }
+        finally
+        {
+            in.close();
+            raf.close();
+        }
+
+        long start = System.currentTimeMillis();
+        AudioFile f = AudioFileIO.read(testFile);
+        System.out.println("Read 200MB real file in:" + (System.currentTimeMillis() - start) + "ms");
+        assertEquals("Temptation Rag", f.getTag().getFirst(FieldKey.TITLE));
+        assertEquals("Prince's Military Band", f.getTag().getFirst(FieldKey.ARTIST));
+        testFile.delete();
+    }
+
+    public void testReadFileWithoutCont() throws Exception
+    {
+        File orig = AbstractTestCase.copyAudioToTmp("test01.ra");
+        File testFile = new File("testdatatmp", "testReadFileWithoutCont.ra");
+        testFile.delete();
+
+        RandomAccessFile in = new RandomAccessFile(orig, "r");
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            //.RMF, PROP and MDPR, then DATA and the rest of the file
+            byte[] header = new byte[223];
+            in.readFully(header);
+            raf.write(header);
+            in.seek(435);
+            byte[] rest = new byte[(int) (in.length() - 435)];
+            in.readFully(rest);
+            raf.write(rest);
+        }
+        finally
+        {
+            in.close();
+            raf.close();
+        }
+
+        AudioFile f = AudioFileIO.read(testFile);
+        assertTrue(f.getTag().isEmpty());
+        assertTrue(f.getAudioHeader().getTrackLength() > 0);
+    }
+
+    /**
+     * A probe budget that ends before the CONT chunk keeps the audio header, and the tag is read once the budget
+     * covers it
+     */
+    public void testProbeContOutsideBudget() throws Exception
+    {
+        File orig = AbstractTestCase.copyAudioToTmp("test01.ra");
+        File testFile = new File("testdatatmp", "testProbeContOutsideBudget.ra");
+        testFile.delete();
+
+        RandomAccessFile in = new RandomAccessFile(orig, "r");
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            //.RMF, PROP and MDPR, then a DATA chunk and the CONT chunk at the end
+            byte[] header = new byte[223];
+            in.readFully(header);
+            byte[] cont = new byte[212];
+            in.readFully(cont);
+
+            raf.write(header);
+            raf.write("DATA".getBytes("ISO-8859-1"));
+            raf.writeInt(1024 * 1024 + 8);
+            raf.write(new byte[1024 * 1024]);
+            raf.write(cont);
+        }
+        finally
+        {
+            in.close();
+            raf.close();
+        }
+        AudioFile expected = AudioFileIO.read(testFile);
+
+        ProbeResult result = AudioFileIO.probe(testFile, new ProbeBudget(64 * 1024, 0));
+        assertFalse(result.isComplete());
+        assertEquals(expected.getAudioHeader().getTrackLength(), result.getAudioFile().getAudioHeader().getTrackLength());
+        assertNull(result.getAudioFile().getTag());
+
+        result = AudioFileIO.probe(testFile, new ProbeBudget(64 * 1024, 1024));
+        assertTrue(result.isComplete());
+        assertEquals("Temptation Rag", result.getAudioFile().getTag().getFirst(FieldKey.TITLE));
+        testFile.delete();
+    }
+}
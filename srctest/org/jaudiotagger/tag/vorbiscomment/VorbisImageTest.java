@@ -4,6 +4,7 @@ import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.tag.images.Artwork;
+import org.jaudiotagger.tag.images.ArtworkFactory;
 import org.jaudiotagger.tag.vorbiscomment.util.Base64Coder;
 
 import javax.imageio.ImageIO;
@@ -12,6 +13,8 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -219,4 +222,69 @@ public class VorbisImageTest extends AbstractTestCase
         assertNull(exceptionCaught);
     }
 
+    /**
+     * Encoding to bytes and decoding from a buffer give the same results as the char based methods
+     */
+    public void testBase64Bytes() throws Exception
+    {
+        for (int length = 0; length < 10; length++)
+        {
+            byte[] data = new byte[length * 1000 + length];
+            for (int i = 0; i < data.length; i++)
+            {
+                data[i] = (byte) (i * 31);
+            }
+            char[] expected = Base64Coder.encode(data);
+            byte[] encoded = Base64Coder.encodeToBytes(data);
+            assertEquals(new String(expected), new String(encoded, "ISO-8859-1"));
+
+            assertTrue(Arrays.equals(data, Base64Coder.decode(ByteBuffer.wrap(encoded))));
+        }
+
+        //Line breaks are ignored
+        assertEquals("abcd", new String(Base64Coder.decode(ByteBuffer.wrap("YWJj\r\nZA==".getBytes("ISO-8859-1"))), "ISO-8859-1"));
+        try
+        {
+            Base64Coder.decode(ByteBuffer.wrap("YW=j".getBytes("ISO-8859-1")));
+            fail("Expected illegal padding");
+        }
+        catch (IllegalArgumentException iae)
+        {
+            //expected
+        }
+    }
+
+    /**
+     * Artwork is kept as base64 bytes and read back without converting to a String
+     */
+    public void testArtworkFieldHeldAsBytes() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.ogg", new File("testArtworkFieldHeldAsBytes.ogg"));
+        AudioFile f = AudioFileIO.read(testFile);
+        VorbisCommentTag tag = (VorbisCommentTag) f.getTag();
+
+        RandomAccessFile raf = new RandomAccessFile(new File("testdata", "coverart.png"), "r");
+        byte[] imagedata = new byte[(int) raf.length()];
+        raf.read(imagedata);
+        raf.close();
+
+        tag.setArtworkField(imagedata, "image/png");
+        assertTrue(Arrays.equals(imagedata, tag.getArtworkBinaryData()));
+
+        Artwork artwork = ArtworkFactory.createLinkedArtworkFromURL("http://www.example.com/coverart.png");
+        VorbisCommentTagField field = (VorbisCommentTagField) tag.createField(artwork);
+        assertEquals(VorbisCommentFieldKey.METADATA_BLOCK_PICTURE.getFieldName(), field.getId());
+        tag.addField(field);
+        f.commit();
+
+        f = AudioFileIO.read(testFile);
+        tag = (VorbisCommentTag) f.getTag();
+        assertTrue(Arrays.equals(imagedata, tag.getArtworkBinaryData()));
+        List<Artwork> artworkList = tag.getArtworkList();
+        assertEquals(2, artworkList.size());
+        assertEquals("image/png", artworkList.get(0).getMimeType());
+        assertTrue(Arrays.equals(imagedata, artworkList.get(0).getBinaryData()));
+        assertTrue(artworkList.get(1).isLinked());
+        assertEquals("http://www.example.com/coverart.png", artworkList.get(1).getImageUrl());
+    }
 }
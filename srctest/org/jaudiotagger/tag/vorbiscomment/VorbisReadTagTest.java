@@ -4,11 +4,17 @@ import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.exceptions.CannotReadException;
+import org.jaudiotagger.audio.generic.Utils;
 import org.jaudiotagger.audio.ogg.OggFileReader;
 import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagTextField;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.util.List;
 
 /**
  * User: paul
@@ -101,4 +107,77 @@ public class VorbisReadTagTest extends AbstractTestCase
     }
 
     
+    /**
+     * Create raw vorbis comment packet with the given comments and framing bit
+     */
+    private static ByteBuffer createCommentPacket(String vendor, String... comments) throws Exception
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writeString(baos, vendor);
+        baos.write(Utils.getSizeLEInt32(comments.length));
+        for (String comment : comments)
+        {
+            writeString(baos, comment);
+        }
+        baos.write(1);
+        return ByteBuffer.wrap(baos.toByteArray());
+    }
+
+    private static void writeString(ByteArrayOutputStream baos, String value) throws Exception
+    {
+        byte[] b = value.getBytes("UTF-8");
+        baos.write(Utils.getSizeLEInt32(b.length));
+        baos.write(b);
+    }
+
+    /**
+     * Fields parsed from a buffer share the known field names and keep their raw value until it is required
+     */
+    public void testReadManyFieldsFromBuffer() throws Exception
+    {
+        String[] comments = new String[301];
+        for (int i = 0; i < 300; i++)
+        {
+            comments[i] = "musicbrainz_trackid=" + i + "-f8d9-4c3b-a2f1-\u00e9";
+        }
+        comments[300] = "Custom Field=caf\u00e9";
+        ByteBuffer packet = createCommentPacket("jaudiotagger", comments);
+
+        VorbisCommentTag tag = new VorbisCommentReader().read(packet, true);
+        assertEquals("jaudiotagger", tag.getVendor());
+        List<TagField> fields = tag.getFields(VorbisCommentFieldKey.MUSICBRAINZ_TRACKID.getFieldName());
+        assertEquals(300, fields.size());
+        assertSame(VorbisCommentFieldKey.MUSICBRAINZ_TRACKID.getFieldName(), fields.get(0).getId());
+        assertEquals("299-f8d9-4c3b-a2f1-\u00e9", ((TagTextField) fields.get(299)).getContent());
+        assertEquals("caf\u00e9", tag.getFirst("CUSTOM FIELD"));
+
+        //Raw content of a field that has not been decoded is the original comment
+        VorbisCommentTagField field = (VorbisCommentTagField) fields.get(5);
+        byte[] expected = comments[5].getBytes("UTF-8");
+        byte[] raw = field.getRawContent();
+        assertEquals(expected.length + 4, raw.length);
+        assertEquals("MUSICBRAINZ_TRACKID=" + 5 + "-f8d9-4c3b-a2f1-\u00e9", new String(raw, 4, raw.length - 4, "UTF-8"));
+        assertFalse(field.isEmpty());
+    }
+
+    public void testReadTruncatedCommentFromBuffer() throws Exception
+    {
+        ByteBuffer packet = createCommentPacket("vendor", "TITLE=title", "ARTIST=artist");
+        packet.limit(packet.limit() - 1);
+        try
+        {
+            new VorbisCommentReader().read(packet, true);
+            fail("Expected missing framing bit");
+        }
+        catch (CannotReadException cre)
+        {
+            //expected
+        }
+
+        //Last comment claims to be longer than the packet
+        packet.limit(packet.limit() - 3);
+        VorbisCommentTag tag = new VorbisCommentReader().read(packet, false);
+        assertEquals("title", tag.getFirst(VorbisCommentFieldKey.TITLE));
+        assertEquals("", tag.getFirst(VorbisCommentFieldKey.ARTIST));
+    }
 }
@@ -4,9 +4,12 @@ import org.jaudiotagger.AbstractTestCase;
 import org.jaudiotagger.audio.AudioFile;
 import org.jaudiotagger.audio.AudioFileIO;
 import org.jaudiotagger.audio.ogg.OggFileReader;
+import org.jaudiotagger.audio.ogg.OggVorbisTagWriter;
+import org.jaudiotagger.audio.ogg.util.OggCRCFactory;
 import org.jaudiotagger.audio.ogg.util.OggPageHeader;
 import org.jaudiotagger.tag.FieldKey;
 import org.jaudiotagger.tag.TagField;
+import org.jaudiotagger.tag.TagOptionSingleton;
 import org.jaudiotagger.tag.vorbiscomment.util.Base64Coder;
 
 import javax.imageio.ImageIO;
@@ -14,6 +17,7 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.RandomAccessFile;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -819,4 +823,74 @@ public class VorbisWriteTagTest extends AbstractTestCase
         assertEquals(0,tagFields.size());
 
     }
+
+    /**
+     * Once padding has been reserved, edits that fit within it are written in place without changing the file size
+     */
+    public void testWriteInPlaceWithPadding() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.ogg", new File("testWriteInPlaceWithPadding.ogg"));
+        TagOptionSingleton.getInstance().setOggVorbisCommentPaddingSize(4000);
+        try
+        {
+            //Comment grows so file is rewritten, with padding
+            AudioFile f = AudioFileIO.read(testFile);
+            long originalLength = testFile.length();
+            long inPlaceWrites = OggVorbisTagWriter.getInPlaceWriteCount();
+            f.getTag().setField(FieldKey.COMMENT, "a comment that is longer than the original comment");
+            f.commit();
+            assertEquals(inPlaceWrites, OggVorbisTagWriter.getInPlaceWriteCount());
+            long paddedLength = testFile.length();
+            assertTrue(paddedLength > originalLength + 4000);
+
+            //Edits that fit within the padding are written in place
+            f = AudioFileIO.read(testFile);
+            f.getTag().setField(FieldKey.TITLE, "a new title");
+            f.getTag().setField(FieldKey.LYRICS, "la la la la la la la la la la la la la la la la la la la la la la la");
+            f.commit();
+            assertEquals(inPlaceWrites + 1, OggVorbisTagWriter.getInPlaceWriteCount());
+            assertEquals(paddedLength, testFile.length());
+
+            f = AudioFileIO.read(testFile);
+            assertEquals("a new title", f.getTag().getFirst(FieldKey.TITLE));
+            assertEquals("a comment that is longer than the original comment", f.getTag().getFirst(FieldKey.COMMENT));
+            assertTrue(f.getTag().getFirst(FieldKey.LYRICS).startsWith("la la"));
+
+            //Every page must still be valid, including CRC of the updated 2nd page
+            new OggFileReader().summarizeOggPageHeaders(testFile);
+            RandomAccessFile raf = new RandomAccessFile(testFile, "r");
+            try
+            {
+                OggPageHeader firstPageHeader = OggPageHeader.read(raf);
+                raf.seek(raf.getFilePointer() + firstPageHeader.getPageLength());
+                long secondPageStart = raf.getFilePointer();
+                OggPageHeader secondPageHeader = OggPageHeader.read(raf);
+                byte[] page = new byte[(int) (raf.getFilePointer() - secondPageStart) + secondPageHeader.getPageLength()];
+                raf.seek(secondPageStart);
+                raf.readFully(page);
+                byte[] crc = new byte[4];
+                System.arraycopy(page, OggPageHeader.FIELD_PAGE_CHECKSUM_POS, crc, 0, 4);
+                Arrays.fill(page, OggPageHeader.FIELD_PAGE_CHECKSUM_POS, OggPageHeader.FIELD_PAGE_CHECKSUM_POS + 4, (byte) 0);
+                assertTrue(Arrays.equals(crc, OggCRCFactory.computeCRC(page)));
+                OggPageHeader.read(raf);
+            }
+            finally
+            {
+                raf.close();
+            }
+
+            //Removing fields also stays in place
+            f.getTag().deleteField(FieldKey.LYRICS);
+            f.commit();
+            assertEquals(inPlaceWrites + 2, OggVorbisTagWriter.getInPlaceWriteCount());
+            assertEquals(paddedLength, testFile.length());
+            f = AudioFileIO.read(testFile);
+            assertEquals("", f.getTag().getFirst(FieldKey.LYRICS));
+            assertEquals("a new title", f.getTag().getFirst(FieldKey.TITLE));
+        }
+        finally
+        {
+            TagOptionSingleton.getInstance().setOggVorbisCommentPaddingSize(0);
+        }
+    }
 }
@@ -0,0 +1,207 @@
+package org.jaudiotagger.tag.wav;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.wav.WavTag;
+import org.jaudiotagger.audio.wav.util.WavChunkHeader;
+import org.jaudiotagger.audio.wav.util.WavChunkIndex;
+import org.jaudiotagger.audio.wav.util.WavFormatHeader;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.id3.ID3v23Tag;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.Channels;
+
+/**
+ * Reading LIST/INFO and id3 chunks from Wav files
+ */
+public class WavMetadataReadTest extends AbstractTestCase
+{
+    /**
+     * Create LIST/INFO chunk body containing the given id/value pairs
+     */
+    public static byte[] createInfoChunk(String... idValues) throws Exception
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        baos.write("INFO".getBytes("ISO-8859-1"));
+        for (int i = 0; i < idValues.length; i += 2)
+        {
+            byte[] value = (idValues[i + 1] + "\0").getBytes("UTF-8");
+            baos.write(WavChunkHeader.createHeader(idValues[i], value.length).array());
+            baos.write(value);
+            if ((value.length & 1) != 0)
+            {
+                baos.write(0);
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    public static byte[] createId3Chunk(ID3v23Tag id3Tag) throws Exception
+    {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        id3Tag.write(Channels.newChannel(baos));
+        return baos.toByteArray();
+    }
+
+    /**
+     * Append chunk to end of file and update the RIFF size
+     */
+    public static void appendChunk(File file, String id, byte[] body) throws Exception
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "rw");
+        try
+        {
+            raf.seek(raf.length());
+            raf.write(WavChunkHeader.createHeader(id, body.length).array());
+            raf.write(body);
+            if ((body.length & 1) != 0)
+            {
+                raf.write(0);
+            }
+            ByteBuffer riffSize = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            riffSize.putInt((int) (raf.length() - 8));
+            raf.seek(WavChunkIndex.RIFF_SIZE_OFFSET);
+            raf.write(riffSize.array());
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    public void testReadInfoAndId3Chunks() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testReadInfoAndId3Chunks.wav"));
+        appendChunk(testFile, "LIST", createInfoChunk("INAM", "title", "IART", "artist", "ISFT", "Lavf", "ICRD", "2011"));
+
+        ID3v23Tag id3Tag = new ID3v23Tag();
+        id3Tag.setField(FieldKey.ALBUM, "album");
+        id3Tag.setField(FieldKey.TITLE, "id3title");
+        appendChunk(testFile, "id3 ", createId3Chunk(id3Tag));
+
+        AudioFile f = AudioFileIO.read(testFile);
+        assertEquals("WAV-RIFF 8 bits", f.getAudioHeader().getEncodingType());
+        assertEquals(308728f / 22050f, ((GenericAudioHeader) f.getAudioHeader()).getPreciseLength(), 0.0001f);
+        assertEquals(14, f.getAudioHeader().getTrackLength());
+
+        WavTag tag = (WavTag) f.getTag();
+        assertEquals("title", tag.getFirst(FieldKey.TITLE));
+        assertEquals("artist", tag.getFirst(FieldKey.ARTIST));
+        assertEquals("2011", tag.getFirst(FieldKey.YEAR));
+        assertEquals("album", tag.getFirst(FieldKey.ALBUM));
+        assertEquals("Lavf", tag.getFirst("ISFT"));
+        assertNotNull(tag.getID3Tag());
+        assertEquals("id3title", tag.getID3Tag().getFirst(FieldKey.TITLE));
+    }
+
+    public void testReadFileWithoutMetadata() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testReadFileWithoutMetadata.wav"));
+        RandomAccessFile raf = new RandomAccessFile(testFile, "r");
+        WavChunkIndex index;
+        try
+        {
+            index = WavChunkIndex.read(raf);
+        }
+        finally
+        {
+            raf.close();
+        }
+        assertEquals(3, index.getChunks().size());
+        assertEquals(50, index.getDataChunk().getStartLocation());
+        assertEquals(308728, index.getAudioDataSize());
+        assertNull(index.getInfoChunk());
+        assertNull(index.getId3Chunk());
+
+        AudioFile f = AudioFileIO.read(testFile);
+        assertTrue(f.getTag().isEmpty());
+        assertNull(((WavTag) f.getTag()).getID3Tag());
+    }
+
+    /**
+     * The data chunk is skipped over, so metadata after a large data chunk is read without reading the audio
+     */
+    public void testReadMetadataAfterLargeDataChunk() throws Exception
+    {
+        File testFile = new File("testdatatmp", "testReadMetadataAfterLargeDataChunk.wav");
+        testFile.delete();
+        File orig = AbstractTestCase.copyAudioToTmp("test.wav", new File("testReadMetadataAfterLargeDataChunkOrig.wav"));
+
+        long dataSize = 200L * 1024 * 1024;
+        RandomAccessFile in = new RandomAccessFile(orig, "r");
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            byte[] header = new byte[50];
+            in.readFully(header);
+            raf.write(header);
+            raf.write(WavChunkHeader.createHeader("data", dataSize).array());
+            raf.setLength(raf.length() + dataSize);
+        }
+        finally
+        {
+            in.close();
+            raf.close();
+        }
+        appendChunk(testFile, "LIST", createInfoChunk("INAM", "big"));
+
+        long start = System.currentTimeMillis();
+        AudioFile f = AudioFileIO.read(testFile);
+        System.out.println("Read 200MB wav in:" + (System.currentTimeMillis() - start) + "ms");
+        assertEquals("big", f.getTag().getFirst(FieldKey.TITLE));
+        assertEquals((int) (dataSize / 22050), f.getAudioHeader().getTrackLength());
+        testFile.delete();
+    }
+
+    /**
+     * If data chunk claims to be larger than file assume audio runs to end of file
+     */
+    public void testReadTruncatedFile() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testReadTruncatedFile.wav"));
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            raf.setLength(50 + 8 + 22050 * 2);
+        }
+        finally
+        {
+            raf.close();
+        }
+        AudioFile f = AudioFileIO.read(testFile);
+        assertEquals(2, f.getAudioHeader().getTrackLength());
+    }
+
+    /**
+     * The channel mask of a WAVE_FORMAT_EXTENSIBLE fmt chunk is the little endian int at offset 28
+     */
+    public void testReadExtensibleChannelMask() throws Exception
+    {
+        ByteBuffer fmt = ByteBuffer.allocate(48).order(ByteOrder.LITTLE_ENDIAN);
+        fmt.put("fmt ".getBytes("ISO-8859-1"));
+        fmt.putInt(40);
+        fmt.putShort((short) 0xFFFE);
+        fmt.putShort((short) 6);
+        fmt.putInt(48000);
+        fmt.putInt(48000 * 6 * 3);
+        fmt.putShort((short) 18);
+        fmt.putShort((short) 24);
+        fmt.putShort((short) 22);
+        fmt.putShort((short) 24);
+        fmt.putInt(0x0003060F);
+        fmt.putShort((short) 1);
+
+        WavFormatHeader header = new WavFormatHeader(fmt.array());
+        assertTrue(header.isExtensible());
+        assertEquals(0x0003060F, header.getChannelMask());
+        assertEquals(1, header.getSubFormat());
+        assertEquals(24, header.getValidBitsPerSample());
+    }
+}
@@ -0,0 +1,260 @@
+package org.jaudiotagger.tag.wav;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.exceptions.CannotWriteException;
+import org.jaudiotagger.audio.wav.WavTag;
+import org.jaudiotagger.audio.wav.util.WavChunkHeader;
+import org.jaudiotagger.audio.wav.util.WavChunkIndex;
+import org.jaudiotagger.tag.FieldKey;
+import org.jaudiotagger.tag.id3.ID3v23Tag;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+
+/**
+ * Writing LIST/INFO and id3 chunks to Wav files in place
+ */
+public class WavMetadataWriteTest extends AbstractTestCase
+{
+    private static final int DATA_END = 50 + 8 + 308728;
+
+    private static byte[] readBytes(File file, long start, int length) throws Exception
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            byte[] bytes = new byte[length];
+            raf.seek(start);
+            raf.readFully(bytes);
+            return bytes;
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    private static WavChunkIndex readIndex(File file) throws Exception
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            return WavChunkIndex.read(raf);
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    public void testWriteAfterData() throws Exception
+    {
+        File orig = AbstractTestCase.copyAudioToTmp("test.wav", new File("testWriteAfterDataOrig.wav"));
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testWriteAfterData.wav"));
+
+        AudioFile f = AudioFileIO.read(testFile);
+        f.getTag().setField(FieldKey.TITLE, "title");
+        f.getTag().setField(FieldKey.ARTIST, "artist with a much longer value");
+        f.getTag().setField(FieldKey.TRACK, "3");
+        f.commit();
+
+        assertTrue(Arrays.equals(readBytes(orig, 8, DATA_END - 8), readBytes(testFile, 8, DATA_END - 8)));
+        WavChunkIndex index = readIndex(testFile);
+        assertEquals(DATA_END, index.getInfoChunk().getStartLocation());
+        assertEquals(index.getInfoChunk().getEndLocation(), testFile.length());
+        assertEquals(testFile.length() - 8, index.getRiffSize());
+
+        f = AudioFileIO.read(testFile);
+        assertEquals("title", f.getTag().getFirst(FieldKey.TITLE));
+        assertEquals("artist with a much longer value", f.getTag().getFirst(FieldKey.ARTIST));
+        assertEquals("3", f.getTag().getFirst(FieldKey.TRACK));
+        long lengthWithLongArtist = testFile.length();
+
+        //Shorter value so the file shrinks
+        f.getTag().setField(FieldKey.ARTIST, "a");
+        f.commit();
+        assertTrue(testFile.length() < lengthWithLongArtist);
+        f = AudioFileIO.read(testFile);
+        assertEquals("a", f.getTag().getFirst(FieldKey.ARTIST));
+        assertEquals("title", f.getTag().getFirst(FieldKey.TITLE));
+        assertEquals(14, f.getAudioHeader().getTrackLength());
+    }
+
+    /**
+     * Metadata written into a JUNK chunk before the data so the file length does not change
+     */
+    public void testWriteIntoJunkBeforeData() throws Exception
+    {
+        File orig = AbstractTestCase.copyAudioToTmp("test.wav", new File("testWriteIntoJunkBeforeDataOrig.wav"));
+        File testFile = new File("testdatatmp", "testWriteIntoJunkBeforeData.wav");
+        testFile.delete();
+
+        byte[] header = readBytes(orig, 0, 50);
+        byte[] data = readBytes(orig, 50, (int) orig.length() - 50);
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            raf.write(header);
+            raf.write(WavChunkHeader.createHeader(WavChunkHeader.JUNK, 1024).array());
+            raf.write(new byte[1024]);
+            raf.write(data);
+            raf.seek(0);
+            raf.write(WavChunkHeader.createHeader(WavChunkIndex.RIFF, raf.length() - 8).array());
+        }
+        finally
+        {
+            raf.close();
+        }
+        long length = testFile.length();
+
+        AudioFile f = AudioFileIO.read(testFile);
+        f.getTag().setField(FieldKey.TITLE, "title");
+        f.getTag().setField(FieldKey.ALBUM, "album");
+        f.commit();
+
+        assertEquals(length, testFile.length());
+        WavChunkIndex index = readIndex(testFile);
+        assertEquals(50, index.getInfoChunk().getStartLocation());
+        assertTrue(Arrays.equals(data, readBytes(testFile, 50 + 8 + 1024, data.length)));
+
+        f = AudioFileIO.read(testFile);
+        assertEquals("title", f.getTag().getFirst(FieldKey.TITLE));
+        assertEquals("album", f.getTag().getFirst(FieldKey.ALBUM));
+
+        //Delete blanks the chunk back to JUNK
+        AudioFileIO.delete(f);
+        assertEquals(length, testFile.length());
+        index = readIndex(testFile);
+        assertNull(index.getInfoChunk());
+        assertTrue(AudioFileIO.read(testFile).getTag().isEmpty());
+    }
+
+    public void testDeleteAfterData() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testDeleteAfterData.wav"));
+        WavMetadataReadTest.appendChunk(testFile, "LIST", WavMetadataReadTest.createInfoChunk("INAM", "title"));
+
+        AudioFile f = AudioFileIO.read(testFile);
+        AudioFileIO.delete(f);
+        assertEquals(DATA_END, testFile.length());
+        assertEquals(DATA_END - 8, readIndex(testFile).getRiffSize());
+        assertTrue(AudioFileIO.read(testFile).getTag().isEmpty());
+    }
+
+    /**
+     * INFO fields without a generic equivalent and the id3 chunk are kept and updated
+     */
+    public void testPreserveUnknownInfoAndUpdateId3() throws Exception
+    {
+        File testFile = AbstractTestCase.copyAudioToTmp("test.wav", new File("testPreserveUnknownInfoAndUpdateId3.wav"));
+        WavMetadataReadTest.appendChunk(testFile, "LIST", WavMetadataReadTest.createInfoChunk("INAM", "title", "ISFT", "Lavf"));
+        ID3v23Tag id3Tag = new ID3v23Tag();
+        id3Tag.setField(FieldKey.TITLE, "title");
+        id3Tag.setField(FieldKey.COMPOSER, "composer");
+        WavMetadataReadTest.appendChunk(testFile, "id3 ", WavMetadataReadTest.createId3Chunk(id3Tag));
+
+        AudioFile f = AudioFileIO.read(testFile);
+        f.getTag().setField(FieldKey.TITLE, "newtitle");
+        f.commit();
+
+        f = AudioFileIO.read(testFile);
+        WavTag tag = (WavTag) f.getTag();
+        assertEquals("newtitle", tag.getFirst(FieldKey.TITLE));
+        assertEquals("Lavf", tag.getFirst("ISFT"));
+        assertNotNull(tag.getID3Tag());
+        assertEquals("newtitle", tag.getID3Tag().getFirst(FieldKey.TITLE));
+        assertEquals("composer", tag.getID3Tag().getFirst(FieldKey.COMPOSER));
+        assertEquals(5, readIndex(testFile).getChunks().size());
+    }
+
+    /**
+     * Writing to a file with a large data chunk only touches the metadata so does not depend on the audio size
+     */
+    public void testWriteLargeFile() throws Exception
+    {
+        File testFile = new File("testdatatmp", "testWriteLargeFile.wav");
+        testFile.delete();
+        File orig = AbstractTestCase.copyAudioToTmp("test.wav", new File("testWriteLargeFileOrig.wav"));
+
+        long dataSize = 200L * 1024 * 1024;
+        RandomAccessFile in = new RandomAccessFile(orig, "r");
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            byte[] header = new byte[50];
+            in.readFully(header);
+            raf.write(header);
+            raf.write(WavChunkHeader.createHeader("data", dataSize).array());
+            raf.setLength(raf.length() + dataSize);
+        }
+        finally
+        {
+            in.close();
+            raf.close();
+        }
+
+        long start = System.currentTimeMillis();
+        AudioFile f = AudioFileIO.read(testFile);
+        f.getTag().setField(FieldKey.TITLE, "big");
+        f.commit();
+        System.out.println("Wrote 200MB wav in:" + (System.currentTimeMillis() - start) + "ms");
+
+        assertEquals("big", AudioFileIO.read(testFile).getTag().getFirst(FieldKey.TITLE));
+        assertEquals(50 + 8 + dataSize, readIndex(testFile).getInfoChunk().getStartLocation());
+        testFile.delete();
+    }
+
+    /**
+     * A write that would take the file past the 4GB a RIFF header can describe fails without changing the file
+     */
+    public void testWriteTooLargeForRiff() throws Exception
+    {
+        File testFile = new File("testdatatmp", "testWriteTooLargeForRiff.wav");
+        testFile.delete();
+        File orig = AbstractTestCase.copyAudioToTmp("test.wav", new File("testWriteTooLargeForRiffOrig.wav"));
+
+        long fileLength = 0xFFFFFFF0L;
+        RandomAccessFile in = new RandomAccessFile(orig, "r");
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            byte[] header = new byte[50];
+            in.readFully(header);
+            raf.write(header);
+            raf.write(WavChunkHeader.createHeader("data", fileLength - 50 - 8).array());
+            raf.setLength(fileLength);
+            raf.seek(WavChunkIndex.RIFF_SIZE_OFFSET);
+            raf.write(WavChunkHeader.createHeader("RIFF", fileLength - 8).array(), WavChunkHeader.CHUNK_ID_LENGTH, WavChunkHeader.CHUNK_SIZE_LENGTH);
+        }
+        finally
+        {
+            in.close();
+            raf.close();
+        }
+
+        try
+        {
+            byte[] before = readBytes(testFile, 0, 58);
+            AudioFile f = AudioFileIO.read(testFile);
+            f.getTag().setField(FieldKey.TITLE, "too big");
+            try
+            {
+                f.commit();
+                fail("Expected CannotWriteException");
+            }
+            catch (CannotWriteException cwe)
+            {
+                //expected
+            }
+            assertEquals(fileLength, testFile.length());
+            assertTrue(Arrays.equals(before, readBytes(testFile, 0, 58)));
+        }
+        finally
+        {
+            testFile.delete();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package org.jaudiotagger.tag.wav;
+
+import org.jaudiotagger.AbstractTestCase;
+import org.jaudiotagger.audio.AudioFile;
+import org.jaudiotagger.audio.AudioFileIO;
+import org.jaudiotagger.audio.generic.GenericAudioHeader;
+import org.jaudiotagger.audio.wav.util.WavChunkHeader;
+import org.jaudiotagger.audio.wav.util.WavChunkIndex;
+import org.jaudiotagger.tag.FieldKey;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * RF64 Wav files larger than 4GB, the audio data is sparse so the tests only need the file headers on disk
+ */
+public class WavRF64Test extends AbstractTestCase
+{
+    private static final long DATA_SIZE = 5L * 1024 * 1024 * 1024 + 1;
+
+    /**
+     * Create RF64 file using the fmt and fact chunks of test.wav and a sparse data chunk of the given size
+     */
+    private static File createRF64File(String name, String riffId, long dataSize) throws Exception
+    {
+        File orig = AbstractTestCase.copyAudioToTmp("test.wav", new File(name + "Orig.wav"));
+        File testFile = new File("testdatatmp", name + ".wav");
+        testFile.delete();
+
+        byte[] formatChunks = new byte[50 - WavChunkIndex.RIFF_HEADER_LENGTH];
+        RandomAccessFile in = new RandomAccessFile(orig, "r");
+        try
+        {
+            in.seek(WavChunkIndex.RIFF_HEADER_LENGTH);
+            in.readFully(formatChunks);
+        }
+        finally
+        {
+            in.close();
+        }
+
+        long fileLength = WavChunkIndex.RIFF_HEADER_LENGTH + WavChunkHeader.CHUNK_HEADER_LENGTH + WavChunkIndex.DS64_MIN_LENGTH
+                + formatChunks.length + WavChunkHeader.CHUNK_HEADER_LENGTH + dataSize + (dataSize & 1);
+        ByteBuffer ds64 = ByteBuffer.allocate(WavChunkIndex.DS64_MIN_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        ds64.putLong(fileLength - WavChunkHeader.CHUNK_HEADER_LENGTH);
+        ds64.putLong(dataSize);
+        ds64.putLong(dataSize);
+        ds64.putInt(0);
+
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            raf.write(WavChunkHeader.createHeader(riffId, WavChunkHeader.SIZE_IN_DS64).array());
+            raf.write(WavChunkIndex.WAVE.getBytes("ISO-8859-1"));
+            raf.write(WavChunkHeader.createHeader(WavChunkHeader.DS64, WavChunkIndex.DS64_MIN_LENGTH).array());
+            raf.write(ds64.array());
+            raf.write(formatChunks);
+            raf.write(WavChunkHeader.createHeader(WavChunkHeader.DATA, WavChunkHeader.SIZE_IN_DS64).array());
+            raf.setLength(fileLength);
+        }
+        finally
+        {
+            raf.close();
+        }
+        return testFile;
+    }
+
+    private static WavChunkIndex readIndex(File file) throws Exception
+    {
+        RandomAccessFile raf = new RandomAccessFile(file, "r");
+        try
+        {
+            return WavChunkIndex.read(raf);
+        }
+        finally
+        {
+            raf.close();
+        }
+    }
+
+    public void testReadRF64() throws Exception
+    {
+        File testFile = createRF64File("testReadRF64", WavChunkIndex.RF64, DATA_SIZE);
+        try
+        {
+            WavChunkIndex index = readIndex(testFile);
+            assertTrue(index.isRf64());
+            assertEquals(DATA_SIZE, index.getDs64SampleCount());
+            assertEquals(testFile.length() - 8, index.getRiffSize());
+            assertEquals(DATA_SIZE, index.getDataChunk().getSize());
+            assertEquals(DATA_SIZE, index.getAudioDataSize());
+
+            long start = System.currentTimeMillis();
+            AudioFile f = AudioFileIO.read(testFile);
+            System.out.println("Read 5GB RF64 wav in:" + (System.currentTimeMillis() - start) + "ms");
+            assertEquals((int) (DATA_SIZE / 22050), f.getAudioHeader().getTrackLength());
+            assertEquals(DATA_SIZE / 22050f, ((GenericAudioHeader) f.getAudioHeader()).getPreciseLength(), 1f);
+            assertEquals("22050", f.getAudioHeader().getSampleRate());
+            assertTrue(f.getTag().isEmpty());
+        }
+        finally
+        {
+            testFile.delete();
+        }
+    }
+
+    public void testReadBW64WithMetadataAfterData() throws Exception
+    {
+        File testFile = createRF64File("testReadBW64WithMetadataAfterData", WavChunkIndex.BW64, DATA_SIZE);
+        try
+        {
+            WavMetadataReadTest.appendChunk(testFile, "LIST", WavMetadataReadTest.createInfoChunk("INAM", "broadcast"));
+            RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+            try
+            {
+                raf.write(WavChunkHeader.createHeader(WavChunkIndex.BW64, WavChunkHeader.SIZE_IN_DS64).array());
+            }
+            finally
+            {
+                raf.close();
+            }
+
+            AudioFile f = AudioFileIO.read(testFile);
+            assertEquals((int) (DATA_SIZE / 22050), f.getAudioHeader().getTrackLength());
+            assertEquals("broadcast", f.getTag().getFirst(FieldKey.TITLE));
+            WavChunkIndex index = readIndex(testFile);
+            assertEquals(testFile.length(), index.getInfoChunk().getEndLocation());
+        }
+        finally
+        {
+            testFile.delete();
+        }
+    }
+
+    /**
+     * Writing metadata updates the RIFF size held in the ds64 chunk rather than the RIFF header
+     */
+    public void testWriteRF64() throws Exception
+    {
+        File testFile = createRF64File("testWriteRF64", WavChunkIndex.RF64, DATA_SIZE);
+        try
+        {
+            AudioFile f = AudioFileIO.read(testFile);
+            f.getTag().setField(FieldKey.TITLE, "title");
+            f.commit();
+
+            WavChunkIndex index = readIndex(testFile);
+            assertTrue(index.isRf64());
+            assertEquals(testFile.length() - 8, index.getRiffSize());
+            assertEquals(DATA_SIZE, index.getAudioDataSize());
+            assertEquals(index.getDataChunk().getEndLocation(), index.getInfoChunk().getStartLocation());
+
+            f = AudioFileIO.read(testFile);
+            assertEquals("title", f.getTag().getFirst(FieldKey.TITLE));
+            assertEquals((int) (DATA_SIZE / 22050), f.getAudioHeader().getTrackLength());
+        }
+        finally
+        {
+            testFile.delete();
+        }
+    }
+
+    public void testRF64WithoutDs64() throws Exception
+    {
+        File testFile = createRF64File("testRF64WithoutDs64", WavChunkIndex.RF64, 1000);
+        RandomAccessFile raf = new RandomAccessFile(testFile, "rw");
+        try
+        {
+            raf.seek(WavChunkIndex.RIFF_HEADER_LENGTH);
+            raf.write("JUNK".getBytes("ISO-8859-1"));
+        }
+        finally
+        {
+            raf.close();
+        }
+
+        try
+        {
+            AudioFileIO.read(testFile);
+            fail("Expected exception");
+        }
+        catch (Exception e)
+        {
+            assertTrue(e.getMessage().contains("ds64"));
+        }
+    }
+}